@@ -25,9 +25,11 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.*;
 
@@ -41,8 +43,8 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
 
     protected Comparator<DoubleSolution> dominanceComparator;
 
-    protected Ranking<DoubleSolution> ranking;
     protected DensityEstimator<DoubleSolution> crowdingDistance;
+    protected NonDominatedSorting nonDominatedSorting;
 
     protected SolutionListEvaluator<DoubleSolution> evaluator;
     private String varInProcessPath;
@@ -62,14 +64,18 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
         this.selectionOperator = selection;
 
         dominanceComparator = new DominanceComparator<DoubleSolution>();
-        ranking = new DominanceRanking<DoubleSolution>();
         crowdingDistance = new CrowdingDistance<DoubleSolution>();
+        nonDominatedSorting = new FastNonDominatedSorting();
 
         this.evaluator = evaluator;
         this.varInProcessPath = varInProcessPath;
         this.funInProcessPath = funInProcessPath;
     }
 
+    public void setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        this.nonDominatedSorting = nonDominatedSorting;
+    }
+
     @Override
     protected void saveDataInProcess() {
         if (!funInProcessPath.isEmpty() && !varInProcessPath.isEmpty() && (maxEvaluations % (10 * getMaxPopulationSize()) == 0)) {
@@ -186,7 +192,7 @@ public class GDE3 extends AbstractDifferentialEvolution<List<DoubleSolution>> {
 
 
     protected Ranking<DoubleSolution> computeRanking(List<DoubleSolution> solutionList) {
-        Ranking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>();
+        Ranking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>(nonDominatedSorting);
         ranking.computeRanking(solutionList);
 
         return ranking;
@@ -28,8 +28,12 @@ import org.uma.jmetal.operator.impl.selection.DifferentialEvolutionSelection;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.List;
 
@@ -42,6 +46,7 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
     protected DifferentialEvolutionCrossover crossoverOperator;
     protected DifferentialEvolutionSelection selectionOperator;
     protected SolutionListEvaluator<DoubleSolution> evaluator;
+    protected NonDominatedSorting nonDominatedSorting;
     private DoubleProblem problem;
     private String varInProcessPath;
     private String funInProcessPath;
@@ -56,6 +61,7 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
         selectionOperator = new DifferentialEvolutionSelection();
         crossoverOperator = new DifferentialEvolutionCrossover();
         evaluator = new SequentialSolutionListEvaluator<DoubleSolution>();
+        nonDominatedSorting = new FastNonDominatedSorting();
     }
 
     public GDE3Builder setCrossover(DifferentialEvolutionCrossover crossover) {
@@ -76,9 +82,37 @@ public class GDE3Builder implements AlgorithmBuilder<GDE3> {
         return this;
     }
 
+    /**
+     * Evaluates the solutions in parallel with a {@link ForkJoinSolutionListEvaluator}, or
+     * sequentially if the number of threads is 1
+     *
+     * @param numberOfThreads Number of threads; 0 means the number of available processors
+     */
+    public GDE3Builder setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads == 1) {
+            this.evaluator = new SequentialSolutionListEvaluator<DoubleSolution>();
+        } else {
+            this.evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(numberOfThreads);
+        }
+
+        return this;
+    }
+
+    public GDE3Builder setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("nonDominatedSorting is null");
+        }
+        this.nonDominatedSorting = nonDominatedSorting;
+
+        return this;
+    }
+
     public GDE3 build() {
-        return new GDE3(problem, populationSize, maxEvaluations, selectionOperator, crossoverOperator, evaluator,
-                varInProcessPath, funInProcessPath);
+        GDE3 algorithm = new GDE3(problem, populationSize, maxEvaluations, selectionOperator, crossoverOperator,
+                evaluator, varInProcessPath, funInProcessPath);
+        algorithm.setNonDominatedSorting(nonDominatedSorting);
+
+        return algorithm;
     }
 
     /* Getters */
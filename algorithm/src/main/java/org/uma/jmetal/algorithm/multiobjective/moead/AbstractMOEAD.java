@@ -14,6 +14,8 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.SnapshotListener;
+import org.uma.jmetal.algorithm.SnapshotSource;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
@@ -39,7 +41,7 @@ import java.util.StringTokenizer;
  * @author Antonio J. Nebro
  * @version 1.0
  */
-public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<List<S>> {
+public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<List<S>>, SnapshotSource<S> {
     private static final long serialVersionUID = -1516164532191263272L;
     protected Problem<S> problem;
     /**
@@ -87,6 +89,8 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     double[] minAngle;
     protected int updateAbility=0;
     protected int run;
+    private transient List<SnapshotListener<S>> snapshotListeners;
+    private boolean inProcessDataFilesEnabled = true;
 
     public AbstractMOEAD(Problem<S> problem, int populationSize, int resultPopulationSize,
                          int maxEvaluations, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutation,
@@ -490,16 +494,52 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
         return index;
     }
 
+    /**
+     * Adds a listener, which receives the population at the snapshot points of the run
+     */
+    @Override
+    public void addSnapshotListener(SnapshotListener<S> listener) {
+        if (snapshotListeners == null) {
+            snapshotListeners = new ArrayList<>();
+        }
+        snapshotListeners.add(listener);
+    }
+
+    @Override
+    public void removeSnapshotListener(SnapshotListener<S> listener) {
+        if (snapshotListeners != null) {
+            snapshotListeners.remove(listener);
+        }
+    }
+
+    public boolean isInProcessDataFilesEnabled() {
+        return inProcessDataFilesEnabled;
+    }
+
+    /**
+     * Sets whether the VAR and FUN files of the population are written at the snapshot points of the
+     * run (true by default)
+     */
+    public void setInProcessDataFilesEnabled(boolean inProcessDataFilesEnabled) {
+        this.inProcessDataFilesEnabled = inProcessDataFilesEnabled;
+    }
+
     protected void saveDataInProcess() {
-        File file = new File(inProcessDataPath);
-        file.mkdirs();
-        if (!inProcessDataPath.isEmpty() && ((evaluations % (10 * populationSize) == 0) || evaluations == 2 * populationSize)) {
-//         if (!inProcessDataPath.isEmpty()) {
-            new SolutionListOutput(getResult())
-                    .setSeparator("\t")
-                    .setVarFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/VAR" + evaluations / (populationSize) + ".tsv"))
-                    .setFunFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/FUN" + evaluations / (populationSize) + ".tsv"))
-                    .print();
+        if ((evaluations % (10 * populationSize) == 0) || evaluations == 2 * populationSize) {
+            if (snapshotListeners != null) {
+                for (SnapshotListener<S> listener : snapshotListeners) {
+                    listener.snapshotTaken(evaluations, evaluations / populationSize, getResult());
+                }
+            }
+
+            if (inProcessDataFilesEnabled && !inProcessDataPath.isEmpty()) {
+                new File(inProcessDataPath).mkdirs();
+                new SolutionListOutput(getResult())
+                        .setSeparator("\t")
+                        .setVarFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/VAR" + evaluations / (populationSize) + ".tsv"))
+                        .setFunFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/FUN" + evaluations / (populationSize) + ".tsv"))
+                        .print();
+            }
         }
     }
 
@@ -0,0 +1,167 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.impl.crossover.DifferentialEvolutionCrossover;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionEvaluator;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asynchronous version of {@link MOEAD}: the offspring are evaluated by the workers of an
+ * {@link AsynchronousSolutionEvaluator}, and each time an evaluation completes the ideal point and
+ * the neighborhood of the subproblem of the offspring are updated and the offspring of the next
+ * subproblem is submitted, so that there is an offspring per worker being evaluated. The
+ * subproblems are visited in random permutations, as in {@link MOEAD}.
+ */
+@SuppressWarnings("serial")
+public class AsyncMOEAD extends AbstractMOEAD<DoubleSolution> {
+    private final AsynchronousSolutionEvaluator<DoubleSolution> asynchronousEvaluator;
+    private DifferentialEvolutionCrossover differentialEvolutionCrossover;
+
+    private transient Map<DoubleSolution, PendingOffspring> pendingOffspring;
+    private int[] permutation;
+    private int permutationIndex;
+
+    public AsyncMOEAD(Problem<DoubleSolution> problem,
+                      int populationSize,
+                      int resultPopulationSize,
+                      int maxEvaluations,
+                      MutationOperator<DoubleSolution> mutation,
+                      CrossoverOperator<DoubleSolution> crossover,
+                      FunctionType functionType,
+                      String dataDirectory,
+                      double neighborhoodSelectionProbability,
+                      int maximumNumberOfReplacedSolutions,
+                      int neighborSize,
+                      AsynchronousSolutionEvaluator<DoubleSolution> asynchronousEvaluator,
+                      String inProcessDataPath, int run) {
+        super(problem, populationSize, resultPopulationSize, maxEvaluations, crossover, mutation, functionType,
+                dataDirectory, neighborhoodSelectionProbability, maximumNumberOfReplacedSolutions,
+                neighborSize, inProcessDataPath, run);
+
+        differentialEvolutionCrossover = (DifferentialEvolutionCrossover) crossoverOperator;
+        this.asynchronousEvaluator = asynchronousEvaluator;
+    }
+
+    public AsynchronousSolutionEvaluator<DoubleSolution> getAsynchronousEvaluator() {
+        return asynchronousEvaluator;
+    }
+
+    @Override
+    public void run() {
+        initializePopulation();
+        initializeUniformWeight();
+        initializeNeighborhood();
+        initializeIdealPoint();
+
+        evaluations = populationSize;
+        pendingOffspring = new IdentityHashMap<>();
+        permutation = new int[populationSize];
+        permutationIndex = populationSize;
+
+        int submittedEvaluations = evaluations;
+        while ((submittedEvaluations < maxEvaluations) &&
+                (asynchronousEvaluator.getNumberOfPendingEvaluations() < asynchronousEvaluator.getNumberOfWorkers())) {
+            submitOffspring();
+            submittedEvaluations++;
+        }
+
+        while (asynchronousEvaluator.getNumberOfPendingEvaluations() > 0) {
+            DoubleSolution child = asynchronousEvaluator.take();
+            PendingOffspring offspring = pendingOffspring.remove(child);
+
+            evaluations++;
+
+            updateIdealPoint(child);
+            updateNeighborhood(child, offspring.subProblemId, offspring.neighborType);
+            saveDataInProcess();
+
+            if (submittedEvaluations < maxEvaluations) {
+                submitOffspring();
+                submittedEvaluations++;
+            }
+        }
+    }
+
+    /**
+     * Evaluates the initial population with the workers and waits for all of them
+     */
+    protected void initializePopulation() {
+        for (int i = 0; i < populationSize; i++) {
+            DoubleSolution newSolution = problem.createSolution();
+
+            asynchronousEvaluator.submit(newSolution, problem);
+            population.add(newSolution);
+        }
+        for (int i = 0; i < populationSize; i++) {
+            asynchronousEvaluator.take();
+        }
+    }
+
+    private void submitOffspring() {
+        int subProblemId = nextSubProblem();
+
+        NeighborType neighborType = chooseNeighborType();
+        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+
+        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+
+        DoubleSolution child = children.get(0);
+        mutationOperator.execute(child);
+
+        pendingOffspring.put(child, new PendingOffspring(subProblemId, neighborType));
+        asynchronousEvaluator.submit(child, problem);
+    }
+
+    private int nextSubProblem() {
+        if (permutationIndex == populationSize) {
+            MOEADUtils.randomPermutation(permutation, populationSize);
+            permutationIndex = 0;
+        }
+
+        return permutation[permutationIndex++];
+    }
+
+    @Override
+    public String getName() {
+        return "AsyncMOEAD";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Multi-Objective Evolutionary Algorithm based on Decomposition. Asynchronous version";
+    }
+
+    /**
+     * Subproblem and neighborhood type of an offspring being evaluated
+     */
+    private static class PendingOffspring {
+        private final int subProblemId;
+        private final NeighborType neighborType;
+
+        PendingOffspring(int subProblemId, NeighborType neighborType) {
+            this.subProblemId = subProblemId;
+            this.neighborType = neighborType;
+        }
+    }
+}
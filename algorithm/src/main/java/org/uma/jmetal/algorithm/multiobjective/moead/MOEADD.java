@@ -25,6 +25,7 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,19 +35,16 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalRanking;
 
 public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution> {
 
-    protected int[][] rankIdx;			// index matrix for the non-domination levels
+    protected IncrementalRanking<DoubleSolution> ranking;	// non-domination levels of the population
     protected int[][] subregionIdx;		// index matrix for subregion record
     protected double[][] subregionDist;	// distance matrix for perpendicular distance
     protected int numRanks;
 
     /*Hashmaps used instead add attributtes to Solution Class*/
-    protected HashMap<DoubleSolution, Integer> rankSolution;
     protected HashMap<DoubleSolution, Double> associateDistSolution;
     protected HashMap<DoubleSolution, Integer> regionSolution;
 
@@ -60,7 +58,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         evaluations = 0;
         population = new ArrayList(populationSize);
 
-        rankSolution = new HashMap<>();
         associateDistSolution = new HashMap();
         regionSolution = new HashMap();
 
@@ -70,7 +67,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         idealPoint = new double[problem.getNumberOfObjectives()]; // ideal point for Pareto-based population
         nadirPoint = new double[problem.getNumberOfObjectives()]; // nadir point for Pareto-based population
 
-        rankIdx = new int[populationSize][populationSize];
         subregionIdx = new int[populationSize][populationSize];
         subregionDist = new double[populationSize][populationSize];
 
@@ -91,14 +87,7 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         //K. Li, K. Deb, Q. Zhang, and S. Kwong,
         // “Efficient non-domination level update approach for steady-state evolutionary multiobjective optimization,”
         // Dept. Electr. Comput. Eng., Michigan State Univ., East Lansing,MI, USA, Tech. Rep. COIN No. 2014014, 2014.
-        Ranking ranking = computeRanking(population);
-        for (int curRank = 0; curRank < ranking.getNumberOfSubfronts(); curRank++) {
-            List<Solution> front = ranking.getSubfront(curRank);
-            for (Solution s : front) {
-                int position = this.population.indexOf(s);
-                rankIdx[curRank][position] = 1;
-            }
-        }
+        ranking = computeRanking(population);
 
         // main procedure
         do {
@@ -145,7 +134,7 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
      */
     public void initPopulation() {
         for (int i = 0; i < populationSize; i++) {
-            DefaultDoubleSolution newSolution = (DefaultDoubleSolution) problem.createSolution();
+            DoubleSolution newSolution = problem.createSolution();
             problem.evaluate(newSolution);
             evaluations++;
             population.add(newSolution);
@@ -282,11 +271,11 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
                 lastFront.add(indiv);
             } else {
                 for (int i = 0; i < populationSize; i++) {
-                    if (rankIdx[numRanks - 1][i] == 1) {
+                    if (ranking.getRank(population.get(i)) == (numRanks - 1)) {
                         lastFront.add((DoubleSolution) population.get(i));
                     }
                 }
-                if (rankSolution.getOrDefault(indiv, 0) == (numRanks - 1)) {
+                if (ranking.getRank(indiv) == (numRanks - 1)) {
                     frontSize++;
                     lastFront.add(indiv);
                 }
@@ -310,10 +299,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
                 if (curNC == 1) {	// the subregion only has the solution 'targetIdx', keep solution 'targetIdx'
                     deleteCrowdRegion2(indiv, location);
                 } else {	// the subregion contains some other solutions, drop solution 'targetIdx'
-                    int indivRank = rankSolution.getOrDefault(indiv, 0);
-                    int targetRank = rankSolution.getOrDefault(population.get(targetIdx), 0);
-                    rankIdx[targetRank][targetIdx] = 0;
-                    rankIdx[indivRank][targetIdx] = 1;
 
                     DoubleSolution targetSol = population.get(targetIdx);
 
@@ -424,14 +409,8 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
                             if (idxArray[targetIdx] == -1) {
                                 nondominated_sorting_delete(indiv);
                             } else {
-                                //indiv.getRank();
-                                int indivRank = rankSolution.getOrDefault(indiv, 0);
                                 
-                                //int targetRank = ((DoubleSolution) population.get(idxArray[targetIdx])).getRank();
-                                int targetRank = rankSolution.getOrDefault(population.get(idxArray[targetIdx]), 0);
                                 
-                                rankIdx[targetRank][idxArray[targetIdx]] = 0;
-                                rankIdx[indivRank][idxArray[targetIdx]] = 1;
                                 
                                 DoubleSolution targetSol = population.get(idxArray[targetIdx]);
                                 
@@ -454,373 +433,19 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
      * @param indiv
      */
     public void nondominated_sorting_delete(DoubleSolution indiv) {
-
-        // find the non-domination level of 'indiv'
-        //int indivRank = indiv.getRank();
-        int indivRank = rankSolution.getOrDefault(indiv, 0);
-
-        ArrayList<Integer> curLevel = new ArrayList<>();	// used to keep the solutions in the current non-domination level
-        ArrayList<Integer> dominateList = new ArrayList<>();	// used to keep the solutions need to be moved
-
-        for (int i = 0; i < populationSize; i++) {
-            if (rankIdx[indivRank][i] == 1) {
-                curLevel.add(i);
-            }
-        }
-
-        int flag;
-        // find the solutions belonging to the 'indivRank+1'th level and are dominated by 'indiv'
-        int investigateRank = indivRank + 1;
-        if (investigateRank < numRanks) {
-            for (int i = 0; i < populationSize; i++) {
-                if (rankIdx[investigateRank][i] == 1) {
-                    flag = 0;
-                    if (checkDominance(indiv, population.get(i)) == 1) {
-                        for (int j = 0; j < curLevel.size(); j++) {
-                            if (checkDominance(population.get(i), population.get(curLevel.get(j))) == -1) {
-                                flag = 1;
-                                break;
-                            }
-                        }
-                        if (flag == 0) {	// the ith solution can move to the prior level
-                            dominateList.add(i);
-                            rankIdx[investigateRank][i] = 0;
-                            rankIdx[investigateRank - 1][i] = 1;
-                            //((DoubleSolution) population.get(i)).setRank(investigateRank - 1);
-                            rankSolution.put(population.get(i), investigateRank - 1);
-                        }
-                    }
-                }
-            }
-        }
-
-        int curIdx;
-        int curListSize = dominateList.size();
-        while (curListSize != 0) {
-            curLevel.clear();
-            for (int i = 0; i < populationSize; i++) {
-                if (rankIdx[investigateRank][i] == 1) {
-                    curLevel.add(i);
-                }
-            }
-            investigateRank = investigateRank + 1;
-
-            if (investigateRank < numRanks) {
-                for (int i = 0; i < curListSize; i++) {
-                    curIdx = dominateList.get(i);
-                    for (int j = 0; j < populationSize; j++) {
-                        if (j == populationSize) {
-                            System.err.println("There are problems");
-                        }
-                        if (rankIdx[investigateRank][j] == 1) {
-                            flag = 0;
-                            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                                for (int k = 0; k < curLevel.size(); k++) {
-                                    if (checkDominance(population.get(j), population.get(curLevel.get(k))) == -1) {
-                                        flag = 1;
-                                        break;
-                                    }
-                                }
-                                if (flag == 0) {
-                                    dominateList.add(j);
-                                    rankIdx[investigateRank][j] = 0;
-                                    rankIdx[investigateRank - 1][j] = 1;
-                                    //((DoubleSolution) population.get(j)).setRank(investigateRank - 1);
-                                    rankSolution.put(population.get(j), investigateRank - 1);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            for (int i = 0; i < curListSize; i++) {
-                dominateList.remove(0);
-            }
-
-            curListSize = dominateList.size();
-        }
-
+        ranking.remove(indiv);
     }
 
     /**
      * update the non-domination level when adding a solution
      *
      * @param indiv
-     * @return
+     * @return the number of non-domination levels
      */
     public int nondominated_sorting_add(DoubleSolution indiv) {
+        ranking.insert(indiv);
 
-        int flag = 0;
-        int flag1, flag2, flag3;
-
-        // count the number of non-domination levels
-        int num_ranks = 0;
-        ArrayList<Integer> frontSize = new ArrayList<>();
-        for (int i = 0; i < populationSize; i++) {
-            int rankCount = countRankOnes(i);
-            if (rankCount != 0) {
-                frontSize.add(rankCount);
-                num_ranks++;
-            } else {
-                break;
-            }
-        }
-
-        ArrayList<Integer> dominateList = new ArrayList<>();	// used to keep the solutions dominated by 'indiv'
-        int level = 0;
-        for (int i = 0; i < num_ranks; i++) {
-            level = i;
-            if (flag == 1) {	// 'indiv' is non-dominated with all solutions in the ith non-domination level, then 'indiv' belongs to the ith level
-                //indiv.setRank(i - 1);
-                rankSolution.put(indiv, i - 1);
-                return num_ranks;
-            } else if (flag == 2) {	// 'indiv' dominates some solutions in the ith level, but is non-dominated with some others, then 'indiv' belongs to the ith level, and move the dominated solutions to the next level
-                //indiv.setRank(i - 1);
-                rankSolution.put(indiv, i - 1);
-                int prevRank = i - 1;
-
-                // process the solutions belong to 'prevRank'th level and are dominated by 'indiv' ==> move them to 'prevRank+1'th level and find the solutions dominated by them
-                int curIdx;
-                int newRank = prevRank + 1;
-                int curListSize = dominateList.size();
-                for (int j = 0; j < curListSize; j++) {
-                    curIdx = dominateList.get(j);
-                    rankIdx[prevRank][curIdx] = 0;
-                    rankIdx[newRank][curIdx] = 1;
-                    //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-                    rankSolution.put(population.get(curIdx), newRank);
-                }
-                for (int j = 0; j < populationSize; j++) {
-                    if (rankIdx[newRank][j] == 1) {
-                        for (int k = 0; k < curListSize; k++) {
-                            curIdx = dominateList.get(k);
-                            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                                dominateList.add(j);
-                                break;
-                            }
-
-                        }
-                    }
-                }
-                for (int j = 0; j < curListSize; j++) {
-                    dominateList.remove(0);
-                }
-
-                // if there are still some other solutions moved to the next level, check their domination situation in their new level
-                prevRank = newRank;
-                newRank = newRank + 1;
-                curListSize = dominateList.size();
-                if (curListSize == 0) {
-                    return num_ranks;
-                } else {
-                    int allFlag = 0;
-                    do {
-                        for (int j = 0; j < curListSize; j++) {
-                            curIdx = dominateList.get(j);
-                            rankIdx[prevRank][curIdx] = 0;
-                            rankIdx[newRank][curIdx] = 1;
-                            //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-                            rankSolution.put(population.get(curIdx), newRank);
-                        }
-                        for (int j = 0; j < populationSize; j++) {
-                            if (rankIdx[newRank][j] == 1) {
-                                for (int k = 0; k < curListSize; k++) {
-                                    curIdx = dominateList.get(k);
-                                    if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                                        dominateList.add(j);
-                                        break;
-                                    }
-                                }
-                            }
-                        }
-                        for (int j = 0; j < curListSize; j++) {
-                            dominateList.remove(0);
-                        }
-
-                        curListSize = dominateList.size();
-                        if (curListSize != 0) {
-                            prevRank = newRank;
-                            newRank = newRank + 1;
-                            if (frontSize.size() > prevRank && curListSize == frontSize.get(prevRank)) {	// if all solutions in the 'prevRank'th level are dominated by the newly added solution, move them all to the next level
-                                allFlag = 1;
-                                break;
-                            }
-                        }
-                    } while (curListSize != 0);
-
-                    if (allFlag == 1) {	// move the solutions after the 'prevRank'th level to their next levels
-                        int remainSize = num_ranks - prevRank;
-                        int[][] tempRecord = new int[remainSize][populationSize];
-
-                        int tempIdx = 0;
-                        for (int j = 0; j < dominateList.size(); j++) {
-                            tempRecord[0][tempIdx] = dominateList.get(j);
-                            tempIdx++;
-                        }
-
-                        int k = 1;
-                        int curRank = prevRank + 1;
-                        while (curRank < num_ranks) {
-                            tempIdx = 0;
-                            for (int j = 0; j < populationSize; j++) {
-                                if (rankIdx[curRank][j] == 1) {
-                                    tempRecord[k][tempIdx] = j;
-                                    tempIdx++;
-                                }
-                            }
-                            curRank++;
-                            k++;
-                        }
-
-                        k = 0;
-                        curRank = prevRank;
-                        while (curRank < num_ranks) {
-                            int level_size = frontSize.get(curRank);
-
-                            int tempRank;
-                            for (int j = 0; j < level_size; j++) {
-                                curIdx = tempRecord[k][j];
-                                //tempRank = ((DoubleSolution) population.get(curIdx)).getRank();
-                                tempRank = rankSolution.getOrDefault(population.get(curIdx), 0);
-                                newRank = tempRank + 1;
-                                //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-                                rankSolution.put(population.get(curIdx), newRank);
-                                rankIdx[tempRank][curIdx] = 0;
-                                rankIdx[newRank][curIdx] = 1;
-                            }
-                            curRank++;
-                            k++;
-                        }
-                        num_ranks++;
-                    }
-
-                    if (newRank == num_ranks) {
-                        num_ranks++;
-                    }
-
-                    return num_ranks;
-                }
-            } else if (flag == 3 || flag == 0) {	// if 'indiv' is dominated by some solutions in the ith level, skip it, and term to the next level
-                flag1 = flag2 = flag3 = 0;
-                for (int j = 0; j < populationSize; j++) {
-                    if (rankIdx[i][j] == 1) {
-                        switch (checkDominance(indiv, population.get(j))) {
-                            case 1: {
-                                flag1 = 1;
-                                dominateList.add(j);
-                                break;
-                            }
-                            case 0: {
-                                flag2 = 1;
-                                break;
-                            }
-                            case -1: {
-                                flag3 = 1;
-                                break;
-                            }
-                        }
-
-                        if (flag3 == 1) {
-                            flag = 3;
-                            break;
-                        } else if (flag1 == 0 && flag2 == 1) {
-                            flag = 1;
-                        } else if (flag1 == 1 && flag2 == 1) {
-                            flag = 2;
-                        } else if (flag1 == 1 && flag2 == 0) {
-                            flag = 4;
-                        } else {
-                        }
-                    }
-                }
-
-            } else {	// (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
-                //indiv.setRank(i - 1);
-                rankSolution.put(indiv, i - 1);
-                i = i - 1;
-                int remainSize = num_ranks - i;
-                int[][] tempRecord = new int[remainSize][populationSize];
-
-                int k = 0;
-                while (i < num_ranks) {
-                    int tempIdx = 0;
-                    for (int j = 0; j < populationSize; j++) {
-                        if (rankIdx[i][j] == 1) {
-                            tempRecord[k][tempIdx] = j;
-                            tempIdx++;
-                        }
-                    }
-                    i++;
-                    k++;
-                }
-
-                k = 0;
-                //i = indiv.getRank();
-                i = rankSolution.getOrDefault(indiv, 0);
-                while (i < num_ranks) {
-                    int level_size = frontSize.get(i);
-
-                    int curIdx;
-                    int curRank, newRank;
-                    for (int j = 0; j < level_size; j++) {
-                        curIdx = tempRecord[k][j];
-                        //curRank = ((DoubleSolution) population.get(curIdx)).getRank();
-                        curRank = rankSolution.getOrDefault(population.get(curIdx), 0);
-                        newRank = curRank + 1;
-                        //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-                        rankSolution.put(population.get(curIdx), newRank);
-
-                        rankIdx[curRank][curIdx] = 0;
-                        rankIdx[newRank][curIdx] = 1;
-                    }
-                    i++;
-                    k++;
-                }
-                num_ranks++;
-
-                return num_ranks;
-            }
-        }
-        // if flag is still 3 after the for-loop, it means that 'indiv' is in the current last level
-        switch (flag) {
-            case 1:
-                //indiv.setRank(level);
-                rankSolution.put(indiv, level);
-                break;
-            case 2:
-                //indiv.setRank(level);
-                rankSolution.put(indiv, level);
-                int curIdx;
-                int tempSize = dominateList.size();
-                for (int i = 0; i < tempSize; i++) {
-                    curIdx = dominateList.get(i);
-                    //((DoubleSolution) population.get(curIdx)).setRank(level + 1);
-                    rankSolution.put(population.get(curIdx), level + 1);
-                    
-                    rankIdx[level][curIdx] = 0;
-                    rankIdx[level + 1][curIdx] = 1;
-                }   num_ranks++;
-                break;
-            case 3:
-                //indiv.setRank(level + 1);
-                rankSolution.put(indiv, level + 1);
-                num_ranks++;
-                break;
-            default:
-                //indiv.setRank(level);
-                rankSolution.put(indiv, level);
-                for (int i = 0; i < populationSize; i++) {
-                    if (rankIdx[level][i] == 1) {
-                        //((DoubleSolution) population.get(i)).setRank(level + 1);
-                        rankSolution.put(population.get(i), level + 1);
-                        rankIdx[level][i] = 0;
-                        rankIdx[level + 1][i] = 1;
-                    }
-                }   num_ranks++;
-                break;
-        }
-
-        return num_ranks;
+        return ranking.getNumberOfSubfronts();
     }
 
     /**
@@ -877,11 +502,11 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         // find the solution with the largest rank
         ArrayList<Integer> maxRankList = new ArrayList<>();
         //int maxRank = ((DoubleSolution) population.get(indList.get(0))).getRank();
-        int maxRank = rankSolution.getOrDefault(population.get(indList.get(0)), 0);
+        int maxRank = ranking.getRank(population.get(indList.get(0)));
         maxRankList.add(indList.get(0));
         for (int i = 1; i < indList.size(); i++) {
             //int curRank = ((DoubleSolution) population.get(indList.get(i))).getRank();
-            int curRank = rankSolution.getOrDefault(population.get(indList.get(i)), 0);
+            int curRank = ranking.getRank(population.get(indList.get(i)));
             if (curRank > maxRank) {
                 maxRankList.clear();
                 maxRank = curRank;
@@ -904,12 +529,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
             }
         }
 
-        //int indivRank = indiv.getRank();
-        int indivRank = rankSolution.getOrDefault(indiv, 0);
-        //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
-        int targetRank = rankSolution.getOrDefault(population.get(targetIdx), 0);
-        rankIdx[targetRank][targetIdx] = 0;
-        rankIdx[indivRank][targetIdx] = 1;
 
         DoubleSolution targetSol = population.get(targetIdx);
 
@@ -993,16 +612,16 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         // find the solution with the largest rank
         ArrayList<Integer> maxRankList = new ArrayList<>();
         //int maxRank = ((DoubleSolution) population.get(indList.get(0))).getRank();
-        int maxRank = rankSolution.getOrDefault(population.get(indList.get(0)), 0);
+        int maxRank = ranking.getRank(population.get(indList.get(0)));
         maxRankList.add(indList.get(0));
         for (int i = 1; i < indList.size(); i++) {
             int curRank;
             if (indList.get(i) == -1) {
                 //curRank = indiv.getRank();
-                curRank = rankSolution.getOrDefault(indiv, 0);
+                curRank = ranking.getRank(indiv);
             } else {
                 //curRank = ((DoubleSolution) population.get(indList.get(i))).getRank();
-                curRank = rankSolution.getOrDefault(population.get(indList.get(i)), 0);
+                curRank = ranking.getRank(population.get(indList.get(i)));
             }
 
             if (curRank > maxRank) {
@@ -1042,12 +661,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
             nondominated_sorting_delete(indiv);
 
         } else {
-            //int indivRank = indiv.getRank();
-            int indivRank = rankSolution.getOrDefault(indiv, 0);
-            //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
-            int targetRank = rankSolution.getOrDefault(population.get(targetIdx), 0);
-            rankIdx[targetRank][targetIdx] = 0;
-            rankIdx[indivRank][targetIdx] = 1;
 
             DoubleSolution targetSol = population.get(targetIdx);
 
@@ -1120,6 +733,7 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         switch (nicheCount) {
             case 0:
                 System.out.println("Empty subregion!!!");
+                nondominated_sorting_delete(indiv);
                 break;
             case 1:
                 // if every subregion only contains one solution, delete the worst from indiv's subregion
@@ -1130,7 +744,11 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
                     }
                 }   double prev_func = fitnessFunction(population.get(targetIdx), lambda[location]);
                 if (indivFitness < prev_func) {
+                    DoubleSolution targetSol = population.get(targetIdx);
                     replace(targetIdx, indiv);
+                    nondominated_sorting_delete(targetSol);
+                } else {
+                    nondominated_sorting_delete(indiv);
                 }   break;
             default:
                 if (location == crowdIdx) {	// if indiv's subregion is the most crowded one
@@ -1213,7 +831,11 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
 
         // if indiv has a better fitness, use indiv to replace the worst one
         if (indivFitness < maxFitness) {
+            DoubleSolution targetSol = population.get(worstIdx);
             replace(worstIdx, indiv);
+            nondominated_sorting_delete(targetSol);
+        } else {
+            nondominated_sorting_delete(indiv);
         }
     }
 
@@ -1250,10 +872,14 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         }
 
         // use indiv to replace the worst one
+        DoubleSolution targetSol = population.get(worstIdx);
         replace(worstIdx, indiv);
         subregionIdx[crowdIdx][worstIdx] = 0;
         subregionIdx[curLocation][worstIdx] = 1;
 
+        // update the non-domination level structure
+        nondominated_sorting_delete(targetSol);
+
     }
 
     /**
@@ -1275,7 +901,7 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
     }
 
     /**
-     * count the number of 1s in a row of rank matrix
+     * count the number of solutions of the population in a non-domination level
      *
      * @param location
      * @return
@@ -1284,7 +910,7 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
 
         int count = 0;
         for (int i = 0; i < populationSize; i++) {
-            if (rankIdx[location][i] == 1) {
+            if (ranking.getRank(population.get(i)) == location) {
                 count++;
             }
         }
@@ -1520,7 +1146,6 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
             population.add(solution);
         } else {
             DoubleSolution toRemove = population.get(position);
-            rankSolution.remove(toRemove);
             regionSolution.remove(toRemove);
             associateDistSolution.remove(toRemove);
             population.remove(toRemove);
@@ -1528,8 +1153,17 @@ public class MOEADD<S extends Solution<?>> extends AbstractMOEAD<DoubleSolution>
         }
     }
 
-    protected Ranking<DoubleSolution> computeRanking(List solutionList) {
-        Ranking<DoubleSolution> ranking = new DominanceRanking<>();
+    /**
+     * The non-domination levels are updated incrementally by the ENLU method, using the dominance
+     * relationship of {@link #checkDominance(Solution, Solution)}
+     */
+    protected IncrementalRanking<DoubleSolution> computeRanking(List<DoubleSolution> solutionList) {
+        IncrementalRanking<DoubleSolution> ranking = new IncrementalRanking<>(new Comparator<DoubleSolution>() {
+            @Override
+            public int compare(DoubleSolution solution1, DoubleSolution solution2) {
+                return -checkDominance(solution1, solution2);
+            }
+        });
         ranking.computeRanking(solutionList);
         return ranking;
     }
@@ -7,8 +7,6 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
@@ -201,12 +199,8 @@ public abstract class AbstractMOMBI<S extends Solution<?>> extends AbstractGenet
 
     @Override
     protected void saveDataInProcess() {
-        if (!inProcessDataPath.isEmpty() && ((iterations % 10 == 0) || iterations == 2)) {
-            new SolutionListOutput(getResult())
-                    .setSeparator("\t")
-                    .setVarFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/VAR" + iterations + ".tsv"))
-                    .setFunFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/FUN" + iterations + ".tsv"))
-                    .print();
+        if ((iterations % 10 == 0) || iterations == 2) {
+            saveSnapshot(getResult(), iterations * getMaxPopulationSize(), inProcessDataPath, iterations);
         }
     }
 }
@@ -0,0 +1,95 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaii;
+
+import org.uma.jmetal.operator.CrossoverOperator;
+import org.uma.jmetal.operator.MutationOperator;
+import org.uma.jmetal.operator.SelectionOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionEvaluator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Asynchronous version of {@link SteadyStateNSGAII}: the offspring are evaluated by the workers of
+ * an {@link AsynchronousSolutionEvaluator}, and each time an evaluation completes the offspring
+ * replaces the worst solution of the population and a new offspring is submitted, so that there is
+ * an offspring per worker being evaluated and the workers do not wait for the slowest evaluation
+ * of a generation. The new offspring are bred from the population at the time of the submission.
+ */
+@SuppressWarnings("serial")
+public class AsyncNSGAII<S extends Solution<?>> extends SteadyStateNSGAII<S> {
+    private final AsynchronousSolutionEvaluator<S> asynchronousEvaluator;
+
+    /**
+     * Constructor
+     */
+    public AsyncNSGAII(Problem<S> problem, int maxEvaluations, int populationSize,
+                       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
+                       SelectionOperator<List<S>, S> selectionOperator, Comparator<S> dominanceComparator,
+                       AsynchronousSolutionEvaluator<S> asynchronousEvaluator, String inProcessDataPath) {
+        super(problem, maxEvaluations, populationSize, crossoverOperator, mutationOperator,
+                selectionOperator, dominanceComparator, null, inProcessDataPath);
+        this.asynchronousEvaluator = asynchronousEvaluator;
+    }
+
+    public AsynchronousSolutionEvaluator<S> getAsynchronousEvaluator() {
+        return asynchronousEvaluator;
+    }
+
+    @Override
+    public void run() {
+        setPopulation(evaluatePopulation(createInitialPopulation()));
+        initProgress();
+
+        int submittedEvaluations = evaluations;
+        while ((submittedEvaluations < maxEvaluations) &&
+                (asynchronousEvaluator.getNumberOfPendingEvaluations() < asynchronousEvaluator.getNumberOfWorkers())) {
+            submitOffspring();
+            submittedEvaluations++;
+        }
+
+        while (asynchronousEvaluator.getNumberOfPendingEvaluations() > 0) {
+            S offspring = asynchronousEvaluator.take();
+            setPopulation(replacement(getPopulation(), Collections.singletonList(offspring)));
+            updateProgress();
+            saveDataInProcess();
+
+            if (submittedEvaluations < maxEvaluations) {
+                submitOffspring();
+                submittedEvaluations++;
+            }
+        }
+    }
+
+    private void submitOffspring() {
+        List<S> offspringPopulation = reproduction(selection(getPopulation()));
+        asynchronousEvaluator.submit(offspringPopulation.get(0), getProblem());
+    }
+
+    /**
+     * Evaluates the solutions with the workers and waits for all of them
+     */
+    @Override
+    protected List<S> evaluatePopulation(List<S> population) {
+        for (S solution : population) {
+            asynchronousEvaluator.submit(solution, getProblem());
+        }
+        for (int i = 0; i < population.size(); i++) {
+            asynchronousEvaluator.take();
+        }
+
+        return population;
+    }
+
+    @Override
+    public String getName() {
+        return "AsyncNSGAII";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Nondominated Sorting Genetic Algorithm version II. Asynchronous steady-state version";
+    }
+}
@@ -9,10 +9,9 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -28,6 +27,7 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
 
     protected int evaluations;
     protected Comparator<S> dominanceComparator ;
+    protected NonDominatedSorting nonDominatedSorting = new FastNonDominatedSorting() ;
 
     /**
      * Constructor
@@ -67,16 +67,14 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
         this.inProcessDataPath = inProcessDataPath;
     }
 
+    public void setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        this.nonDominatedSorting = nonDominatedSorting;
+    }
+
     @Override
     protected void saveDataInProcess() {
-        File file = new File(inProcessDataPath);
-        file.mkdirs();
-        if (!inProcessDataPath.isEmpty() && ((evaluations % (10 * getMaxPopulationSize()) == 0) || evaluations == 2 * getMaxPopulationSize())) {
-            new SolutionListOutput(getResult())
-                    .setSeparator("\t")
-                    .setVarFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/VAR" + evaluations / (10 * getMaxPopulationSize()) + ".tsv"))
-                    .setFunFileOutputContext(new DefaultFileOutputContext(inProcessDataPath + "/FUN" + evaluations / (10 * getMaxPopulationSize()) + ".tsv"))
-                    .print();
+        if ((evaluations % (10 * getMaxPopulationSize()) == 0) || evaluations == 2 * getMaxPopulationSize()) {
+            saveSnapshot(getResult(), evaluations, inProcessDataPath, evaluations / (10 * getMaxPopulationSize()));
         }
     }
 
@@ -104,7 +102,8 @@ public class NSGAII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, L
         jointPopulation.addAll(offspringPopulation);
 
         RankingAndCrowdingSelection<S> rankingAndCrowdingSelection ;
-        rankingAndCrowdingSelection = new RankingAndCrowdingSelection<S>(getMaxPopulationSize(), dominanceComparator) ;
+        rankingAndCrowdingSelection = new RankingAndCrowdingSelection<S>(getMaxPopulationSize(), dominanceComparator,
+                nonDominatedSorting) ;
 
         return rankingAndCrowdingSelection.execute(jointPopulation) ;
     }
@@ -11,7 +11,10 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.Comparator;
 import java.util.List;
@@ -33,6 +36,7 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     private SelectionOperator<List<S>, S> selectionOperator;
     private SolutionListEvaluator<S> evaluator;
     private Comparator<S> dominanceComparator ;
+    private NonDominatedSorting nonDominatedSorting ;
 
     private NSGAIIVariant variant;
     private String inProcessDataPath;
@@ -51,6 +55,7 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
         selectionOperator = new BinaryTournamentSelection<S>(new RankingAndCrowdingDistanceComparator<S>()) ;
         evaluator = new SequentialSolutionListEvaluator<S>();
         dominanceComparator = new DominanceComparator<>()  ;
+        nonDominatedSorting = new FastNonDominatedSorting() ;
 
         this.variant = NSGAIIVariant.NSGAII ;
     }
@@ -101,6 +106,22 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
         return this;
     }
 
+    /**
+     * Evaluates the solutions in parallel with a {@link ForkJoinSolutionListEvaluator}, or
+     * sequentially if the number of threads is 1
+     *
+     * @param numberOfThreads Number of threads; 0 means the number of available processors
+     */
+    public NSGAIIBuilder<S> setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads == 1) {
+            this.evaluator = new SequentialSolutionListEvaluator<S>();
+        } else {
+            this.evaluator = new ForkJoinSolutionListEvaluator<S>(numberOfThreads);
+        }
+
+        return this;
+    }
+
     public NSGAIIBuilder<S> setDominanceComparator(Comparator<S> dominanceComparator) {
         if (dominanceComparator == null) {
             throw new JMetalException("dominanceComparator is null");
@@ -110,6 +131,14 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
         return this;
     }
 
+    public NSGAIIBuilder<S> setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("nonDominatedSorting is null");
+        }
+        this.nonDominatedSorting = nonDominatedSorting ;
+
+        return this;
+    }
 
     public NSGAIIBuilder<S> setVariant(NSGAIIVariant variant) {
         this.variant = variant;
@@ -130,6 +159,10 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
                     mutationOperator, selectionOperator, dominanceComparator, evaluator, inProcessDataPath);
         }
 
+        if (algorithm != null) {
+            algorithm.setNonDominatedSorting(nonDominatedSorting);
+        }
+
         return algorithm ;
     }
 
@@ -161,4 +194,8 @@ public class NSGAIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<NS
     public SolutionListEvaluator<S> getSolutionListEvaluator() {
         return evaluator;
     }
+
+    public NonDominatedSorting getNonDominatedSorting() {
+        return nonDominatedSorting;
+    }
 }
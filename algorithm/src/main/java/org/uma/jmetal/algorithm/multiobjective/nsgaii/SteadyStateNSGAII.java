@@ -5,18 +5,28 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.StrengthFitnessComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalRanking;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
+    private IncrementalRanking<S> ranking;
+    private List<S> rankedPopulation;
+    private List<List<S>> crowdedFronts;
+
     /**
      * Constructor
      */
@@ -27,6 +37,13 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
                 selectionOperator, dominanceComparator, evaluator,inProcessDataPath);
     }
 
+    @Override protected void initProgress() {
+        super.initProgress();
+        ranking = null;
+        rankedPopulation = null;
+        crowdedFronts = null;
+    }
+
     @Override protected void updateProgress() {
         evaluations ++ ;
     }
@@ -56,6 +73,72 @@ public class SteadyStateNSGAII<S extends Solution<?>> extends NSGAII<S> {
         return offspringPopulation;
     }
 
+    /**
+     * Equivalent to the ranking and crowding selection of {@link NSGAII}, but the ranking of the
+     * population is kept between steps and updated with the offspring and the removed solution.
+     * The crowding distances of all the fronts are used in the selection, but they are only
+     * recomputed for the fronts whose solutions have changed since the previous step. The ranking
+     * is recomputed when the population is not the list returned by the previous replacement
+     */
+    @Override protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+        if ((ranking == null) || (population != rankedPopulation)) {
+            ranking = new IncrementalRanking<S>(nonDominatedSorting);
+            ranking.computeRanking(population);
+            crowdedFronts = new ArrayList<>();
+        }
+
+        // The fronts before the one of the first offspring are not modified by the insertions
+        int firstModifiedRank = ranking.getNumberOfSubfronts();
+        for (S solution : offspringPopulation) {
+            firstModifiedRank = Math.min(firstModifiedRank, ranking.insert(solution));
+        }
+
+        CrowdingDistance<S> crowdingDistance = new CrowdingDistance<S>();
+        List<S> resultPopulation = new ArrayList<>(ranking.getNumberOfSolutions());
+        for (int rank = 0; rank < ranking.getNumberOfSubfronts(); rank++) {
+            List<S> front = ranking.getSubfront(rank);
+            if (rank == crowdedFronts.size()) {
+                crowdedFronts.add(null);
+            }
+            List<S> crowdedFront = crowdedFronts.get(rank);
+            if ((crowdedFront == null) ||
+                    ((rank >= firstModifiedRank) && !containsTheSameSolutions(crowdedFront, front))) {
+                crowdingDistance.computeDensityEstimator(front);
+                crowdedFronts.set(rank, front);
+            }
+            if (rank == ranking.getNumberOfSubfronts() - 1) {
+                Collections.sort(front, new CrowdingDistanceComparator<S>());
+            }
+            resultPopulation.addAll(front);
+        }
+
+        while (resultPopulation.size() > getMaxPopulationSize()) {
+            S removed = resultPopulation.remove(resultPopulation.size() - 1);
+            // The distances of the rest of solutions of its front are no longer valid
+            crowdedFronts.set(ranking.getRank(removed), null);
+            ranking.remove(removed);
+        }
+        crowdedFronts.subList(ranking.getNumberOfSubfronts(), crowdedFronts.size()).clear();
+        rankedPopulation = resultPopulation;
+
+        return resultPopulation;
+    }
+
+    private static <S> boolean containsTheSameSolutions(List<S> front1, List<S> front2) {
+        if (front1.size() != front2.size()) {
+            return false;
+        }
+
+        Set<S> solutions = Collections.newSetFromMap(new IdentityHashMap<S, Boolean>());
+        solutions.addAll(front1);
+        for (S solution : front2) {
+            if (!solutions.contains(solution)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override public String getName() {
         return "ssNSGAII" ;
     }
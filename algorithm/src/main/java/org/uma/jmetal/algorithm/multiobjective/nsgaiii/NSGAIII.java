@@ -7,12 +7,10 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Vector;
@@ -35,6 +33,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     protected List<ReferencePoint<S>> referencePoints = new Vector<>();
     protected String varInProcessPath;
     protected String funInProcessPath;
+    protected NonDominatedSorting nonDominatedSorting;
 
     /**
      * Constructor
@@ -50,6 +49,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
         funInProcessPath = builder.getFunInProcessPath();
 
         evaluator = builder.getEvaluator();
+        nonDominatedSorting = builder.getNonDominatedSorting();
 
         /// NSGAIII
         numberOfDivisions = new Vector<>(1);
@@ -70,14 +70,8 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
     @Override
     protected void saveDataInProcess() {
-        File file = new File(funInProcessPath);
-        file.mkdirs();
-        if (!funInProcessPath.isEmpty() && ((iterations % 10 == 0) || iterations == 1)) {
-            new SolutionListOutput(getResult())
-                    .setSeparator("\t")
-                    .setVarFileOutputContext(new DefaultFileOutputContext(funInProcessPath + "/VAR" + iterations  + ".tsv"))
-                    .setFunFileOutputContext(new DefaultFileOutputContext(funInProcessPath + "/FUN" + iterations  + ".tsv"))
-                    .print();
+        if ((iterations % 10 == 0) || iterations == 1) {
+            saveSnapshot(getResult(), iterations * getMaxPopulationSize(), funInProcessPath, iterations);
         }
     }
 
@@ -180,7 +174,7 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     }
 
     protected Ranking<S> computeRanking(List<S> solutionList) {
-        Ranking<S> ranking = new DominanceRanking<>();
+        Ranking<S> ranking = new DominanceRanking<>(nonDominatedSorting);
         ranking.computeRanking(solutionList);
 
         return ranking;
@@ -6,8 +6,11 @@ import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.List;
 
@@ -28,6 +31,7 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
     private SolutionListEvaluator<S> evaluator;
     private String varInProcessPath;
     private String funInProcessPath;
+    private NonDominatedSorting nonDominatedSorting;
 
     /**
      * Builder constructor
@@ -39,6 +43,7 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
         evaluator = new SequentialSolutionListEvaluator<S>();
         varInProcessPath = "";
         funInProcessPath = "";
+        nonDominatedSorting = new FastNonDominatedSorting();
     }
 
     public NSGAIIIBuilder<S> setSolutionListEvaluator(SolutionListEvaluator<S> evaluator) {
@@ -123,6 +128,18 @@ public class NSGAIIIBuilder<S extends Solution<?>> implements AlgorithmBuilder<N
         return this;
     }
 
+    public NonDominatedSorting getNonDominatedSorting() {
+        return nonDominatedSorting;
+    }
+
+    public NSGAIIIBuilder<S> setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("nonDominatedSorting is null");
+        }
+        this.nonDominatedSorting = nonDominatedSorting;
+        return this;
+    }
+
     public NSGAIII<S> build() {
         return new NSGAIII<>(this);
     }
@@ -20,6 +20,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 /**
@@ -123,6 +124,22 @@ public class PESA2Builder<S extends Solution<?>> implements AlgorithmBuilder<PES
         return this;
     }
 
+    /**
+     * Evaluates the solutions in parallel with a {@link ForkJoinSolutionListEvaluator}, or
+     * sequentially if the number of threads is 1
+     *
+     * @param numberOfThreads Number of threads; 0 means the number of available processors
+     */
+    public PESA2Builder<S> setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads == 1) {
+            this.evaluator = new SequentialSolutionListEvaluator<S>();
+        } else {
+            this.evaluator = new ForkJoinSolutionListEvaluator<S>(numberOfThreads);
+        }
+
+        return this;
+    }
+
     public int getBiSections() {
         return biSections;
     }
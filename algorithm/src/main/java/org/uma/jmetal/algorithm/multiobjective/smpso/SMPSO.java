@@ -161,7 +161,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     @Override
     protected void initializeLeader(List<DoubleSolution> swarm) {
         for (DoubleSolution particle : swarm) {
-            leaders.add(particle);
+            leaders.add((DoubleSolution) particle.copy());
         }
     }
 
@@ -20,6 +20,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
@@ -241,6 +242,22 @@ public class SMPSOBuilder implements AlgorithmBuilder<SMPSO> {
         return this;
     }
 
+    /**
+     * Evaluates the solutions in parallel with a {@link ForkJoinSolutionListEvaluator}, or
+     * sequentially if the number of threads is 1
+     *
+     * @param numberOfThreads Number of threads; 0 means the number of available processors
+     */
+    public SMPSOBuilder setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads == 1) {
+            this.evaluator = new SequentialSolutionListEvaluator<DoubleSolution>();
+        } else {
+            this.evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(numberOfThreads);
+        }
+
+        return this;
+    }
+
     public SMPSOBuilder setVariant(SMPSOVariant variant) {
         this.variant = variant;
 
@@ -19,11 +19,13 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.IncrementalHypervolumeContributions;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
-import org.uma.jmetal.util.solutionattribute.Ranking;
-import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.IncrementalRanking;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +43,10 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     private Hypervolume<S> hypervolume;
     private String varInProcessPath;
     private String funInProcessPath;
+    private NonDominatedSorting nonDominatedSorting;
+    private IncrementalRanking<S> ranking;
+    private List<S> rankedPopulation;
+    private IncrementalHypervolumeContributions<S> contributions;
 
     /**
      * Constructor
@@ -63,6 +69,12 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
         this.varInProcessPath = varInProcessPath;
         this.funInProcessPath = funInProcessPath;
+
+        nonDominatedSorting = new FastNonDominatedSorting();
+    }
+
+    public void setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        this.nonDominatedSorting = nonDominatedSorting;
     }
 
     @Override
@@ -79,6 +91,9 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     @Override
     protected void initProgress() {
         evaluations = 1;
+        ranking = null;
+        rankedPopulation = null;
+        contributions = null;
     }
 
     @Override
@@ -126,29 +141,54 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
         return offspringPopulation;
     }
 
+    /**
+     * The ranking of the population is kept between steps and updated with the offspring and the
+     * removed solution, instead of being recomputed from scratch. It is only recomputed when the
+     * population is not the list returned by the previous replacement (e.g., it has been replaced
+     * with {@link #setPopulation(List)})
+     */
     @Override
     protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
+        if ((ranking == null) || (population != rankedPopulation)) {
+            ranking = new IncrementalRanking<S>(nonDominatedSorting);
+            ranking.computeRanking(population);
+            contributions = null;
+        }
+
         List<S> jointPopulation = new ArrayList<>();
         jointPopulation.addAll(population);
         jointPopulation.addAll(offspringPopulation);
 
-        Ranking<S> ranking = computeRanking(jointPopulation);
+        for (S solution : offspringPopulation) {
+            ranking.insert(solution);
+        }
         List<S> lastSubfront = ranking.getSubfront(ranking.getNumberOfSubfronts() - 1);
 
-        lastSubfront = hypervolume.computeHypervolumeContribution(lastSubfront, jointPopulation);
-
-        List<S> resultPopulation = new ArrayList<>();
-        for (int i = 0; i < ranking.getNumberOfSubfronts() - 1; i++) {
-            for (S solution : ranking.getSubfront(i)) {
-                resultPopulation.add(solution);
+        // The contributions of the last subfront are updated incrementally with the reference point
+        // of the hypervolume implementation, whose moves only recompute the contributions reaching
+        // the moved bounds, and the last solution with the lowest one is removed
+        S worst = lastSubfront.get(0);
+        if (lastSubfront.size() > 1) {
+            if (contributions == null) {
+                contributions = new IncrementalHypervolumeContributions<S>(getProblem().getNumberOfObjectives());
             }
+            contributions.setReferencePoint(hypervolume.computeContributionReferencePoint(jointPopulation));
+            contributions.update(lastSubfront);
+
+            double lowestContribution = Double.POSITIVE_INFINITY;
+            for (S solution : lastSubfront) {
+                double contribution = contributions.getContribution(solution);
+                if (contribution <= lowestContribution) {
+                    lowestContribution = contribution;
+                    worst = solution;
+                }
+            }
+            contributions.remove(worst);
         }
+        ranking.remove(worst);
+        rankedPopulation = ranking.getSolutionList();
 
-        for (int i = 0; i < lastSubfront.size() - 1; i++) {
-            resultPopulation.add(lastSubfront.get(i));
-        }
-
-        return resultPopulation;
+        return rankedPopulation;
     }
 
     @Override
@@ -156,13 +196,6 @@ public class SMSEMOA<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
         return getPopulation();
     }
 
-    protected Ranking<S> computeRanking(List<S> solutionList) {
-        Ranking<S> ranking = new DominanceRanking<S>();
-        ranking.computeRanking(solutionList);
-
-        return ranking;
-    }
-
     @Override
     public String getName() {
         return "SMSEMOA";
@@ -22,6 +22,9 @@ import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmBuilder;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.List;
 
@@ -45,6 +48,7 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
     protected Hypervolume<S> hypervolumeImplementation;
     protected String varInProcessPath;
     protected String funInProcessPath;
+    protected NonDominatedSorting nonDominatedSorting;
 
     public SMSEMOABuilder(Problem<S> problem, CrossoverOperator<S> crossoverOperator,
                           MutationOperator<S> mutationOperator) {
@@ -58,6 +62,7 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
         this.crossoverOperator = crossoverOperator;
         this.mutationOperator = mutationOperator;
         this.selectionOperator = new RandomSelection<S>();
+        this.nonDominatedSorting = new FastNonDominatedSorting();
     }
 
     public SMSEMOABuilder<S> setHypervolumeImplementation(Hypervolume<S> hypervolumeImplementation) {
@@ -66,11 +71,23 @@ public class SMSEMOABuilder<S extends Solution<?>> implements AlgorithmBuilder<S
         return this;
     }
 
+    public SMSEMOABuilder<S> setNonDominatedSorting(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("nonDominatedSorting is null");
+        }
+        this.nonDominatedSorting = nonDominatedSorting;
+
+        return this;
+    }
+
     @Override
     public SMSEMOA<S> build() {
-        return new SMSEMOA<S>(problem, maxEvaluations, populationSize, offset,
+        SMSEMOA<S> algorithm = new SMSEMOA<S>(problem, maxEvaluations, populationSize, offset,
                 crossoverOperator, mutationOperator, selectionOperator, hypervolumeImplementation,
                 varInProcessPath, funInProcessPath);
+        algorithm.setNonDominatedSorting(nonDominatedSorting);
+
+        return algorithm;
     }
 
     public Problem<S> getProblem() {
@@ -22,6 +22,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.AlgorithmBuilder;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 import java.util.List;
@@ -130,6 +131,22 @@ public class SPEA2Builder<S extends Solution<?>> implements AlgorithmBuilder<SPE
         return this;
     }
 
+    /**
+     * Evaluates the solutions in parallel with a {@link ForkJoinSolutionListEvaluator}, or
+     * sequentially if the number of threads is 1
+     *
+     * @param numberOfThreads Number of threads; 0 means the number of available processors
+     */
+    public SPEA2Builder<S> setNumberOfThreads(int numberOfThreads) {
+        if (numberOfThreads == 1) {
+            this.evaluator = new SequentialSolutionListEvaluator<S>();
+        } else {
+            this.evaluator = new ForkJoinSolutionListEvaluator<S>(numberOfThreads);
+        }
+
+        return this;
+    }
+
     public String getInProcessDataPath() {
         return inProcessDataPath;
     }
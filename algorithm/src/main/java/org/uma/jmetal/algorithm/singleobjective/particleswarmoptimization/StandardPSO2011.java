@@ -30,6 +30,7 @@ import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.neighborhood.impl.AdaptiveRandomNeighborhood;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
 import org.uma.jmetal.util.pseudorandom.impl.ExtendedPseudoRandomGenerator;
 import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
@@ -62,6 +63,8 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
     private double weight;
     private double c;
     private JMetalRandom randomGenerator;
+    private PseudoRandomGenerator extendedGeneratorSource;
+    private ExtendedPseudoRandomGenerator extendedRandomGenerator;
     private DoubleSolution bestFoundParticle;
     private double changeVelocity;
 
@@ -219,7 +222,7 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
             double radius = 0;
             radius = SolutionUtils.distanceBetweenSolutions(gravityCenter, particle);
 
-            double[] random = ((ExtendedPseudoRandomGenerator) randomGenerator.getRanndomGenerator()).randSphere(problem.getNumberOfVariables());
+            double[] random = getExtendedRandomGenerator().randSphere(problem.getNumberOfVariables());
 
             for (int var = 0; var < particle.getNumberOfVariables(); var++) {
                 randomParticle.setVariableValue(var, gravityCenter.getVariableValue(var) + radius * random[var]);
@@ -312,6 +315,23 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
         return bestFoundParticle;
     }
 
+    /**
+     * Returns the generator of the current thread as an extended one, as the generator set in the
+     * constructor is replaced by the random stream of the run when the algorithm runs in an experiment.
+     * The wrapper of a generator which is not extended is kept while the generator stays the same
+     */
+    private ExtendedPseudoRandomGenerator getExtendedRandomGenerator() {
+        PseudoRandomGenerator currentRandomGenerator = randomGenerator.getRanndomGenerator();
+        if (currentRandomGenerator instanceof ExtendedPseudoRandomGenerator) {
+            return (ExtendedPseudoRandomGenerator) currentRandomGenerator;
+        }
+        if (currentRandomGenerator != extendedGeneratorSource) {
+            extendedGeneratorSource = currentRandomGenerator;
+            extendedRandomGenerator = new ExtendedPseudoRandomGenerator(currentRandomGenerator);
+        }
+        return extendedRandomGenerator;
+    }
+
     private DoubleSolution getNeighborBest(int i) {
         DoubleSolution bestLocalBestSolution = null;
 
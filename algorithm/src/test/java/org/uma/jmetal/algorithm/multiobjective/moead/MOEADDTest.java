@@ -0,0 +1,54 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import org.junit.Test;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MOEADDTest {
+    private static final int POPULATION_SIZE = 30;
+
+    @Test
+    public void shouldTheRankingKeepOnlyThePopulationAfterEveryUpdate() {
+        JMetalRandom.getInstance().setSeed(3);
+        ZDT1 problem = new ZDT1(10);
+        RankingCheckingMOEADD algorithm = new RankingCheckingMOEADD(problem);
+
+        algorithm.run();
+
+        assertTrue(algorithm.updates > 0);
+    }
+
+    /**
+     * MOEA/D-DD checking, after each update of the population, that the non-domination levels
+     * contain exactly the solutions of the population
+     */
+    @SuppressWarnings("serial")
+    private static class RankingCheckingMOEADD extends MOEADD {
+        private int updates;
+
+        RankingCheckingMOEADD(Problem<DoubleSolution> problem) {
+            super(problem, POPULATION_SIZE, POPULATION_SIZE, 400 * POPULATION_SIZE,
+                    new PolynomialMutation(0.1, 20.0), new SBXCrossover(1.0, 30.0), FunctionType.PBI,
+                    "MOEAD_Weights", 0.9, 2, 10, "", 0);
+        }
+
+        @Override
+        public void updateArchive(DoubleSolution indiv) {
+            super.updateArchive(indiv);
+            updates++;
+
+            assertEquals(POPULATION_SIZE, population.size());
+            assertEquals(POPULATION_SIZE, ranking.getNumberOfSolutions());
+            for (int i = 0; i < POPULATION_SIZE; i++) {
+                assertTrue(ranking.getRank((DoubleSolution) population.get(i)) >= 0);
+            }
+        }
+    }
+}
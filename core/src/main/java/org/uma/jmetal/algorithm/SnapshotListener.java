@@ -0,0 +1,37 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm;
+
+import org.uma.jmetal.solution.Solution;
+
+import java.util.List;
+
+/**
+ * Interface of the listeners notified of the snapshots of the solutions taken by a
+ * {@link SnapshotSource} during its run
+ *
+ * @param <S> Solution
+ */
+public interface SnapshotListener<S extends Solution<?>> {
+    /**
+     * Notifies a snapshot. The solutions can be modified once this method returns, so they have to
+     * be copied if they are kept
+     *
+     * @param evaluations   Number of evaluations of the snapshot
+     * @param snapshotIndex Index of the snapshot, which is the one of the names of its VAR and FUN
+     *                      files in the in-process data directory
+     * @param solutionList  The solutions
+     */
+    void snapshotTaken(int evaluations, int snapshotIndex, List<S> solutionList);
+}
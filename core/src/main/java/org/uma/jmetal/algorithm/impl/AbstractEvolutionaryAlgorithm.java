@@ -14,9 +14,15 @@
 package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.SnapshotListener;
+import org.uma.jmetal.algorithm.SnapshotSource;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,12 +32,14 @@ import java.util.List;
  * @param <R> Result
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
-public abstract class AbstractEvolutionaryAlgorithm<S extends Solution<?>, R> implements Algorithm<R> {
+public abstract class AbstractEvolutionaryAlgorithm<S extends Solution<?>, R> implements Algorithm<R>, SnapshotSource<S> {
     private static final long serialVersionUID = -6470103282979894169L;
     protected String inProcessDataPath;
     private List<S> population;
     private int maxPopulationSize;
     private Problem<S> problem;
+    private transient List<SnapshotListener<S>> snapshotListeners;
+    private boolean inProcessDataFilesEnabled = true;
 
     public List<S> getPopulation() {
         return population;
@@ -57,6 +65,62 @@ public abstract class AbstractEvolutionaryAlgorithm<S extends Solution<?>, R> im
         this.problem = problem;
     }
 
+    /**
+     * Adds a listener, which receives the solutions at the snapshot points of the run
+     */
+    @Override
+    public void addSnapshotListener(SnapshotListener<S> listener) {
+        if (snapshotListeners == null) {
+            snapshotListeners = new ArrayList<>();
+        }
+        snapshotListeners.add(listener);
+    }
+
+    @Override
+    public void removeSnapshotListener(SnapshotListener<S> listener) {
+        if (snapshotListeners != null) {
+            snapshotListeners.remove(listener);
+        }
+    }
+
+    public boolean isInProcessDataFilesEnabled() {
+        return inProcessDataFilesEnabled;
+    }
+
+    /**
+     * Sets whether the VAR and FUN files of the solutions are written at the snapshot points of the
+     * run (true by default)
+     */
+    public void setInProcessDataFilesEnabled(boolean inProcessDataFilesEnabled) {
+        this.inProcessDataFilesEnabled = inProcessDataFilesEnabled;
+    }
+
+    /**
+     * Saves a snapshot of the solutions: it is notified to the snapshot listeners, and their VAR and FUN files are written in a directory if they are enabled and the
+     * directory is not empty
+     *
+     * @param solutionList The solutions
+     * @param evaluations  Number of evaluations of the snapshot
+     * @param directory    Directory of the VAR and FUN files
+     * @param fileIndex    Index of the snapshot in the names of the files
+     */
+    protected void saveSnapshot(List<S> solutionList, int evaluations, String directory, int fileIndex) {
+        if (snapshotListeners != null) {
+            for (SnapshotListener<S> listener : snapshotListeners) {
+                listener.snapshotTaken(evaluations, fileIndex, solutionList);
+            }
+        }
+
+        if (inProcessDataFilesEnabled && (directory != null) && !directory.isEmpty()) {
+            new File(directory).mkdirs();
+            new SolutionListOutput(solutionList)
+                    .setSeparator("\t")
+                    .setVarFileOutputContext(new DefaultFileOutputContext(directory + "/VAR" + fileIndex + ".tsv"))
+                    .setFunFileOutputContext(new DefaultFileOutputContext(directory + "/FUN" + fileIndex + ".tsv"))
+                    .print();
+        }
+    }
+
     protected abstract void saveDataInProcess();
 
     protected abstract void initProgress();
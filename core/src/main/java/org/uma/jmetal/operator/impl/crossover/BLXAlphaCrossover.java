@@ -113,10 +113,10 @@ public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
 
         if (randomGenerator.nextDouble() <= probability) {
             for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-                upperBound = parent1.getUpperBound(i);
-                lowerBound = parent1.getLowerBound(i);
-                valueX1 = parent1.getVariableValue(i);
-                valueX2 = parent2.getVariableValue(i);
+                upperBound = parent1.getDoubleUpperBound(i);
+                lowerBound = parent1.getDoubleLowerBound(i);
+                valueX1 = parent1.getDoubleVariableValue(i);
+                valueX2 = parent2.getDoubleVariableValue(i);
 
                 double max;
                 double min;
@@ -147,8 +147,8 @@ public class BLXAlphaCrossover implements CrossoverOperator<DoubleSolution> {
                 valueY1 = solutionRepair.repairSolutionVariableValue(valueY1, lowerBound, upperBound);
                 valueY2 = solutionRepair.repairSolutionVariableValue(valueY2, lowerBound, upperBound);
 
-                offspring.get(0).setVariableValue(i, valueY1);
-                offspring.get(1).setVariableValue(i, valueY2);
+                offspring.get(0).setDoubleVariableValue(i, valueY1);
+                offspring.get(1).setDoubleVariableValue(i, valueY2);
             }
         }
 
@@ -70,6 +70,7 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     private DoubleSolution currentSolution;
 
     private JMetalRandom randomGenerator;
+    private transient double[] randomBuffer;
 
     /**
      * Constructor
@@ -136,115 +137,120 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
 
         int numberOfVariables = parentSolutions.get(0).getNumberOfVariables();
         jrand = randomGenerator.nextInt(0, numberOfVariables - 1);
+        double[] randomValues = getRandomValues(numberOfVariables);
 
         // STEP 4. Checking the DE variant
         if (("rand/1/bin".equals(variant)) ||
                 "best/1/bin".equals(variant)) {
+            randomGenerator.nextDoubles(randomValues, 0, numberOfVariables);
             for (int j = 0; j < numberOfVariables; j++) {
-                if (randomGenerator.nextDouble(0, 1) < cr || j == jrand) {
+                if (randomValues[j] < cr || j == jrand) {
                     double value;
-                    value = parentSolutions.get(2).getVariableValue(j) + f * (parentSolutions.get(0).getVariableValue(
+                    value = parentSolutions.get(2).getDoubleVariableValue(j) + f * (parentSolutions.get(0).getDoubleVariableValue(
                             j) -
-                            parentSolutions.get(1).getVariableValue(j));
+                            parentSolutions.get(1).getDoubleVariableValue(j));
 
-                    if (value < child.getLowerBound(j)) {
-                        value = child.getLowerBound(j);
+                    if (value < child.getDoubleLowerBound(j)) {
+                        value = child.getDoubleLowerBound(j);
                     }
-                    if (value > child.getUpperBound(j)) {
-                        value = child.getUpperBound(j);
+                    if (value > child.getDoubleUpperBound(j)) {
+                        value = child.getDoubleUpperBound(j);
                     }
-                    child.setVariableValue(j, value);
+                    child.setDoubleVariableValue(j, value);
                 } else {
                     double value;
-                    value = currentSolution.getVariableValue(j);
-                    child.setVariableValue(j, value);
+                    value = currentSolution.getDoubleVariableValue(j);
+                    child.setDoubleVariableValue(j, value);
                 }
             }
         } else if ("rand/1/exp".equals(variant) ||
                 "best/1/exp".equals(variant)) {
+            randomGenerator.nextDoubles(randomValues, 0, numberOfVariables);
             for (int j = 0; j < numberOfVariables; j++) {
-                if (randomGenerator.nextDouble(0, 1) < cr || j == jrand) {
+                if (randomValues[j] < cr || j == jrand) {
                     double value;
-                    value = parentSolutions.get(2).getVariableValue(j) + f * (parentSolutions.get(0).getVariableValue(j) -
-                            parentSolutions.get(1).getVariableValue(j));
+                    value = parentSolutions.get(2).getDoubleVariableValue(j) + f * (parentSolutions.get(0).getDoubleVariableValue(j) -
+                            parentSolutions.get(1).getDoubleVariableValue(j));
 
-                    if (value < child.getLowerBound(j)) {
-                        value = child.getLowerBound(j);
+                    if (value < child.getDoubleLowerBound(j)) {
+                        value = child.getDoubleLowerBound(j);
                     }
-                    if (value > child.getUpperBound(j)) {
-                        value = child.getUpperBound(j);
+                    if (value > child.getDoubleUpperBound(j)) {
+                        value = child.getDoubleUpperBound(j);
                     }
 
-                    child.setVariableValue(j, value);
+                    child.setDoubleVariableValue(j, value);
                 } else {
                     cr = 0.0;
                     double value;
-                    value = currentSolution.getVariableValue(j);
-                    child.setVariableValue(j, value);
+                    value = currentSolution.getDoubleVariableValue(j);
+                    child.setDoubleVariableValue(j, value);
                 }
             }
         } else if ("current-to-rand/1".equals(variant) ||
                 "current-to-best/1".equals(variant)) {
             for (int j = 0; j < numberOfVariables; j++) {
                 double value;
-                value = currentSolution.getVariableValue(j) + k * (parentSolutions.get(2).getVariableValue(j) -
-                        currentSolution.getVariableValue(j)) +
-                        f * (parentSolutions.get(0).getVariableValue(j) - parentSolutions.get(1).getVariableValue(j));
+                value = currentSolution.getDoubleVariableValue(j) + k * (parentSolutions.get(2).getDoubleVariableValue(j) -
+                        currentSolution.getDoubleVariableValue(j)) +
+                        f * (parentSolutions.get(0).getDoubleVariableValue(j) - parentSolutions.get(1).getDoubleVariableValue(j));
 
-                if (value < child.getLowerBound(j)) {
-                    value = child.getLowerBound(j);
+                if (value < child.getDoubleLowerBound(j)) {
+                    value = child.getDoubleLowerBound(j);
                 }
-                if (value > child.getUpperBound(j)) {
-                    value = child.getUpperBound(j);
+                if (value > child.getDoubleUpperBound(j)) {
+                    value = child.getDoubleUpperBound(j);
                 }
 
-                child.setVariableValue(j, value);
+                child.setDoubleVariableValue(j, value);
             }
         } else if ("current-to-rand/1/bin".equals(variant) ||
                 "current-to-best/1/bin".equals(variant)) {
+            randomGenerator.nextDoubles(randomValues, 0, numberOfVariables);
             for (int j = 0; j < numberOfVariables; j++) {
-                if (randomGenerator.nextDouble(0, 1) < cr || j == jrand) {
+                if (randomValues[j] < cr || j == jrand) {
                     double value;
-                    value = currentSolution.getVariableValue(j) + k * (parentSolutions.get(2).getVariableValue(j) -
-                            currentSolution.getVariableValue(j)) +
-                            f * (parentSolutions.get(0).getVariableValue(j) - parentSolutions.get(1).getVariableValue(j));
+                    value = currentSolution.getDoubleVariableValue(j) + k * (parentSolutions.get(2).getDoubleVariableValue(j) -
+                            currentSolution.getDoubleVariableValue(j)) +
+                            f * (parentSolutions.get(0).getDoubleVariableValue(j) - parentSolutions.get(1).getDoubleVariableValue(j));
 
-                    if (value < child.getLowerBound(j)) {
-                        value = child.getLowerBound(j);
+                    if (value < child.getDoubleLowerBound(j)) {
+                        value = child.getDoubleLowerBound(j);
                     }
-                    if (value > child.getUpperBound(j)) {
-                        value = child.getUpperBound(j);
+                    if (value > child.getDoubleUpperBound(j)) {
+                        value = child.getDoubleUpperBound(j);
                     }
 
-                    child.setVariableValue(j, value);
+                    child.setDoubleVariableValue(j, value);
                 } else {
                     double value;
-                    value = currentSolution.getVariableValue(j);
-                    child.setVariableValue(j, value);
+                    value = currentSolution.getDoubleVariableValue(j);
+                    child.setDoubleVariableValue(j, value);
                 }
             }
         } else if ("current-to-rand/1/exp".equals(variant) ||
                 "current-to-best/1/exp".equals(variant)) {
+            randomGenerator.nextDoubles(randomValues, 0, numberOfVariables);
             for (int j = 0; j < numberOfVariables; j++) {
-                if (randomGenerator.nextDouble(0, 1) < cr || j == jrand) {
+                if (randomValues[j] < cr || j == jrand) {
                     double value;
-                    value = currentSolution.getVariableValue(j) + k * (parentSolutions.get(2).getVariableValue(j) -
-                            currentSolution.getVariableValue(j)) +
-                            f * (parentSolutions.get(0).getVariableValue(j) - parentSolutions.get(1).getVariableValue(j));
+                    value = currentSolution.getDoubleVariableValue(j) + k * (parentSolutions.get(2).getDoubleVariableValue(j) -
+                            currentSolution.getDoubleVariableValue(j)) +
+                            f * (parentSolutions.get(0).getDoubleVariableValue(j) - parentSolutions.get(1).getDoubleVariableValue(j));
 
-                    if (value < child.getLowerBound(j)) {
-                        value = child.getLowerBound(j);
+                    if (value < child.getDoubleLowerBound(j)) {
+                        value = child.getDoubleLowerBound(j);
                     }
-                    if (value > child.getUpperBound(j)) {
-                        value = child.getUpperBound(j);
+                    if (value > child.getDoubleUpperBound(j)) {
+                        value = child.getDoubleUpperBound(j);
                     }
 
-                    child.setVariableValue(j, value);
+                    child.setDoubleVariableValue(j, value);
                 } else {
                     cr = 0.0;
                     double value;
-                    value = currentSolution.getVariableValue(j);
-                    child.setVariableValue(j, value);
+                    value = currentSolution.getDoubleVariableValue(j);
+                    child.setDoubleVariableValue(j, value);
                 }
             }
         } else {
@@ -268,4 +274,15 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     public int getNumberOfParents() {
         return 3;
     }
+
+    /**
+     * Returns the buffer of random numbers of the operator, which is reused between calls
+     */
+    private double[] getRandomValues(int length) {
+        if ((randomBuffer == null) || (randomBuffer.length < length)) {
+            randomBuffer = new double[length];
+        }
+
+        return randomBuffer;
+    }
 }
@@ -30,6 +30,10 @@ import java.util.List;
  * <p>
  * The implementation is based on the NSGA-II code available in
  * <a href="http://www.iitk.ac.in/kangal/codes.shtml">http://www.iitk.ac.in/kangal/codes.shtml</a>
+ * <p>
+ * The numbers deciding which variables are crossed are drawn in bulk before the spread factors
+ * and swaps of the crossed variables, instead of alternating with them, so the results obtained
+ * with a given seed are different from the ones of the previous versions.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
@@ -46,6 +50,7 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     private RepairDoubleSolution solutionRepair;
 
     private JMetalRandom randomGenerator;
+    private transient double[] randomBuffer;
 
     /**
      * Constructor
@@ -121,10 +126,15 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
         double valueX1, valueX2;
 
         if (randomGenerator.nextDouble() <= probability) {
+            // The numbers deciding whether each variable is crossed are drawn at once; the spread
+            // factor and whether the children values are swapped are drawn only for the crossed ones
+            double[] randomValues = getRandomValues(parent1.getNumberOfVariables());
+            randomGenerator.nextDoubles(randomValues, 0, parent1.getNumberOfVariables());
+
             for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-                valueX1 = parent1.getVariableValue(i);
-                valueX2 = parent2.getVariableValue(i);
-                if (randomGenerator.nextDouble() <= 0.5) {
+                valueX1 = parent1.getDoubleVariableValue(i);
+                valueX2 = parent2.getDoubleVariableValue(i);
+                if (randomValues[i] <= 0.5) {
                     if (Math.abs(valueX1 - valueX2) > EPS) {
 
                         if (valueX1 < valueX2) {
@@ -135,8 +145,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
                             y2 = valueX1;
                         }
 
-                        lowerBound = parent1.getLowerBound(i);
-                        upperBound = parent1.getUpperBound(i);
+                        lowerBound = parent1.getDoubleLowerBound(i);
+                        upperBound = parent1.getDoubleUpperBound(i);
 
                         rand = randomGenerator.nextDouble();
                         beta = 1.0 + (2.0 * (y1 - lowerBound) / (y2 - y1));
@@ -165,19 +175,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
                         c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound);
 
                         if (randomGenerator.nextDouble() <= 0.5) {
-                            offspring.get(0).setVariableValue(i, c2);
-                            offspring.get(1).setVariableValue(i, c1);
+                            offspring.get(0).setDoubleVariableValue(i, c2);
+                            offspring.get(1).setDoubleVariableValue(i, c1);
                         } else {
-                            offspring.get(0).setVariableValue(i, c1);
-                            offspring.get(1).setVariableValue(i, c2);
+                            offspring.get(0).setDoubleVariableValue(i, c1);
+                            offspring.get(1).setDoubleVariableValue(i, c2);
                         }
                     } else {
-                        offspring.get(0).setVariableValue(i, valueX1);
-                        offspring.get(1).setVariableValue(i, valueX2);
+                        offspring.get(0).setDoubleVariableValue(i, valueX1);
+                        offspring.get(1).setDoubleVariableValue(i, valueX2);
                     }
                 } else {
-                    offspring.get(0).setVariableValue(i, valueX1);
-                    offspring.get(1).setVariableValue(i, valueX2);
+                    offspring.get(0).setDoubleVariableValue(i, valueX1);
+                    offspring.get(1).setDoubleVariableValue(i, valueX2);
                 }
             }
         }
@@ -193,4 +203,15 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     public int getNumberOfParents() {
         return 2;
     }
+
+    /**
+     * Returns the buffer of random numbers of the operator, which is reused between calls
+     */
+    private double[] getRandomValues(int length) {
+        if ((randomBuffer == null) || (randomBuffer.length < length)) {
+            randomBuffer = new double[length];
+        }
+
+        return randomBuffer;
+    }
 }
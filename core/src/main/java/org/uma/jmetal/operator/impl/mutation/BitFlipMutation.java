@@ -16,17 +16,21 @@ package org.uma.jmetal.operator.impl.mutation;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.GeometricSkipSampler;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @version 1.0
  *          <p>
- *          This class implements a bit flip mutation operator.
+ *          This class implements a bit flip mutation operator. When skip sampling is enabled, the
+ *          bits to flip are drawn with a {@link GeometricSkipSampler} over the bits of all the
+ *          variables instead of a random number per bit.
  */
 @SuppressWarnings("serial")
 public class BitFlipMutation implements MutationOperator<BinarySolution> {
     private double mutationProbability;
+    private boolean skipSamplingEnabled;
     private JMetalRandom randomGenerator;
 
     /**
@@ -45,6 +49,15 @@ public class BitFlipMutation implements MutationOperator<BinarySolution> {
         return mutationProbability;
     }
 
+    public boolean isSkipSamplingEnabled() {
+        return skipSamplingEnabled;
+    }
+
+    /* Setter */
+    public void setSkipSamplingEnabled(boolean skipSamplingEnabled) {
+        this.skipSamplingEnabled = skipSamplingEnabled;
+    }
+
     /**
      * Execute() method
      */
@@ -65,6 +78,11 @@ public class BitFlipMutation implements MutationOperator<BinarySolution> {
      * @param solution    The solution to mutate
      */
     public void doMutation(double probability, BinarySolution solution) {
+        if (skipSamplingEnabled) {
+            doSkipSamplingMutation(probability, solution);
+            return;
+        }
+
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
             for (int j = 0; j < solution.getVariableValue(i).getBinarySetLength(); j++) {
                 if (randomGenerator.nextDouble() <= probability) {
@@ -73,4 +91,25 @@ public class BitFlipMutation implements MutationOperator<BinarySolution> {
             }
         }
     }
+
+    /**
+     * Perform the mutation operation drawing only the indices of the flipped bits, which are
+     * numbered consecutively across the variables
+     */
+    private void doSkipSamplingMutation(double probability, BinarySolution solution) {
+        GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenerator);
+        int numberOfBits = solution.getTotalNumberOfBits();
+
+        int variable = 0;
+        int variableStart = 0;
+        int bit = sampler.nextIndex(0, numberOfBits);
+        while (bit < numberOfBits) {
+            while (bit - variableStart >= solution.getVariableValue(variable).getBinarySetLength()) {
+                variableStart += solution.getVariableValue(variable).getBinarySetLength();
+                variable++;
+            }
+            solution.getVariableValue(variable).flip(bit - variableStart);
+            bit = sampler.nextIndex(bit + 1, numberOfBits);
+        }
+    }
 }
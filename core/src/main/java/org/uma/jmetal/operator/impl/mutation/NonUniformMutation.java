@@ -97,21 +97,21 @@ public class NonUniformMutation implements MutationOperator<DoubleSolution> {
                 double tmp;
 
                 if (rand <= 0.5) {
-                    tmp = delta(solution.getUpperBound(i) - solution.getVariableValue(i),
+                    tmp = delta(solution.getDoubleUpperBound(i) - solution.getDoubleVariableValue(i),
                             perturbation);
-                    tmp += solution.getVariableValue(i);
+                    tmp += solution.getDoubleVariableValue(i);
                 } else {
-                    tmp = delta(solution.getLowerBound(i) - solution.getVariableValue(i),
+                    tmp = delta(solution.getDoubleLowerBound(i) - solution.getDoubleVariableValue(i),
                             perturbation);
-                    tmp += solution.getVariableValue(i);
+                    tmp += solution.getDoubleVariableValue(i);
                 }
 
-                if (tmp < solution.getLowerBound(i)) {
-                    tmp = solution.getLowerBound(i);
-                } else if (tmp > solution.getUpperBound(i)) {
-                    tmp = solution.getUpperBound(i);
+                if (tmp < solution.getDoubleLowerBound(i)) {
+                    tmp = solution.getDoubleLowerBound(i);
+                } else if (tmp > solution.getDoubleUpperBound(i)) {
+                    tmp = solution.getDoubleUpperBound(i);
                 }
-                solution.setVariableValue(i, tmp);
+                solution.setDoubleVariableValue(i, tmp);
             }
         }
     }
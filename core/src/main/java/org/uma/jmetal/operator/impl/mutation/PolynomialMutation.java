@@ -19,6 +19,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.GeometricSkipSampler;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
@@ -29,6 +30,15 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
  * <p>
  * If the lower and upper bounds of a variable are the same, no mutation is carried out and the
  * bound value is returned.
+ * <p>
+ * When skip sampling is enabled, the indices of the variables to mutate are drawn with a
+ * {@link GeometricSkipSampler} instead of a random number per variable, which is faster when the
+ * mutation probability is low; the distribution of the mutated variables is the same, but not the
+ * sequence of random numbers, so the results differ from the ones of the default mode.
+ * <p>
+ * In the default mode, the numbers deciding which variables are mutated are drawn in bulk before
+ * the perturbations of the mutated variables, instead of alternating with them, so the results
+ * obtained with a given seed are different from the ones of the previous versions.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
@@ -40,8 +50,10 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
     private double distributionIndex;
     private double mutationProbability;
     private RepairDoubleSolution solutionRepair;
+    private boolean skipSamplingEnabled;
 
     private JMetalRandom randomGenerator;
+    private transient double[] randomBuffer;
 
     /**
      * Constructor
@@ -99,6 +111,14 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
         this.distributionIndex = distributionIndex;
     }
 
+    public boolean isSkipSamplingEnabled() {
+        return skipSamplingEnabled;
+    }
+
+    public void setSkipSamplingEnabled(boolean skipSamplingEnabled) {
+        this.skipSamplingEnabled = skipSamplingEnabled;
+    }
+
     /**
      * Execute() method
      */
@@ -116,35 +136,82 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
      * Perform the mutation operation
      */
     private void doMutation(double probability, DoubleSolution solution) {
-        double rnd, delta1, delta2, mutPow, deltaq;
+        if (skipSamplingEnabled) {
+            doSkipSamplingMutation(probability, solution);
+            return;
+        }
+
+        // The numbers deciding whether each variable is mutated are drawn at once; the perturbation
+        // is drawn only for the mutated variables
+        int numberOfVariables = solution.getNumberOfVariables();
+        double[] randomValues = getRandomValues(numberOfVariables);
+        randomGenerator.nextDoubles(randomValues, 0, numberOfVariables);
+
+        for (int i = 0; i < numberOfVariables; i++) {
+            if (randomValues[i] <= probability) {
+                mutateVariable(solution, i, randomGenerator.nextDouble());
+            }
+        }
+    }
+
+    /**
+     * Perform the mutation operation drawing only the indices of the mutated variables and their
+     * perturbations
+     */
+    private void doSkipSamplingMutation(double probability, DoubleSolution solution) {
+        GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenerator);
+        int numberOfVariables = solution.getNumberOfVariables();
+
+        int i = sampler.nextIndex(0, numberOfVariables);
+        while (i < numberOfVariables) {
+            mutateVariable(solution, i, randomGenerator.nextDouble());
+            i = sampler.nextIndex(i + 1, numberOfVariables);
+        }
+    }
+
+    /**
+     * Mutates a variable
+     *
+     * @param solution The solution to mutate
+     * @param i        Index of the variable
+     * @param rnd      Random number in [0, 1) determining the perturbation
+     */
+    private void mutateVariable(DoubleSolution solution, int i, double rnd) {
+        double delta1, delta2, mutPow, deltaq;
         double y, yl, yu, val, xy;
 
-        for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            if (randomGenerator.nextDouble() <= probability) {
-                y = solution.getVariableValue(i);
-                yl = solution.getLowerBound(i);
-                yu = solution.getUpperBound(i);
-                if (yl == yu) {
-                    y = yl;
-                } else {
-                    delta1 = (y - yl) / (yu - yl);
-                    delta2 = (yu - y) / (yu - yl);
-                    rnd = randomGenerator.nextDouble();
-                    mutPow = 1.0 / (distributionIndex + 1.0);
-                    if (rnd <= 0.5) {
-                        xy = 1.0 - delta1;
-                        val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
-                        deltaq = Math.pow(val, mutPow) - 1.0;
-                    } else {
-                        xy = 1.0 - delta2;
-                        val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
-                        deltaq = 1.0 - Math.pow(val, mutPow);
-                    }
-                    y = y + deltaq * (yu - yl);
-                    y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
-                }
-                solution.setVariableValue(i, y);
+        y = solution.getDoubleVariableValue(i);
+        yl = solution.getDoubleLowerBound(i);
+        yu = solution.getDoubleUpperBound(i);
+        if (yl == yu) {
+            y = yl;
+        } else {
+            delta1 = (y - yl) / (yu - yl);
+            delta2 = (yu - y) / (yu - yl);
+            mutPow = 1.0 / (distributionIndex + 1.0);
+            if (rnd <= 0.5) {
+                xy = 1.0 - delta1;
+                val = 2.0 * rnd + (1.0 - 2.0 * rnd) * (Math.pow(xy, distributionIndex + 1.0));
+                deltaq = Math.pow(val, mutPow) - 1.0;
+            } else {
+                xy = 1.0 - delta2;
+                val = 2.0 * (1.0 - rnd) + 2.0 * (rnd - 0.5) * (Math.pow(xy, distributionIndex + 1.0));
+                deltaq = 1.0 - Math.pow(val, mutPow);
             }
+            y = y + deltaq * (yu - yl);
+            y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
+        solution.setDoubleVariableValue(i, y);
+    }
+
+    /**
+     * Returns the buffer of random numbers of the operator, which is reused between calls
+     */
+    private double[] getRandomValues(int length) {
+        if ((randomBuffer == null) || (randomBuffer.length < length)) {
+            randomBuffer = new double[length];
+        }
+
+        return randomBuffer;
     }
 }
@@ -47,17 +47,17 @@ public class RandomizeMutation implements MutationOperator<DoubleSolution> {
 
         int index = randomGenerator.nextInt(0, solution.getNumberOfVariables() - 1);
         double randomStepSize = mutationProbability *
-                (solution.getUpperBound(index) -
-                        solution.getLowerBound(index));
-        double lower = solution.getVariableValue(index) - randomStepSize;
-        double upper = solution.getVariableValue(index) + randomStepSize;
+                (solution.getDoubleUpperBound(index) -
+                        solution.getDoubleLowerBound(index));
+        double lower = solution.getDoubleVariableValue(index) - randomStepSize;
+        double upper = solution.getDoubleVariableValue(index) + randomStepSize;
 
-        if (lower < solution.getLowerBound(index)) lower = solution.getLowerBound(index);
-        if (upper > solution.getUpperBound(index)) upper = solution.getUpperBound(index);
+        if (lower < solution.getDoubleLowerBound(index)) lower = solution.getDoubleLowerBound(index);
+        if (upper > solution.getDoubleUpperBound(index)) upper = solution.getDoubleUpperBound(index);
 
-        Double value = randomGenerator.nextDouble(lower, upper);
+        double value = randomGenerator.nextDouble(lower, upper);
 
-        solution.setVariableValue(index, value);
+        solution.setDoubleVariableValue(index, value);
     }
 
     public void setMutationProbability(Double mutationProbability) {
@@ -60,10 +60,10 @@ public class SimpleRandomMutation implements MutationOperator<DoubleSolution> {
     private void doMutation(double probability, DoubleSolution solution) {
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
             if (randomGenerator.nextDouble() <= probability) {
-                Double value = solution.getLowerBound(i) +
-                        ((solution.getUpperBound(i) - solution.getLowerBound(i)) * randomGenerator.nextDouble());
+                double value = solution.getDoubleLowerBound(i) +
+                        ((solution.getDoubleUpperBound(i) - solution.getDoubleLowerBound(i)) * randomGenerator.nextDouble());
 
-                solution.setVariableValue(i, value);
+                solution.setDoubleVariableValue(i, value);
             }
         }
     }
@@ -16,10 +16,12 @@ package org.uma.jmetal.operator.impl.mutation;
 import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.GeometricSkipSampler;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
- * This class implements a uniform mutation operator.
+ * This class implements a uniform mutation operator. When skip sampling is enabled, the variables
+ * to mutate are drawn with a {@link GeometricSkipSampler} instead of a random number per variable.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
@@ -28,6 +30,7 @@ public class UniformMutation implements MutationOperator<DoubleSolution> {
     private static final long serialVersionUID = 5868264578879675598L;
     private Double perturbation;
     private Double mutationProbability = null;
+    private boolean skipSamplingEnabled;
     private JMetalRandom randomGenenerator;
 
     /**
@@ -48,6 +51,15 @@ public class UniformMutation implements MutationOperator<DoubleSolution> {
         return mutationProbability;
     }
 
+    public boolean isSkipSamplingEnabled() {
+        return skipSamplingEnabled;
+    }
+
+    /* Setters */
+    public void setSkipSamplingEnabled(boolean skipSamplingEnabled) {
+        this.skipSamplingEnabled = skipSamplingEnabled;
+    }
+
     /**
      * Perform the operation
      *
@@ -55,24 +67,42 @@ public class UniformMutation implements MutationOperator<DoubleSolution> {
      * @param solution    The solution to mutate
      */
     public void doMutation(double probability, DoubleSolution solution) {
-        for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            if (randomGenenerator.nextDouble() < probability) {
-                double rand = randomGenenerator.nextDouble();
-                double tmp = (rand - 0.5) * perturbation;
+        if (skipSamplingEnabled) {
+            GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenenerator);
+            int numberOfVariables = solution.getNumberOfVariables();
 
-                tmp += solution.getVariableValue(i);
-
-                if (tmp < solution.getLowerBound(i)) {
-                    tmp = solution.getLowerBound(i);
-                } else if (tmp > solution.getUpperBound(i)) {
-                    tmp = solution.getUpperBound(i);
+            int i = sampler.nextIndex(0, numberOfVariables);
+            while (i < numberOfVariables) {
+                mutateVariable(solution, i);
+                i = sampler.nextIndex(i + 1, numberOfVariables);
+            }
+        } else {
+            for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+                if (randomGenenerator.nextDouble() < probability) {
+                    mutateVariable(solution, i);
                 }
-
-                solution.setVariableValue(i, tmp);
             }
         }
     }
 
+    /**
+     * Adds a uniform perturbation to a variable, keeping it within its bounds
+     */
+    private void mutateVariable(DoubleSolution solution, int i) {
+        double rand = randomGenenerator.nextDouble();
+        double tmp = (rand - 0.5) * perturbation;
+
+        tmp += solution.getDoubleVariableValue(i);
+
+        if (tmp < solution.getDoubleLowerBound(i)) {
+            tmp = solution.getDoubleLowerBound(i);
+        } else if (tmp > solution.getDoubleUpperBound(i)) {
+            tmp = solution.getDoubleUpperBound(i);
+        }
+
+        solution.setDoubleVariableValue(i, tmp);
+    }
+
     /**
      * Execute() method
      */
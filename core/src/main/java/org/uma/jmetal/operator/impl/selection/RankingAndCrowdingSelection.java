@@ -5,9 +5,11 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.FastNonDominatedSorting;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,12 +28,20 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
         implements SelectionOperator<List<S>,List<S>> {
     private final int solutionsToSelect ;
     private Comparator<S> dominanceComparator ;
+    private NonDominatedSorting nonDominatedSorting ;
 
 
     /** Constructor */
-    public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
+    public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator,
+                                       NonDominatedSorting nonDominatedSorting) {
         this.dominanceComparator = dominanceComparator ;
         this.solutionsToSelect = solutionsToSelect ;
+        this.nonDominatedSorting = nonDominatedSorting ;
+    }
+
+    /** Constructor */
+    public RankingAndCrowdingSelection(int solutionsToSelect, Comparator<S> dominanceComparator) {
+        this(solutionsToSelect, dominanceComparator, new FastNonDominatedSorting()) ;
     }
 
     /** Constructor */
@@ -55,7 +65,7 @@ public class RankingAndCrowdingSelection<S extends Solution<?>>
                     "the solutions to selected ("+solutionsToSelect+")")  ;
         }
 
-        Ranking<S> ranking = new DominanceRanking<S>(dominanceComparator);
+        Ranking<S> ranking = new DominanceRanking<S>(nonDominatedSorting);
         ranking.computeRanking(solutionList) ;
 
         return crowdingDistanceSelection(ranking);
@@ -37,4 +37,17 @@ public interface Problem<S extends Solution<?>> extends Serializable {
     void evaluate(S solution);
 
     S createSolution();
+
+    /**
+     * Returns an instance of the problem to be used by another thread at the same time as this one,
+     * which is equivalent to a new instance created with the same parameters. Problems keeping
+     * mutable state, such as buffers, counters or random generators, must return a new instance
+     * with its own state; the read-only data, such as the bounds or the matrices and vectors
+     * loaded from files, should be shared by both instances instead of copied. The default
+     * implementation returns the problem itself, which is right for the problems whose evaluation
+     * does not modify them.
+     */
+    default Problem<S> copyForThread() {
+        return this;
+    }
 }
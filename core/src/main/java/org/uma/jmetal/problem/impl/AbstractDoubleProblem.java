@@ -2,7 +2,7 @@ package org.uma.jmetal.problem.impl;
 
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
-import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.solution.impl.ArrayDoubleSolution;
 
 import java.util.List;
 
@@ -12,6 +12,8 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
 
     private List<Double> lowerLimit;
     private List<Double> upperLimit;
+    private double[] lowerBounds;
+    private double[] upperBounds;
 
     /* Getters */
     @Override
@@ -27,14 +29,47 @@ public abstract class AbstractDoubleProblem extends AbstractGenericProblem<Doubl
     /* Setters */
     protected void setLowerLimit(List<Double> lowerLimit) {
         this.lowerLimit = lowerLimit;
+        this.lowerBounds = null;
     }
 
     protected void setUpperLimit(List<Double> upperLimit) {
         this.upperLimit = upperLimit;
+        this.upperBounds = null;
     }
 
+    /**
+     * Creates a new solution backed by a double[] array ({@link ArrayDoubleSolution}). The bounds are
+     * converted to primitive arrays once and shared by all the solutions of the problem. Subclasses
+     * requiring another representation can override this method
+     */
     @Override
     public DoubleSolution createSolution() {
-        return new DefaultDoubleSolution(this);
+        return new ArrayDoubleSolution(this, getLowerBounds(), getUpperBounds());
+    }
+
+    /**
+     * Returns the lower bounds as a primitive array. The array is shared, so it must not be modified
+     */
+    protected double[] getLowerBounds() {
+        if (lowerBounds == null) {
+            lowerBounds = new double[getNumberOfVariables()];
+            for (int i = 0; i < lowerBounds.length; i++) {
+                lowerBounds[i] = getLowerBound(i);
+            }
+        }
+        return lowerBounds;
+    }
+
+    /**
+     * Returns the upper bounds as a primitive array. The array is shared, so it must not be modified
+     */
+    protected double[] getUpperBounds() {
+        if (upperBounds == null) {
+            upperBounds = new double[getNumberOfVariables()];
+            for (int i = 0; i < upperBounds.length; i++) {
+                upperBounds[i] = getUpperBound(i);
+            }
+        }
+        return upperBounds;
     }
 }
@@ -23,8 +23,10 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -90,6 +92,52 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
         return epsilon(new ArrayFront(solutionList), referenceParetoFront);
     }
 
+    /**
+     * Evaluates the indicator on the packed objective values of a {@link PopulationMatrix}, with the
+     * same differences and in the same order as {@link #evaluate(List)}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    @Override
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            return super.evaluateMatrix(populationMatrix);
+        } else if (populationMatrix.getNumberOfObjectives() != referenceParetoFront.getPointDimensions()) {
+            throw new JMetalException("The number of objectives (" + populationMatrix.getNumberOfObjectives() +
+                    ") is different from the dimensions of the reference front (" +
+                    referenceParetoFront.getPointDimensions() + ")");
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        int numberOfObjectives = populationMatrix.getNumberOfObjectives();
+        double[] referenceValues = FrontUtils.convertFrontToPackedArray(referenceParetoFront);
+
+        double eps = Double.MIN_VALUE;
+        for (int i = 0; i < referenceValues.length; i += numberOfObjectives) {
+            double epsJ = 0.0;
+            for (int j = 0; j < objectives.length; j += numberOfObjectives) {
+                double epsK = objectives[j] - referenceValues[i];
+                for (int k = 1; k < numberOfObjectives; k++) {
+                    double epsTemp = objectives[j + k] - referenceValues[i + k];
+                    if (epsK < epsTemp) {
+                        epsK = epsTemp;
+                    }
+                }
+                if ((j == 0) || (epsJ > epsK)) {
+                    epsJ = epsK;
+                }
+            }
+            if ((i == 0) || (eps < epsJ)) {
+                eps = epsJ;
+            }
+        }
+
+        return eps;
+    }
+
     /**
      * Returns the value of the epsilon indicator.
      *
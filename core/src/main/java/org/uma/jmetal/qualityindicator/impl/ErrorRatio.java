@@ -18,6 +18,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 import org.uma.jmetal.util.point.Point;
 
@@ -54,8 +55,7 @@ public class ErrorRatio<Evaluate extends List<? extends Solution<?>>>
             throw new JMetalException("The pareto front object is null");
         }
 
-        Front front = new ArrayFront(referenceParetoFrontFile);
-        referenceParetoFront = front;
+        referenceParetoFront = ReferenceFrontCache.getInstance().getFront(referenceParetoFrontFile);
     }
 
     /**
@@ -22,8 +22,10 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
@@ -32,6 +34,8 @@ import org.uma.jmetal.util.point.util.comparator.PointDimensionComparator;
 import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -97,13 +101,19 @@ public class GeneralizedSpread<S extends Solution<?>> extends GenericIndicator<S
     public double generalizedSpread(Front front, Front referenceFront) {
         int numberOfObjectives = front.getPoint(0).getNumberOfDimensions();
 
+        // The reference front is not sorted, as it may be shared, but a list of its points
+        List<Point> referencePoints = new ArrayList<>(referenceFront.getNumberOfPoints());
+        for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+            referencePoints.add(referenceFront.getPoint(i));
+        }
+
         Point[] extremeValues = new Point[numberOfObjectives];
         for (int i = 0; i < numberOfObjectives; i++) {
-            referenceFront.sort(new PointDimensionComparator(i));
+            Collections.sort(referencePoints, new PointDimensionComparator(i));
             Point newPoint = new ArrayPoint(numberOfObjectives);
             for (int j = 0; j < numberOfObjectives; j++) {
                 newPoint.setDimensionValue(j,
-                        referenceFront.getPoint(referenceFront.getNumberOfPoints() - 1).getDimensionValue(j));
+                        referencePoints.get(referencePoints.size() - 1).getDimensionValue(j));
             }
             extremeValues[i] = newPoint;
         }
@@ -116,23 +126,28 @@ public class GeneralizedSpread<S extends Solution<?>> extends GenericIndicator<S
                 front.getPoint(front.getNumberOfPoints() - 1)) == 0.0) {
             return 1.0;
         } else {
+            // The distance of each point to its nearest one is computed once, with an index for large fronts
+            FrontIndex frontIndex = numberOfPoints >= FrontIndex.MINIMUM_FRONT_SIZE ? new FrontIndex(front) : null;
+            double[] nearestDistances = new double[numberOfPoints];
             double dmean = 0.0;
 
             for (int i = 0; i < front.getNumberOfPoints(); i++) {
-                dmean += FrontUtils.distanceToNearestPoint(front.getPoint(i), front);
+                nearestDistances[i] = frontIndex != null ? frontIndex.distanceToNearestPoint(front.getPoint(i)) :
+                        FrontUtils.distanceToNearestPoint(front.getPoint(i), front);
+                dmean += nearestDistances[i];
             }
 
             dmean = dmean / (numberOfPoints);
 
             double dExtrems = 0.0;
             for (int i = 0; i < extremeValues.length; i++) {
-                dExtrems += FrontUtils.distanceToClosestPoint(extremeValues[i], front);
+                dExtrems += frontIndex != null ? frontIndex.distanceToClosestPoint(extremeValues[i]) :
+                        FrontUtils.distanceToClosestPoint(extremeValues[i], front);
             }
 
             double mean = 0.0;
             for (int i = 0; i < front.getNumberOfPoints(); i++) {
-                mean += Math.abs(FrontUtils.distanceToNearestPoint(front.getPoint(i), front) -
-                        dmean);
+                mean += Math.abs(nearestDistances[i] - dmean);
             }
 
             return (dExtrems + mean) / (dExtrems + (numberOfPoints * dmean));
@@ -23,9 +23,13 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.CachedReferenceFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -44,6 +48,9 @@ import java.util.List;
 public class GenerationalDistance<S extends Solution<?>> extends GenericIndicator<S> {
     private double pow = 2.0;
 
+    private transient Front indexedReferenceFront;
+    private transient FrontIndex referenceFrontIndex;
+
     /**
      * Default constructor
      */
@@ -96,6 +103,43 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
         return generationalDistance(new ArrayFront(solutionList), referenceParetoFront);
     }
 
+    /**
+     * Evaluates the indicator on the packed objective values of a {@link PopulationMatrix}, with the
+     * same distances and in the same order as {@link #evaluate(List)}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    @Override
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            return super.evaluateMatrix(populationMatrix);
+        } else if (populationMatrix.getNumberOfObjectives() != referenceParetoFront.getPointDimensions()) {
+            throw new JMetalException("The number of objectives (" + populationMatrix.getNumberOfObjectives() +
+                    ") is different from the dimensions of the reference front (" +
+                    referenceParetoFront.getPointDimensions() + ")");
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        double sum = 0.0;
+        if (referenceParetoFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            FrontIndex frontIndex = getReferenceFrontIndex(referenceParetoFront);
+            for (int i = 0; i < populationMatrix.getNumberOfSolutions(); i++) {
+                sum += frontIndex.distanceToClosestPoint(objectives, populationMatrix.getOffset(i));
+            }
+        } else {
+            double[] referenceValues = FrontUtils.convertFrontToPackedArray(referenceParetoFront);
+            for (int i = 0; i < populationMatrix.getNumberOfSolutions(); i++) {
+                sum += FrontUtils.distanceToClosestPoint(objectives, populationMatrix.getOffset(i),
+                        referenceValues, populationMatrix.getNumberOfObjectives());
+            }
+        }
+
+        return sum / populationMatrix.getNumberOfSolutions();
+    }
+
     /**
      * Returns the generational distance value for a given front
      *
@@ -104,13 +148,38 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
      */
     public double generationalDistance(Front front, Front referenceFront) {
         double sum = 0.0;
-        for (int i = 0; i < front.getNumberOfPoints(); i++) {
-            sum += FrontUtils.distanceToClosestPoint(front.getPoint(i), referenceFront);
+        if (referenceFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            FrontIndex frontIndex = getReferenceFrontIndex(referenceFront);
+            for (int i = 0; i < front.getNumberOfPoints(); i++) {
+                sum += frontIndex.distanceToClosestPoint(front.getPoint(i));
+            }
+        } else {
+            for (int i = 0; i < front.getNumberOfPoints(); i++) {
+                sum += FrontUtils.distanceToClosestPoint(front.getPoint(i), referenceFront);
+            }
         }
 
         return sum / front.getNumberOfPoints();
     }
 
+    /**
+     * Returns the index of a reference front: the one of {@link ReferenceFrontCache} if the front is
+     * cached there, or one which is kept and reused while the same front is given otherwise, so a
+     * reference front must not be modified after being evaluated
+     */
+    private synchronized FrontIndex getReferenceFrontIndex(Front referenceFront) {
+        CachedReferenceFront cachedReferenceFront = ReferenceFrontCache.getInstance().find(referenceFront);
+        if (cachedReferenceFront != null) {
+            return cachedReferenceFront.getFrontIndex();
+        }
+
+        if (referenceFront != indexedReferenceFront) {
+            referenceFrontIndex = new FrontIndex(referenceFront);
+            indexedReferenceFront = referenceFront;
+        }
+        return referenceFrontIndex;
+    }
+
     @Override
     public String getName() {
         return "GD";
@@ -3,8 +3,9 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 
 import java.io.FileNotFoundException;
@@ -43,8 +44,7 @@ public abstract class GenericIndicator<S extends Solution<?>>
             throw new JMetalException("The reference pareto front is null");
         }
 
-        Front front = new ArrayFront(referenceParetoFrontFile);
-        referenceParetoFront = front;
+        referenceParetoFront = ReferenceFrontCache.getInstance().getFront(referenceParetoFrontFile);
     }
 
     public void setReferenceParetoFront(Front referenceFront) throws FileNotFoundException {
@@ -55,6 +55,22 @@ public abstract class GenericIndicator<S extends Solution<?>>
         referenceParetoFront = referenceFront;
     }
 
+    /**
+     * Evaluates the indicator on the solutions of a {@link PopulationMatrix}. By default the solution
+     * list of the matrix is evaluated; GD, IGD, IGD+, epsilon and the PISA hypervolume override it to
+     * work on the packed objective values of the matrix, with the same result as {@link #evaluate}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        }
+
+        return evaluate(populationMatrix.getSolutionList());
+    }
+
     /**
      * This method returns true if lower indicator values are preferred and false otherwise
      *
@@ -21,6 +21,8 @@
 
 package org.uma.jmetal.qualityindicator.impl;
 
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeKernels;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeEngine;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
 
@@ -47,8 +49,51 @@ public abstract class Hypervolume<S extends Solution<?>> extends GenericIndicato
         super(referenceParetoFront);
     }
 
+    /**
+     * Computes the exact hypervolume of a list of solutions, minimizing all the objectives, with the
+     * fastest algorithm available for their number of objectives: the sweeps of
+     * {@link HypervolumeKernels} for two, three and four objectives, and the WFG algorithm, which
+     * ends in those sweeps, for more objectives. Only the solutions better than the reference point
+     * in all the objectives contribute. The list is not modified.
+     *
+     * @param solutionList   Solutions
+     * @param referencePoint Reference point
+     */
+    public double computeHypervolume(List<S> solutionList, double[] referencePoint) {
+        if (solutionList.isEmpty()) {
+            return 0.0;
+        }
+
+        return new WfgHypervolumeEngine(referencePoint).getHypervolume(solutionList);
+    }
+
     public abstract List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList);
 
+    /**
+     * Returns the reference point of the contributions computed by
+     * {@link #computeHypervolumeContribution(List, List)} for a reference front, in the objective
+     * space of the solutions: the maximum value of each objective plus the offset
+     *
+     * @param referenceFrontList Solutions used to compute the reference point
+     */
+    public double[] computeContributionReferencePoint(List<S> referenceFrontList) {
+        int numberOfObjectives = referenceFrontList.get(0).getNumberOfObjectives();
+        double[] referencePoint = new double[numberOfObjectives];
+        for (int i = 0; i < numberOfObjectives; i++) {
+            referencePoint[i] = Double.NEGATIVE_INFINITY;
+        }
+        for (S solution : referenceFrontList) {
+            for (int i = 0; i < numberOfObjectives; i++) {
+                referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i));
+            }
+        }
+        for (int i = 0; i < numberOfObjectives; i++) {
+            referencePoint[i] += getOffset();
+        }
+
+        return referencePoint;
+    }
+
     public abstract double getOffset();
 
     public abstract void setOffset(double offset);
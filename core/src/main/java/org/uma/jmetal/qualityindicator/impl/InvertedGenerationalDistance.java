@@ -14,8 +14,11 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.front.util.FrontUtils;
 
 import java.io.FileNotFoundException;
@@ -84,6 +87,43 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
         return invertedGenerationalDistance(new ArrayFront(solutionList), referenceParetoFront);
     }
 
+    /**
+     * Evaluates the indicator on the packed objective values of a {@link PopulationMatrix}, with the
+     * same distances and in the same order as {@link #evaluate(List)}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    @Override
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            return super.evaluateMatrix(populationMatrix);
+        } else if (populationMatrix.getNumberOfObjectives() != referenceParetoFront.getPointDimensions()) {
+            throw new JMetalException("The number of objectives (" + populationMatrix.getNumberOfObjectives() +
+                    ") is different from the dimensions of the reference front (" +
+                    referenceParetoFront.getPointDimensions() + ")");
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        int numberOfObjectives = populationMatrix.getNumberOfObjectives();
+        double[] referenceValues = FrontUtils.convertFrontToPackedArray(referenceParetoFront);
+        double sum = 0.0;
+        if (referenceParetoFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            FrontIndex frontIndex = new FrontIndex(objectives, numberOfObjectives);
+            for (int row = 0; row < referenceValues.length; row += numberOfObjectives) {
+                sum += frontIndex.distanceToClosestPoint(referenceValues, row);
+            }
+        } else {
+            for (int row = 0; row < referenceValues.length; row += numberOfObjectives) {
+                sum += FrontUtils.distanceToClosestPoint(referenceValues, row, objectives, numberOfObjectives);
+            }
+        }
+
+        return sum / referenceParetoFront.getNumberOfPoints();
+    }
+
     /**
      * Returns the inverted generational distance value for a given front
      *
@@ -92,9 +132,17 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
      */
     public double invertedGenerationalDistance(Front front, Front referenceFront) {
         double sum = 0.0;
-        for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
-            sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-                    front);
+        if (referenceFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            // The front is indexed once instead of being scanned for every point of the reference front
+            FrontIndex frontIndex = new FrontIndex(front);
+            for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+                sum += frontIndex.distanceToClosestPoint(referenceFront.getPoint(i));
+            }
+        } else {
+            for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+                sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
+                        front);
+            }
         }
 
         return sum / referenceFront.getNumberOfPoints();
@@ -15,8 +15,10 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.util.distance.DominanceDistance;
 
@@ -73,6 +75,44 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
         return invertedGenerationalDistancePlus(new ArrayFront(solutionList), referenceParetoFront);
     }
 
+    /**
+     * Evaluates the indicator on the packed objective values of a {@link PopulationMatrix}, with the
+     * same distances and in the same order as {@link #evaluate(List)}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    @Override
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            return super.evaluateMatrix(populationMatrix);
+        } else if (populationMatrix.getNumberOfObjectives() != referenceParetoFront.getPointDimensions()) {
+            throw new JMetalException("The number of objectives (" + populationMatrix.getNumberOfObjectives() +
+                    ") is different from the dimensions of the reference front (" +
+                    referenceParetoFront.getPointDimensions() + ")");
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        int numberOfObjectives = populationMatrix.getNumberOfObjectives();
+        double[] referenceValues = FrontUtils.convertFrontToPackedArray(referenceParetoFront);
+        double sum = 0.0;
+        if (referenceParetoFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            FrontIndex frontIndex = new FrontIndex(objectives, numberOfObjectives);
+            for (int row = 0; row < referenceValues.length; row += numberOfObjectives) {
+                sum += frontIndex.dominanceDistanceToClosestPoint(referenceValues, row);
+            }
+        } else {
+            for (int row = 0; row < referenceValues.length; row += numberOfObjectives) {
+                sum += FrontUtils.dominanceDistanceToClosestPoint(referenceValues, row, objectives,
+                        numberOfObjectives);
+            }
+        }
+
+        return sum / referenceParetoFront.getNumberOfPoints();
+    }
+
     /**
      * Returns the inverted generational distance plus value for a given front
      *
@@ -82,9 +122,18 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
     public double invertedGenerationalDistancePlus(Front front, Front referenceFront) {
 
         double sum = 0.0;
-        for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
-            sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-                    front, new DominanceDistance());
+        if (referenceFront.getNumberOfPoints() >= FrontIndex.MINIMUM_FRONT_SIZE) {
+            // The front is indexed once instead of being scanned for every point of the reference front
+            FrontIndex frontIndex = new FrontIndex(front);
+            for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+                sum += frontIndex.dominanceDistanceToClosestPoint(referenceFront.getPoint(i));
+            }
+        } else {
+            DominanceDistance distance = new DominanceDistance();
+            for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+                sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
+                        front, distance);
+            }
         }
 
         // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
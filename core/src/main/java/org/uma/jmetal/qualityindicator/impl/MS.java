@@ -22,8 +22,11 @@
 package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.util.comparator.LexicographicalPointComparator;
 import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
 import org.uma.jmetal.util.point.util.distance.PointDistance;
@@ -89,14 +92,16 @@ public class MS<S extends Solution<?>> extends GenericIndicator<S> {
     public double spread(Front front, Front referenceFront) {
         PointDistance distance = new EuclideanDistance();
 
-        // STEP 1. Sort normalizedFront and normalizedParetoFront;
+        // STEP 1. Sort normalizedFront and find the extremes of normalizedParetoFront, which is
+        // not sorted as it may be shared
         front.sort(new LexicographicalPointComparator());
-        referenceFront.sort(new LexicographicalPointComparator());
+        Point firstReferencePoint = FrontUtils.getLowestPoint(referenceFront, new LexicographicalPointComparator());
+        Point lastReferencePoint = FrontUtils.getHighestPoint(referenceFront, new LexicographicalPointComparator());
 
         // STEP 2. Compute df and dl (See specifications in Deb's description of the metric)
-        double df = distance.compute(front.getPoint(0), referenceFront.getPoint(0));
+        double df = distance.compute(front.getPoint(0), firstReferencePoint);
         double dl = distance.compute(front.getPoint(front.getNumberOfPoints() - 1),
-                referenceFront.getPoint(referenceFront.getNumberOfPoints() - 1));
+                lastReferencePoint);
 
         double mean = 0.0;
         double diversitySum = df + dl;
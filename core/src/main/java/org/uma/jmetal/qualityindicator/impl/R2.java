@@ -24,6 +24,7 @@ import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 
 import java.io.FileNotFoundException;
@@ -51,8 +52,7 @@ public class R2<Evaluate extends List<? extends Solution<?>>>
         // uses only 100 weight vectors for the R2 computation
         super("R2", "R2 quality indicator");
 
-        Front front = new ArrayFront(referenceParetoFrontFile);
-        referenceParetoFront = front;
+        referenceParetoFront = ReferenceFrontCache.getInstance().getFront(referenceParetoFrontFile);
 
 
         // generating the weights
@@ -94,8 +94,7 @@ public class R2<Evaluate extends List<? extends Solution<?>>>
         // uses only <code>nVectors</code> weight vectors for the R2 computation
         super("R2", "R2 quality indicator");
 
-        Front front = new ArrayFront(referenceParetoFrontFile);
-        referenceParetoFront = front;
+        referenceParetoFront = ReferenceFrontCache.getInstance().getFront(referenceParetoFrontFile);
 
 
         // generating the weights
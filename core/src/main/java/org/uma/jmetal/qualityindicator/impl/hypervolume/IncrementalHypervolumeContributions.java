@@ -0,0 +1,814 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeEngine;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Exact hypervolume contributions of a set of solutions (the volume dominated only by each of
+ * them) which are kept up to date when solutions are added or removed, instead of being
+ * recomputed for the whole set as {@link org.uma.jmetal.qualityindicator.impl.Hypervolume#computeHypervolumeContribution(List, List)}
+ * does. All the objectives are minimized, and the volumes are measured up to a reference point.
+ *
+ * With two objectives, the solutions are kept sorted by the first objective, so the contribution
+ * of a solution is the rectangle delimited by its neighbours and only the contributions of the
+ * neighbours change when a solution is added or removed, which takes O(log n) time. With three
+ * objectives, the box between a solution p and the reference point is swept along the third
+ * objective while a staircase of the other solutions, projected on the first two objectives, is
+ * kept in a tree; this gives the contribution of p and the volume each other solution shares only
+ * with p, which it loses when p is added and gains when p is removed, in O(n log n) time. With more
+ * objectives, the contribution of a solution q can only change when a solution p is added or
+ * removed if no other solution dominates the point max(p, q), so only the contributions of these
+ * solutions are recomputed; each one requires the hypervolume of the other solutions limited by
+ * the solution, which is computed by {@link WfgHypervolumeEngine} (with the exact kernels of
+ * three and four dimensions, and the WFG algorithm in more dimensions).
+ *
+ * When the reference point moves, and no solution lies between its previous and its new position,
+ * only the contributions of the solutions whose exclusive volume reaches the moved bounds change:
+ * the ones which are not weakly dominated by another solution when the objective of the bound is
+ * ignored. The rest of contributions are kept, so the reference point can follow the extreme
+ * values of a population without recomputing all of them.
+ *
+ * The solutions are expected to be mutually non-dominated, as the ones of a front or of a
+ * non-dominated archive; with two objectives, adding a dominated or dominating solution raises
+ * an exception. Solutions are identified by reference, and their objective values are copied when
+ * they are added.
+ */
+@SuppressWarnings("serial")
+public class IncrementalHypervolumeContributions<S extends Solution<?>> implements Serializable {
+    private final int numberOfObjectives;
+    private double[] referencePoint;
+
+    private final Map<S, Entry<S>> entries;
+    private final List<Entry<S>> entryList;
+    private final TreeSet<Entry<S>> sortedEntries;
+    private long numberOfInsertions;
+
+    private transient WfgHypervolumeEngine engine;
+    private transient double[] limitedPoints;
+
+    /**
+     * Constructor
+     *
+     * @param numberOfObjectives Number of objectives of the solutions
+     */
+    public IncrementalHypervolumeContributions(int numberOfObjectives) {
+        if (numberOfObjectives < 2) {
+            throw new JMetalException("The number of objectives must be at least 2: " + numberOfObjectives);
+        }
+
+        this.numberOfObjectives = numberOfObjectives;
+        entries = new IdentityHashMap<>();
+        entryList = new ArrayList<>();
+        sortedEntries = numberOfObjectives == 2 ? new TreeSet<Entry<S>>(new BiObjectiveComparator<S>()) : null;
+    }
+
+    /**
+     * Sets the reference point, recomputing the contributions which depend on the moved bounds
+     */
+    public void setReferencePoint(double[] referencePoint) {
+        if ((referencePoint == null) || (referencePoint.length != numberOfObjectives)) {
+            throw new JMetalException("The reference point must have " + numberOfObjectives + " dimensions");
+        }
+
+        if (!Arrays.equals(this.referencePoint, referencePoint)) {
+            double[] previousReferencePoint = this.referencePoint;
+            this.referencePoint = referencePoint.clone();
+
+            Collection<Entry<S>> changedEntries = previousReferencePoint == null ? null :
+                    findEntriesReachingTheMovedBounds(previousReferencePoint);
+            for (Entry<S> entry : changedEntries == null ? entryList : changedEntries) {
+                entry.contribution = computeContribution(entry);
+            }
+        }
+    }
+
+    public double[] getReferencePoint() {
+        return referencePoint == null ? null : referencePoint.clone();
+    }
+
+    /**
+     * Adds a solution, updating the contributions of the solutions sharing volume with it
+     */
+    public void add(S solution) {
+        if (referencePoint == null) {
+            throw new JMetalException("The reference point has not been set");
+        } else if (entries.containsKey(solution)) {
+            throw new JMetalException("The solution has already been added");
+        }
+
+        Entry<S> entry = new Entry<S>(solution, numberOfObjectives, numberOfInsertions++);
+        if (sortedEntries != null) {
+            sortedEntries.add(entry);
+            Entry<S> lower = sortedEntries.lower(entry);
+            Entry<S> higher = sortedEntries.higher(entry);
+            if (((lower != null) && (lower.point[1] <= entry.point[1]) && !isEqual(lower.point, entry.point)) ||
+                    ((higher != null) && (higher.point[1] >= entry.point[1]) && !isEqual(higher.point, entry.point))) {
+                sortedEntries.remove(entry);
+                throw new JMetalException("The solution dominates or is dominated by another one");
+            }
+            putEntry(entry);
+
+            entry.contribution = computeContribution(entry);
+            updateNeighbourContributions(lower, higher);
+        } else if (numberOfObjectives == 3) {
+            entry.contribution = updateSharedVolumes(entry, -1.0);
+            putEntry(entry);
+        } else {
+            List<Entry<S>> affectedEntries = findAffectedEntries(entry);
+            putEntry(entry);
+
+            entry.contribution = computeContribution(entry);
+            for (Entry<S> affected : affectedEntries) {
+                affected.contribution = computeContribution(affected);
+            }
+        }
+    }
+
+    /**
+     * Removes a solution, updating the contributions of the solutions which shared volume with it
+     *
+     * @return False if the solution was not found
+     */
+    public boolean remove(S solution) {
+        Entry<S> entry = entries.get(solution);
+        if (entry == null) {
+            return false;
+        }
+
+        if (sortedEntries != null) {
+            Entry<S> lower = sortedEntries.lower(entry);
+            Entry<S> higher = sortedEntries.higher(entry);
+            sortedEntries.remove(entry);
+            removeEntry(entry);
+            updateNeighbourContributions(lower, higher);
+        } else if (numberOfObjectives == 3) {
+            removeEntry(entry);
+            updateSharedVolumes(entry, 1.0);
+        } else {
+            removeEntry(entry);
+            for (Entry<S> affected : findAffectedEntries(entry)) {
+                affected.contribution = computeContribution(affected);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Makes the solutions be the ones of a list, adding and removing the solutions which differ.
+     * When most of them differ, all the contributions are computed again from scratch
+     */
+    public void update(List<S> solutionList) {
+        Map<S, Boolean> newSolutions = new IdentityHashMap<>(solutionList.size() * 2);
+        for (S solution : solutionList) {
+            newSolutions.put(solution, Boolean.TRUE);
+        }
+
+        List<S> removedSolutions = new ArrayList<>();
+        for (Entry<S> entry : entryList) {
+            if (newSolutions.remove(entry.solution) == null) {
+                removedSolutions.add(entry.solution);
+            }
+        }
+
+        if (4 * (removedSolutions.size() + newSolutions.size()) > solutionList.size()) {
+            reset(solutionList);
+        } else {
+            for (S solution : removedSolutions) {
+                remove(solution);
+            }
+            for (S solution : solutionList) {
+                if (newSolutions.containsKey(solution)) {
+                    add(solution);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the solutions by the ones of a list and computes their contributions from scratch
+     */
+    public void reset(List<S> solutionList) {
+        clear();
+        for (S solution : solutionList) {
+            if (entries.containsKey(solution)) {
+                throw new JMetalException("The solution list contains the same solution twice");
+            }
+            Entry<S> entry = new Entry<S>(solution, numberOfObjectives, numberOfInsertions++);
+            putEntry(entry);
+            if (sortedEntries != null) {
+                sortedEntries.add(entry);
+            }
+        }
+
+        if (sortedEntries != null) {
+            Entry<S> previous = null;
+            for (Entry<S> entry : sortedEntries) {
+                if ((previous != null) && (previous.point[1] <= entry.point[1]) && !isEqual(previous.point, entry.point)) {
+                    clear();
+                    throw new JMetalException("The solution list contains dominated solutions");
+                }
+                previous = entry;
+            }
+        }
+
+        if (referencePoint != null) {
+            for (Entry<S> entry : entryList) {
+                entry.contribution = computeContribution(entry);
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        entryList.clear();
+        if (sortedEntries != null) {
+            sortedEntries.clear();
+        }
+    }
+
+    public boolean contains(S solution) {
+        return entries.containsKey(solution);
+    }
+
+    /**
+     * Returns the hypervolume contribution of a solution
+     */
+    public double getContribution(S solution) {
+        Entry<S> entry = entries.get(solution);
+        if (entry == null) {
+            throw new JMetalException("The solution has not been added");
+        }
+
+        return entry.contribution;
+    }
+
+    public int size() {
+        return entryList.size();
+    }
+
+    private void putEntry(Entry<S> entry) {
+        entry.index = entryList.size();
+        entryList.add(entry);
+        entries.put(entry.solution, entry);
+    }
+
+    private void removeEntry(Entry<S> entry) {
+        Entry<S> last = entryList.remove(entryList.size() - 1);
+        if (last != entry) {
+            entryList.set(entry.index, last);
+            last.index = entry.index;
+        }
+        entries.remove(entry.solution);
+    }
+
+    private void updateNeighbourContributions(Entry<S> lower, Entry<S> higher) {
+        if (lower != null) {
+            lower.contribution = computeContribution(lower);
+        }
+        if (higher != null) {
+            higher.contribution = computeContribution(higher);
+        }
+    }
+
+    /**
+     * Finds the entries whose contribution changes when the given one is added or removed, i.e.,
+     * the entries q such that the point max(p, q) is inside the reference point and no other
+     * entry dominates it
+     */
+    private List<Entry<S>> findAffectedEntries(Entry<S> entry) {
+        List<Entry<S>> affectedEntries = new ArrayList<>();
+        double[] limit = new double[numberOfObjectives];
+        Entry<S> witness = null;
+        for (Entry<S> candidate : entryList) {
+            if (candidate == entry) {
+                continue;
+            }
+
+            boolean inside = true;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                limit[i] = Math.max(entry.point[i], candidate.point[i]);
+                inside &= limit[i] < referencePoint[i];
+            }
+            if (!inside) {
+                continue;
+            }
+
+            // The last entry dominating a limit point is likely to dominate the next ones
+            if ((witness != null) && (witness != candidate) && weaklyDominates(witness.point, limit, numberOfObjectives)) {
+                continue;
+            }
+
+            boolean affected = true;
+            for (Entry<S> other : entryList) {
+                if ((other != entry) && (other != candidate) && weaklyDominates(other.point, limit, numberOfObjectives)) {
+                    witness = other;
+                    affected = false;
+                    break;
+                }
+            }
+            if (affected) {
+                affectedEntries.add(candidate);
+            }
+        }
+
+        return affectedEntries;
+    }
+
+    /**
+     * Finds the entries whose contribution may change when the reference point moves from the given
+     * position to the current one, or returns null if a solution lies between both positions of a
+     * bound, as then all the contributions may change
+     */
+    private Collection<Entry<S>> findEntriesReachingTheMovedBounds(double[] previousReferencePoint) {
+        Set<Entry<S>> changedEntries = Collections.newSetFromMap(new IdentityHashMap<Entry<S>, Boolean>());
+        for (int i = 0; i < numberOfObjectives; i++) {
+            if (previousReferencePoint[i] == referencePoint[i]) {
+                continue;
+            }
+
+            double lowerBound = Math.min(previousReferencePoint[i], referencePoint[i]);
+            for (Entry<S> entry : entryList) {
+                if (entry.point[i] >= lowerBound) {
+                    return null;
+                }
+            }
+
+            if (sortedEntries != null) {
+                // Only the extreme solutions of the other objective reach the bound
+                if (!sortedEntries.isEmpty()) {
+                    changedEntries.add(sortedEntries.first());
+                    changedEntries.add(sortedEntries.last());
+                }
+            } else if (numberOfObjectives == 3) {
+                addNonDominatedInProjection(i, changedEntries);
+            } else {
+                for (Entry<S> entry : entryList) {
+                    if (!isWeaklyDominatedInProjection(entry, i)) {
+                        changedEntries.add(entry);
+                    }
+                }
+            }
+        }
+
+        return changedEntries;
+    }
+
+    /**
+     * Adds the entries which are not weakly dominated by another entry in the two objectives other
+     * than the ignored one, sorting them by the first of these objectives
+     */
+    private void addNonDominatedInProjection(int ignoredObjective, Collection<Entry<S>> result) {
+        final int first = ignoredObjective == 0 ? 1 : 0;
+        final int second = ignoredObjective == 2 ? 1 : 2;
+        List<Entry<S>> sorted = new ArrayList<>(entryList);
+        Collections.sort(sorted, new Comparator<Entry<S>>() {
+            @Override
+            public int compare(Entry<S> entry1, Entry<S> entry2) {
+                int result = Double.compare(entry1.point[first], entry2.point[first]);
+                return result != 0 ? result : Double.compare(entry1.point[second], entry2.point[second]);
+            }
+        });
+
+        double minimum = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < sorted.size(); k++) {
+            double[] point = sorted.get(k).point;
+            boolean dominated = minimum <= point[second];
+            if (!dominated && (k + 1 < sorted.size())) {
+                double[] next = sorted.get(k + 1).point;
+                dominated = (next[first] == point[first]) && (next[second] == point[second]);
+            }
+            if (!dominated) {
+                result.add(sorted.get(k));
+            }
+            minimum = Math.min(minimum, point[second]);
+        }
+    }
+
+    private boolean isWeaklyDominatedInProjection(Entry<S> entry, int ignoredObjective) {
+        for (Entry<S> other : entryList) {
+            if (other == entry) {
+                continue;
+            }
+            boolean dominates = true;
+            for (int i = 0; (i < numberOfObjectives) && dominates; i++) {
+                dominates = (i == ignoredObjective) || (other.point[i] <= entry.point[i]);
+            }
+            if (dominates) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sweeps the box between an entry, which is not one of the current ones, and the reference
+     * point along the third objective. The other entries inside the reference point are inserted,
+     * in the order of the third objective, in a staircase of their projections on the first two
+     * objectives limited by the entry; the area of the box not covered by the staircase gives the
+     * contribution of the entry, and the area covered only by a step gives the volume which the
+     * entry of the step shares only with the swept one. That volume is added to or subtracted from
+     * the contribution of the entry of the step, depending on the sign
+     *
+     * @param sign -1 if the entry is added, 1 if it is removed
+     * @return The contribution of the swept entry
+     */
+    private double updateSharedVolumes(Entry<S> entry, double sign) {
+        double[] point = entry.point;
+        if (!isInside(point)) {
+            return 0.0;
+        }
+
+        List<Entry<S>> insideEntries = new ArrayList<>();
+        for (Entry<S> other : entryList) {
+            if ((other != entry) && isInside(other.point)) {
+                insideEntries.add(other);
+            }
+        }
+        Collections.sort(insideEntries, new Comparator<Entry<S>>() {
+            @Override
+            public int compare(Entry<S> entry1, Entry<S> entry2) {
+                return Double.compare(entry1.point[2], entry2.point[2]);
+            }
+        });
+
+        Staircase<S> staircase = new Staircase<S>(point, referencePoint, sign);
+        double height = point[2];
+        double contribution = 0.0;
+        for (Entry<S> other : insideEntries) {
+            double otherHeight = Math.max(other.point[2], point[2]);
+            contribution += staircase.getUncoveredArea() * (otherHeight - height);
+            height = otherHeight;
+            staircase.insert(other, height);
+        }
+        contribution += staircase.getUncoveredArea() * (referencePoint[2] - height);
+        staircase.finish(referencePoint[2]);
+
+        return Math.max(0.0, contribution);
+    }
+
+    private double computeContribution(Entry<S> entry) {
+        double[] point = entry.point;
+        double volume = 1.0;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            volume *= Math.max(0.0, referencePoint[i] - point[i]);
+        }
+        if (volume == 0.0) {
+            return 0.0;
+        }
+
+        if (sortedEntries != null) {
+            Entry<S> lower = sortedEntries.lower(entry);
+            Entry<S> higher = sortedEntries.higher(entry);
+            double right = higher == null ? referencePoint[0] : Math.min(higher.point[0], referencePoint[0]);
+            double top = lower == null ? referencePoint[1] : Math.min(lower.point[1], referencePoint[1]);
+            return Math.max(0.0, right - point[0]) * Math.max(0.0, top - point[1]);
+        }
+
+        // The contribution is the volume of the box minus the one dominated by the rest of solutions in it
+        if ((limitedPoints == null) || (limitedPoints.length < entryList.size() * numberOfObjectives)) {
+            limitedPoints = new double[Math.max(16, 2 * entryList.size()) * numberOfObjectives];
+        }
+        int numberOfLimitedPoints = 0;
+        for (Entry<S> other : entryList) {
+            if ((other == entry) || !isInside(other.point)) {
+                continue;
+            }
+            int offset = numberOfLimitedPoints * numberOfObjectives;
+            boolean coversThePoint = true;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                limitedPoints[offset + i] = Math.max(other.point[i], point[i]);
+                coversThePoint &= limitedPoints[offset + i] == point[i];
+            }
+            if (coversThePoint) {
+                return 0.0;
+            }
+            numberOfLimitedPoints++;
+        }
+
+        if ((engine == null) || !Arrays.equals(engine.getReferencePoint(), referencePoint)) {
+            engine = new WfgHypervolumeEngine(referencePoint);
+        }
+        return volume - engine.getHypervolume(limitedPoints, numberOfLimitedPoints);
+    }
+
+    private boolean isInside(double[] point) {
+        for (int i = 0; i < numberOfObjectives; i++) {
+            if (point[i] >= referencePoint[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean weaklyDominates(double[] point1, double[] point2, int dimensions) {
+        for (int i = 0; i < dimensions; i++) {
+            if (point1[i] > point2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqual(double[] point1, double[] point2) {
+        return Arrays.equals(point1, point2);
+    }
+
+    /**
+     * A solution, a copy of its objective values and its contribution
+     */
+    private static class Entry<S> implements Serializable {
+        final S solution;
+        final double[] point;
+        final long order;
+        double contribution;
+        int index;
+
+        Entry(S solution, int numberOfObjectives, long order) {
+            Solution<?> solutionWithObjectives = (Solution<?>) solution;
+            if (solutionWithObjectives.getNumberOfObjectives() != numberOfObjectives) {
+                throw new JMetalException("The solution has " + solutionWithObjectives.getNumberOfObjectives() +
+                        " objectives instead of " + numberOfObjectives);
+            }
+            this.solution = solution;
+            this.order = order;
+            point = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                point[i] = solutionWithObjectives.getObjective(i);
+            }
+        }
+    }
+
+    /**
+     * Staircase of the entries projected on the first two objectives, limited below by a point and
+     * above by the reference point, whose steps are ordered by the first objective. The cell of a
+     * step is the part of the area it covers which is not covered by the other steps; the area of
+     * the cell covered only by the entry of the step excludes the projections dominated by the step,
+     * which are kept in a {@link CoveredArea}. The volume covered only by each entry is accumulated
+     * into its contribution as the sweep advances, lazily: only when the area of its step changes or
+     * at the end of the sweep
+     */
+    private static class Staircase<S> {
+        private final double left;
+        private final double bottom;
+        private final double right;
+        private final double top;
+        private final double sign;
+        private final TreeMap<Double, Step<S>> steps;
+        private double coveredArea;
+
+        Staircase(double[] lowerPoint, double[] referencePoint, double sign) {
+            left = lowerPoint[0];
+            bottom = lowerPoint[1];
+            right = referencePoint[0];
+            top = referencePoint[1];
+            this.sign = sign;
+            steps = new TreeMap<>();
+        }
+
+        double getUncoveredArea() {
+            return Math.max(0.0, (right - left) * (top - bottom) - coveredArea);
+        }
+
+        void insert(Entry<S> entry, double height) {
+            double x = Math.max(entry.point[0], left);
+            double y = Math.max(entry.point[1], bottom);
+
+            Map.Entry<Double, Step<S>> floor = steps.floorEntry(x);
+            if ((floor != null) && (floor.getValue().y <= y)) {
+                // Only the cell of the step dominating the projection changes, if no other step dominates it
+                Step<S> step = floor.getValue();
+                Map.Entry<Double, Step<S>> lower = steps.lowerEntry(floor.getKey());
+                if ((lower == null) || (lower.getValue().y > y)) {
+                    accumulate(step, height);
+                    if (step.dominatedArea == null) {
+                        step.dominatedArea = new CoveredArea(getNextX(step), getPreviousY(step));
+                    }
+                    step.dominatedArea.add(x, y);
+                    refresh(step, height);
+                }
+                return;
+            }
+
+            Step<S> step = new Step<S>(entry, x, y, height);
+            Map.Entry<Double, Step<S>> ceiling = steps.ceilingEntry(x);
+            while ((ceiling != null) && (ceiling.getValue().y >= y)) {
+                Step<S> dominatedStep = ceiling.getValue();
+                accumulate(dominatedStep, height);
+                coveredArea -= dominatedStep.column;
+                steps.remove(ceiling.getKey());
+                if (step.dominatedArea == null) {
+                    Map.Entry<Double, Step<S>> lower = steps.lowerEntry(x);
+                    step.dominatedArea = new CoveredArea(right, lower == null ? top : lower.getValue().y);
+                }
+                step.dominatedArea.add(dominatedStep.x, dominatedStep.y);
+                ceiling = steps.higherEntry(ceiling.getKey());
+            }
+
+            steps.put(x, step);
+            refresh(step, height);
+            Map.Entry<Double, Step<S>> lower = steps.lowerEntry(x);
+            if (lower != null) {
+                refresh(lower.getValue(), height);
+            }
+            Map.Entry<Double, Step<S>> higher = steps.higherEntry(x);
+            if (higher != null) {
+                refresh(higher.getValue(), height);
+            }
+        }
+
+        void finish(double height) {
+            for (Step<S> step : steps.values()) {
+                accumulate(step, height);
+            }
+        }
+
+        /**
+         * Recomputes the area covered only by the entry of a step, and the area of its column in the
+         * covered area, after its cell or the projections it dominates have changed
+         */
+        private void refresh(Step<S> step, double height) {
+            double nextX = getNextX(step);
+            double previousY = getPreviousY(step);
+
+            accumulate(step, height);
+            double area = (nextX - step.x) * (previousY - step.y);
+            if (step.dominatedArea != null) {
+                step.dominatedArea.limit(nextX, previousY);
+                area -= step.dominatedArea.getArea();
+            }
+            step.area = Math.max(0.0, area);
+
+            double column = (nextX - step.x) * (top - step.y);
+            coveredArea += column - step.column;
+            step.column = column;
+        }
+
+        private double getNextX(Step<S> step) {
+            Map.Entry<Double, Step<S>> higher = steps.higherEntry(step.x);
+            return higher == null ? right : higher.getValue().x;
+        }
+
+        private double getPreviousY(Step<S> step) {
+            Map.Entry<Double, Step<S>> lower = steps.lowerEntry(step.x);
+            return lower == null ? top : lower.getValue().y;
+        }
+
+        private void accumulate(Step<S> step, double height) {
+            if (step.area > 0.0) {
+                step.entry.contribution = Math.max(0.0,
+                        step.entry.contribution + sign * step.area * (height - step.height));
+            }
+            step.height = height;
+        }
+    }
+
+    /**
+     * A step of a {@link Staircase}: the projection of an entry, the area covered only by it since
+     * a height of the sweep, the area of its column and the area covered by the projections it
+     * dominates
+     */
+    private static class Step<S> {
+        final Entry<S> entry;
+        final double x;
+        final double y;
+        double height;
+        double area;
+        double column;
+        CoveredArea dominatedArea;
+
+        Step(Entry<S> entry, double x, double y, double height) {
+            this.entry = entry;
+            this.x = x;
+            this.y = y;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Area covered by a set of points in two dimensions, limited above by a right and a top bound
+     * which can only decrease. The points are kept as a staircase ordered by the first dimension;
+     * the dominated points and the ones beyond the bounds are discarded, so each point is inserted
+     * and discarded at most once, in O(log n) time
+     */
+    private static class CoveredArea {
+        private final TreeMap<Double, Double> points;
+        private double right;
+        private double top;
+        private double area;
+
+        CoveredArea(double right, double top) {
+            this.points = new TreeMap<>();
+            this.right = right;
+            this.top = top;
+        }
+
+        double getArea() {
+            return Math.max(0.0, area);
+        }
+
+        void add(double x, double y) {
+            if ((x >= right) || (y >= top)) {
+                return;
+            }
+            Map.Entry<Double, Double> floor = points.floorEntry(x);
+            if ((floor != null) && (floor.getValue() <= y)) {
+                return;
+            }
+
+            Map.Entry<Double, Double> lower = points.lowerEntry(x);
+            if (lower != null) {
+                area -= getArea(lower);
+            }
+            Map.Entry<Double, Double> ceiling = points.ceilingEntry(x);
+            while ((ceiling != null) && (ceiling.getValue() >= y)) {
+                area -= getArea(ceiling);
+                points.remove(ceiling.getKey());
+                ceiling = points.higherEntry(ceiling.getKey());
+            }
+
+            points.put(x, y);
+            area += getArea(points.floorEntry(x));
+            if (lower != null) {
+                area += getArea(lower);
+            }
+        }
+
+        /**
+         * Lowers the bounds, discarding the points which are beyond them
+         */
+        void limit(double newRight, double newTop) {
+            while (!points.isEmpty() && (points.lastKey() >= newRight)) {
+                Map.Entry<Double, Double> last = points.lastEntry();
+                area -= getArea(last);
+                points.remove(last.getKey());
+                if (!points.isEmpty()) {
+                    Map.Entry<Double, Double> previous = points.lastEntry();
+                    area += (right - last.getKey()) * (top - previous.getValue());
+                }
+            }
+            if (!points.isEmpty() && (newRight < right)) {
+                area -= (right - newRight) * (top - points.lastEntry().getValue());
+            }
+            right = Math.min(right, newRight);
+
+            while (!points.isEmpty() && (points.firstEntry().getValue() >= newTop)) {
+                area -= getArea(points.firstEntry());
+                points.remove(points.firstKey());
+            }
+            if (!points.isEmpty() && (newTop < top)) {
+                area -= (top - newTop) * (right - points.firstKey());
+            }
+            top = Math.min(top, newTop);
+        }
+
+        private double getArea(Map.Entry<Double, Double> point) {
+            Double nextX = points.higherKey(point.getKey());
+            return ((nextX == null ? right : nextX) - point.getKey()) * (top - point.getValue());
+        }
+    }
+
+    /**
+     * Orders the entries by the first objective, then by the second one and then by age
+     */
+    private static class BiObjectiveComparator<S> implements Comparator<Entry<S>>, Serializable {
+        @Override
+        public int compare(Entry<S> entry1, Entry<S> entry2) {
+            int result = Double.compare(entry1.point[0], entry2.point[0]);
+            if (result == 0) {
+                result = Double.compare(entry1.point[1], entry2.point[1]);
+            }
+            if (result == 0) {
+                result = Long.compare(entry1.order, entry2.order);
+            }
+            return result;
+        }
+    }
+}
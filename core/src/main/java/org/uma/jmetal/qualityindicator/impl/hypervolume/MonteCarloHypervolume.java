@@ -0,0 +1,490 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.FrontUtils;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class estimates the hypervolume by Monte Carlo sampling, for fronts with many objectives
+ * where the exact algorithms are too expensive. All the objectives are minimized.
+ *
+ * By default the volume measured is the one dominated by the front inside the unit box, with the
+ * point (1, ..., 1) as reference point, which is the value computed by {@link PISAHypervolume} for
+ * normalized fronts. If a reference front has been given, the front is first normalized with the
+ * minimum and maximum values of the reference front, so fronts whose objectives leave [0, 1] are
+ * measured as the normalized fronts given to {@link PISAHypervolume}. A reference point can be set
+ * instead, and then the whole volume of the front as it is dominated up to it is measured. Samples are drawn uniformly in the box between the best values of the points
+ * and the reference point, and the hypervolume is the volume of that box times the fraction of
+ * samples dominated by some point.
+ *
+ * The samples are drawn in rounds of batches which are processed in parallel by the tasks of the
+ * common fork-join pool. A batch stores its samples by objective and tests them against one point
+ * at a time, one objective after another, dropping the samples already dominated and moving on to
+ * the next point as soon as no sample remains inside the box of the point. The points are tested
+ * in decreasing order of the volume of their boxes, after removing the dominated ones. Each batch
+ * has its own random generator, split from a seeded one in order, so the estimate only depends on
+ * the seed and not on the number of threads.
+ *
+ * Sampling stops after a round once the half-width of the confidence interval of the estimate is
+ * within the maximum relative error, or once the interval is narrower than the maximum confidence
+ * width, if it has been set, or when the maximum number of samples is reached. An instance must
+ * not be used by several threads at the same time.
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+    private static final double DEFAULT_OFFSET = 100.0;
+    private static final double DEFAULT_MAXIMUM_RELATIVE_ERROR = 0.01;
+    private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+    private static final long DEFAULT_MAXIMUM_NUMBER_OF_SAMPLES = 10000000L;
+    private static final long DEFAULT_SEED = 1L;
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int BATCHES_PER_ROUND = 16;
+
+    private double offset = DEFAULT_OFFSET;
+    private double[] referencePoint;
+    private double maximumRelativeError = DEFAULT_MAXIMUM_RELATIVE_ERROR;
+    private double maximumConfidenceWidth = 0.0;
+    private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL;
+    private long maximumNumberOfSamples = DEFAULT_MAXIMUM_NUMBER_OF_SAMPLES;
+    private long seed = DEFAULT_SEED;
+
+    private long lastNumberOfSamples;
+    private double lastConfidenceHalfWidth;
+
+    private transient Batch[] batches;
+
+    /**
+     * Default constructor
+     */
+    public MonteCarloHypervolume() {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param referenceParetoFrontFile
+     * @throws FileNotFoundException
+     */
+    public MonteCarloHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+        super(referenceParetoFrontFile);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param referenceParetoFront
+     */
+    public MonteCarloHypervolume(Front referenceParetoFront) {
+        super(referenceParetoFront);
+    }
+
+    /**
+     * Evaluate() method
+     *
+     * @param solutionList
+     * @return The estimated hypervolume
+     */
+    @Override
+    public Double evaluate(List<S> solutionList) {
+        if (solutionList == null) {
+            throw new JMetalException("The pareto front approximation is null");
+        }
+
+        lastNumberOfSamples = 0;
+        lastConfidenceHalfWidth = 0.0;
+        if (solutionList.isEmpty()) {
+            return 0.0;
+        }
+
+        int numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
+        double[] upperBound = new double[numberOfObjectives];
+        double[] lowerBound = new double[numberOfObjectives];
+        double[] frontMinimumValues = null;
+        double[] frontMaximumValues = null;
+        if (referencePoint == null) {
+            for (int i = 0; i < numberOfObjectives; i++) {
+                upperBound[i] = 1.0;
+                lowerBound[i] = 0.0;
+            }
+            if (referenceParetoFront != null) {
+                if (referenceParetoFront.getPointDimensions() != numberOfObjectives) {
+                    throw new JMetalException("The reference front has " + referenceParetoFront.getPointDimensions() +
+                            " dimensions instead of " + numberOfObjectives);
+                }
+                frontMinimumValues = FrontUtils.getMinimumValues(referenceParetoFront);
+                frontMaximumValues = FrontUtils.getMaximumValues(referenceParetoFront);
+            }
+        } else if (referencePoint.length != numberOfObjectives) {
+            throw new JMetalException("The reference point has " + referencePoint.length +
+                    " dimensions instead of " + numberOfObjectives);
+        } else {
+            for (int i = 0; i < numberOfObjectives; i++) {
+                upperBound[i] = referencePoint[i];
+                lowerBound[i] = Double.NEGATIVE_INFINITY;
+            }
+        }
+
+        double[][] points = getNonDominatedPoints(solutionList, numberOfObjectives, lowerBound, upperBound,
+                frontMinimumValues, frontMaximumValues);
+        if (points.length == 0) {
+            return 0.0;
+        } else if (points.length == 1) {
+            return boxVolume(points[0], upperBound);
+        }
+
+        // The samples are drawn between the best values of the points and the reference point
+        double[] minimumValues = points[0].clone();
+        for (double[] point : points) {
+            for (int i = 0; i < numberOfObjectives; i++) {
+                minimumValues[i] = Math.min(minimumValues[i], point[i]);
+            }
+        }
+
+        return estimate(points, minimumValues, upperBound);
+    }
+
+    private double estimate(final double[][] points, final double[] lowerBound, final double[] upperBound) {
+        int numberOfObjectives = lowerBound.length;
+        double samplingVolume = boxVolume(lowerBound, upperBound);
+        double z = new NormalDistribution().inverseCumulativeProbability(1.0 - (1.0 - confidenceLevel) / 2.0);
+
+        if ((batches == null) || (batches[0].samples.length < BATCH_SIZE * numberOfObjectives)) {
+            batches = new Batch[BATCHES_PER_ROUND];
+            for (int i = 0; i < BATCHES_PER_ROUND; i++) {
+                batches[i] = new Batch(numberOfObjectives);
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long numberOfSamples = 0;
+        long numberOfDominatedSamples = 0;
+        double estimate;
+        double halfWidth;
+        do {
+            List<RecursiveAction> tasks = new ArrayList<>(BATCHES_PER_ROUND);
+            for (int i = 0; i < BATCHES_PER_ROUND; i++) {
+                final Batch batch = batches[i];
+                final SplittableRandom batchRandom = random.split();
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        batch.sample(batchRandom, points, lowerBound, upperBound);
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            for (int i = 0; i < BATCHES_PER_ROUND; i++) {
+                numberOfDominatedSamples += batches[i].numberOfDominatedSamples;
+            }
+            numberOfSamples += BATCHES_PER_ROUND * BATCH_SIZE;
+
+            estimate = samplingVolume * numberOfDominatedSamples / numberOfSamples;
+
+            // Agresti-Coull interval, which does not collapse when no sample or all of them are dominated
+            double adjustedNumberOfSamples = numberOfSamples + z * z;
+            double adjustedFraction = (numberOfDominatedSamples + z * z / 2.0) / adjustedNumberOfSamples;
+            halfWidth = samplingVolume * z * Math.sqrt(adjustedFraction * (1.0 - adjustedFraction) / adjustedNumberOfSamples);
+        } while (!isPrecise(estimate, halfWidth) && (numberOfSamples < maximumNumberOfSamples));
+
+        lastNumberOfSamples = numberOfSamples;
+        lastConfidenceHalfWidth = halfWidth;
+
+        return estimate;
+    }
+
+    private boolean isPrecise(double estimate, double halfWidth) {
+        return (halfWidth <= maximumRelativeError * estimate) ||
+                ((maximumConfidenceWidth > 0.0) && (2.0 * halfWidth <= maximumConfidenceWidth));
+    }
+
+    /**
+     * Returns the points better than the upper bound in all the objectives which are not dominated
+     * by other points, with their values normalized with the minimum and maximum values, if they
+     * are given, and raised to the lower bound, sorted by decreasing volume of their boxes
+     */
+    private double[][] getNonDominatedPoints(List<S> solutionList, int numberOfObjectives,
+                                             double[] lowerBound, double[] upperBound,
+                                             double[] minimumValues, double[] maximumValues) {
+        List<double[]> candidates = new ArrayList<>(solutionList.size());
+        for (S solution : solutionList) {
+            if (solution.getNumberOfObjectives() != numberOfObjectives) {
+                throw new JMetalException("The solution has " + solution.getNumberOfObjectives() +
+                        " objectives instead of " + numberOfObjectives);
+            }
+            double[] point = new double[numberOfObjectives];
+            boolean inside = true;
+            for (int i = 0; (i < numberOfObjectives) && inside; i++) {
+                double value = solution.getObjective(i);
+                if (minimumValues != null) {
+                    value = (value - minimumValues[i]) / (maximumValues[i] - minimumValues[i]);
+                }
+                point[i] = Math.max(value, lowerBound[i]);
+                inside = point[i] < upperBound[i];
+            }
+            if (inside) {
+                candidates.add(point);
+            }
+        }
+
+        List<double[]> nonDominatedPoints = new ArrayList<>(candidates.size());
+        for (int j = 0; j < candidates.size(); j++) {
+            boolean dominated = false;
+            for (int k = 0; (k < candidates.size()) && !dominated; k++) {
+                if (k != j) {
+                    int comparison = compare(candidates.get(k), candidates.get(j));
+                    dominated = (comparison < 0) || ((comparison == 0) && (k < j));
+                }
+            }
+            if (!dominated) {
+                nonDominatedPoints.add(candidates.get(j));
+            }
+        }
+
+        double[][] points = nonDominatedPoints.toArray(new double[nonDominatedPoints.size()][]);
+        final double[] volumes = new double[points.length];
+        Integer[] order = new Integer[points.length];
+        for (int j = 0; j < points.length; j++) {
+            volumes[j] = boxVolume(points[j], upperBound);
+            order[j] = j;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer index1, Integer index2) {
+                return Double.compare(volumes[index2], volumes[index1]);
+            }
+        });
+
+        double[][] sortedPoints = new double[points.length][];
+        for (int j = 0; j < points.length; j++) {
+            sortedPoints[j] = points[order[j]];
+        }
+
+        return sortedPoints;
+    }
+
+    /**
+     * Returns -1 if the first point dominates the second one, 1 if it is dominated by it, 0 if
+     * they are equal and 2 if they are non-dominated
+     */
+    private static int compare(double[] point1, double[] point2) {
+        boolean better = false;
+        boolean worse = false;
+        for (int i = 0; i < point1.length; i++) {
+            better |= point1[i] < point2[i];
+            worse |= point1[i] > point2[i];
+        }
+
+        if (better && worse) {
+            return 2;
+        } else if (better) {
+            return -1;
+        } else if (worse) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static double boxVolume(double[] lowerCorner, double[] upperCorner) {
+        double volume = 1.0;
+        for (int i = 0; i < lowerCorner.length; i++) {
+            volume *= upperCorner[i] - lowerCorner[i];
+        }
+        return volume;
+    }
+
+    /**
+     * Number of samples drawn in the last evaluation
+     */
+    public long getLastNumberOfSamples() {
+        return lastNumberOfSamples;
+    }
+
+    /**
+     * Half-width of the confidence interval of the last estimate
+     */
+    public double getLastConfidenceHalfWidth() {
+        return lastConfidenceHalfWidth;
+    }
+
+    public double[] getReferencePoint() {
+        return referencePoint == null ? null : referencePoint.clone();
+    }
+
+    /**
+     * Sets the reference point; if it is null, the volume inside the unit box is measured
+     */
+    public MonteCarloHypervolume<S> setReferencePoint(double[] referencePoint) {
+        this.referencePoint = referencePoint == null ? null : referencePoint.clone();
+        return this;
+    }
+
+    public double getMaximumRelativeError() {
+        return maximumRelativeError;
+    }
+
+    public MonteCarloHypervolume<S> setMaximumRelativeError(double maximumRelativeError) {
+        if (maximumRelativeError < 0.0) {
+            throw new JMetalException("The maximum relative error is negative: " + maximumRelativeError);
+        }
+        this.maximumRelativeError = maximumRelativeError;
+        return this;
+    }
+
+    public double getMaximumConfidenceWidth() {
+        return maximumConfidenceWidth;
+    }
+
+    /**
+     * Sets the width of the confidence interval below which sampling stops; 0 disables the criterion
+     */
+    public MonteCarloHypervolume<S> setMaximumConfidenceWidth(double maximumConfidenceWidth) {
+        if (maximumConfidenceWidth < 0.0) {
+            throw new JMetalException("The maximum confidence width is negative: " + maximumConfidenceWidth);
+        }
+        this.maximumConfidenceWidth = maximumConfidenceWidth;
+        return this;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public MonteCarloHypervolume<S> setConfidenceLevel(double confidenceLevel) {
+        if ((confidenceLevel <= 0.0) || (confidenceLevel >= 1.0)) {
+            throw new JMetalException("The confidence level is not in (0, 1): " + confidenceLevel);
+        }
+        this.confidenceLevel = confidenceLevel;
+        return this;
+    }
+
+    public long getMaximumNumberOfSamples() {
+        return maximumNumberOfSamples;
+    }
+
+    public MonteCarloHypervolume<S> setMaximumNumberOfSamples(long maximumNumberOfSamples) {
+        if (maximumNumberOfSamples <= 0) {
+            throw new JMetalException("The maximum number of samples is not positive: " + maximumNumberOfSamples);
+        }
+        this.maximumNumberOfSamples = maximumNumberOfSamples;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public MonteCarloHypervolume<S> setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * The contributions are computed exactly by {@link WFGHypervolume}
+     */
+    @Override
+    public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+        WFGHypervolume<S> hypervolume = new WFGHypervolume<>();
+        hypervolume.setOffset(offset);
+        return hypervolume.computeHypervolumeContribution(solutionList, referenceFrontList);
+    }
+
+    @Override
+    public double[] computeContributionReferencePoint(List<S> referenceFrontList) {
+        WFGHypervolume<S> hypervolume = new WFGHypervolume<>();
+        hypervolume.setOffset(offset);
+        return hypervolume.computeContributionReferencePoint(referenceFrontList);
+    }
+
+    @Override
+    public double getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void setOffset(double offset) {
+        this.offset = offset;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Monte Carlo estimation of the hypervolume quality indicator";
+    }
+
+    /**
+     * Samples of a batch, stored by objective, and the number of them dominated by the points
+     */
+    private static class Batch {
+        final double[] samples;
+        final int[] alive;
+        int numberOfDominatedSamples;
+
+        Batch(int numberOfObjectives) {
+            samples = new double[BATCH_SIZE * numberOfObjectives];
+            alive = new int[BATCH_SIZE];
+        }
+
+        void sample(SplittableRandom random, double[][] points, double[] lowerBound, double[] upperBound) {
+            int numberOfObjectives = lowerBound.length;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                int column = i * BATCH_SIZE;
+                double width = upperBound[i] - lowerBound[i];
+                for (int k = 0; k < BATCH_SIZE; k++) {
+                    samples[column + k] = lowerBound[i] + random.nextDouble() * width;
+                }
+            }
+
+            // The first numberOfSamples samples of each column are the ones not dominated yet
+            int numberOfSamples = BATCH_SIZE;
+            for (int j = 0; (j < points.length) && (numberOfSamples > 0); j++) {
+                double[] point = points[j];
+                for (int k = 0; k < numberOfSamples; k++) {
+                    alive[k] = 1;
+                }
+
+                int numberOfAliveSamples = numberOfSamples;
+                for (int i = 0; (i < numberOfObjectives) && (numberOfAliveSamples > 0); i++) {
+                    int column = i * BATCH_SIZE;
+                    double value = point[i];
+                    numberOfAliveSamples = 0;
+                    for (int k = 0; k < numberOfSamples; k++) {
+                        int isAlive = alive[k] & (samples[column + k] >= value ? 1 : 0);
+                        alive[k] = isAlive;
+                        numberOfAliveSamples += isAlive;
+                    }
+                }
+
+                // The samples still alive are dominated by the point, so they are removed
+                if (numberOfAliveSamples > 0) {
+                    int kept = 0;
+                    for (int k = 0; k < numberOfSamples; k++) {
+                        if (alive[k] == 0) {
+                            if (kept != k) {
+                                for (int i = 0; i < numberOfObjectives; i++) {
+                                    samples[i * BATCH_SIZE + kept] = samples[i * BATCH_SIZE + k];
+                                }
+                            }
+                            kept++;
+                        }
+                    }
+                    numberOfSamples = kept;
+                }
+            }
+
+            numberOfDominatedSamples = BATCH_SIZE - numberOfSamples;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.uma.jmetal.qualityindicator.impl.hypervolume;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
@@ -89,6 +90,45 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
         return hypervolume(new ArrayFront(paretoFrontApproximation), referenceParetoFront);
     }
 
+    /**
+     * Evaluates the indicator on the packed objective values of a {@link PopulationMatrix}: the
+     * inverted front of {@link FrontUtils#getInvertedFront(Front)} is built directly as the array
+     * given to {@link #calculateHypervolume(double[][], int, int)}
+     *
+     * @param populationMatrix
+     * @return The indicator value
+     */
+    @Override
+    public Double evaluateMatrix(PopulationMatrix<S> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The population matrix is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            return super.evaluateMatrix(populationMatrix);
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        int numberOfPoints = populationMatrix.getNumberOfSolutions();
+        int numberOfDimensions = populationMatrix.getNumberOfObjectives();
+        double[][] invertedFront = new double[numberOfPoints][numberOfDimensions];
+        for (int i = 0; i < numberOfPoints; i++) {
+            int offset = populationMatrix.getOffset(i);
+            for (int j = 0; j < numberOfDimensions; j++) {
+                double value = objectives[offset + j];
+                if (value <= 1.0 && value >= 0.0) {
+                    invertedFront[i][j] = 1.0 - value;
+                } else if (value > 1.0) {
+                    invertedFront[i][j] = 0.0;
+                } else if (value < 0.0) {
+                    invertedFront[i][j] = 1.0;
+                }
+            }
+        }
+
+        int numberOfObjectives = referenceParetoFront.getPoint(0).getNumberOfDimensions();
+
+        return this.calculateHypervolume(invertedFront, numberOfPoints, numberOfObjectives);
+    }
+
     /*
      returns true if 'point1' dominates 'points2' with respect to the
      to the first 'noObjectives' objectives
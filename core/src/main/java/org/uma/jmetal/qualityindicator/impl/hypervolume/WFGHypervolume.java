@@ -1,11 +1,9 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
-import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeFront;
-import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeVersion;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeEngine;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.point.impl.ArrayPoint;
@@ -16,6 +14,11 @@ import java.util.Collections;
 import java.util.List;
 
 /**
+ * Hypervolume computed by a {@link WfgHypervolumeEngine}. The volume is measured from the reference
+ * point with any number of objectives. With three or more objectives this class used a
+ * {@link org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeVersion}, which measured
+ * it from the origin, so its values are different from the ones of previous versions.
+ *
  * Created by ajnebro on 2/2/15.
  */
 @SuppressWarnings("serial")
@@ -68,14 +71,7 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
             referencePoint = new ArrayPoint(numberOfObjectives);
             updateReferencePoint(solutionList);
 
-            if (numberOfObjectives == 2) {
-                Collections.sort(solutionList, new ObjectiveComparator<Solution<?>>(numberOfObjectives - 1,
-                        ObjectiveComparator.Ordering.DESCENDING));
-                hv = get2DHV(solutionList);
-            } else {
-                WfgHypervolumeVersion wfgHv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size());
-                hv = wfgHv.getHV(new WfgHypervolumeFront(solutionList));
-            }
+            hv = computeHypervolume(solutionList, referencePoint.getValues());
         }
 
         return hv;
@@ -89,14 +85,7 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
             numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
             this.referencePoint = referencePoint;
 
-            if (numberOfObjectives == 2) {
-                Collections.sort(solutionList, new ObjectiveComparator<Solution<?>>(solutionList.size() - 1,
-                        ObjectiveComparator.Ordering.DESCENDING));
-                hv = get2DHV(solutionList);
-            } else {
-                WfgHypervolumeVersion wfgHv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size());
-                hv = wfgHv.getHV(new WfgHypervolumeFront(solutionList));
-            }
+            hv = computeHypervolume(solutionList, referencePoint.getValues());
         }
 
         return hv;
@@ -179,27 +168,29 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
     @Override
     public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
         numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
-        updateReferencePoint(referenceFrontList);
+        double[] contributionReferencePoint = computeContributionReferencePoint(referenceFrontList);
+        referencePoint = new ArrayPoint(contributionReferencePoint);
         if (solutionList.size() > 1) {
             double[] contributions = new double[solutionList.size()];
             double solutionSetHV = 0;
 
-            solutionSetHV = evaluate(solutionList);
+            solutionSetHV = computeHypervolume(solutionList, contributionReferencePoint);
 
+            // Each point is left out by swapping it with the last one
+            double[] points = new double[solutionList.size() * numberOfObjectives];
             for (int i = 0; i < solutionList.size(); i++) {
-                S currentPoint = solutionList.get(i);
-                solutionList.remove(i);
-
-                if (numberOfObjectives == 2) {
-                    contributions[i] = solutionSetHV - get2DHV(solutionList);
-                } else {
-                    //Front front = new Front(solutionSet.size(), numberOfObjectives, solutionSet);
-                    WfgHypervolumeFront front = new WfgHypervolumeFront(solutionList);
-                    double hv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size()).getHV(front);
-                    contributions[i] = solutionSetHV - hv;
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    points[i * numberOfObjectives + j] = solutionList.get(i).getObjective(j);
                 }
-
-                solutionList.add(i, currentPoint);
+            }
+            int lastOffset = (solutionList.size() - 1) * numberOfObjectives;
+            double[] buffer = new double[numberOfObjectives];
+            WfgHypervolumeEngine engine = new WfgHypervolumeEngine(contributionReferencePoint);
+            for (int i = 0; i < solutionList.size(); i++) {
+                int offset = i * numberOfObjectives;
+                swap(points, offset, lastOffset, buffer);
+                contributions[i] = solutionSetHV - engine.getHypervolume(points, solutionList.size() - 1);
+                swap(points, offset, lastOffset, buffer);
             }
 
             HypervolumeContributionAttribute<Solution<?>> hvContribution = new HypervolumeContributionAttribute<Solution<?>>();
@@ -213,6 +204,27 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
         return solutionList;
     }
 
+    /**
+     * The maximum values of the objectives are not lower than zero. Both the hypervolume of the
+     * whole list and the ones without each solution in
+     * {@link #computeHypervolumeContribution(List, List)} are measured from this point
+     */
+    @Override
+    public double[] computeContributionReferencePoint(List<S> referenceFrontList) {
+        double[] referencePoint = super.computeContributionReferencePoint(referenceFrontList);
+        for (int i = 0; i < referencePoint.length; i++) {
+            referencePoint[i] = Math.max(referencePoint[i], offset);
+        }
+
+        return referencePoint;
+    }
+
+    private static void swap(double[] points, int offset1, int offset2, double[] buffer) {
+        System.arraycopy(points, offset1, buffer, 0, buffer.length);
+        System.arraycopy(points, offset2, points, offset1, buffer.length);
+        System.arraycopy(buffer, 0, points, offset2, buffer.length);
+    }
+
     @Override
     public double getOffset() {
         return offset;
@@ -0,0 +1,413 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+/**
+ * Exact hypervolume algorithms specialized for two, three and four objectives, minimizing all of
+ * them. The points are stored by rows in a flat array with a given stride, and only the first
+ * two, three or four values of each row are considered; they must be better than the reference
+ * point in all of them. The array is not modified.
+ *
+ * - Two objectives: the points are sorted by the first objective and swept, in O(n log n) time.
+ * - Three objectives: the points are swept by the third objective, keeping the two-dimensional
+ * front of the points swept in a balanced tree (a treap stored in arrays), in O(n log n) time
+ * (Beume et al.).
+ * - Four objectives: the points are swept by the fourth objective, keeping the three-dimensional
+ * volume of the points swept, which is incremented with the contribution of each point computed
+ * by a three-dimensional sweep over the non-dominated points swept, kept sorted by the third
+ * objective (as in the HV4D algorithm of Guerreiro et al.), in O(n^2 log n) time.
+ *
+ * The buffers are kept between calls, so an instance must not be used by several threads at the
+ * same time.
+ *
+ * References:
+ * N. Beume, C.M. Fonseca, M. Lopez-Ibanez, L. Paquete, J. Vahrenhold. On the Complexity of
+ * Computing the Hypervolume Indicator. IEEE Transactions on Evolutionary Computation, 13(5):
+ * 1075-1082, 2009.
+ * A.P. Guerreiro, C.M. Fonseca, M.T.M. Emmerich. A Fast Dimension-Sweep Algorithm for the
+ * Hypervolume Indicator in Four Dimensions. CCCG 2012: 77-82.
+ */
+public class HypervolumeKernels {
+    private final Staircase staircase = new Staircase();
+    private int[] order = new int[0];
+    private int[] orderBuffer = new int[0];
+    private double[] keys = new double[0];
+    private int[] sweptPoints = new int[0];
+
+    /**
+     * Hypervolume of a set of points of two objectives
+     *
+     * @param points         Array with the values of the points by rows
+     * @param numberOfPoints Number of points
+     * @param stride         Number of values of each row
+     * @param referencePoint Reference point
+     */
+    public double hypervolume2D(double[] points, int numberOfPoints, int stride, double[] referencePoint) {
+        sortRows(points, numberOfPoints, stride, 0);
+        double volume = 0.0;
+        double top = referencePoint[1];
+        for (int i = 0; i < numberOfPoints; i++) {
+            int row = order[i] * stride;
+            if (points[row + 1] < top) {
+                volume += (referencePoint[0] - points[row]) * (top - points[row + 1]);
+                top = points[row + 1];
+            }
+        }
+
+        return volume;
+    }
+
+    /**
+     * Hypervolume of a set of points of three objectives
+     *
+     * @param points         Array with the values of the points by rows
+     * @param numberOfPoints Number of points
+     * @param stride         Number of values of each row
+     * @param referencePoint Reference point
+     */
+    public double hypervolume3D(double[] points, int numberOfPoints, int stride, double[] referencePoint) {
+        if (numberOfPoints == 0) {
+            return 0.0;
+        }
+
+        sortRows(points, numberOfPoints, stride, 2);
+        staircase.reset(numberOfPoints, referencePoint[0], referencePoint[1]);
+        double volume = 0.0;
+        double z = points[order[0] * stride + 2];
+        for (int i = 0; i < numberOfPoints; i++) {
+            int row = order[i] * stride;
+            volume += staircase.area * (points[row + 2] - z);
+            z = points[row + 2];
+            staircase.add(points[row], points[row + 1]);
+        }
+        volume += staircase.area * (referencePoint[2] - z);
+
+        return volume;
+    }
+
+    /**
+     * Hypervolume of a set of points of four objectives
+     *
+     * @param points         Array with the values of the points by rows
+     * @param numberOfPoints Number of points
+     * @param stride         Number of values of each row
+     * @param referencePoint Reference point
+     */
+    public double hypervolume4D(double[] points, int numberOfPoints, int stride, double[] referencePoint) {
+        if (numberOfPoints == 0) {
+            return 0.0;
+        }
+
+        sortRows(points, numberOfPoints, stride, 3);
+        if (sweptPoints.length < numberOfPoints) {
+            sweptPoints = new int[numberOfPoints];
+        }
+
+        // The swept points which are not dominated in the first three objectives, sorted by the third one
+        int numberOfSweptPoints = 0;
+        double volume3D = 0.0;
+        double volume = 0.0;
+        double z = points[order[0] * stride + 3];
+        for (int i = 0; i < numberOfPoints; i++) {
+            int row = order[i] * stride;
+            volume += volume3D * (points[row + 3] - z);
+            z = points[row + 3];
+
+            double contribution = contribution3D(points, row, numberOfSweptPoints, referencePoint);
+            if (contribution > 0.0) {
+                volume3D += contribution;
+
+                int kept = 0;
+                int position = 0;
+                for (int j = 0; j < numberOfSweptPoints; j++) {
+                    int sweptRow = sweptPoints[j];
+                    if (!weaklyDominates(points, row, sweptRow, 3)) {
+                        sweptPoints[kept++] = sweptRow;
+                        if (points[sweptRow + 2] <= points[row + 2]) {
+                            position = kept;
+                        }
+                    }
+                }
+                System.arraycopy(sweptPoints, position, sweptPoints, position + 1, kept - position);
+                sweptPoints[position] = row;
+                numberOfSweptPoints = kept + 1;
+            }
+        }
+        volume += volume3D * (referencePoint[3] - z);
+
+        return volume;
+    }
+
+    /**
+     * Volume dominated by a point in the first three objectives and not by the swept points
+     */
+    private double contribution3D(double[] points, int row, int numberOfSweptPoints, double[] referencePoint) {
+        double x = points[row];
+        double y = points[row + 1];
+        double boxArea = (referencePoint[0] - x) * (referencePoint[1] - y);
+
+        staircase.reset(numberOfSweptPoints, referencePoint[0], referencePoint[1]);
+        double volume = 0.0;
+        double z = points[row + 2];
+        for (int j = 0; j < numberOfSweptPoints; j++) {
+            int sweptRow = sweptPoints[j];
+            if (points[sweptRow + 2] > z) {
+                volume += (boxArea - staircase.area) * (points[sweptRow + 2] - z);
+                z = points[sweptRow + 2];
+            }
+            staircase.add(Math.max(points[sweptRow], x), Math.max(points[sweptRow + 1], y));
+            if (staircase.area >= boxArea) {
+                return volume;
+            }
+        }
+        volume += (boxArea - staircase.area) * (referencePoint[2] - z);
+
+        return volume;
+    }
+
+    private static boolean weaklyDominates(double[] points, int row1, int row2, int dimensions) {
+        for (int i = 0; i < dimensions; i++) {
+            if (points[row1 + i] > points[row2 + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the indices of the rows by the values of a column
+     */
+    private void sortRows(double[] points, int numberOfPoints, int stride, int column) {
+        if (order.length < numberOfPoints) {
+            order = new int[numberOfPoints];
+            orderBuffer = new int[numberOfPoints];
+            keys = new double[numberOfPoints];
+        }
+
+        for (int i = 0; i < numberOfPoints; i++) {
+            order[i] = i;
+            keys[i] = points[i * stride + column];
+        }
+        mergeSort(0, numberOfPoints);
+    }
+
+    private void mergeSort(int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(from, middle);
+        mergeSort(middle, to);
+        if (keys[order[middle - 1]] <= keys[order[middle]]) {
+            return;
+        }
+
+        System.arraycopy(order, from, orderBuffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int k = from; k < to; k++) {
+            if ((right >= to) || ((left < middle) && (keys[orderBuffer[left]] <= keys[orderBuffer[right]]))) {
+                order[k] = orderBuffer[left++];
+            } else {
+                order[k] = orderBuffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Two-dimensional front of non-dominated points, ordered by the first value (and so by
+     * decreasing second value), with the area it dominates. It is stored in a treap whose nodes
+     * are indices of arrays
+     */
+    private static class Staircase {
+        private static final int NIL = -1;
+
+        double area;
+        private double referenceX;
+        private double referenceY;
+
+        private double[] x = new double[0];
+        private double[] y = new double[0];
+        private int[] left = new int[0];
+        private int[] right = new int[0];
+        private int[] priority = new int[0];
+        private int[] dominatedNodes = new int[0];
+        private int numberOfNodes;
+        private int numberOfDominatedNodes;
+        private int root;
+        private int seed;
+
+        private int splitLeft;
+        private int splitRight;
+
+        void reset(int capacity, double referenceX, double referenceY) {
+            if (x.length < capacity) {
+                x = new double[capacity];
+                y = new double[capacity];
+                left = new int[capacity];
+                right = new int[capacity];
+                priority = new int[capacity];
+                dominatedNodes = new int[capacity];
+            }
+
+            this.referenceX = referenceX;
+            this.referenceY = referenceY;
+            area = 0.0;
+            numberOfNodes = 0;
+            root = NIL;
+            seed = 0x2545F491;
+        }
+
+        /**
+         * Adds a point, removing the points it dominates and updating the area
+         */
+        void add(double pointX, double pointY) {
+            int lower = lowerNode(pointX);
+            if ((lower != NIL) && (y[lower] <= pointY)) {
+                return;
+            }
+            int ceiling = ceilingNode(pointX);
+            if ((ceiling != NIL) && (x[ceiling] == pointX) && (y[ceiling] <= pointY)) {
+                return;
+            }
+
+            splitByX(root, pointX);
+            int lowerPart = splitLeft;
+            splitByY(splitRight, pointY);
+            int dominatedPart = splitLeft;
+            int upperPart = splitRight;
+
+            double top = lower == NIL ? referenceY : y[lower];
+            int next = leftmost(upperPart);
+            double rightLimit = next == NIL ? referenceX : x[next];
+
+            // The new point covers the box up to its neighbours, part of which was covered by the dominated points
+            double increment = (rightLimit - pointX) * (top - pointY);
+            numberOfDominatedNodes = 0;
+            collect(dominatedPart);
+            for (int i = 0; i < numberOfDominatedNodes; i++) {
+                int node = dominatedNodes[i];
+                double nextX = i + 1 < numberOfDominatedNodes ? x[dominatedNodes[i + 1]] : rightLimit;
+                increment -= (nextX - x[node]) * (top - y[node]);
+            }
+            area += increment;
+
+            int node = numberOfNodes++;
+            x[node] = pointX;
+            y[node] = pointY;
+            left[node] = NIL;
+            right[node] = NIL;
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            priority[node] = seed;
+
+            root = merge(merge(lowerPart, node), upperPart);
+        }
+
+        /**
+         * Node with the highest first value lower than a value
+         */
+        private int lowerNode(double value) {
+            int result = NIL;
+            int node = root;
+            while (node != NIL) {
+                if (x[node] < value) {
+                    result = node;
+                    node = right[node];
+                } else {
+                    node = left[node];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Node with the lowest first value not lower than a value
+         */
+        private int ceilingNode(double value) {
+            int result = NIL;
+            int node = root;
+            while (node != NIL) {
+                if (x[node] >= value) {
+                    result = node;
+                    node = left[node];
+                } else {
+                    node = right[node];
+                }
+            }
+            return result;
+        }
+
+        private int leftmost(int node) {
+            if (node == NIL) {
+                return NIL;
+            }
+            while (left[node] != NIL) {
+                node = left[node];
+            }
+            return node;
+        }
+
+        /**
+         * Splits a tree into the nodes whose first value is lower than a value and the rest
+         */
+        private void splitByX(int node, double value) {
+            if (node == NIL) {
+                splitLeft = NIL;
+                splitRight = NIL;
+            } else if (x[node] < value) {
+                splitByX(right[node], value);
+                right[node] = splitLeft;
+                splitLeft = node;
+            } else {
+                splitByX(left[node], value);
+                left[node] = splitRight;
+                splitRight = node;
+            }
+        }
+
+        /**
+         * Splits a tree into the nodes whose second value is not lower than a value, which come
+         * first as the second values decrease, and the rest
+         */
+        private void splitByY(int node, double value) {
+            if (node == NIL) {
+                splitLeft = NIL;
+                splitRight = NIL;
+            } else if (y[node] >= value) {
+                splitByY(right[node], value);
+                right[node] = splitLeft;
+                splitLeft = node;
+            } else {
+                splitByY(left[node], value);
+                left[node] = splitRight;
+                splitRight = node;
+            }
+        }
+
+        private int merge(int node1, int node2) {
+            if (node1 == NIL) {
+                return node2;
+            } else if (node2 == NIL) {
+                return node1;
+            } else if (priority[node1] > priority[node2]) {
+                right[node1] = merge(right[node1], node2);
+                return node1;
+            } else {
+                left[node2] = merge(node1, left[node2]);
+                return node2;
+            }
+        }
+
+        /**
+         * Stores the nodes of a tree in order in the dominated nodes array
+         */
+        private void collect(int node) {
+            if (node != NIL) {
+                collect(left[node]);
+                dominatedNodes[numberOfDominatedNodes++] = node;
+                collect(right[node]);
+            }
+        }
+    }
+}
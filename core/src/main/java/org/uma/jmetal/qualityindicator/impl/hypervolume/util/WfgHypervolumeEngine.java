@@ -0,0 +1,339 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.point.Point;
+
+import java.util.List;
+
+/**
+ * Implementation of the WFG algorithm to compute the hypervolume of a set of points, minimizing
+ * all the objectives. The points are stored by rows in flat arrays, one per recursion level, which
+ * are only allocated when a level is reached and only grow when a larger set of points is found,
+ * so the memory required is O(n * m^2) for n points and m objectives.
+ *
+ * The volume is sliced by the last objective: the points are sorted by it and each one adds the
+ * volume of its slice which is not dominated by the points preceding it, in one dimension less.
+ * That volume is computed from the points limited by the point (the worse value of both in each
+ * objective), discarding the dominated ones and stopping as soon as a limited point equals the
+ * point. Sets of two, three and four dimensions are computed by the sweeps of
+ * {@link HypervolumeKernels}, which skip the dominated points by themselves.
+ *
+ * This is the plain WFG algorithm with slicing on flat arrays: neither the bounding-box pruning nor
+ * the IWFG optimizations are implemented, since factoring the dimensions where the limited points
+ * are flat made it slower on random fronts of six to eight objectives.
+ *
+ * Only the points which are better than the reference point in all the objectives contribute to
+ * the hypervolume. An instance must not be used by several threads at the same time.
+ *
+ * Reference: L. While, L. Bradstreet, L. Barone. A Fast Way of Calculating Exact Hypervolumes.
+ * IEEE Transactions on Evolutionary Computation, 16(1): 86-95, 2012.
+ */
+public class WfgHypervolumeEngine {
+    private final int numberOfObjectives;
+    private final double[] referencePoint;
+    private final Level[] levels;
+    private final HypervolumeKernels kernels = new HypervolumeKernels();
+
+    /**
+     * Constructor
+     *
+     * @param referencePoint Reference point; its dimension is the number of objectives
+     */
+    public WfgHypervolumeEngine(double[] referencePoint) {
+        if ((referencePoint == null) || (referencePoint.length < 2)) {
+            throw new JMetalException("The reference point must have at least two dimensions");
+        }
+
+        this.numberOfObjectives = referencePoint.length;
+        this.referencePoint = referencePoint.clone();
+        levels = new Level[numberOfObjectives];
+    }
+
+    public WfgHypervolumeEngine(Point referencePoint) {
+        this(toArray(referencePoint));
+    }
+
+    public int getNumberOfObjectives() {
+        return numberOfObjectives;
+    }
+
+    public double[] getReferencePoint() {
+        return referencePoint.clone();
+    }
+
+    /**
+     * Returns the hypervolume of the objective vectors of a list of solutions
+     */
+    public double getHypervolume(List<? extends Solution<?>> solutionList) {
+        double[] points = getLevel(0, solutionList.size(), numberOfObjectives).points;
+        int numberOfPoints = 0;
+        for (Solution<?> solution : solutionList) {
+            if (solution.getNumberOfObjectives() != numberOfObjectives) {
+                throw new JMetalException("The solution has " + solution.getNumberOfObjectives() +
+                        " objectives instead of " + numberOfObjectives);
+            }
+            int offset = numberOfPoints * numberOfObjectives;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                points[offset + i] = solution.getObjective(i);
+            }
+            if (isInside(points, offset)) {
+                numberOfPoints++;
+            }
+        }
+
+        return hypervolume(0, numberOfPoints, numberOfObjectives);
+    }
+
+    /**
+     * Returns the hypervolume of the points of a front
+     */
+    public double getHypervolume(Front front) {
+        double[] points = getLevel(0, front.getNumberOfPoints(), numberOfObjectives).points;
+        int numberOfPoints = 0;
+        for (int j = 0; j < front.getNumberOfPoints(); j++) {
+            Point point = front.getPoint(j);
+            if (point.getNumberOfDimensions() != numberOfObjectives) {
+                throw new JMetalException("The point has " + point.getNumberOfDimensions() +
+                        " dimensions instead of " + numberOfObjectives);
+            }
+            int offset = numberOfPoints * numberOfObjectives;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                points[offset + i] = point.getDimensionValue(i);
+            }
+            if (isInside(points, offset)) {
+                numberOfPoints++;
+            }
+        }
+
+        return hypervolume(0, numberOfPoints, numberOfObjectives);
+    }
+
+    /**
+     * Returns the hypervolume of a set of points stored by rows in an array, which is not modified
+     *
+     * @param points         Array with the values of the points, numberOfObjectives per point
+     * @param numberOfPoints Number of points of the array
+     */
+    public double getHypervolume(double[] points, int numberOfPoints) {
+        if (points.length < numberOfPoints * numberOfObjectives) {
+            throw new JMetalException("The array does not contain " + numberOfPoints + " points");
+        }
+
+        double[] levelPoints = getLevel(0, numberOfPoints, numberOfObjectives).points;
+        int numberOfInsidePoints = 0;
+        for (int j = 0; j < numberOfPoints; j++) {
+            int offset = numberOfInsidePoints * numberOfObjectives;
+            System.arraycopy(points, j * numberOfObjectives, levelPoints, offset, numberOfObjectives);
+            if (isInside(levelPoints, offset)) {
+                numberOfInsidePoints++;
+            }
+        }
+
+        return hypervolume(0, numberOfInsidePoints, numberOfObjectives);
+    }
+
+    private boolean isInside(double[] points, int offset) {
+        for (int i = 0; i < numberOfObjectives; i++) {
+            if (!(points[offset + i] < referencePoint[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hypervolume of the points of a level, considering their first dimensions
+     */
+    private double hypervolume(int depth, int numberOfPoints, int dimensions) {
+        if (numberOfPoints == 0) {
+            return 0.0;
+        } else if (numberOfPoints == 1) {
+            return boxVolume(levels[depth].points, 0, dimensions);
+        } else if (dimensions == 2) {
+            return kernels.hypervolume2D(levels[depth].points, numberOfPoints, 2, referencePoint);
+        } else if (dimensions == 3) {
+            return kernels.hypervolume3D(levels[depth].points, numberOfPoints, 3, referencePoint);
+        } else if (dimensions == 4) {
+            return kernels.hypervolume4D(levels[depth].points, numberOfPoints, 4, referencePoint);
+        }
+
+        sortRows(depth, numberOfPoints, dimensions, dimensions - 1);
+        double[] points = levels[depth].points;
+        double volume = 0.0;
+        for (int i = 0; i < numberOfPoints; i++) {
+            double height = referencePoint[dimensions - 1] - points[i * dimensions + dimensions - 1];
+            volume += height * exclusiveHypervolume(depth, i, dimensions);
+        }
+
+        return volume;
+    }
+
+    /**
+     * Volume dominated by a point of a level and not by the points preceding it, without the last
+     * dimension. The limited points are stored in the next level
+     */
+    private double exclusiveHypervolume(int depth, int index, int dimensions) {
+        int limitedDimensions = dimensions - 1;
+        double[] points = levels[depth].points;
+        int pointOffset = index * dimensions;
+        double volume = boxVolume(points, pointOffset, limitedDimensions);
+        if (index == 0) {
+            return volume;
+        }
+
+        double[] limitedPoints = getLevel(depth + 1, index, limitedDimensions).points;
+        int numberOfLimitedPoints = 0;
+        for (int j = 0; j < index; j++) {
+            int offset = numberOfLimitedPoints * limitedDimensions;
+            boolean coversThePoint = true;
+            for (int i = 0; i < limitedDimensions; i++) {
+                double value = Math.max(points[j * dimensions + i], points[pointOffset + i]);
+                limitedPoints[offset + i] = value;
+                coversThePoint &= value == points[pointOffset + i];
+            }
+            if (coversThePoint) {
+                return 0.0;
+            }
+
+            // Only the non-dominated limited points are kept; the kernels of two, three and four
+            // dimensions skip the dominated ones by themselves
+            if (limitedDimensions <= 4) {
+                numberOfLimitedPoints++;
+                continue;
+            }
+            boolean dominated = false;
+            int k = 0;
+            while (k < numberOfLimitedPoints) {
+                int keptOffset = k * limitedDimensions;
+                if (weaklyDominates(limitedPoints, keptOffset, offset, limitedDimensions)) {
+                    dominated = true;
+                    break;
+                } else if (weaklyDominates(limitedPoints, offset, keptOffset, limitedDimensions)) {
+                    numberOfLimitedPoints--;
+                    int lastOffset = numberOfLimitedPoints * limitedDimensions;
+                    System.arraycopy(limitedPoints, lastOffset, limitedPoints, keptOffset, limitedDimensions);
+                    System.arraycopy(limitedPoints, offset, limitedPoints, lastOffset, limitedDimensions);
+                    offset = lastOffset;
+                } else {
+                    k++;
+                }
+            }
+            if (!dominated) {
+                numberOfLimitedPoints++;
+            }
+        }
+
+        return volume - hypervolume(depth + 1, numberOfLimitedPoints, limitedDimensions);
+    }
+
+    private double boxVolume(double[] points, int offset, int dimensions) {
+        double volume = 1.0;
+        for (int i = 0; i < dimensions; i++) {
+            volume *= referencePoint[i] - points[offset + i];
+        }
+        return volume;
+    }
+
+    private static boolean weaklyDominates(double[] points, int offset1, int offset2, int dimensions) {
+        for (int i = 0; i < dimensions; i++) {
+            if (points[offset1 + i] > points[offset2 + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the rows of a level by the values of a column
+     */
+    private void sortRows(int depth, int numberOfPoints, int dimensions, int column) {
+        Level level = levels[depth];
+        if ((level.order == null) || (level.order.length < numberOfPoints)) {
+            level.order = new int[numberOfPoints];
+            level.orderBuffer = new int[numberOfPoints];
+            level.keys = new double[numberOfPoints];
+        }
+        if ((level.sortedPoints == null) || (level.sortedPoints.length < level.points.length)) {
+            level.sortedPoints = new double[level.points.length];
+        }
+
+        double[] points = level.points;
+        for (int i = 0; i < numberOfPoints; i++) {
+            level.order[i] = i;
+            level.keys[i] = points[i * dimensions + column];
+        }
+        mergeSort(level.order, level.orderBuffer, level.keys, 0, numberOfPoints);
+
+        double[] sortedPoints = level.sortedPoints;
+        for (int i = 0; i < numberOfPoints; i++) {
+            System.arraycopy(points, level.order[i] * dimensions, sortedPoints, i * dimensions, dimensions);
+        }
+        level.sortedPoints = points;
+        level.points = sortedPoints;
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, double[] keys, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, keys, from, middle);
+        mergeSort(order, buffer, keys, middle, to);
+        if (keys[order[middle - 1]] <= keys[order[middle]]) {
+            return;
+        }
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int k = from; k < to; k++) {
+            if ((right >= to) || ((left < middle) && (keys[buffer[left]] <= keys[buffer[right]]))) {
+                order[k] = buffer[left++];
+            } else {
+                order[k] = buffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Returns a level with room for a number of points
+     */
+    private Level getLevel(int depth, int numberOfPoints, int dimensions) {
+        if (levels[depth] == null) {
+            levels[depth] = new Level();
+        }
+
+        Level level = levels[depth];
+        if (level.points.length < numberOfPoints * dimensions) {
+            level.points = new double[numberOfPoints * dimensions];
+        }
+
+        return level;
+    }
+
+    private static double[] toArray(Point point) {
+        if (point == null) {
+            throw new JMetalException("The reference point is null");
+        }
+
+        double[] values = new double[point.getNumberOfDimensions()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = point.getDimensionValue(i);
+        }
+        return values;
+    }
+
+    /**
+     * Arrays of a recursion level
+     */
+    private static class Level {
+        double[] points = new double[0];
+        double[] sortedPoints;
+        int[] order;
+        int[] orderBuffer;
+        double[] keys;
+    }
+}
@@ -22,4 +22,25 @@ public interface DoubleSolution extends Solution<Double> {
     Double getLowerBound(int index);
 
     Double getUpperBound(int index);
+
+    /**
+     * Primitive accessors. The default implementations delegate on the boxed methods; solutions
+     * backed by a double[] (see {@link org.uma.jmetal.solution.impl.ArrayDoubleSolution}) override
+     * them to avoid boxing in the operators and in the evaluate() methods of the problems
+     */
+    default double getDoubleVariableValue(int index) {
+        return getVariableValue(index);
+    }
+
+    default void setDoubleVariableValue(int index, double value) {
+        setVariableValue(index, value);
+    }
+
+    default double getDoubleLowerBound(int index) {
+        return getLowerBound(index);
+    }
+
+    default double getDoubleUpperBound(int index) {
+        return getUpperBound(index);
+    }
 }
@@ -13,6 +13,8 @@
 
 package org.uma.jmetal.solution;
 
+import org.uma.jmetal.util.solutionattribute.AttributeRegistry;
+
 import java.io.Serializable;
 
 /**
@@ -41,4 +43,37 @@ public interface Solution<T> extends Serializable {
     void setAttribute(Object id, Object value);
 
     Object getAttribute(Object id);
+
+    /**
+     * Access to the attributes by the slots assigned to their identifiers by
+     * {@link AttributeRegistry}. The default implementations translate the slot into its identifier
+     * and delegate on {@link #setAttribute(Object, Object)} and {@link #getAttribute(Object)};
+     * solutions storing the attributes in {@link org.uma.jmetal.solution.impl.AttributeSlots}
+     * override them to avoid hash lookups and, in the case of the typed methods, boxing.
+     */
+    default Object getSlotValue(int slot) {
+        return getAttribute(AttributeRegistry.getIdentifier(slot));
+    }
+
+    default void setSlotValue(int slot, Object value) {
+        setAttribute(AttributeRegistry.getIdentifier(slot), value);
+    }
+
+    default double getDoubleSlotValue(int slot, double defaultValue) {
+        Object value = getSlotValue(slot);
+        return value == null ? defaultValue : ((Number) value).doubleValue();
+    }
+
+    default void setDoubleSlotValue(int slot, double value) {
+        setSlotValue(slot, value);
+    }
+
+    default int getIntSlotValue(int slot, int defaultValue) {
+        Object value = getSlotValue(slot);
+        return value == null ? defaultValue : ((Number) value).intValue();
+    }
+
+    default void setIntSlotValue(int slot, int value) {
+        setSlotValue(slot, value);
+    }
 }
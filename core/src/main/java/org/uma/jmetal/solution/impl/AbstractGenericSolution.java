@@ -17,7 +17,9 @@ import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Abstract class representing a generic solution
@@ -30,7 +32,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     protected P problem;
     //protected double overallConstraintViolationDegree ;
     //protected int numberOfViolatedConstraints ;
-    protected Map<Object, Object> attributes;
+    protected AttributeSlots attributes;
     private double[] objectives;
     private List<T> variables;
 
@@ -39,7 +41,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
      */
     protected AbstractGenericSolution(P problem) {
         this.problem = problem;
-        attributes = new HashMap<>();
+        attributes = new AttributeSlots();
         randomGenerator = JMetalRandom.getInstance();
 
         objectives = new double[problem.getNumberOfObjectives()];
@@ -62,6 +64,36 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
         return attributes.get(id);
     }
 
+    @Override
+    public Object getSlotValue(int slot) {
+        return attributes.get(slot);
+    }
+
+    @Override
+    public void setSlotValue(int slot, Object value) {
+        attributes.set(slot, value);
+    }
+
+    @Override
+    public double getDoubleSlotValue(int slot, double defaultValue) {
+        return attributes.getDouble(slot, defaultValue);
+    }
+
+    @Override
+    public void setDoubleSlotValue(int slot, double value) {
+        attributes.setDouble(slot, value);
+    }
+
+    @Override
+    public int getIntSlotValue(int slot, int defaultValue) {
+        return attributes.getInt(slot, defaultValue);
+    }
+
+    @Override
+    public void setIntSlotValue(int slot, int value) {
+        attributes.setInt(slot, value);
+    }
+
     @Override
     public void setObjective(int index, double value) {
         objectives[index] = value;
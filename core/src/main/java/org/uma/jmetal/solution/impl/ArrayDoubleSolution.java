@@ -0,0 +1,253 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link DoubleSolution} storing the variables in a double[] array instead of
+ * a List<Double>. The bounds arrays are shared among all the solutions created from the same
+ * problem (and their copies), so the per-solution memory footprint is the variable and objective
+ * arrays only. The primitive accessors of {@link DoubleSolution} are overridden so that no boxing
+ * takes place when they are used.
+ */
+@SuppressWarnings("serial")
+public class ArrayDoubleSolution implements DoubleSolution {
+    protected DoubleProblem problem;
+    protected AttributeSlots attributes;
+    private double[] objectives;
+    private double[] variables;
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+
+    /**
+     * Constructor
+     */
+    public ArrayDoubleSolution(DoubleProblem problem) {
+        this(problem, lowerBoundsOf(problem), upperBoundsOf(problem));
+    }
+
+    /**
+     * Constructor. The bounds arrays are not copied, so they must not be modified by the caller
+     *
+     * @param problem     The problem
+     * @param lowerBounds Lower bounds of the variables
+     * @param upperBounds Upper bounds of the variables
+     */
+    public ArrayDoubleSolution(DoubleProblem problem, double[] lowerBounds, double[] upperBounds) {
+        if (lowerBounds.length != problem.getNumberOfVariables()) {
+            throw new JMetalException("The number of lower bounds (" + lowerBounds.length + ") is not " +
+                    "equal to the number of variables: " + problem.getNumberOfVariables());
+        } else if (upperBounds.length != problem.getNumberOfVariables()) {
+            throw new JMetalException("The number of upper bounds (" + upperBounds.length + ") is not " +
+                    "equal to the number of variables: " + problem.getNumberOfVariables());
+        }
+
+        this.problem = problem;
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+        attributes = new AttributeSlots();
+
+        objectives = new double[problem.getNumberOfObjectives()];
+        variables = new double[problem.getNumberOfVariables()];
+
+        JMetalRandom randomGenerator = JMetalRandom.getInstance();
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = randomGenerator.nextDouble(lowerBounds[i], upperBounds[i]);
+        }
+    }
+
+    /**
+     * Copy constructor
+     */
+    public ArrayDoubleSolution(ArrayDoubleSolution solution) {
+        problem = solution.problem;
+        lowerBounds = solution.lowerBounds;
+        upperBounds = solution.upperBounds;
+        objectives = solution.objectives.clone();
+        variables = solution.variables.clone();
+        attributes = new AttributeSlots(solution.attributes);
+    }
+
+    @Override
+    public void setObjective(int index, double value) {
+        objectives[index] = value;
+    }
+
+    @Override
+    public double getObjective(int index) {
+        return objectives[index];
+    }
+
+    @Override
+    public Double getVariableValue(int index) {
+        return variables[index];
+    }
+
+    @Override
+    public void setVariableValue(int index, Double value) {
+        variables[index] = value;
+    }
+
+    @Override
+    public double getDoubleVariableValue(int index) {
+        return variables[index];
+    }
+
+    @Override
+    public void setDoubleVariableValue(int index, double value) {
+        variables[index] = value;
+    }
+
+    @Override
+    public Double getLowerBound(int index) {
+        return lowerBounds[index];
+    }
+
+    @Override
+    public Double getUpperBound(int index) {
+        return upperBounds[index];
+    }
+
+    @Override
+    public double getDoubleLowerBound(int index) {
+        return lowerBounds[index];
+    }
+
+    @Override
+    public double getDoubleUpperBound(int index) {
+        return upperBounds[index];
+    }
+
+    @Override
+    public String getVariableValueString(int index) {
+        return Double.toString(variables[index]);
+    }
+
+    @Override
+    public int getNumberOfVariables() {
+        return variables.length;
+    }
+
+    @Override
+    public int getNumberOfObjectives() {
+        return objectives.length;
+    }
+
+    @Override
+    public ArrayDoubleSolution copy() {
+        return new ArrayDoubleSolution(this);
+    }
+
+    @Override
+    public void setAttribute(Object id, Object value) {
+        attributes.put(id, value);
+    }
+
+    @Override
+    public Object getAttribute(Object id) {
+        return attributes.get(id);
+    }
+
+    @Override
+    public Object getSlotValue(int slot) {
+        return attributes.get(slot);
+    }
+
+    @Override
+    public void setSlotValue(int slot, Object value) {
+        attributes.set(slot, value);
+    }
+
+    @Override
+    public double getDoubleSlotValue(int slot, double defaultValue) {
+        return attributes.getDouble(slot, defaultValue);
+    }
+
+    @Override
+    public void setDoubleSlotValue(int slot, double value) {
+        attributes.setDouble(slot, value);
+    }
+
+    @Override
+    public int getIntSlotValue(int slot, int defaultValue) {
+        return attributes.getInt(slot, defaultValue);
+    }
+
+    @Override
+    public void setIntSlotValue(int slot, int value) {
+        attributes.setInt(slot, value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Variables: ");
+        for (double var : variables) {
+            result.append(var).append(" ");
+        }
+        result.append("Objectives: ");
+        for (double obj : objectives) {
+            result.append(obj).append(" ");
+        }
+        result.append("\t");
+        result.append("AlgorithmAttributes: ").append(attributes).append("\n");
+
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        ArrayDoubleSolution that = (ArrayDoubleSolution) o;
+
+        if (!attributes.equals(that.attributes))
+            return false;
+        if (!Arrays.equals(objectives, that.objectives))
+            return false;
+        return Arrays.equals(variables, that.variables);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(objectives);
+        result = 31 * result + Arrays.hashCode(variables);
+        result = 31 * result + attributes.hashCode();
+        return result;
+    }
+
+    private static double[] lowerBoundsOf(DoubleProblem problem) {
+        double[] bounds = new double[problem.getNumberOfVariables()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = problem.getLowerBound(i);
+        }
+        return bounds;
+    }
+
+    private static double[] upperBoundsOf(DoubleProblem problem) {
+        double[] bounds = new double[problem.getNumberOfVariables()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = problem.getUpperBound(i);
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,294 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.util.solutionattribute.AttributeRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Storage of the attributes of a solution. Each attribute identifier is mapped to a slot by the
+ * {@link AttributeRegistry}, and the values are kept in arrays indexed by slot: double and int
+ * values are stored unboxed, any other value is stored in an array of objects. The primitive
+ * arrays are only allocated when a value of that type is stored, and copying the attributes of a
+ * solution is reduced to cloning the arrays.
+ *
+ * Equality and hash code follow the contract of {@link java.util.Map}, so two instances are
+ * equal if they contain the same identifiers with equal (boxed) values.
+ */
+@SuppressWarnings("serial")
+public class AttributeSlots implements Serializable {
+    private static final byte UNSET = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte INT = 2;
+    private static final byte OBJECT = 3;
+    private static final byte[] EMPTY = new byte[0];
+
+    private transient byte[] types;
+    private transient double[] doubleValues;
+    private transient int[] intValues;
+    private transient Object[] objectValues;
+
+    /**
+     * Constructor
+     */
+    public AttributeSlots() {
+        types = EMPTY;
+    }
+
+    /**
+     * Copy constructor
+     */
+    public AttributeSlots(AttributeSlots attributes) {
+        types = attributes.types.length == 0 ? EMPTY : attributes.types.clone();
+        doubleValues = attributes.doubleValues == null ? null : attributes.doubleValues.clone();
+        intValues = attributes.intValues == null ? null : attributes.intValues.clone();
+        objectValues = attributes.objectValues == null ? null : attributes.objectValues.clone();
+    }
+
+    public Object get(Object identifier) {
+        return get(AttributeRegistry.getSlot(identifier));
+    }
+
+    public void put(Object identifier, Object value) {
+        set(AttributeRegistry.getSlot(identifier), value);
+    }
+
+    /**
+     * Returns the value of a slot, boxing it if it is stored as a primitive value
+     *
+     * @return The value or null if the slot has no value
+     */
+    public Object get(int slot) {
+        if (slot >= types.length) {
+            return null;
+        }
+
+        switch (types[slot]) {
+            case DOUBLE:
+                return doubleValues[slot];
+            case INT:
+                return intValues[slot];
+            case OBJECT:
+                return objectValues[slot];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Sets the value of a slot. Double and Integer values are stored unboxed; a null value removes
+     * the value of the slot
+     */
+    public void set(int slot, Object value) {
+        if (value == null) {
+            if (slot < types.length) {
+                types[slot] = UNSET;
+                if (objectValues != null) {
+                    objectValues[slot] = null;
+                }
+            }
+        } else if (value instanceof Double) {
+            setDouble(slot, (Double) value);
+        } else if (value instanceof Integer) {
+            setInt(slot, (Integer) value);
+        } else {
+            ensureCapacity(slot);
+            if (objectValues == null) {
+                objectValues = new Object[types.length];
+            }
+            types[slot] = OBJECT;
+            objectValues[slot] = value;
+        }
+    }
+
+    public boolean contains(int slot) {
+        return (slot < types.length) && (types[slot] != UNSET);
+    }
+
+    /**
+     * Returns the value of a slot as a double
+     *
+     * @param defaultValue Value returned if the slot has no value
+     */
+    public double getDouble(int slot, double defaultValue) {
+        if (slot >= types.length) {
+            return defaultValue;
+        }
+
+        switch (types[slot]) {
+            case DOUBLE:
+                return doubleValues[slot];
+            case INT:
+                return intValues[slot];
+            case OBJECT:
+                return ((Number) objectValues[slot]).doubleValue();
+            default:
+                return defaultValue;
+        }
+    }
+
+    public void setDouble(int slot, double value) {
+        ensureCapacity(slot);
+        if (doubleValues == null) {
+            doubleValues = new double[types.length];
+        }
+        clearObject(slot);
+        types[slot] = DOUBLE;
+        doubleValues[slot] = value;
+    }
+
+    /**
+     * Returns the value of a slot as an int
+     *
+     * @param defaultValue Value returned if the slot has no value
+     */
+    public int getInt(int slot, int defaultValue) {
+        if (slot >= types.length) {
+            return defaultValue;
+        }
+
+        switch (types[slot]) {
+            case INT:
+                return intValues[slot];
+            case DOUBLE:
+                return (int) doubleValues[slot];
+            case OBJECT:
+                return ((Number) objectValues[slot]).intValue();
+            default:
+                return defaultValue;
+        }
+    }
+
+    public void setInt(int slot, int value) {
+        ensureCapacity(slot);
+        if (intValues == null) {
+            intValues = new int[types.length];
+        }
+        clearObject(slot);
+        types[slot] = INT;
+        intValues[slot] = value;
+    }
+
+    private void clearObject(int slot) {
+        if ((objectValues != null) && (types[slot] == OBJECT)) {
+            objectValues[slot] = null;
+        }
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < types.length) {
+            return;
+        }
+
+        int length = Math.max(slot + 1, AttributeRegistry.getNumberOfSlots());
+        types = Arrays.copyOf(types, length);
+        if (doubleValues != null) {
+            doubleValues = Arrays.copyOf(doubleValues, length);
+        }
+        if (intValues != null) {
+            intValues = Arrays.copyOf(intValues, length);
+        }
+        if (objectValues != null) {
+            objectValues = Arrays.copyOf(objectValues, length);
+        }
+    }
+
+    private int size() {
+        int size = 0;
+        for (byte type : types) {
+            if (type != UNSET) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        AttributeSlots that = (AttributeSlots) o;
+
+        int length = Math.max(types.length, that.types.length);
+        for (int slot = 0; slot < length; slot++) {
+            if (contains(slot) != that.contains(slot)) {
+                return false;
+            }
+            if (contains(slot) && !get(slot).equals(that.get(slot))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int slot = 0; slot < types.length; slot++) {
+            if (types[slot] != UNSET) {
+                result += Objects.hashCode(AttributeRegistry.getIdentifier(slot)) ^ get(slot).hashCode();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        String separator = "";
+        for (int slot = 0; slot < types.length; slot++) {
+            if (types[slot] != UNSET) {
+                result.append(separator).append(AttributeRegistry.getIdentifier(slot)).append("=").append(get(slot));
+                separator = ", ";
+            }
+        }
+        return result.append("}").toString();
+    }
+
+    /**
+     * Slots are only valid in the running JVM, so the attributes are serialized as pairs
+     * (identifier, value)
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size());
+        for (int slot = 0; slot < types.length; slot++) {
+            if (types[slot] != UNSET) {
+                out.writeObject(AttributeRegistry.getIdentifier(slot));
+                out.writeObject(get(slot));
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        types = EMPTY;
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Object identifier = in.readObject();
+            Object value = in.readObject();
+            put(identifier, value);
+        }
+    }
+}
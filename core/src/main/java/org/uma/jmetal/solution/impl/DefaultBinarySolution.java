@@ -17,7 +17,6 @@ import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a binary solution
@@ -56,7 +55,7 @@ public class DefaultBinarySolution
         //overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
         //numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new AttributeSlots(solution.attributes);
     }
 
     private BinarySet createNewBitSet(int numberOfBits) {
@@ -16,7 +16,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a double solution
@@ -54,7 +53,7 @@ public class DefaultDoubleSolution
 
         //overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
         //numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new AttributeSlots(solution.attributes);
     }
 
     @Override
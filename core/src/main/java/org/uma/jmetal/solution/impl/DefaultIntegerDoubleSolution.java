@@ -3,7 +3,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.IntegerDoubleProblem;
 import org.uma.jmetal.solution.IntegerDoubleSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a class for solutions having integers and doubles
@@ -52,7 +51,7 @@ public class DefaultIntegerDoubleSolution
         //overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
         //numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new AttributeSlots(solution.attributes);
     }
 
     @Override
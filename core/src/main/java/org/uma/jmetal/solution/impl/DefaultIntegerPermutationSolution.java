@@ -17,7 +17,6 @@ import org.uma.jmetal.problem.PermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -62,7 +61,7 @@ public class DefaultIntegerPermutationSolution
             setVariableValue(i, solution.getVariableValue(i));
         }
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new AttributeSlots(solution.attributes);
     }
 
     @Override
@@ -16,7 +16,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.IntegerProblem;
 import org.uma.jmetal.solution.IntegerSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of an integer solution
@@ -55,7 +54,7 @@ public class DefaultIntegerSolution
         // overallConstraintViolationDegree = solution.overallConstraintViolationDegree ;
         // numberOfViolatedConstraints = solution.numberOfViolatedConstraints ;
 
-        attributes = new HashMap<Object, Object>(solution.attributes);
+        attributes = new AttributeSlots(solution.attributes);
     }
 
     @Override
@@ -0,0 +1,280 @@
+package org.uma.jmetal.util;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Structure-of-arrays view of a list of solutions. The objective values of the solutions are packed
+ * row by row in a single contiguous double[] array (row i contains the objectives of the i-th
+ * solution of the list), so that the classes ranking or measuring a population can work with
+ * linear scans instead of invoking {@link Solution#getObjective(int)} through interfaces.
+ * Optionally, the overall constraint violation degree of the solutions is packed in another
+ * array. The row index of a solution is its index in the solution list, so
+ * {@link #getSolution(int)} maps a row back to its solution.
+ *
+ * The matrix is a snapshot: changes in the solutions after its construction are not reflected.
+ */
+@SuppressWarnings("serial")
+public class PopulationMatrix<S extends Solution<?>> implements Serializable {
+    private List<S> solutionList;
+    private int numberOfSolutions;
+    private int numberOfObjectives;
+    private double[] objectives;
+    private double[] constraintViolations;
+
+    /**
+     * Constructor. Only the objective values are packed
+     *
+     * @param solutionList
+     */
+    public PopulationMatrix(List<S> solutionList) {
+        this(solutionList, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param solutionList
+     * @param includeConstraintViolations If true, the overall constraint violation degree of the
+     *                                    solutions is also packed. Solutions without that attribute
+     *                                    are stored as NaN
+     */
+    public PopulationMatrix(List<S> solutionList, boolean includeConstraintViolations) {
+        if (solutionList == null) {
+            throw new JMetalException("The solution list is null");
+        }
+
+        this.solutionList = solutionList;
+        numberOfSolutions = solutionList.size();
+        numberOfObjectives = numberOfSolutions == 0 ? 0 : solutionList.get(0).getNumberOfObjectives();
+
+        objectives = new double[numberOfSolutions * numberOfObjectives];
+        for (int i = 0; i < numberOfSolutions; i++) {
+            S solution = solutionList.get(i);
+            if (solution == null) {
+                throw new JMetalException("The solution at position " + i + " is null");
+            } else if (solution.getNumberOfObjectives() != numberOfObjectives) {
+                throw new JMetalException("The solution at position " + i + " has " +
+                        solution.getNumberOfObjectives() + " objectives instead of " + numberOfObjectives);
+            }
+
+            int offset = i * numberOfObjectives;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                objectives[offset + j] = solution.getObjective(j);
+            }
+        }
+
+        if (includeConstraintViolations) {
+            OverallConstraintViolation<S> overallConstraintViolation = new OverallConstraintViolation<S>();
+            constraintViolations = new double[numberOfSolutions];
+            for (int i = 0; i < numberOfSolutions; i++) {
+                Double violation = overallConstraintViolation.getAttribute(solutionList.get(i));
+                constraintViolations[i] = violation == null ? Double.NaN : violation;
+            }
+        }
+    }
+
+    public int getNumberOfSolutions() {
+        return numberOfSolutions;
+    }
+
+    public int getNumberOfObjectives() {
+        return numberOfObjectives;
+    }
+
+    public List<S> getSolutionList() {
+        return solutionList;
+    }
+
+    public S getSolution(int row) {
+        return solutionList.get(row);
+    }
+
+    /**
+     * Returns the packed objective values. The array is not copied, so it must not be modified
+     */
+    public double[] getObjectives() {
+        return objectives;
+    }
+
+    /**
+     * Returns the position in the array returned by {@link #getObjectives()} of the first objective
+     * of a row
+     */
+    public int getOffset(int row) {
+        return row * numberOfObjectives;
+    }
+
+    public double getObjective(int row, int objective) {
+        return objectives[row * numberOfObjectives + objective];
+    }
+
+    public boolean hasConstraintViolations() {
+        return constraintViolations != null;
+    }
+
+    public double getConstraintViolation(int row) {
+        if (constraintViolations == null) {
+            throw new JMetalException("The constraint violations have not been packed");
+        }
+        return constraintViolations[row];
+    }
+
+    /**
+     * Compares the overall constraint violation of two rows as
+     * {@link org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator} does.
+     * If the constraint violations have not been packed, or any of the rows lacks it, 0 is returned
+     *
+     * @return -1, 0 or 1 if row1 is better, equal or worse than row2, respectively
+     */
+    public int compareConstraintViolation(int row1, int row2) {
+        if (constraintViolations == null) {
+            return 0;
+        }
+
+        double violation1 = constraintViolations[row1];
+        double violation2 = constraintViolations[row2];
+        if (Double.isNaN(violation1) || Double.isNaN(violation2)) {
+            return 0;
+        }
+
+        if ((violation1 < 0) && (violation2 < 0)) {
+            if (violation1 > violation2) {
+                return -1;
+            } else if (violation2 > violation1) {
+                return 1;
+            } else {
+                return 0;
+            }
+        } else if ((violation1 == 0) && (violation2 < 0)) {
+            return -1;
+        } else if ((violation1 < 0) && (violation2 == 0)) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Pareto dominance test between two rows, taking into account the constraint violation
+     * degree first, as {@link org.uma.jmetal.util.comparator.DominanceComparator} does
+     *
+     * @return -1, 0 or 1 if row1 dominates row2, both are non-dominated, or row2 dominates row1
+     */
+    public int dominanceTest(int row1, int row2) {
+        int result = compareConstraintViolation(row1, row2);
+        if (result == 0) {
+            result = paretoDominanceTest(row1, row2);
+        }
+
+        return result;
+    }
+
+    /**
+     * Pareto dominance test between two rows considering only the objective values
+     *
+     * @return -1, 0 or 1 if row1 dominates row2, both are non-dominated, or row2 dominates row1
+     */
+    public int paretoDominanceTest(int row1, int row2) {
+        boolean row1Dominates = false;
+        boolean row2Dominates = false;
+
+        int offset1 = row1 * numberOfObjectives;
+        int offset2 = row2 * numberOfObjectives;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            double value1 = objectives[offset1 + i];
+            double value2 = objectives[offset2 + i];
+            if (value1 < value2) {
+                row1Dominates = true;
+            } else if (value2 < value1) {
+                row2Dominates = true;
+            }
+        }
+
+        if (row1Dominates == row2Dominates) {
+            return 0;
+        } else if (row1Dominates) {
+            return -1;
+        } else {
+            return 1;
+        }
+    }
+
+    /**
+     * Gets the minimum value of each objective
+     */
+    public double[] getMinimumValues() {
+        double[] minimumValues = new double[numberOfObjectives];
+        for (int j = 0; j < numberOfObjectives; j++) {
+            minimumValues[j] = Double.POSITIVE_INFINITY;
+        }
+
+        for (int offset = 0; offset < objectives.length; offset += numberOfObjectives) {
+            for (int j = 0; j < numberOfObjectives; j++) {
+                if (objectives[offset + j] < minimumValues[j]) {
+                    minimumValues[j] = objectives[offset + j];
+                }
+            }
+        }
+
+        return minimumValues;
+    }
+
+    /**
+     * Gets the maximum value of each objective
+     */
+    public double[] getMaximumValues() {
+        double[] maximumValues = new double[numberOfObjectives];
+        for (int j = 0; j < numberOfObjectives; j++) {
+            maximumValues[j] = Double.NEGATIVE_INFINITY;
+        }
+
+        for (int offset = 0; offset < objectives.length; offset += numberOfObjectives) {
+            for (int j = 0; j < numberOfObjectives; j++) {
+                if (objectives[offset + j] > maximumValues[j]) {
+                    maximumValues[j] = objectives[offset + j];
+                }
+            }
+        }
+
+        return maximumValues;
+    }
+
+    /**
+     * Returns the objective values as a matrix (one row per solution)
+     */
+    public double[][] toMatrix() {
+        double[][] matrix = new double[numberOfSolutions][];
+        for (int i = 0; i < numberOfSolutions; i++) {
+            int offset = i * numberOfObjectives;
+            matrix[i] = new double[numberOfObjectives];
+            System.arraycopy(objectives, offset, matrix[i], 0, numberOfObjectives);
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Returns a {@link Front} containing the objective values of the solutions
+     */
+    public Front toFront() {
+        if (numberOfSolutions == 0) {
+            throw new JMetalException("The population matrix is empty");
+        }
+
+        Front front = new ArrayFront(numberOfSolutions, numberOfObjectives);
+        for (int i = 0; i < numberOfSolutions; i++) {
+            int offset = i * numberOfObjectives;
+            for (int j = 0; j < numberOfObjectives; j++) {
+                front.getPoint(i).setDimensionValue(j, objectives[offset + j]);
+            }
+        }
+
+        return front;
+    }
+}
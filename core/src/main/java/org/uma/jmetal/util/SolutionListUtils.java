@@ -107,17 +107,7 @@ public class SolutionListUtils {
             return new double[0][0];
         }
 
-        int numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
-        int solutionListSize = solutionList.size();
-
-        double[][] objectives;
-        objectives = new double[solutionListSize][numberOfObjectives];
-        for (int i = 0; i < solutionListSize; i++) {
-            for (int j = 0; j < numberOfObjectives; j++) {
-                objectives[i][j] = solutionList.get(i).getObjective(j);
-            }
-        }
-        return objectives;
+        return new PopulationMatrix<S>(solutionList).toMatrix();
     }
 
     /**
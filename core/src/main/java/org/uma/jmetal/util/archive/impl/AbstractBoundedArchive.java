@@ -14,6 +14,8 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.BoundedArchive;
 
 import java.util.List;
@@ -24,12 +26,26 @@ import java.util.List;
  */
 @SuppressWarnings("serial")
 public abstract class AbstractBoundedArchive<S extends Solution<?>> implements BoundedArchive<S> {
-    protected NonDominatedSolutionListArchive<S> archive;
+    protected Archive<S> archive;
     protected int maxSize;
 
     public AbstractBoundedArchive(int maxSize) {
+        this(maxSize, new NonDominatedSolutionListArchive<S>());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxSize Maximum size of the archive
+     * @param archive Unbounded archive storing the non-dominated solutions (e.g., a
+     *                {@link NonDominatedSolutionTreeArchive}), whose solution list is pruned
+     */
+    public AbstractBoundedArchive(int maxSize, Archive<S> archive) {
+        if (archive == null) {
+            throw new JMetalException("The archive is null");
+        }
         this.maxSize = maxSize;
-        this.archive = new NonDominatedSolutionListArchive<S>();
+        this.archive = archive;
     }
 
     @Override
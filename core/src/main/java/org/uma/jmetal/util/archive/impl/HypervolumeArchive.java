@@ -14,23 +14,42 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.IncrementalHypervolumeContributions;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Created by Antonio J. Nebro on 24/09/14.
+ *
+ * The hypervolume contributions are kept in an {@link IncrementalHypervolumeContributions}
+ * object, so only the ones changed by the solutions added and removed since the last prune are
+ * recomputed. They are measured up to the reference point of the hypervolume implementation;
+ * when it follows the extremes of the archive, only the contributions reaching the moved bounds
+ * are recomputed. The archive is sorted by decreasing contribution as in
+ * {@link Hypervolume#computeHypervolumeContribution(List, List)}.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
     Hypervolume<S> hypervolume;
     private Comparator<S> comparator;
+    private HypervolumeContributionAttribute<S> hvContribution;
+    private IncrementalHypervolumeContributions<S> contributions;
 
     public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
-        super(maxSize);
+        this(maxSize, hypervolume, new NonDominatedSolutionListArchive<S>());
+    }
+
+    public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume, Archive<S> archive) {
+        super(maxSize, archive);
         comparator = new HypervolumeContributionComparator<S>();
+        hvContribution = new HypervolumeContributionAttribute<S>();
         this.hypervolume = hypervolume;
     }
 
@@ -40,6 +59,9 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
             computeDensityEstimator();
             S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator);
             getSolutionList().remove(worst);
+            if (contributions != null) {
+                contributions.remove(worst);
+            }
         }
     }
 
@@ -50,6 +72,18 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
     @Override
     public void computeDensityEstimator() {
-        hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList());
+        List<S> solutionList = archive.getSolutionList();
+        if (solutionList.size() > 1) {
+            if (contributions == null) {
+                contributions = new IncrementalHypervolumeContributions<S>(solutionList.get(0).getNumberOfObjectives());
+            }
+            contributions.setReferencePoint(hypervolume.computeContributionReferencePoint(solutionList));
+            contributions.update(solutionList);
+
+            for (S solution : solutionList) {
+                hvContribution.setAttribute(solution, contributions.getContribution(solution));
+            }
+            Collections.sort(solutionList, comparator);
+        }
     }
 }
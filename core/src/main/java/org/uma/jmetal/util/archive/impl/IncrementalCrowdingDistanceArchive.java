@@ -0,0 +1,384 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.CrowdingDistanceComparator;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded archive which removes the solution with the lowest crowding distance, as
+ * {@link CrowdingDistanceArchive} does, but keeps the crowding distances up to date instead of
+ * recomputing them each time the archive overflows. The solutions are linked to their neighbours
+ * in the order of each objective, so inserting or removing a solution only changes the distances
+ * of its neighbours, and the solutions are kept in a heap ordered by distance, so the worst one is
+ * found in constant time. The distances are only recomputed for the whole archive when the minimum
+ * or the maximum value of an objective changes, as all the distances are normalized by them.
+ *
+ * The distances are the ones of {@link CrowdingDistance}, and ties between distances are resolved
+ * in favour of the oldest solution, which is the first one found by {@link CrowdingDistanceArchive}.
+ * The solutions with the same value of an objective are ordered by their age, so the distances
+ * may differ from the ones of {@link CrowdingDistance} in that case. Objectives with the same value
+ * in all the solutions do not contribute to the distances.
+ *
+ * The non-dominated solutions are kept by a {@link NonDominatedSolutionTreeArchive}, which gives
+ * the solutions removed by each insertion, and each node knows its position in the list of
+ * solutions, so a solution is removed by moving the last one to its position. Therefore the order
+ * of the list is not the order of insertion.
+ *
+ * The crowding distance attribute of the solutions is always up to date, and the list returned by
+ * {@link #getSolutionList()} cannot be modified.
+ */
+@SuppressWarnings("serial")
+public class IncrementalCrowdingDistanceArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
+    private final Comparator<S> crowdingDistanceComparator;
+    private final CrowdingDistance<S> crowdingDistance;
+
+    private final NonDominatedSolutionTreeArchive<S> treeArchive;
+    private final List<S> solutionList;
+    private final Map<S, Node<S>> nodes;
+    private TreeSet<Node<S>>[] sortedNodes;
+    private Node<S>[] heap;
+    private long numberOfInsertions;
+
+    public IncrementalCrowdingDistanceArchive(int maxSize) {
+        this(maxSize, new NonDominatedSolutionTreeArchive<S>());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxSize Maximum size of the archive
+     * @param archive Empty archive storing the non-dominated solutions
+     */
+    public IncrementalCrowdingDistanceArchive(int maxSize, NonDominatedSolutionTreeArchive<S> archive) {
+        super(maxSize, archive);
+        if (archive.size() != 0) {
+            throw new JMetalException("The archive is not empty");
+        }
+        treeArchive = archive;
+        crowdingDistanceComparator = new CrowdingDistanceComparator<S>();
+        crowdingDistance = new CrowdingDistance<S>();
+        solutionList = new ArrayList<>();
+        nodes = new IdentityHashMap<>();
+    }
+
+    @Override
+    public boolean add(S solution) {
+        boolean success = treeArchive.add(solution);
+        if (success) {
+            for (S removedSolution : treeArchive.getRemovedSolutions()) {
+                deleteNode(nodes.get(removedSolution));
+            }
+            insertNode(solution);
+            prune();
+        }
+
+        return success;
+    }
+
+    @Override
+    public void prune() {
+        if (solutionList.size() > getMaxSize()) {
+            Node<S> worst = heap[0];
+            treeArchive.remove(worst.solution);
+            deleteNode(worst);
+        }
+    }
+
+    @Override
+    public List<S> getSolutionList() {
+        return Collections.unmodifiableList(solutionList);
+    }
+
+    @Override
+    public int size() {
+        return solutionList.size();
+    }
+
+    @Override
+    public Comparator<S> getComparator() {
+        return crowdingDistanceComparator;
+    }
+
+    /**
+     * The distances are always up to date, so they are only copied again to the solutions, in
+     * case their attribute has been modified outside the archive
+     */
+    @Override
+    public void computeDensityEstimator() {
+        for (Node<S> node : nodes.values()) {
+            crowdingDistance.setAttribute(node.solution, node.distance);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void insertNode(S solution) {
+        int numberOfObjectives = solution.getNumberOfObjectives();
+        if (sortedNodes == null) {
+            sortedNodes = new TreeSet[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                sortedNodes[i] = new TreeSet<Node<S>>(new ObjectiveComparator<S>(i));
+            }
+            heap = new Node[Math.max(getMaxSize() + 1, 16)];
+        }
+
+        Node<S> node = new Node<S>(solution, numberOfInsertions++);
+        nodes.put(solution, node);
+        node.listIndex = solutionList.size();
+        solutionList.add(solution);
+        heapAdd(node);
+
+        boolean rangeChanged = false;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            TreeSet<Node<S>> sorted = sortedNodes[i];
+            sorted.add(node);
+            node.previous[i] = sorted.lower(node);
+            node.next[i] = sorted.higher(node);
+            if (node.previous[i] == null) {
+                rangeChanged = true;
+            } else {
+                node.previous[i].next[i] = node;
+            }
+            if (node.next[i] == null) {
+                rangeChanged = true;
+            } else {
+                node.next[i].previous[i] = node;
+            }
+        }
+
+        if (rangeChanged || (nodes.size() <= 3)) {
+            updateAllDistances();
+        } else {
+            updateDistance(node);
+            for (int i = 0; i < numberOfObjectives; i++) {
+                updateDistance(node.previous[i]);
+                updateDistance(node.next[i]);
+            }
+        }
+    }
+
+    private void deleteNode(Node<S> node) {
+        nodes.remove(node.solution);
+        heapRemove(node);
+
+        S last = solutionList.remove(solutionList.size() - 1);
+        if (last != node.solution) {
+            solutionList.set(node.listIndex, last);
+            nodes.get(last).listIndex = node.listIndex;
+        }
+
+        boolean rangeChanged = false;
+        for (int i = 0; i < sortedNodes.length; i++) {
+            sortedNodes[i].remove(node);
+            Node<S> previous = node.previous[i];
+            Node<S> next = node.next[i];
+            if (previous == null) {
+                rangeChanged = true;
+            } else {
+                previous.next[i] = next;
+            }
+            if (next == null) {
+                rangeChanged = true;
+            } else {
+                next.previous[i] = previous;
+            }
+        }
+
+        if (rangeChanged || (nodes.size() <= 2)) {
+            updateAllDistances();
+        } else {
+            for (int i = 0; i < sortedNodes.length; i++) {
+                updateDistance(node.previous[i]);
+                updateDistance(node.next[i]);
+            }
+        }
+    }
+
+    private void updateAllDistances() {
+        for (Node<S> node : nodes.values()) {
+            node.distance = computeDistance(node);
+            crowdingDistance.setAttribute(node.solution, node.distance);
+        }
+        for (int i = nodes.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private void updateDistance(Node<S> node) {
+        double distance = computeDistance(node);
+        if (distance != node.distance) {
+            double previousDistance = node.distance;
+            node.distance = distance;
+            crowdingDistance.setAttribute(node.solution, distance);
+            if (distance < previousDistance) {
+                siftUp(node.heapIndex);
+            } else {
+                siftDown(node.heapIndex);
+            }
+        }
+    }
+
+    /**
+     * Crowding distance of a node from its neighbours, with the same operations as
+     * {@link CrowdingDistance}
+     */
+    private double computeDistance(Node<S> node) {
+        if (nodes.size() <= 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double distance = 0.0;
+        for (int i = 0; i < sortedNodes.length; i++) {
+            if ((node.previous[i] == null) || (node.next[i] == null)) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            double range = sortedNodes[i].last().point[i] - sortedNodes[i].first().point[i];
+            if (range > 0.0) {
+                distance += (node.next[i].point[i] - node.previous[i].point[i]) / range;
+            }
+        }
+
+        return distance;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void heapAdd(Node<S> node) {
+        int size = nodes.size() - 1;
+        if (size == heap.length) {
+            Node<S>[] newHeap = new Node[heap.length * 2];
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+
+        node.distance = Double.POSITIVE_INFINITY;
+        node.heapIndex = size;
+        heap[size] = node;
+        siftUp(size);
+    }
+
+    private void heapRemove(Node<S> node) {
+        int last = nodes.size();
+        int index = node.heapIndex;
+        Node<S> moved = heap[last];
+        heap[last] = null;
+        if (index < last) {
+            heap[index] = moved;
+            moved.heapIndex = index;
+            siftUp(index);
+            siftDown(moved.heapIndex);
+        }
+    }
+
+    private void siftUp(int index) {
+        Node<S> node = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(node, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heap[index].heapIndex = index;
+            index = parent;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        int size = nodes.size();
+        Node<S> node = heap[index];
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if ((child + 1 < size) && isWorse(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isWorse(heap[child], node)) {
+                break;
+            }
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    /**
+     * The worst node has the lowest distance, and the oldest one is chosen in case of tie
+     */
+    private static boolean isWorse(Node<?> node1, Node<?> node2) {
+        return (node1.distance < node2.distance) ||
+                ((node1.distance == node2.distance) && (node1.order < node2.order));
+    }
+
+    /**
+     * A solution, a copy of its objective values, its neighbours in each objective and its
+     * positions in the heap and in the list of solutions
+     */
+    private static class Node<S> implements Serializable {
+        final S solution;
+        final double[] point;
+        final long order;
+        final Node<S>[] previous;
+        final Node<S>[] next;
+        double distance;
+        int heapIndex;
+        int listIndex;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(S solution, long order) {
+            Solution<?> solutionWithObjectives = (Solution<?>) solution;
+            this.solution = solution;
+            this.order = order;
+            point = new double[solutionWithObjectives.getNumberOfObjectives()];
+            for (int i = 0; i < point.length; i++) {
+                point[i] = solutionWithObjectives.getObjective(i);
+            }
+            previous = new Node[point.length];
+            next = new Node[point.length];
+        }
+    }
+
+    /**
+     * Orders the nodes by an objective, and by age in case of tie
+     */
+    private static class ObjectiveComparator<S> implements Comparator<Node<S>>, Serializable {
+        private final int objective;
+
+        ObjectiveComparator(int objective) {
+            this.objective = objective;
+        }
+
+        @Override
+        public int compare(Node<S> node1, Node<S> node2) {
+            int result = Double.compare(node1.point[objective], node2.point[objective]);
+            if (result == 0) {
+                result = Long.compare(node1.order, node2.order);
+            }
+            return result;
+        }
+    }
+}
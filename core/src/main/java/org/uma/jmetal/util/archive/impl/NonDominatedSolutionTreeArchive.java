@@ -0,0 +1,659 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.ConstraintViolationComparator;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Archive of non-dominated solutions indexed by an ND-Tree, so that checking whether a new
+ * solution is dominated and finding the solutions it dominates does not require comparing it with
+ * all the solutions of the archive. Each node of the tree keeps an approximation of the ideal and
+ * nadir points of its solutions, and the nodes whose bounding box cannot contain a solution
+ * dominating or dominated by the new one are skipped.
+ *
+ * The archive behaves like {@link NonDominatedSolutionListArchive} with the default
+ * {@link org.uma.jmetal.util.comparator.DominanceComparator}: a solution is rejected if it is
+ * dominated by a solution of the archive or has the same objective values, and the solutions it
+ * dominates are removed; the list of solutions keeps the order of insertion. The constraint
+ * violation comparator must induce a total preorder (as it does with feasible solutions and
+ * negative violation degrees), so all the solutions of the archive are equivalent according to it
+ * and only their objectives have to be compared. The objective values must not be NaN.
+ *
+ * The list returned by {@link #getSolutionList()} is a view backed by the archive, so the
+ * solutions added, removed or replaced through it (e.g., by the bounded archives) are also added,
+ * removed or replaced in the tree. The solutions removed by {@link #add(Solution)} or
+ * {@link #remove(Solution)} are only marked as removed in the list, which is compacted when half of
+ * its elements are removed or when it is accessed by position, so that the archive can be updated
+ * without traversing the list; the solutions removed by the last insertion are given by
+ * {@link #getRemovedSolutions()}.
+ *
+ * Reference: A. Jaszkiewicz, T. Lust. ND-Tree-Based Update: A Fast Algorithm for the Dynamic
+ * Nondominance Problem. IEEE Transactions on Evolutionary Computation, 22(5): 778-791, 2018.
+ */
+@SuppressWarnings("serial")
+public class NonDominatedSolutionTreeArchive<S extends Solution<?>> implements Archive<S> {
+    /**
+     * Default maximum number of solutions of a leaf
+     */
+    public static final int DEFAULT_MAX_LEAF_SIZE = 20;
+
+    private final ConstraintViolationComparator<S> constraintViolationComparator;
+    private final int maxLeafSize;
+    private final List<Entry<S>> entries;
+    private int numberOfRemovedEntries;
+    private final List<S> removedSolutions;
+    private final SolutionListView solutionListView;
+    private Node<S> root;
+
+    /**
+     * Constructor
+     */
+    public NonDominatedSolutionTreeArchive() {
+        this(new OverallConstraintViolationComparator<S>(), DEFAULT_MAX_LEAF_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param constraintViolationComparator Comparator applied before the Pareto dominance test
+     * @param maxLeafSize                   Maximum number of solutions of a leaf of the tree
+     */
+    public NonDominatedSolutionTreeArchive(ConstraintViolationComparator<S> constraintViolationComparator,
+                                           int maxLeafSize) {
+        if (constraintViolationComparator == null) {
+            throw new JMetalException("The constraint violation comparator is null");
+        } else if (maxLeafSize < 2) {
+            throw new JMetalException("The maximum size of a leaf must be at least 2: " + maxLeafSize);
+        }
+
+        this.constraintViolationComparator = constraintViolationComparator;
+        this.maxLeafSize = maxLeafSize;
+        entries = new ArrayList<>();
+        removedSolutions = new ArrayList<>();
+        solutionListView = new SolutionListView();
+    }
+
+    /**
+     * Inserts a solution in the archive
+     *
+     * @param solution The solution to be inserted.
+     * @return true if the operation success, and false if the solution is
+     * dominated or if an identical individual exists.
+     */
+    @Override
+    public boolean add(S solution) {
+        removedSolutions.clear();
+        if (root != null) {
+            int flag = constraintViolationComparator.compare(solution, getAnySolution());
+            if (flag == 1) {
+                return false;
+            } else if (flag == -1) {
+                for (Entry<S> entry : entries) {
+                    if (entry != null) {
+                        removedSolutions.add(entry.solution);
+                    }
+                }
+                clear();
+            }
+        }
+
+        if (root != null) {
+            List<Entry<S>> dominatedEntries = new ArrayList<>();
+            if (update(root, getObjectives(solution), dominatedEntries)) {
+                return false;
+            }
+            if (root.isEmpty()) {
+                root = null;
+            }
+
+            for (Entry<S> entry : dominatedEntries) {
+                removeFromList(entry);
+                removedSolutions.add(entry.solution);
+            }
+        }
+
+        Entry<S> entry = new Entry<S>(solution);
+        entry.listIndex = entries.size();
+        entries.add(entry);
+        insert(entry);
+        solutionListView.incrementModCount();
+
+        return true;
+    }
+
+    /**
+     * Removes a solution from the archive without traversing the list of solutions
+     *
+     * @return true if the solution was in the archive
+     */
+    public boolean remove(S solution) {
+        Entry<S> entry = removeFromTree(solution);
+        if (entry == null) {
+            return false;
+        }
+
+        removeFromList(entry);
+        solutionListView.incrementModCount();
+
+        return true;
+    }
+
+    /**
+     * Returns the solutions removed by the last call to {@link #add(Solution)}, because the added
+     * solution dominates them or has a lower constraint violation degree
+     */
+    public List<S> getRemovedSolutions() {
+        return Collections.unmodifiableList(removedSolutions);
+    }
+
+    /**
+     * Checks whether a solution would be rejected by the archive, i.e., whether a solution of the
+     * archive dominates it or has the same objective values
+     */
+    public boolean isDominated(S solution) {
+        if (root == null) {
+            return false;
+        }
+
+        int flag = constraintViolationComparator.compare(solution, getAnySolution());
+        if (flag != 0) {
+            return flag == 1;
+        }
+
+        return isWeaklyDominated(root, getObjectives(solution));
+    }
+
+    @Override
+    public List<S> getSolutionList() {
+        return solutionListView;
+    }
+
+    @Override
+    public int size() {
+        return entries.size() - numberOfRemovedEntries;
+    }
+
+    @Override
+    public S get(int index) {
+        compact();
+        return entries.get(index).solution;
+    }
+
+    public int getMaxLeafSize() {
+        return maxLeafSize;
+    }
+
+    /**
+     * Removes the solutions of the node dominated by the point and collects them
+     *
+     * @return True if the point is weakly dominated by a solution of the node
+     */
+    private boolean update(Node<S> node, double[] point, List<Entry<S>> dominatedEntries) {
+        if (weaklyDominates(node.nadir, point)) {
+            return true;
+        } else if (weaklyDominates(point, node.ideal) && !equals(point, node.ideal)) {
+            // All the solutions of the node are dominated
+            node.collectEntries(dominatedEntries);
+            node.clear();
+            return false;
+        } else if (!weaklyDominates(node.ideal, point) && !weaklyDominates(point, node.nadir)) {
+            // No solution of the node is comparable with the point
+            return false;
+        }
+
+        if (node.isLeaf()) {
+            int kept = 0;
+            for (int i = 0; i < node.entries.size(); i++) {
+                Entry<S> entry = node.entries.get(i);
+                if (weaklyDominates(entry.point, point)) {
+                    return true;
+                } else if (weaklyDominates(point, entry.point)) {
+                    dominatedEntries.add(entry);
+                } else {
+                    node.entries.set(kept++, entry);
+                }
+            }
+            node.entries.subList(kept, node.entries.size()).clear();
+        } else {
+            for (int i = node.children.size() - 1; i >= 0; i--) {
+                Node<S> child = node.children.get(i);
+                if (update(child, point, dominatedEntries)) {
+                    return true;
+                }
+                if (child.isEmpty()) {
+                    node.children.remove(i);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isWeaklyDominated(Node<S> node, double[] point) {
+        if (weaklyDominates(node.nadir, point)) {
+            return true;
+        } else if (!weaklyDominates(node.ideal, point)) {
+            return false;
+        }
+
+        if (node.isLeaf()) {
+            for (Entry<S> entry : node.entries) {
+                if (weaklyDominates(entry.point, point)) {
+                    return true;
+                }
+            }
+        } else {
+            for (Node<S> child : node.children) {
+                if (isWeaklyDominated(child, point)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Inserts an entry in the leaf whose bounding box has the closest middle point, splitting it
+     * if it becomes too large
+     */
+    private void insert(Entry<S> entry) {
+        if (root == null) {
+            root = new Node<S>(entry.point.length);
+        }
+
+        Node<S> node = root;
+        node.expand(entry.point);
+        while (!node.isLeaf()) {
+            Node<S> closest = node.children.get(0);
+            double minimumDistance = closest.distanceToMiddle(entry.point);
+            for (int i = 1; i < node.children.size(); i++) {
+                double distance = node.children.get(i).distanceToMiddle(entry.point);
+                if (distance < minimumDistance) {
+                    minimumDistance = distance;
+                    closest = node.children.get(i);
+                }
+            }
+            node = closest;
+            node.expand(entry.point);
+        }
+
+        node.entries.add(entry);
+        if (node.entries.size() > maxLeafSize) {
+            split(node);
+        }
+    }
+
+    /**
+     * Turns a leaf into an internal node with M + 1 children. The first child is seeded with the
+     * solution farthest on average from the others, the next ones with the solution farthest on
+     * average from the previous seeds, and the rest of solutions go to the closest child
+     */
+    private void split(Node<S> leaf) {
+        List<Entry<S>> entries = leaf.entries;
+        int numberOfChildren = Math.min(entries.size(), entries.get(0).point.length + 1);
+
+        List<Entry<S>> seeds = new ArrayList<>(numberOfChildren);
+        seeds.add(entries.get(farthestOnAverage(entries, entries, seeds)));
+        while (seeds.size() < numberOfChildren) {
+            seeds.add(entries.get(farthestOnAverage(entries, seeds, seeds)));
+        }
+
+        leaf.entries = null;
+        leaf.children = new ArrayList<>(numberOfChildren);
+        for (Entry<S> seed : seeds) {
+            Node<S> child = new Node<S>(seed.point.length);
+            child.expand(seed.point);
+            child.entries.add(seed);
+            leaf.children.add(child);
+        }
+
+        for (Entry<S> entry : entries) {
+            if (seeds.contains(entry)) {
+                continue;
+            }
+            Node<S> closest = leaf.children.get(0);
+            double minimumDistance = closest.distanceToMiddle(entry.point);
+            for (int i = 1; i < leaf.children.size(); i++) {
+                double distance = leaf.children.get(i).distanceToMiddle(entry.point);
+                if (distance < minimumDistance) {
+                    minimumDistance = distance;
+                    closest = leaf.children.get(i);
+                }
+            }
+            closest.expand(entry.point);
+            closest.entries.add(entry);
+        }
+    }
+
+    /**
+     * Index of the entry, not in the excluded ones, with the highest average distance to the
+     * reference entries
+     */
+    private int farthestOnAverage(List<Entry<S>> entries, List<Entry<S>> references, List<Entry<S>> excluded) {
+        int farthest = -1;
+        double maximumDistance = -1.0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (excluded.contains(entries.get(i))) {
+                continue;
+            }
+            double distance = 0.0;
+            for (Entry<S> reference : references) {
+                distance += distance(entries.get(i).point, reference.point);
+            }
+            if (distance > maximumDistance) {
+                maximumDistance = distance;
+                farthest = i;
+            }
+        }
+
+        return farthest;
+    }
+
+    /**
+     * Any solution of the archive, which must not be empty
+     */
+    private S getAnySolution() {
+        Node<S> node = root;
+        while (!node.isLeaf()) {
+            node = node.children.get(0);
+        }
+        return node.entries.get(0).solution;
+    }
+
+    private void clear() {
+        entries.clear();
+        numberOfRemovedEntries = 0;
+        root = null;
+    }
+
+    /**
+     * Removes a solution from the tree
+     *
+     * @return The entry of the solution, or null if it is not in the tree
+     */
+    private Entry<S> removeFromTree(S solution) {
+        if (root == null) {
+            return null;
+        }
+
+        // The objectives may have been modified after the insertion, so the whole tree is searched
+        // if the solution is not found in the nodes containing its current objective vector
+        Entry<S> entry = removeFromNode(root, solution, getObjectives(solution));
+        if (entry == null) {
+            entry = removeFromNode(root, solution, null);
+        }
+        if (root.isEmpty()) {
+            root = null;
+        }
+
+        return entry;
+    }
+
+    private Entry<S> removeFromNode(Node<S> node, S solution, double[] point) {
+        if ((point != null) && !(weaklyDominates(node.ideal, point) && weaklyDominates(point, node.nadir))) {
+            return null;
+        }
+
+        if (node.isLeaf()) {
+            for (int i = 0; i < node.entries.size(); i++) {
+                if (node.entries.get(i).solution == solution) {
+                    return node.entries.remove(i);
+                }
+            }
+        } else {
+            for (int i = 0; i < node.children.size(); i++) {
+                Node<S> child = node.children.get(i);
+                Entry<S> entry = removeFromNode(child, solution, point);
+                if (entry != null) {
+                    if (child.isEmpty()) {
+                        node.children.remove(i);
+                    }
+                    return entry;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Marks the solution of an entry as removed from the list, which is compacted once half of its
+     * elements are removed, so the order of the rest of solutions is kept
+     */
+    private void removeFromList(Entry<S> entry) {
+        entries.set(entry.listIndex, null);
+        numberOfRemovedEntries++;
+        if (numberOfRemovedEntries > size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops the removed solutions from the list
+     */
+    private void compact() {
+        if (numberOfRemovedEntries > 0) {
+            int kept = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                Entry<S> entry = entries.get(i);
+                if (entry != null) {
+                    entry.listIndex = kept;
+                    entries.set(kept++, entry);
+                }
+            }
+            entries.subList(kept, entries.size()).clear();
+            numberOfRemovedEntries = 0;
+        }
+    }
+
+    private void updateListIndexes(int from) {
+        for (int i = from; i < entries.size(); i++) {
+            entries.get(i).listIndex = i;
+        }
+    }
+
+    private static double[] getObjectives(Solution<?> solution) {
+        double[] point = new double[solution.getNumberOfObjectives()];
+        for (int i = 0; i < point.length; i++) {
+            point[i] = solution.getObjective(i);
+        }
+        return point;
+    }
+
+    private static boolean weaklyDominates(double[] point1, double[] point2) {
+        for (int i = 0; i < point1.length; i++) {
+            if (!(point1[i] <= point2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(double[] point1, double[] point2) {
+        for (int i = 0; i < point1.length; i++) {
+            if (point1[i] != point2[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double distance(double[] point1, double[] point2) {
+        double distance = 0.0;
+        for (int i = 0; i < point1.length; i++) {
+            distance += (point1[i] - point2[i]) * (point1[i] - point2[i]);
+        }
+        return Math.sqrt(distance);
+    }
+
+    /**
+     * A solution, a copy of its objective values and its position in the list
+     */
+    private static class Entry<S> implements Serializable {
+        final S solution;
+        final double[] point;
+        int listIndex;
+
+        Entry(S solution) {
+            this.solution = solution;
+            this.point = getObjectives((Solution<?>) solution);
+        }
+    }
+
+    /**
+     * Node of the tree: leaves contain entries, and internal nodes contain children. The ideal and
+     * nadir points bound the points of the node; they are expanded on insertion but not shrunk on
+     * removal, so they remain valid bounds
+     */
+    private static class Node<S> implements Serializable {
+        final double[] ideal;
+        final double[] nadir;
+        List<Entry<S>> entries;
+        List<Node<S>> children;
+
+        Node(int numberOfObjectives) {
+            ideal = new double[numberOfObjectives];
+            nadir = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                ideal[i] = Double.POSITIVE_INFINITY;
+                nadir[i] = Double.NEGATIVE_INFINITY;
+            }
+            entries = new ArrayList<>();
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        boolean isEmpty() {
+            return isLeaf() ? entries.isEmpty() : children.isEmpty();
+        }
+
+        void expand(double[] point) {
+            for (int i = 0; i < point.length; i++) {
+                ideal[i] = Math.min(ideal[i], point[i]);
+                nadir[i] = Math.max(nadir[i], point[i]);
+            }
+        }
+
+        double distanceToMiddle(double[] point) {
+            double distance = 0.0;
+            for (int i = 0; i < point.length; i++) {
+                double middle = (ideal[i] + nadir[i]) / 2.0;
+                distance += (point[i] - middle) * (point[i] - middle);
+            }
+            return distance;
+        }
+
+        void collectEntries(List<Entry<S>> collected) {
+            if (isLeaf()) {
+                collected.addAll(entries);
+            } else {
+                for (Node<S> child : children) {
+                    child.collectEntries(collected);
+                }
+            }
+        }
+
+        void clear() {
+            entries = new ArrayList<>();
+            children = null;
+        }
+    }
+
+    /**
+     * List of the solutions of the archive. Its modifications are applied to the tree without
+     * checking the dominance relationships, as the former list-based archive did
+     */
+    private class SolutionListView extends AbstractList<S> implements Serializable {
+        @Override
+        public S get(int index) {
+            return NonDominatedSolutionTreeArchive.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return NonDominatedSolutionTreeArchive.this.size();
+        }
+
+        @Override
+        public S set(int index, S solution) {
+            compact();
+            Entry<S> entry = new Entry<S>(solution);
+            entry.listIndex = index;
+            S previous = entries.set(index, entry).solution;
+            removeFromTree(previous);
+            insert(entry);
+            return previous;
+        }
+
+        @Override
+        public void add(int index, S solution) {
+            compact();
+            Entry<S> entry = new Entry<S>(solution);
+            entries.add(index, entry);
+            updateListIndexes(index);
+            insert(entry);
+            modCount++;
+        }
+
+        @Override
+        public S remove(int index) {
+            compact();
+            S solution = entries.remove(index).solution;
+            updateListIndexes(index);
+            removeFromTree(solution);
+            modCount++;
+            return solution;
+        }
+
+        @Override
+        public void clear() {
+            NonDominatedSolutionTreeArchive.this.clear();
+            modCount++;
+        }
+
+        /**
+         * Sorting does not change the solutions of the archive, so the tree is not modified
+         */
+        @Override
+        public void sort(final Comparator<? super S> comparator) {
+            compact();
+            Collections.sort(entries, new Comparator<Entry<S>>() {
+                @Override
+                public int compare(Entry<S> entry1, Entry<S> entry2) {
+                    return comparator.compare(entry1.solution, entry2.solution);
+                }
+            });
+            updateListIndexes(0);
+            modCount++;
+        }
+
+        void incrementModCount() {
+            modCount++;
+        }
+    }
+}
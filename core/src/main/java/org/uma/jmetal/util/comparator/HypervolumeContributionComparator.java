@@ -49,16 +49,8 @@ public class HypervolumeContributionComparator<S extends Solution<?>> implements
         } else if (solution2 == null) {
             result = -1;
         } else {
-            double contribution1 = Double.MAX_VALUE;
-            double contribution2 = Double.MAX_VALUE;
-
-            if (hvContribution.getAttribute(solution1) != null) {
-                contribution1 = hvContribution.getAttribute(solution1);
-            }
-
-            if (hvContribution.getAttribute(solution2) != null) {
-                contribution2 = hvContribution.getAttribute(solution2);
-            }
+            double contribution1 = hvContribution.getDoubleAttribute(solution1, Double.MAX_VALUE);
+            double contribution2 = hvContribution.getDoubleAttribute(solution2, Double.MAX_VALUE);
 
             if (contribution1 < contribution2) {
                 result = 1;
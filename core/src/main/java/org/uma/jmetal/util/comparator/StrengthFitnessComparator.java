@@ -39,16 +39,8 @@ public class StrengthFitnessComparator<S extends Solution<?>> implements Compara
         } else if (solution2 == null) {
             result = -1;
         } else {
-            double strengthFitness1 = Double.MIN_VALUE;
-            double strengthFitness2 = Double.MIN_VALUE;
-
-            if (fitnessValue.getAttribute(solution1) != null) {
-                strengthFitness1 = fitnessValue.getAttribute(solution1);
-            }
-
-            if (fitnessValue.getAttribute(solution2) != null) {
-                strengthFitness2 = fitnessValue.getAttribute(solution2);
-            }
+            double strengthFitness1 = fitnessValue.getDoubleAttribute(solution1, Double.MIN_VALUE);
+            double strengthFitness2 = fitnessValue.getDoubleAttribute(solution2, Double.MIN_VALUE);
 
             if (strengthFitness1 < strengthFitness2) {
                 result = -1;
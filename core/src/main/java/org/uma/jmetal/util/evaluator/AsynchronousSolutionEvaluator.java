@@ -0,0 +1,61 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//
+
+package org.uma.jmetal.util.evaluator;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+import java.io.Serializable;
+
+/**
+ * Interface of the master side of an asynchronous master/worker evaluation: the master submits
+ * solutions one by one, which are evaluated by the workers, and takes them back in the order in
+ * which their evaluations complete, so that a steady-state algorithm can process each solution as
+ * soon as it is evaluated instead of waiting for a whole generation.
+ */
+public interface AsynchronousSolutionEvaluator<S extends Solution<?>> extends Serializable {
+    /**
+     * Submits a solution to be evaluated by the next idle worker. The solution must not be modified
+     * until it is returned by {@link #take()}
+     */
+    void submit(S solution, Problem<S> problem);
+
+    /**
+     * Waits for the next completed evaluation
+     *
+     * @return The evaluated solution
+     */
+    S take();
+
+    /**
+     * Returns the number of solutions submitted and not taken yet
+     */
+    int getNumberOfPendingEvaluations();
+
+    int getNumberOfWorkers();
+
+    /**
+     * Returns the number of completed evaluations
+     */
+    long getNumberOfEvaluations();
+
+    /**
+     * Returns the fraction of the time, since the first submission, in which the workers have been
+     * evaluating solutions
+     */
+    double getWorkerUtilization();
+
+    void shutdown();
+}
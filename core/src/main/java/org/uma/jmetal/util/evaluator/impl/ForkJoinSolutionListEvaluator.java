@@ -0,0 +1,164 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.parallel.ThreadLocalProblem;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class evaluating the solutions of a list in parallel on a fork-join pool. The list is split
+ * recursively into ranges until they are small enough for the number of threads, so that the idle
+ * threads steal pending ranges, and each range is evaluated sequentially; there is no task per
+ * solution. Lists smaller than a threshold are evaluated sequentially in the calling thread. The
+ * ranges are evaluated with the instance of the problem of each thread, obtained with
+ * {@link Problem#copyForThread()}.
+ *
+ * A failure evaluating a solution is thrown by {@link #evaluate(List, Problem)} as a
+ * {@link JMetalException}, instead of leaving the solution with its previous objective values.
+ */
+@SuppressWarnings("serial")
+public class ForkJoinSolutionListEvaluator<S extends Solution<?>> implements SolutionListEvaluator<S> {
+    /**
+     * Default size of the lists below which they are evaluated sequentially
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 8;
+
+    /**
+     * Number of ranges per thread in which a list is split, so that the threads are balanced
+     * when the evaluations take different times
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final int numberOfThreads;
+    private int sequentialThreshold = DEFAULT_SEQUENTIAL_THRESHOLD;
+    private transient ForkJoinPool pool;
+    private final ThreadLocalProblem<S> threadProblem = new ThreadLocalProblem<>();
+
+    /**
+     * Constructor of an evaluator using the common fork-join pool
+     */
+    public ForkJoinSolutionListEvaluator() {
+        numberOfThreads = ForkJoinPool.getCommonPoolParallelism();
+        pool = null;
+    }
+
+    /**
+     * Constructor of an evaluator with its own pool, whose threads have their own random streams
+     *
+     * @param numberOfThreads Number of threads of the pool; 0 means the number of available
+     *                        processors
+     */
+    public ForkJoinSolutionListEvaluator(int numberOfThreads) {
+        if (numberOfThreads < 0) {
+            throw new JMetalException("The number of threads is negative: " + numberOfThreads);
+        }
+
+        this.numberOfThreads = numberOfThreads == 0 ? Runtime.getRuntime().availableProcessors() : numberOfThreads;
+        pool = new ForkJoinPool(this.numberOfThreads,
+                JMetalRandom.getInstance().createStreamContext().createForkJoinWorkerThreadFactory(), null, false);
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * Sets the size of the lists below which they are evaluated sequentially
+     */
+    public ForkJoinSolutionListEvaluator<S> setSequentialThreshold(int sequentialThreshold) {
+        if (sequentialThreshold < 1) {
+            throw new JMetalException("The sequential threshold is lower than 1: " + sequentialThreshold);
+        }
+        this.sequentialThreshold = sequentialThreshold;
+        return this;
+    }
+
+    @Override
+    public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
+        if (solutionList == null) {
+            throw new JMetalException("The solution list is null");
+        }
+
+        try {
+            if ((solutionList.size() < sequentialThreshold) || (numberOfThreads <= 1)) {
+                evaluate(solutionList, problem, 0, solutionList.size());
+            } else {
+                int rangeSize = Math.max(1, solutionList.size() / (numberOfThreads * RANGES_PER_THREAD));
+                EvaluationTask task = new EvaluationTask(solutionList, problem, 0, solutionList.size(), rangeSize);
+                if (pool != null) {
+                    pool.invoke(task);
+                } else {
+                    ForkJoinPool.commonPool().invoke(task);
+                }
+            }
+        } catch (JMetalException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new JMetalException("Error evaluating solution", e);
+        }
+
+        return solutionList;
+    }
+
+    private void evaluate(List<S> solutionList, Problem<S> problem, int from, int to) {
+        if (problem instanceof ConstrainedProblem) {
+            for (int i = from; i < to; i++) {
+                problem.evaluate(solutionList.get(i));
+                ((ConstrainedProblem<S>) problem).evaluateConstraints(solutionList.get(i));
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                problem.evaluate(solutionList.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Task evaluating the solutions of a range of the list, which is split in halves while it is
+     * larger than the range size
+     */
+    private class EvaluationTask extends RecursiveAction {
+        private final List<S> solutionList;
+        private final Problem<S> problem;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        EvaluationTask(List<S> solutionList, Problem<S> problem, int from, int to, int rangeSize) {
+            this.solutionList = solutionList;
+            this.problem = problem;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > rangeSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new EvaluationTask(solutionList, problem, from, middle, rangeSize),
+                        new EvaluationTask(solutionList, problem, middle, to, rangeSize));
+            } else {
+                evaluate(solutionList, threadProblem.get(problem), from, to);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.AsynchronousSolutionEvaluator;
+import org.uma.jmetal.util.parallel.ThreadLocalProblem;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class evaluating solutions asynchronously with a pool of worker threads. The submitted solutions
+ * are queued and evaluated by the first idle worker, and {@link #take()} returns them in the order
+ * in which their evaluations complete. Each worker evaluates the solutions with its own instance of
+ * the problem, obtained with {@link Problem#copyForThread()}, and has its own random stream, derived
+ * from the generator of the thread that creates the evaluator.
+ *
+ * The evaluator measures the time spent by the workers evaluating solutions, the time spent by the
+ * master waiting in {@link #take()} and the time since the first submission, from which the
+ * utilization of the workers is computed. A failure evaluating a solution is thrown by
+ * {@link #take()} as a {@link JMetalException}.
+ */
+@SuppressWarnings("serial")
+public class MultithreadedAsynchronousSolutionEvaluator<S extends Solution<?>>
+        implements AsynchronousSolutionEvaluator<S> {
+    private final int numberOfWorkers;
+    private transient ExecutorService executor;
+    private transient CompletionService<S> completionService;
+    private final ThreadLocalProblem<S> threadProblem = new ThreadLocalProblem<>();
+
+    private int pendingEvaluations;
+    private long evaluations;
+    private final AtomicLong evaluationTime = new AtomicLong();
+    private long waitingTime;
+    private long startTime;
+    private long endTime;
+
+    /**
+     * Constructor
+     *
+     * @param numberOfWorkers Number of worker threads; 0 means the number of available processors
+     */
+    public MultithreadedAsynchronousSolutionEvaluator(int numberOfWorkers) {
+        if (numberOfWorkers < 0) {
+            throw new JMetalException("The number of workers is negative: " + numberOfWorkers);
+        }
+
+        this.numberOfWorkers = numberOfWorkers == 0 ? Runtime.getRuntime().availableProcessors() : numberOfWorkers;
+        executor = Executors.newFixedThreadPool(this.numberOfWorkers,
+                JMetalRandom.getInstance().createStreamContext().createThreadFactory("AsynchronousEvaluator", true));
+        completionService = new ExecutorCompletionService<>(executor);
+    }
+
+    @Override
+    public void submit(final S solution, final Problem<S> problem) {
+        if (solution == null) {
+            throw new JMetalException("The solution is null");
+        } else if (executor.isShutdown()) {
+            throw new JMetalException("The evaluator is shut down");
+        }
+
+        if (startTime == 0) {
+            startTime = System.nanoTime();
+        }
+
+        completionService.submit(new Callable<S>() {
+            @Override
+            public S call() {
+                long start = System.nanoTime();
+                try {
+                    Problem<S> workerProblem = threadProblem.get(problem);
+                    workerProblem.evaluate(solution);
+                    if (workerProblem instanceof ConstrainedProblem) {
+                        ((ConstrainedProblem<S>) workerProblem).evaluateConstraints(solution);
+                    }
+                } finally {
+                    evaluationTime.addAndGet(System.nanoTime() - start);
+                }
+                return solution;
+            }
+        });
+        pendingEvaluations++;
+    }
+
+    @Override
+    public S take() {
+        if (pendingEvaluations == 0) {
+            throw new JMetalException("There are no pending evaluations");
+        }
+
+        long start = System.nanoTime();
+        S solution;
+        try {
+            solution = completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMetalException("Interrupted while waiting for an evaluation", e);
+        } catch (ExecutionException e) {
+            pendingEvaluations--;
+            throw new JMetalException("Error evaluating solution", e);
+        } finally {
+            waitingTime += System.nanoTime() - start;
+        }
+
+        pendingEvaluations--;
+        evaluations++;
+
+        return solution;
+    }
+
+    @Override
+    public int getNumberOfPendingEvaluations() {
+        return pendingEvaluations;
+    }
+
+    @Override
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    @Override
+    public long getNumberOfEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the time spent by the workers evaluating solutions, in milliseconds
+     */
+    public long getEvaluationTime() {
+        return evaluationTime.get() / 1000000;
+    }
+
+    /**
+     * Returns the time spent by the master waiting for completed evaluations, in milliseconds
+     */
+    public long getWaitingTime() {
+        return waitingTime / 1000000;
+    }
+
+    /**
+     * Returns the time since the first submission until now or the shutdown, in milliseconds
+     */
+    public long getElapsedTime() {
+        return getElapsedNanoTime() / 1000000;
+    }
+
+    @Override
+    public double getWorkerUtilization() {
+        long elapsedTime = getElapsedNanoTime();
+        if (elapsedTime == 0) {
+            return 0.0;
+        }
+
+        return Math.min(1.0, (double) evaluationTime.get() / ((double) elapsedTime * numberOfWorkers));
+    }
+
+    private long getElapsedNanoTime() {
+        if (startTime == 0) {
+            return 0;
+        }
+
+        return (endTime == 0 ? System.nanoTime() : endTime) - startTime;
+    }
+
+    @Override
+    public void shutdown() {
+        if (!executor.isShutdown()) {
+            endTime = System.nanoTime();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -15,6 +15,8 @@ package org.uma.jmetal.util.experiment;
 
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 
@@ -43,6 +45,13 @@ public class Experiment<S extends Solution<?>, Result> {
 
     private int numberOfCores;
 
+    private long randomSeed;
+
+    private boolean indicatorTrackingEnabled;
+
+    private int monteCarloHypervolumeMinimumNumberOfObjectives;
+    private MonteCarloHypervolume<S> monteCarloHypervolume;
+
     /**
      * Constructor
      */
@@ -55,9 +64,13 @@ public class Experiment<S extends Solution<?>, Result> {
         this.outputParetoFrontFileName = builder.getOutputParetoFrontFileName();
         this.outputParetoSetFileName = builder.getOutputParetoSetFileName();
         this.numberOfCores = builder.getNumberOfCores();
+        this.randomSeed = builder.getRandomSeed();
         this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
         this.referenceFrontFileNames = builder.getReferenceFrontFileNames();
         this.indicatorList = builder.getIndicatorList();
+        this.indicatorTrackingEnabled = builder.isIndicatorTrackingEnabled();
+        this.monteCarloHypervolumeMinimumNumberOfObjectives = builder.getMonteCarloHypervolumeMinimumNumberOfObjectives();
+        this.monteCarloHypervolume = builder.getMonteCarloHypervolume();
     }
 
     /* Getters */
@@ -97,6 +110,14 @@ public class Experiment<S extends Solution<?>, Result> {
         return numberOfCores;
     }
 
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public boolean isIndicatorTrackingEnabled() {
+        return indicatorTrackingEnabled;
+    }
+
     public List<String> getReferenceFrontFileNames() {
         return referenceFrontFileNames;
     }
@@ -118,6 +139,26 @@ public class Experiment<S extends Solution<?>, Result> {
         return indicatorList;
     }
 
+    /**
+     * Returns the indicators to apply to the fronts of a problem: the ones of the experiment, where
+     * the hypervolume indicators are replaced by the Monte Carlo estimator of
+     * {@link ExperimentBuilder#setMonteCarloHypervolume(int, MonteCarloHypervolume)} if the problem
+     * has enough objectives. They are in the same order as {@link #getIndicatorList()}
+     */
+    public List<GenericIndicator<S>> getIndicatorList(Problem<S> problem) {
+        List<GenericIndicator<S>> problemIndicatorList = new ArrayList<>(indicatorList.size());
+        for (GenericIndicator<S> indicator : indicatorList) {
+            if ((monteCarloHypervolume != null) && (indicator instanceof Hypervolume) &&
+                    (problem.getNumberOfObjectives() >= monteCarloHypervolumeMinimumNumberOfObjectives)) {
+                problemIndicatorList.add(monteCarloHypervolume);
+            } else {
+                problemIndicatorList.add(indicator);
+            }
+        }
+
+        return problemIndicatorList;
+    }
+
     /**
      * The list of algorithms contain an algorithm instance per problem. This is not convenient for
      * calculating statistical data, because a same algorithm will appear many times.
@@ -15,7 +15,9 @@ package org.uma.jmetal.util.experiment;
 
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 
 import java.util.ArrayList;
@@ -41,12 +43,23 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
 
     private int numberOfCores;
 
+    private long randomSeed;
+
+    private boolean indicatorTrackingEnabled;
+
+    private int monteCarloHypervolumeMinimumNumberOfObjectives;
+    private MonteCarloHypervolume<S> monteCarloHypervolume;
+
     public ExperimentBuilder(String experimentName) {
         this.experimentName = experimentName;
         this.independentRuns = 1;
         this.numberOfCores = 1;
+        this.randomSeed = System.currentTimeMillis();
         this.referenceFrontFileNames = null;
         this.referenceFrontDirectory = null;
+        this.indicatorTrackingEnabled = false;
+        this.monteCarloHypervolumeMinimumNumberOfObjectives = Integer.MAX_VALUE;
+        this.monteCarloHypervolume = null;
     }
 
     public Experiment<S, Result> build() {
@@ -128,6 +141,20 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
         return this;
     }
 
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Sets the master seed from which the random stream of each run is derived, so that the runs
+     * can be reproduced regardless of the number of cores. By default it is the current time
+     */
+    public ExperimentBuilder<S, Result> setRandomSeed(long randomSeed) {
+        this.randomSeed = randomSeed;
+
+        return this;
+    }
+
     public List<String> getReferenceFrontFileNames() {
         return referenceFrontFileNames;
     }
@@ -158,4 +185,47 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
 
         return this;
     }
+
+    public boolean isIndicatorTrackingEnabled() {
+        return indicatorTrackingEnabled;
+    }
+
+    /**
+     * Sets whether the indicators of the experiment are tracked during the runs of the algorithms
+     * which are a {@link org.uma.jmetal.algorithm.SnapshotSource}, with an
+     * {@link org.uma.jmetal.util.experiment.util.IndicatorTracker} per run (false by default)
+     */
+    public ExperimentBuilder<S, Result> setIndicatorTrackingEnabled(boolean indicatorTrackingEnabled) {
+        this.indicatorTrackingEnabled = indicatorTrackingEnabled;
+
+        return this;
+    }
+
+    public int getMonteCarloHypervolumeMinimumNumberOfObjectives() {
+        return monteCarloHypervolumeMinimumNumberOfObjectives;
+    }
+
+    public MonteCarloHypervolume<S> getMonteCarloHypervolume() {
+        return monteCarloHypervolume;
+    }
+
+    /**
+     * Estimates the hypervolume with a Monte Carlo method instead of the hypervolume indicators of
+     * the experiment for the problems with at least a number of objectives, both when the indicators
+     * are tracked during the runs and when they are computed from the fronts. The values are written
+     * in the same files, as the estimator has the same name
+     *
+     * @param minimumNumberOfObjectives Minimum number of objectives of the problems to estimate
+     * @param monteCarloHypervolume     The estimator
+     */
+    public ExperimentBuilder<S, Result> setMonteCarloHypervolume(int minimumNumberOfObjectives,
+                                                               MonteCarloHypervolume<S> monteCarloHypervolume) {
+        if (monteCarloHypervolume == null) {
+            throw new JMetalException("The Monte Carlo hypervolume is null");
+        }
+        this.monteCarloHypervolumeMinimumNumberOfObjectives = minimumNumberOfObjectives;
+        this.monteCarloHypervolume = monteCarloHypervolume;
+
+        return this;
+    }
 }
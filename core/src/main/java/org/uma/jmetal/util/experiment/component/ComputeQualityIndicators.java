@@ -20,29 +20,35 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.ExperimentComponent;
+import org.uma.jmetal.util.experiment.util.IndicatorBatchEvaluator;
+import org.uma.jmetal.util.experiment.util.IndicatorTracker;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontNormalizer;
-import org.uma.jmetal.util.front.util.FrontUtils;
-import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
@@ -54,6 +60,20 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * Each FUN file is read once and evaluated by all the indicators with an
+ * {@link IndicatorBatchEvaluator}. The FUN files are evaluated in parallel by a fork-join pool with
+ * {@link Experiment#getNumberOfCores()} threads, where each task uses its own copies of the
+ * indicators, and the values are then written in order through a writer per indicator file, so the
+ * files are the same as if they were computed sequentially.
+ *
+ * The hypervolume indicators can be replaced by a {@link MonteCarloHypervolume} estimation for the
+ * problems with many objectives, where computing the exact hypervolume is too expensive; see
+ * {@link org.uma.jmetal.util.experiment.ExperimentBuilder#setMonteCarloHypervolume(int, MonteCarloHypervolume)}.
+ *
+ * The in-process data directories with an {@link IndicatorTracker#FILE_NAME} file, written when the
+ * indicators were tracked during the run, are not evaluated again: the values of their indicator files
+ * are the tracked ones, with the index of each snapshot as the ones computed from the FUN files.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result> implements ExperimentComponent {
@@ -67,134 +87,329 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result> implements
 
     @Override
     public void run() throws IOException {
-        processInProcessData(experiment);
-        for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {               //指标
-            JMetalLogger.logger.info("Computing indicator: " + indicator.getName());
+        JMetalLogger.logger.info("Computing indicators: " + getIndicatorNames());
 
-            for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {       //算法
-                String algorithmDirectory;
-                algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-                        algorithm.getTag();
+        Front[] referenceFronts = new Front[experiment.getProblemList().size()];
+        for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {
+            String referenceFrontName = experiment.getReferenceFrontDirectory() +
+                    "/" + experiment.getReferenceFrontFileNames().get(problemId);
 
+            JMetalLogger.logger.info("RF: " + referenceFrontName);
 
-                for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {      //测试问题
-                    String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getName();
+            referenceFronts[problemId] = ReferenceFrontCache.getInstance().getFront(referenceFrontName);
+        }
 
-                    String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-                    String referenceFrontName = referenceFrontDirectory +
-                            "/" + experiment.getReferenceFrontFileNames().get(problemId);
+        List<IndicatorFileGroup> fileGroups = new ArrayList<>();
+        List<EvaluationUnit> units = new ArrayList<>();
+        collectInProcessData(fileGroups, units);
+        collectFronts(fileGroups, units);
 
-                    JMetalLogger.logger.info("RF: " + referenceFrontName);
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, experiment.getNumberOfCores()));
+        try {
+            pool.invoke(new IndicatorTask(units, referenceFronts, 0, units.size()));
+        } finally {
+            pool.shutdown();
+        }
 
-                    Front referenceFront = new ArrayFront(referenceFrontName);
+        for (IndicatorFileGroup fileGroup : fileGroups) {
+            writeQualityIndicatorFiles(fileGroup);
+        }
+        findBestIndicatorFronts(experiment);
+    }
 
-                    FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-                    Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+    /**
+     * Adds the in-process fronts (FUN files of the INPROCESSDATA directories) to evaluate, or the
+     * values of the indicators if they were tracked during the run
+     */
+    private void collectInProcessData(List<IndicatorFileGroup> fileGroups, List<EvaluationUnit> units) {
+        for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
+            String algorithmDirectory;
+            algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
+                    algorithm.getTag();
+            for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {
+                String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getName();
+
+                String[] inProcessDataDirectoryList = new File(problemDirectory).list(DirectoryFileFilter.INSTANCE);
+
+                for (String fileName : inProcessDataDirectoryList) {
+                    File f = new File(problemDirectory + "/" + fileName);
+                    String[] funInProcessNameList = f.list(new RegexFileFilter("FUN[0-9]{1,}.tsv"));
+
+                    IndicatorFileGroup fileGroup = new IndicatorFileGroup(true);
+                    for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
+                        fileGroup.fileNames.add(problemDirectory + "/" + fileName + indicator.getName() + ".tsv");
+                    }
+
+                    List<EvaluationUnit> trackedUnits =
+                            readTrackedIndicators(problemId, new File(f, IndicatorTracker.FILE_NAME));
+                    if (trackedUnits != null) {
+                        fileGroup.units.addAll(trackedUnits);
+                        fileGroups.add(fileGroup);
+                        continue;
+                    }
 
-                    String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-                    resetFile(qualityIndicatorFile);
+                    for (String tsvFileName : funInProcessNameList) {
+                        int dot = tsvFileName.lastIndexOf('.');
 
-                    indicator.setReferenceParetoFront(referenceFront);
-                    for (int i = 0; i < experiment.getIndependentRuns(); i++) {                //运行的第几次实验
-                        String frontFileName = problemDirectory + "/" +
-                                experiment.getOutputParetoFrontFileName() + i + ".tsv";
-                        File file = new File(frontFileName);
-                        if (!file.exists())
-                            continue;
-                        Front front = new ArrayFront(frontFileName);
-                        Front normalizedFront = frontNormalizer.normalize(front);
-                        List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(front);
-                        Double indicatorValue = indicator.evaluate((List<S>) normalizedPopulation);         //计算评价指标值
-                        JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+                        String iter = "0";
+                        if (dot != -1) {
+                            iter = tsvFileName.substring(3, dot);
+                        }
 
-                        writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
+                        EvaluationUnit unit = new EvaluationUnit(problemId,
+                                f.getAbsolutePath() + "/" + tsvFileName, iter, true);
+                        fileGroup.units.add(unit);
+                        units.add(unit);
                     }
+                    fileGroups.add(fileGroup);
                 }
             }
         }
-        findBestIndicatorFronts(experiment);
     }
 
-    private void processInProcessData(Experiment<S, Result> experiment) throws IOException {
-        for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
-            JMetalLogger.logger.info("Computing inProcessData indicator: " + indicator.getName());
-
-            for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
-                String algorithmDirectory;
-                algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-                        algorithm.getTag();
-                for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {
-                    String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getName();
-
-                    String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
-                    String referenceFrontName = referenceFrontDirectory +
-                            "/" + experiment.getReferenceFrontFileNames().get(problemId);
-
-                    JMetalLogger.logger.info("RF: " + referenceFrontName);
-
-                    Front referenceFront = new ArrayFront(referenceFrontName);
+    /**
+     * Reads the records written by an {@link IndicatorTracker}, returning a unit with the values of
+     * the indicators per snapshot, or null if there is no such file or the indicators of the
+     * experiment were not tracked
+     */
+    private List<EvaluationUnit> readTrackedIndicators(int problemId, File file) {
+        if (!file.isFile()) {
+            return null;
+        }
 
-                    FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-                    Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new JMetalException("Error reading the tracked indicators " + file, ex);
+        }
 
-                    String[] inProcessDataDirectoryList = new File(problemDirectory).list(DirectoryFileFilter.INSTANCE);
+        List<EvaluationUnit> units = new ArrayList<>();
+        EvaluationUnit unit = null;
+        for (String line : lines) {
+            String[] fields = line.split("\t");
+            if (fields.length != 3) {
+                continue;
+            }
+            if ((unit == null) || !unit.iter.equals(fields[0])) {
+                unit = new EvaluationUnit(problemId, file.getPath(), fields[0], true);
+                unit.indicatorValues = new double[experiment.getIndicatorList().size()];
+                Arrays.fill(unit.indicatorValues, Double.NaN);
+                units.add(unit);
+            }
+            for (int i = 0; i < experiment.getIndicatorList().size(); i++) {
+                if (experiment.getIndicatorList().get(i).getName().equals(fields[1])) {
+                    unit.indicatorValues[i] = Double.parseDouble(fields[2]);
+                }
+            }
+        }
 
-                    indicator.setReferenceParetoFront(referenceFront);
+        for (EvaluationUnit trackedUnit : units) {
+            for (double value : trackedUnit.indicatorValues) {
+                if (Double.isNaN(value)) {
+                    return null;
+                }
+            }
+        }
+        return units;
+    }
 
-                    for (String fileName : inProcessDataDirectoryList) {
-                        File f = new File(problemDirectory + "/" + fileName);
-                        String[] funInProcessNameList = f.list(new RegexFileFilter("FUN[0-9]{1,}.tsv"));
+    /**
+     * Adds the fronts obtained in the independent runs (FUN files) to evaluate
+     */
+    private void collectFronts(List<IndicatorFileGroup> fileGroups, List<EvaluationUnit> units) {
+        for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {       //算法
+            String algorithmDirectory;
+            algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
+                    algorithm.getTag();
+
+            for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {      //测试问题
+                String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getName();
+
+                IndicatorFileGroup fileGroup = new IndicatorFileGroup(false);
+                for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
+                    fileGroup.fileNames.add(problemDirectory + "/" + indicator.getName());
+                }
 
-                        String qualityIndicatorFile = problemDirectory + "/" + fileName + indicator.getName() + ".tsv";
-                        resetFile(qualityIndicatorFile);
+                for (int i = 0; i < experiment.getIndependentRuns(); i++) {                //运行的第几次实验
+                    String frontFileName = problemDirectory + "/" +
+                            experiment.getOutputParetoFrontFileName() + i + ".tsv";
+                    File file = new File(frontFileName);
+                    if (!file.exists())
+                        continue;
 
-                        for (String tsvFileName : funInProcessNameList) {
-                            int dot = tsvFileName.lastIndexOf('.');
+                    EvaluationUnit unit = new EvaluationUnit(problemId, frontFileName, null, false);
+                    fileGroup.units.add(unit);
+                    units.add(unit);
+                }
+                fileGroups.add(fileGroup);
+            }
+        }
+    }
 
-                            String iter = "0";
-                            if (dot != -1) {
-                                iter = tsvFileName.substring(3, dot);
-                            }
+    /**
+     * Returns an evaluator of the indicators to apply to the fronts of a problem. The indicators are
+     * copies of the ones of the experiment, so that each task has its own ones
+     */
+    private IndicatorBatchEvaluator<S> createBatchEvaluator(int problemId, Front referenceFront)
+            throws FileNotFoundException {
+        List<GenericIndicator<S>> problemIndicators = new ArrayList<>();
+        for (GenericIndicator<S> indicator : experiment.getIndicatorList(experiment.getProblemList().get(problemId))) {
+            problemIndicators.add(IndicatorBatchEvaluator.copyIndicator(indicator));
+        }
+        IndicatorBatchEvaluator<S> batchEvaluator = new IndicatorBatchEvaluator<>(problemIndicators);
+        batchEvaluator.setReferenceParetoFront(referenceFront);
 
-                            Front front = new ArrayFront(f.getAbsolutePath() + "/" + tsvFileName);
-                            if(front.getNumberOfPoints() == 0)
-                                continue;
-                            Front normalizedFront = frontNormalizer.normalize(front);
-                            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(front);
-                            Double indicatorValue = indicator.evaluate((List<S>) normalizedPopulation);
-                            JMetalLogger.logger.info(indicator.getName() + " inProcessData : " + indicatorValue);
+        return batchEvaluator;
+    }
 
-                            writeQualityIndicatorValueToFile(indicatorValue, iter, qualityIndicatorFile);
+    /**
+     * Writes the values of the fronts of a group to its indicator files, in the order of the fronts
+     */
+    private void writeQualityIndicatorFiles(IndicatorFileGroup fileGroup) throws IOException {
+        List<BufferedWriter> writers = openQualityIndicatorFiles(fileGroup.fileNames);
+        try {
+            for (EvaluationUnit unit : fileGroup.units) {
+                if (unit.indicatorValues == null) {
+                    continue;
+                }
+                for (int j = 0; j < unit.indicatorValues.length; j++) {
+                    String indicatorName = experiment.getIndicatorList().get(j).getName();
+                    if (fileGroup.inProcessData) {
+                        JMetalLogger.logger.info(indicatorName + " inProcessData : " + unit.indicatorValues[j]);
+                        writers.get(j).write("" + unit.iter + "\t" + unit.indicatorValues[j] + "\n");
+                    } else {
+                        JMetalLogger.logger.info(indicatorName + ": " + unit.indicatorValues[j]);
+                        writers.get(j).write("" + unit.indicatorValues[j] + "\n");
+                    }
+                }
+            }
+        } finally {
+            closeQualityIndicatorFiles(writers);
+        }
+    }
 
+    private String getIndicatorNames() {
+        List<String> names = new ArrayList<>();
+        for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
+            names.add(indicator.getName());
+        }
+        return names.toString();
+    }
 
-                        }
+    /**
+     * Opens a writer for each indicator file, which is kept open while the fronts are evaluated,
+     * replacing the previous contents of the file
+     */
+    private List<BufferedWriter> openQualityIndicatorFiles(List<String> qualityIndicatorFiles) {
+        List<BufferedWriter> writers = new ArrayList<>(qualityIndicatorFiles.size());
+        try {
+            for (String qualityIndicatorFile : qualityIndicatorFiles) {
+                resetFile(qualityIndicatorFile);
+                writers.add(new DefaultFileOutputContext(qualityIndicatorFile).getFileWriter());
+            }
+        } catch (JMetalException ex) {
+            closeQualityIndicatorFiles(writers);
+            throw ex;
+        }
+        return writers;
+    }
 
-                    }
+    private void closeQualityIndicatorFiles(List<BufferedWriter> writers) {
+        JMetalException exception = null;
+        for (BufferedWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException ex) {
+                if (exception == null) {
+                    exception = new JMetalException("Error writing indicator file" + ex);
                 }
             }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
 
+    /**
+     * A front to evaluate and the values of the indicators, once computed
+     */
+    private static class EvaluationUnit {
+        private final int problemId;
+        private final String frontFileName;
+        private final String iter;
+        private final boolean skipEmptyFront;
+        private double[] indicatorValues;
+
+        EvaluationUnit(int problemId, String frontFileName, String iter, boolean skipEmptyFront) {
+            this.problemId = problemId;
+            this.frontFileName = frontFileName;
+            this.iter = iter;
+            this.skipEmptyFront = skipEmptyFront;
         }
     }
 
-    private void writeQualityIndicatorValueToFile(Double indicatorValue, String iter, String qualityIndicatorFile) {
-        FileWriter os;
-        try {
-            os = new FileWriter(qualityIndicatorFile, true);
-            os.write("" + iter + "\t" + indicatorValue + "\n");
-            os.close();
-        } catch (IOException ex) {
-            throw new JMetalException("Error writing indicator file" + ex);
+    /**
+     * The indicator files of an algorithm and a problem (or of an in-process data directory) and the
+     * fronts whose values are written in them
+     */
+    private static class IndicatorFileGroup {
+        private final boolean inProcessData;
+        private final List<String> fileNames = new ArrayList<>();
+        private final List<EvaluationUnit> units = new ArrayList<>();
+
+        IndicatorFileGroup(boolean inProcessData) {
+            this.inProcessData = inProcessData;
         }
     }
 
-    private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
-        FileWriter os;
-        try {
-            os = new FileWriter(qualityIndicatorFile, true);
-            os.write("" + indicatorValue + "\n");
-            os.close();
-        } catch (IOException ex) {
-            throw new JMetalException("Error writing indicator file" + ex);
+    /**
+     * Task evaluating a range of fronts, which is split in halves until it is small enough so that
+     * the idle threads of the pool can steal the pending halves
+     */
+    @SuppressWarnings("serial")
+    private class IndicatorTask extends RecursiveAction {
+        private static final int UNITS_PER_TASK = 4;
+
+        private final List<EvaluationUnit> units;
+        private final Front[] referenceFronts;
+        private final int from;
+        private final int to;
+
+        IndicatorTask(List<EvaluationUnit> units, Front[] referenceFronts, int from, int to) {
+            this.units = units;
+            this.referenceFronts = referenceFronts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > UNITS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new IndicatorTask(units, referenceFronts, from, middle),
+                        new IndicatorTask(units, referenceFronts, middle, to));
+                return;
+            }
+
+            try {
+                IndicatorBatchEvaluator<S> batchEvaluator = null;
+                int batchProblemId = -1;
+                for (int i = from; i < to; i++) {
+                    EvaluationUnit unit = units.get(i);
+                    Front front = new ArrayFront(unit.frontFileName);
+                    if (unit.skipEmptyFront && (front.getNumberOfPoints() == 0)) {
+                        continue;
+                    }
+                    if (unit.problemId != batchProblemId) {
+                        batchEvaluator = createBatchEvaluator(unit.problemId, referenceFronts[unit.problemId]);
+                        batchProblemId = unit.problemId;
+                    }
+                    unit.indicatorValues = batchEvaluator.evaluate(front);         //计算评价指标值
+                }
+            } catch (FileNotFoundException ex) {
+                throw new JMetalException("Error reading front file", ex);
+            }
         }
     }
 
@@ -20,10 +20,14 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.ExperimentComponent;
+import org.uma.jmetal.util.experiment.util.CompletionManifest;
 import org.uma.jmetal.util.experiment.util.MultithreadedExperimentExecutor;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
+import org.uma.jmetal.util.pseudorandom.RandomStreamContext;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class
@@ -33,17 +37,70 @@ import java.io.File;
  * <p>
  * The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per experiment, which are
  * stored in the directory {@link Experiment #getExperimentBaseDirectory()}/algorithmName/problemName.
+ * <p>
+ * Each run uses its own random stream, derived from {@link Experiment#getRandomSeed()} and the tag,
+ * problem and runId of the algorithm, so the results do not depend on the number of cores.
+ * <p>
+ * When a run finishes, a {@link CompletionManifest} MANIFESTrunId.properties is written next to its
+ * files. By default ({@link Mode#ALL}) all the runs are executed; in {@link Mode#RESUME} the runs whose
+ * manifest matches their files are skipped, so an interrupted experiment can be executed again to
+ * complete only the missing or corrupt runs. As the random stream of each run does not depend on the
+ * other runs, the results are the same as the ones of an uninterrupted execution with the same seed,
+ * which has therefore to be set explicitly: a resumed execution fails if the completed runs were
+ * executed with another seed.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result> implements ExperimentComponent {
+    /**
+     * Runs to be executed
+     */
+    public enum Mode {
+        /** All the runs are executed, even if they have been completed */
+        ALL,
+        /** The completed runs are skipped; the output files are checked by comparing their sizes */
+        RESUME,
+        /** As RESUME, but the checksums of the output files are also verified */
+        VERIFY
+    }
+
     private Experiment<S, Result> experiment;
+    private Mode mode;
+    private boolean seedMismatchAllowed;
 
     /**
      * Constructor
      */
     public ExecuteAlgorithms(Experiment<S, Result> configuration) {
         this.experiment = configuration;
+        this.mode = Mode.ALL;
+        this.seedMismatchAllowed = false;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public ExecuteAlgorithms<S, Result> setMode(Mode mode) {
+        if (mode == null) {
+            throw new JMetalException("The mode is null");
+        }
+        this.mode = mode;
+
+        return this;
+    }
+
+    public boolean isSeedMismatchAllowed() {
+        return seedMismatchAllowed;
+    }
+
+    /**
+     * Allows resuming an experiment whose completed runs were executed with another random seed
+     */
+    public ExecuteAlgorithms<S, Result> setSeedMismatchAllowed(boolean seedMismatchAllowed) {
+        this.seedMismatchAllowed = seedMismatchAllowed;
+
+        return this;
     }
 
     @Override
@@ -51,12 +108,21 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result> implements Experim
         JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
         prepareOutputDirectory();
 
+        JMetalLogger.logger.info("ExecuteAlgorithms: random seed " + experiment.getRandomSeed()
+                + ", mode " + mode);
+        List<TaggedAlgorithm<Result>> runsToExecute = selectRunsToExecute();
+        if (runsToExecute.isEmpty()) {
+            return;
+        }
+
         MultithreadedExperimentExecutor<S, Result> parallelExecutor;
 
         parallelExecutor = new MultithreadedExperimentExecutor<S, Result>(experiment.getNumberOfCores());
         parallelExecutor.start(this);
 
-        for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
+        RandomStreamContext randomStreamContext = new RandomStreamContext(experiment.getRandomSeed());
+        for (TaggedAlgorithm<Result> algorithm : runsToExecute) {
+            algorithm.setRandomStreamContext(randomStreamContext);
            // for (int i = 0; i < experiment.getIndependentRuns(); i++) {
 //            TaggedAlgorithm<Result> clonedAlgorithm = SerializationUtils.clone(algorithm) ;
             parallelExecutor.addTask(new Object[]{algorithm, algorithm.getRunId(), experiment});
@@ -66,6 +132,54 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result> implements Experim
         parallelExecutor.stop();
     }
 
+    /**
+     * Returns the runs which have to be executed according to the mode. When resuming, the runs
+     * completed with another random seed make the execution fail, unless that has been allowed with
+     * {@link #setSeedMismatchAllowed(boolean)}.
+     */
+    private List<TaggedAlgorithm<Result>> selectRunsToExecute() {
+        if (mode == Mode.ALL) {
+            return experiment.getAlgorithmList();
+        }
+
+        List<TaggedAlgorithm<Result>> runsToExecute = new ArrayList<>();
+        int corruptRuns = 0;
+        int seedMismatches = 0;
+        for (TaggedAlgorithm<Result> algorithm : experiment.getAlgorithmList()) {
+            CompletionManifest manifest = new CompletionManifest(experiment, algorithm);
+            CompletionManifest.Status status = manifest.check(mode == Mode.VERIFY);
+            if (status == CompletionManifest.Status.COMPLETE) {
+                Long recordedSeed = manifest.getRecordedRandomSeed();
+                if ((recordedSeed == null) || (recordedSeed != experiment.getRandomSeed())) {
+                    seedMismatches++;
+                }
+            } else {
+                if (status == CompletionManifest.Status.CORRUPT) {
+                    corruptRuns++;
+                    JMetalLogger.logger.warning("ExecuteAlgorithms: the output of " + algorithm.getTag()
+                            + ", problem " + algorithm.getProblem().getName() + ", run " + algorithm.getRunId()
+                            + " does not match its manifest; the run is executed again");
+                }
+                runsToExecute.add(algorithm);
+            }
+        }
+
+        int skippedRuns = experiment.getAlgorithmList().size() - runsToExecute.size();
+        if (seedMismatches > 0) {
+            String message = "ExecuteAlgorithms: " + seedMismatches + " of the completed runs were "
+                    + "executed with a random seed other than " + experiment.getRandomSeed();
+            if (!seedMismatchAllowed) {
+                throw new JMetalException(message + "; set the seed of the experiment to the one of "
+                        + "the completed runs or allow the mismatch explicitly");
+            }
+            JMetalLogger.logger.warning(message);
+        }
+        JMetalLogger.logger.info("ExecuteAlgorithms: " + skippedRuns + " completed runs skipped, "
+                + corruptRuns + " corrupt runs, " + runsToExecute.size() + " runs to execute");
+
+        return runsToExecute;
+    }
+
     private void prepareOutputDirectory() {
         if (experimentDirectoryDoesNotExist()) {
             createExperimentDirectory();
@@ -0,0 +1,38 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+import java.io.Serializable;
+
+/**
+ * Interface representing factories of the algorithms of an experimental study. A
+ * {@link TaggedAlgorithm} created with a factory builds its algorithm when it is run, with its own
+ * instance of the problem obtained with {@link Problem#copyForThread()}, so that the runs executed
+ * at the same time do not share the state of the problem.
+ *
+ * @param <S>      Encoding
+ * @param <Result> Result of the algorithm
+ */
+public interface AlgorithmFactory<S extends Solution<?>, Result> extends Serializable {
+    /**
+     * Creates an algorithm solving a problem
+     *
+     * @param problem Instance of the problem of the run
+     */
+    Algorithm<Result> createAlgorithm(Problem<S> problem);
+}
@@ -0,0 +1,252 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.experiment.Experiment;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+/**
+ * Manifest recording that a run of an algorithm of an experiment (tag + problem + runId) has been
+ * completed. It is the file MANIFESTrunId.properties of the output directory of the run, which
+ * stores the size and the CRC-32 checksum of each output file, and it is written once all of them
+ * have been written: the content is written to a temporary file which is then moved to the final
+ * name, so that the manifest is either complete or missing. A run without manifest, or whose files
+ * do not match it, has to be executed again.
+ */
+public class CompletionManifest {
+    /**
+     * Status of a run according to its manifest
+     */
+    public enum Status {
+        /** The manifest exists and the output files match it */
+        COMPLETE,
+        /** There is no manifest */
+        MISSING,
+        /** The manifest cannot be read, belongs to another run or the output files do not match it */
+        CORRUPT
+    }
+
+    private static final String TAG = "tag";
+    private static final String PROBLEM = "problem";
+    private static final String RUN = "run";
+    private static final String RANDOM_SEED = "randomSeed";
+    private static final String FILES = "files";
+    private static final String SIZE = ".size";
+    private static final String CHECKSUM = ".crc32";
+
+    private final File directory;
+    private final String tag;
+    private final String problemName;
+    private final int runId;
+
+    /**
+     * Constructor
+     *
+     * @param outputDirectoryName Directory of the output files of the run
+     * @param tag                 Tag of the algorithm
+     * @param problemName         Name of the problem
+     * @param runId               Identifier of the run
+     */
+    public CompletionManifest(String outputDirectoryName, String tag, String problemName, int runId) {
+        this.directory = new File(outputDirectoryName);
+        this.tag = tag;
+        this.problemName = problemName;
+        this.runId = runId;
+    }
+
+    /**
+     * Constructor of the manifest of a run of an experiment
+     */
+    public CompletionManifest(Experiment<?, ?> experiment, TaggedAlgorithm<?> algorithm) {
+        this(getOutputDirectoryName(experiment, algorithm), algorithm.getTag(),
+                algorithm.getProblem().getName(), algorithm.getRunId());
+    }
+
+    /**
+     * Returns the directory of the output files of the runs of an algorithm on a problem
+     */
+    public static String getOutputDirectoryName(Experiment<?, ?> experiment, TaggedAlgorithm<?> algorithm) {
+        return experiment.getExperimentBaseDirectory()
+                + "/data/"
+                + algorithm.getTag()
+                + "/"
+                + algorithm.getProblem().getName();
+    }
+
+    public File getFile() {
+        return new File(directory, "MANIFEST" + runId + ".properties");
+    }
+
+    /**
+     * Writes the manifest of the run
+     *
+     * @param randomSeed  Seed of the experiment, which is recorded for information
+     * @param outputFiles Output files of the run, which must be in the directory of the manifest
+     */
+    public void write(long randomSeed, File... outputFiles) {
+        Properties properties = new Properties();
+        properties.setProperty(TAG, tag);
+        properties.setProperty(PROBLEM, problemName);
+        properties.setProperty(RUN, String.valueOf(runId));
+        properties.setProperty(RANDOM_SEED, String.valueOf(randomSeed));
+
+        File manifestFile = getFile();
+        try {
+            StringBuilder fileNames = new StringBuilder();
+            for (File file : outputFiles) {
+                if (!file.isFile()) {
+                    throw new JMetalException("The output file " + file + " does not exist");
+                }
+                if (fileNames.length() > 0) {
+                    fileNames.append(',');
+                }
+                fileNames.append(file.getName());
+                properties.setProperty(file.getName() + SIZE, String.valueOf(file.length()));
+                properties.setProperty(file.getName() + CHECKSUM, String.valueOf(computeChecksum(file)));
+            }
+            properties.setProperty(FILES, fileNames.toString());
+
+            File temporaryFile = File.createTempFile(manifestFile.getName(), ".tmp", directory);
+            try {
+                FileOutputStream outputStream = new FileOutputStream(temporaryFile);
+                try {
+                    properties.store(outputStream, "Completed run");
+                    outputStream.getFD().sync();
+                } finally {
+                    outputStream.close();
+                }
+                move(temporaryFile, manifestFile);
+            } finally {
+                Files.deleteIfExists(temporaryFile.toPath());
+            }
+        } catch (IOException e) {
+            throw new JMetalException("Error writing the manifest " + manifestFile, e);
+        }
+    }
+
+    /**
+     * Deletes the manifest, if it exists
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(getFile().toPath());
+        } catch (IOException e) {
+            throw new JMetalException("Error deleting the manifest " + getFile(), e);
+        }
+    }
+
+    /**
+     * Checks whether the run has been completed
+     *
+     * @param verifyChecksums If true, the checksums of the output files are computed and compared
+     *                        with the ones of the manifest; otherwise only their sizes are compared
+     */
+    public Status check(boolean verifyChecksums) {
+        File manifestFile = getFile();
+        if (!manifestFile.isFile()) {
+            return Status.MISSING;
+        }
+
+        Properties properties;
+        try {
+            properties = load();
+        } catch (IOException | IllegalArgumentException e) {
+            return Status.CORRUPT;
+        }
+
+        if (!tag.equals(properties.getProperty(TAG))
+                || !problemName.equals(properties.getProperty(PROBLEM))
+                || !String.valueOf(runId).equals(properties.getProperty(RUN))
+                || properties.getProperty(FILES, "").isEmpty()) {
+            return Status.CORRUPT;
+        }
+
+        for (String fileName : properties.getProperty(FILES).split(",")) {
+            File file = new File(directory, fileName);
+            if (!file.isFile()
+                    || !String.valueOf(file.length()).equals(properties.getProperty(fileName + SIZE))) {
+                return Status.CORRUPT;
+            }
+            try {
+                if (verifyChecksums
+                        && !String.valueOf(computeChecksum(file)).equals(properties.getProperty(fileName + CHECKSUM))) {
+                    return Status.CORRUPT;
+                }
+            } catch (IOException e) {
+                return Status.CORRUPT;
+            }
+        }
+
+        return Status.COMPLETE;
+    }
+
+    /**
+     * Returns the seed of the experiment recorded in the manifest, or null if it cannot be read
+     */
+    public Long getRecordedRandomSeed() {
+        try {
+            return Long.valueOf(load().getProperty(RANDOM_SEED));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Properties load() throws IOException {
+        Properties properties = new Properties();
+        InputStream inputStream = new FileInputStream(getFile());
+        try {
+            properties.load(inputStream);
+        } finally {
+            inputStream.close();
+        }
+
+        return properties;
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long computeChecksum(File file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        } finally {
+            inputStream.close();
+        }
+
+        return checksum.getValue();
+    }
+}
@@ -13,18 +13,25 @@
 
 package org.uma.jmetal.util.experiment.util;
 
+import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
- * Class defining tasks of an algorithm execution to be computed in parallel.
+ * Class defining tasks of an algorithm execution to be computed in parallel. Once the output files
+ * of the run have been written, its {@link CompletionManifest} is written. If the indicator tracking
+ * of the experiment is enabled, an {@link IndicatorTracker} writing the file
+ * {@link IndicatorTracker#FILE_NAME} of the in-process data directory is set as the snapshot listener
+ * of the algorithm during the run.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -32,22 +39,28 @@ class EvaluationTask<S extends Solution<?>, Result> implements Callable<Object>
     private TaggedAlgorithm<Result> algorithm;
     private int id;
     private String outputDirectoryName;
+    private CompletionManifest manifest;
+    private long randomSeed;
+    private Experiment<S, ?> experiment;
+    private String indicatorTrackerFileName;
 
     /**
      * Constructor
      */
+    @SuppressWarnings("unchecked")
     public EvaluationTask(TaggedAlgorithm<Result> algorithm, int id, Experiment<?, ?> experimentData) {
         JMetalLogger.logger.info(
                 " Task: " + algorithm.getTag() + ", problem: " + algorithm.getProblem().getName() + ", run: " + id);
         this.algorithm = algorithm;
         this.id = id;
 
-        outputDirectoryName = experimentData.getExperimentBaseDirectory()
-                + "/data/"
-                + algorithm.getTag()
-                + "/"
-                + algorithm.getProblem().getName();
+        outputDirectoryName = CompletionManifest.getOutputDirectoryName(experimentData, algorithm);
+        manifest = new CompletionManifest(outputDirectoryName, algorithm.getTag(),
+                algorithm.getProblem().getName(), id);
+        randomSeed = experimentData.getRandomSeed();
+        experiment = (Experiment<S, ?>) experimentData;
         String inProcossDirectoryName = outputDirectoryName + "/INPROCESSDATA" + id;
+        indicatorTrackerFileName = inProcossDirectoryName + "/" + IndicatorTracker.FILE_NAME;
 
         File outputDirectory = new File(outputDirectoryName);
         File inProcossDirectory = new File(inProcossDirectoryName);
@@ -80,7 +93,22 @@ class EvaluationTask<S extends Solution<?>, Result> implements Callable<Object>
                         ", run: " + id +
                         ", funFile: " + funFile);
 
-        algorithm.run();
+        // A previous manifest of the run would be stale while the output files are rewritten
+        manifest.delete();
+        new File(indicatorTrackerFileName).delete();
+
+        if (experiment.isIndicatorTrackingEnabled()) {
+            IndicatorTracker<S> indicatorTracker = createIndicatorTracker();
+            algorithm.setSnapshotListener(indicatorTracker);
+            try {
+                algorithm.run();
+            } finally {
+                algorithm.setSnapshotListener(null);
+                indicatorTracker.close();
+            }
+        } else {
+            algorithm.run();
+        }
         Result population = algorithm.getResult();
 
         new SolutionListOutput((List<? extends S>) population)
@@ -89,8 +117,27 @@ class EvaluationTask<S extends Solution<?>, Result> implements Callable<Object>
                 .setFunFileOutputContext(new DefaultFileOutputContext(funFile))
                 .print();
 
+        manifest.write(randomSeed, new File(funFile), new File(varFile));
+
         return id;
     }
 
+    /**
+     * Creates the tracker of the indicators of the experiment for the problem of the algorithm, whose
+     * reference front is the one of the problem
+     */
+    private IndicatorTracker<S> createIndicatorTracker() throws FileNotFoundException {
+        String problemName = algorithm.getProblem().getName();
+        List<Problem<S>> problemList = experiment.getProblemList();
+        for (int problemId = 0; problemId < problemList.size(); problemId++) {
+            if (problemList.get(problemId).getName().equals(problemName)) {
+                String referenceFrontName = experiment.getReferenceFrontDirectory() +
+                        "/" + experiment.getReferenceFrontFileNames().get(problemId);
 
+                return new IndicatorTracker<>(experiment.getIndicatorList(problemList.get(problemId)), referenceFrontName,
+                        indicatorTrackerFileName);
+            }
+        }
+        throw new JMetalException("The problem " + problemName + " is not a problem of the experiment");
+    }
 }
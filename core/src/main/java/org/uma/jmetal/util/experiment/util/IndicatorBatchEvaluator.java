@@ -0,0 +1,107 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class applying a batch of {@link GenericIndicator}s to fronts, so that each front is read and
+ * converted to a list of solutions once and then evaluated by all the indicators. The indicators
+ * receive the same list, so they must not modify it.
+ */
+public class IndicatorBatchEvaluator<S extends Solution<?>> {
+    private final List<GenericIndicator<S>> indicatorList;
+
+    /**
+     * Constructor
+     *
+     * @param indicatorList The indicators, which are applied in the order of the list
+     */
+    public IndicatorBatchEvaluator(List<GenericIndicator<S>> indicatorList) {
+        if (indicatorList == null) {
+            throw new JMetalException("The indicator list is null");
+        } else if (indicatorList.isEmpty()) {
+            throw new JMetalException("The indicator list is empty");
+        }
+
+        this.indicatorList = new ArrayList<>(indicatorList);
+    }
+
+    public List<GenericIndicator<S>> getIndicatorList() {
+        return indicatorList;
+    }
+
+    public int getNumberOfIndicators() {
+        return indicatorList.size();
+    }
+
+    /**
+     * Sets the reference front of all the indicators
+     */
+    public void setReferenceParetoFront(Front referenceFront) throws FileNotFoundException {
+        for (GenericIndicator<S> indicator : indicatorList) {
+            indicator.setReferenceParetoFront(referenceFront);
+        }
+    }
+
+    /**
+     * Applies all the indicators to a front
+     *
+     * @param front The front
+     * @return The values of the indicators, in the order of the indicator list
+     */
+    @SuppressWarnings("unchecked")
+    public double[] evaluate(Front front) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        }
+
+        List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front);
+        double[] values = new double[indicatorList.size()];
+        for (int i = 0; i < indicatorList.size(); i++) {
+            values[i] = indicatorList.get(i).evaluate((List<S>) (List<?>) solutionList);
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns a copy of an indicator with the same configuration, made by serialization, so that
+     * each thread can have its own indicators
+     */
+    public static <S extends Solution<?>> GenericIndicator<S> copyIndicator(GenericIndicator<S> indicator) {
+        GenericIndicator<S> copy;
+        try {
+            copy = SerializationUtils.clone(indicator);
+        } catch (SerializationException ex) {
+            throw new JMetalException("The indicator " + indicator.getName() + " cannot be copied", ex);
+        }
+        // The name and the description are not serialized, as they belong to SimpleDescribedEntity
+        copy.setName(indicator.getName());
+        copy.setDescription(indicator.getDescription());
+
+        return copy;
+    }
+}
@@ -0,0 +1,173 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.experiment.util;
+
+import org.uma.jmetal.algorithm.SnapshotListener;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class tracking quality indicators during a run of an algorithm, instead of writing the VAR and
+ * FUN files of the population at the snapshot points and computing the indicators from them
+ * afterwards.
+ *
+ * At each snapshot the objective values of the solutions are copied, and the indicators are
+ * evaluated on the copy by a background thread, so the algorithm goes on meanwhile. The values are
+ * written to a single file as records with the index of the snapshot, the name of the indicator and
+ * its value, separated by tabs. The index is the one of the names of the FUN files of the snapshot,
+ * so the in-process indicator files have the same first column whether the indicators are tracked or
+ * computed from the FUN files. The indicators are copies of the given ones, and the reference front
+ * is obtained from the {@link ReferenceFrontCache}. The tracker must be closed after the run, which
+ * waits for the pending evaluations.
+ *
+ * The tracker is a {@link SnapshotListener}, so it receives the snapshots of the algorithms it is added
+ * to. In an experiment built with {@link org.uma.jmetal.util.experiment.ExperimentBuilder#setIndicatorTrackingEnabled(boolean)},
+ * a tracker writing the file {@link #FILE_NAME} of the in-process data directory is added to each run,
+ * and the file is read by {@link org.uma.jmetal.util.experiment.component.ComputeQualityIndicators}
+ * instead of the in-process fronts.
+ */
+public class IndicatorTracker<S extends Solution<?>> implements SnapshotListener<S>, Closeable {
+    /**
+     * Name of the file of the indicator values in the in-process data directory of a run
+     */
+    public static final String FILE_NAME = "INDICATORS.tsv";
+
+    private final IndicatorBatchEvaluator<S> batchEvaluator;
+    private final BufferedWriter writer;
+    private final ExecutorService executor;
+    private volatile Exception failure;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param indicatorList          The indicators to track
+     * @param referenceFrontFileName Name of the resource or file of the reference front
+     * @param outputFileName         Name of the file of the indicator values, which is replaced
+     * @throws FileNotFoundException If there is no such reference front
+     */
+    public IndicatorTracker(List<GenericIndicator<S>> indicatorList, String referenceFrontFileName,
+                            String outputFileName) throws FileNotFoundException {
+        if (indicatorList == null) {
+            throw new JMetalException("The indicator list is null");
+        }
+
+        List<GenericIndicator<S>> indicatorCopies = new ArrayList<>(indicatorList.size());
+        for (GenericIndicator<S> indicator : indicatorList) {
+            indicatorCopies.add(IndicatorBatchEvaluator.copyIndicator(indicator));
+        }
+        batchEvaluator = new IndicatorBatchEvaluator<>(indicatorCopies);
+        batchEvaluator.setReferenceParetoFront(ReferenceFrontCache.getInstance().getFront(referenceFrontFileName));
+
+        writer = new DefaultFileOutputContext(outputFileName).getFileWriter();
+        executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "IndicatorTracker");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Takes a snapshot of a list of solutions, whose indicators are evaluated in the background
+     *
+     * @param snapshotIndex Index of the snapshot
+     * @param solutionList  The solutions, which can be modified once this method returns
+     */
+    public synchronized void track(final int snapshotIndex, List<? extends S> solutionList) {
+        if (closed) {
+            throw new JMetalException("The indicator tracker is closed");
+        } else if (solutionList == null) {
+            throw new JMetalException("The solution list is null");
+        } else if (solutionList.isEmpty()) {
+            return;
+        }
+
+        final Front front = new ArrayFront(solutionList);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (failure != null) {
+                    return;
+                }
+                try {
+                    double[] values = batchEvaluator.evaluate(front);
+                    for (int i = 0; i < values.length; i++) {
+                        writer.write(snapshotIndex + "\t" + batchEvaluator.getIndicatorList().get(i).getName() +
+                                "\t" + values[i] + "\n");
+                    }
+                } catch (Exception ex) {
+                    failure = ex;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void snapshotTaken(int evaluations, int snapshotIndex, List<S> solutionList) {
+        track(snapshotIndex, solutionList);
+    }
+
+    /**
+     * Waits for the pending evaluations and closes the file of the indicator values
+     *
+     * @throws JMetalException If an evaluation or writing the file failed
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            failure = ex;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            if (failure == null) {
+                failure = ex;
+            }
+        }
+
+        if (failure != null) {
+            throw new JMetalException("Error tracking the indicators", failure);
+        }
+    }
+}
@@ -14,7 +14,13 @@
 package org.uma.jmetal.util.experiment.util;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.SnapshotListener;
+import org.uma.jmetal.algorithm.SnapshotSource;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.RandomStreamContext;
 
 /**
  * This class is a decorator for {@link Algorithm} objects that will be used in an experimental study.
@@ -23,15 +29,26 @@ import org.uma.jmetal.problem.Problem;
  * - tag: used to indicate the name of the algorithm in the experiment. By the default it is assigned the
  * value of {@link Algorithm #getName()}, but it can be set to another value if a same algorithm is configured
  * with different settings in the experiment.
+ * If a {@link RandomStreamContext} is set, the algorithm runs with its own random stream, whose
+ * identifier is derived from the tag, the name of the problem and the runId.
+ * If the {@link TaggedAlgorithm} is created with an {@link AlgorithmFactory}, the algorithm is built
+ * each time it is run with a new instance of the problem obtained with {@link Problem#copyForThread()},
+ * so that the runs executed at the same time do not share the mutable state of the problem; until
+ * then, {@link #getName()} and {@link #getDescription()} return the tag.
+ * If a {@link SnapshotListener} is set, it is added to the algorithm while it runs, provided that the
+ * algorithm is a {@link SnapshotSource}.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class TaggedAlgorithm<Result> implements Algorithm<Result> {
     private static final long serialVersionUID = -4029867770331269510L;
     private Algorithm<Result> algorithm;
+    private AlgorithmFactory<?, Result> algorithmFactory;
     private Problem<?> problem;
     private String tag;
     private int runId;
+    private RandomStreamContext randomStreamContext;
+    private transient SnapshotListener<?> snapshotListener;
 
     public TaggedAlgorithm(Algorithm<Result> algorithm, Problem<?> problem, int runId) {
         this(algorithm, algorithm.getName(), problem, runId);
@@ -44,9 +61,63 @@ public class TaggedAlgorithm<Result> implements Algorithm<Result> {
         this.runId = runId;
     }
 
+    public <S extends Solution<?>> TaggedAlgorithm(AlgorithmFactory<S, Result> algorithmFactory, String tag,
+                                                   Problem<S> problem, int runId) {
+        this.algorithmFactory = algorithmFactory;
+        this.tag = tag;
+        this.problem = problem;
+        this.runId = runId;
+    }
+
     @Override
     public void run() {
-        algorithm.run();
+        if (randomStreamContext == null) {
+            runAlgorithm();
+        } else {
+            PseudoRandomGenerator previousRandomGenerator =
+                    JMetalRandom.bindThreadRandomGenerator(randomStreamContext.createStream(getRandomStreamId()));
+            try {
+                runAlgorithm();
+            } finally {
+                JMetalRandom.bindThreadRandomGenerator(previousRandomGenerator);
+            }
+        }
+    }
+
+    private void runAlgorithm() {
+        if (algorithmFactory != null) {
+            algorithm = createAlgorithm(algorithmFactory, problem);
+        }
+
+        if ((snapshotListener != null) && (algorithm instanceof SnapshotSource)) {
+            SnapshotSource<?> snapshotSource = (SnapshotSource<?>) algorithm;
+            addSnapshotListener(snapshotSource, snapshotListener);
+            try {
+                algorithm.run();
+            } finally {
+                removeSnapshotListener(snapshotSource, snapshotListener);
+            }
+        } else {
+            algorithm.run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Solution<?>> void addSnapshotListener(SnapshotSource<S> snapshotSource,
+                                                                    SnapshotListener<?> listener) {
+        snapshotSource.addSnapshotListener((SnapshotListener<S>) listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Solution<?>> void removeSnapshotListener(SnapshotSource<S> snapshotSource,
+                                                                       SnapshotListener<?> listener) {
+        snapshotSource.removeSnapshotListener((SnapshotListener<S>) listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Solution<?>, Result> Algorithm<Result> createAlgorithm(
+            AlgorithmFactory<S, Result> algorithmFactory, Problem<?> problem) {
+        return algorithmFactory.createAlgorithm((Problem<S>) problem.copyForThread());
     }
 
     @Override
@@ -56,12 +127,12 @@ public class TaggedAlgorithm<Result> implements Algorithm<Result> {
 
     @Override
     public String getName() {
-        return algorithm.getName();
+        return algorithm == null ? tag : algorithm.getName();
     }
 
     @Override
     public String getDescription() {
-        return algorithm.getDescription();
+        return algorithm == null ? tag : algorithm.getDescription();
     }
 
     public String getTag() {
@@ -76,10 +147,41 @@ public class TaggedAlgorithm<Result> implements Algorithm<Result> {
         return runId;
     }
 
+    public RandomStreamContext getRandomStreamContext() {
+        return randomStreamContext;
+    }
+
+    public void setRandomStreamContext(RandomStreamContext randomStreamContext) {
+        this.randomStreamContext = randomStreamContext;
+    }
+
+    public SnapshotListener<?> getSnapshotListener() {
+        return snapshotListener;
+    }
+
+    /**
+     * Sets a listener of the snapshots of the solutions taken by the algorithm during its next runs
+     */
+    public void setSnapshotListener(SnapshotListener<?> snapshotListener) {
+        this.snapshotListener = snapshotListener;
+    }
+
+    /**
+     * Returns the identifier of the random stream of the run, which depends on the tag, the name of
+     * the problem and the runId but not on the order of the algorithms in the experiment
+     */
+    public long getRandomStreamId() {
+        return ((long) (tag + "/" + problem.getName()).hashCode() << 32) | (runId & 0xffffffffL);
+    }
+
     public Problem<?> getProblem() {
         return problem;
     }
 
+    public AlgorithmFactory<?, Result> getAlgorithmFactory() {
+        return algorithmFactory;
+    }
+
     public void setProblem(Problem<?> problem) {
         this.problem = problem;
     }
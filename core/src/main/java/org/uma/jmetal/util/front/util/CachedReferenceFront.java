@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.front.Front;
+
+/**
+ * A reference front kept by {@link ReferenceFrontCache} with the data derived from it: its bounds
+ * and normalizer are computed when it is read, and its normalized copy and the indexes of both are
+ * computed the first time they are requested. All of them are shared, so they must not be modified.
+ */
+public class CachedReferenceFront {
+    private final Front front;
+    private final long lastModified;
+    private final long length;
+    private final double[] minimumValues;
+    private final double[] maximumValues;
+    private final FrontNormalizer frontNormalizer;
+
+    private Front normalizedFront;
+    private FrontIndex frontIndex;
+    private FrontIndex normalizedFrontIndex;
+
+    CachedReferenceFront(Front front, long lastModified, long length) {
+        this.front = front;
+        this.lastModified = lastModified;
+        this.length = length;
+        if (front.getNumberOfPoints() > 0) {
+            minimumValues = FrontUtils.getMinimumValues(front);
+            maximumValues = FrontUtils.getMaximumValues(front);
+            frontNormalizer = new FrontNormalizer(minimumValues, maximumValues);
+        } else {
+            minimumValues = null;
+            maximumValues = null;
+            frontNormalizer = null;
+        }
+    }
+
+    boolean isFrom(long lastModified, long length) {
+        return (this.lastModified == lastModified) && (this.length == length);
+    }
+
+    public Front getFront() {
+        return front;
+    }
+
+    public double[] getMinimumValues() {
+        return minimumValues == null ? null : minimumValues.clone();
+    }
+
+    public double[] getMaximumValues() {
+        return maximumValues == null ? null : maximumValues.clone();
+    }
+
+    /**
+     * Returns the normalizer to the bounds of the front, or null if the front is empty
+     */
+    public FrontNormalizer getFrontNormalizer() {
+        return frontNormalizer;
+    }
+
+    /**
+     * Returns the reference point of the hypervolume for the front: the maximum value of each
+     * objective plus an offset
+     */
+    public double[] getHypervolumeReferencePoint(double offset) {
+        double[] referencePoint = getMaximumValues();
+        for (int i = 0; i < referencePoint.length; i++) {
+            referencePoint[i] += offset;
+        }
+        return referencePoint;
+    }
+
+    public synchronized Front getNormalizedFront() {
+        if (normalizedFront == null) {
+            normalizedFront = frontNormalizer.normalize(front);
+        }
+        return normalizedFront;
+    }
+
+    public synchronized FrontIndex getFrontIndex() {
+        if (frontIndex == null) {
+            frontIndex = new FrontIndex(front);
+        }
+        return frontIndex;
+    }
+
+    public synchronized FrontIndex getNormalizedFrontIndex() {
+        if (normalizedFrontIndex == null) {
+            normalizedFrontIndex = new FrontIndex(getNormalizedFront());
+        }
+        return normalizedFrontIndex;
+    }
+
+    /**
+     * Number of values kept for the front: the objective values of the points of the front and of
+     * the normalized copy and indexes computed so far
+     */
+    synchronized long getNumberOfValues() {
+        long values = (long) front.getNumberOfPoints() * front.getPointDimensions();
+        long numberOfValues = values;
+        if (normalizedFront != null) {
+            numberOfValues += values;
+        }
+        if (frontIndex != null) {
+            numberOfValues += values;
+        }
+        if (normalizedFrontIndex != null) {
+            numberOfValues += values;
+        }
+        return numberOfValues;
+    }
+}
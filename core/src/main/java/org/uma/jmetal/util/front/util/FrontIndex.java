@@ -0,0 +1,333 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.point.Point;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Index of the points of a front for exact nearest point queries, which replace the linear scans of
+ * {@link FrontUtils#distanceToClosestPoint(Point, Front)} and
+ * {@link FrontUtils#distanceToNearestPoint(Point, Front)} when the front is large.
+ *
+ * It is a KD-tree built once from a copy of the values of the points: each node splits its points
+ * at the median of the dimension where their bounding box is widest, and the leaves hold a few
+ * points stored contiguously in a flat array. A query visits first the child whose bounding box is
+ * closer and skips the nodes whose bounding box is not closer than the best distance found, which
+ * is valid for the Euclidean distance and for the distance of IGD+
+ * ({@link org.uma.jmetal.util.point.util.distance.DominanceDistance}). Queries do not modify the
+ * index, so it can be shared by several threads.
+ */
+@SuppressWarnings("serial")
+public class FrontIndex implements Serializable {
+    /**
+     * Number of points of a front from which the distance-based indicators use an index
+     */
+    public static final int MINIMUM_FRONT_SIZE = 256;
+
+    private static final int LEAF_SIZE = 8;
+    private static final int NONE = -1;
+
+    private static final int EUCLIDEAN = 0;
+    private static final int DOMINANCE = 1;
+
+    private final int numberOfPoints;
+    private final int numberOfDimensions;
+    private final double[] points;
+
+    private int numberOfNodes;
+    private int[] first;
+    private int[] last;
+    private int[] lowerChild;
+    private int[] upperChild;
+    private double[] lowerBounds;
+    private double[] upperBounds;
+
+    /**
+     * Constructor
+     *
+     * @param front Front to index; later changes to it are not reflected in the index
+     */
+    public FrontIndex(Front front) {
+        this(FrontUtils.convertFrontToPackedArray(front), front.getPoint(0).getNumberOfDimensions());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param values             Values of the points to index, packed point by point as in a
+     *                           {@link org.uma.jmetal.util.PopulationMatrix}; later changes to them
+     *                           are not reflected in the index
+     * @param numberOfDimensions Number of dimensions of the points
+     */
+    public FrontIndex(double[] values, int numberOfDimensions) {
+        if (values == null) {
+            throw new JMetalException("The values are null");
+        } else if ((numberOfDimensions <= 0) || (values.length % numberOfDimensions != 0)) {
+            throw new JMetalException("The number of values (" + values.length + ") is not a multiple " +
+                    "of the number of dimensions (" + numberOfDimensions + ")");
+        } else if (values.length == 0) {
+            throw new JMetalException("The front is empty");
+        }
+
+        this.numberOfPoints = values.length / numberOfDimensions;
+        this.numberOfDimensions = numberOfDimensions;
+
+        int[] order = new int[numberOfPoints];
+        for (int j = 0; j < numberOfPoints; j++) {
+            order[j] = j;
+        }
+
+        int capacity = 2 * (numberOfPoints / LEAF_SIZE) + 1;
+        first = new int[capacity];
+        last = new int[capacity];
+        lowerChild = new int[capacity];
+        upperChild = new int[capacity];
+        lowerBounds = new double[capacity * numberOfDimensions];
+        upperBounds = new double[capacity * numberOfDimensions];
+        build(values, order, 0, numberOfPoints);
+
+        points = new double[numberOfPoints * numberOfDimensions];
+        for (int j = 0; j < numberOfPoints; j++) {
+            System.arraycopy(values, order[j] * numberOfDimensions, points, j * numberOfDimensions, numberOfDimensions);
+        }
+    }
+
+    public int getNumberOfPoints() {
+        return numberOfPoints;
+    }
+
+    public int getNumberOfDimensions() {
+        return numberOfDimensions;
+    }
+
+    /**
+     * Gets the Euclidean distance between a point and the closest one of the index
+     *
+     * @param point The point
+     * @return The minimum distance between the point and the indexed points
+     */
+    public double distanceToClosestPoint(Point point) {
+        return Math.sqrt(search(0, getValues(point), EUCLIDEAN, false, Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Gets the Euclidean distance between a point and the nearest one of the index, excluding the
+     * points at distance 0, as {@link FrontUtils#distanceToNearestPoint(Point, Front)} does
+     *
+     * @param point The point
+     * @return The minimum positive distance, or {@link Double#MAX_VALUE} if there is none
+     */
+    public double distanceToNearestPoint(Point point) {
+        double squaredDistance = search(0, getValues(point), EUCLIDEAN, true, Double.POSITIVE_INFINITY);
+        return squaredDistance == Double.POSITIVE_INFINITY ? Double.MAX_VALUE : Math.sqrt(squaredDistance);
+    }
+
+    /**
+     * Gets the distance of IGD+ between a point (of a reference front) and the closest one of the
+     * index: only the objectives in which the indexed point is worse than the point count
+     *
+     * @param point The point
+     * @return The minimum distance between the point and the indexed points
+     */
+    public double dominanceDistanceToClosestPoint(Point point) {
+        return Math.sqrt(search(0, getValues(point), DOMINANCE, false, Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Gets the Euclidean distance between a point, packed in an array, and the closest one of the
+     * index
+     *
+     * @param values The array containing the values of the point
+     * @param offset The position of the first value of the point in the array
+     * @return The minimum distance between the point and the indexed points
+     */
+    public double distanceToClosestPoint(double[] values, int offset) {
+        return Math.sqrt(search(0, getValues(values, offset), EUCLIDEAN, false, Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Gets the distance of IGD+ between a point (of a reference front), packed in an array, and the
+     * closest one of the index
+     *
+     * @param values The array containing the values of the point
+     * @param offset The position of the first value of the point in the array
+     * @return The minimum distance between the point and the indexed points
+     */
+    public double dominanceDistanceToClosestPoint(double[] values, int offset) {
+        return Math.sqrt(search(0, getValues(values, offset), DOMINANCE, false, Double.POSITIVE_INFINITY));
+    }
+
+    private double[] getValues(double[] values, int offset) {
+        if (values == null) {
+            throw new JMetalException("The point is null");
+        } else if ((offset < 0) || (offset + numberOfDimensions > values.length)) {
+            throw new JMetalException("The point at " + offset + " is outside the array of " +
+                    values.length + " values");
+        }
+
+        return Arrays.copyOfRange(values, offset, offset + numberOfDimensions);
+    }
+
+    private double[] getValues(Point point) {
+        if (point == null) {
+            throw new JMetalException("The point is null");
+        } else if (point.getNumberOfDimensions() != numberOfDimensions) {
+            throw new JMetalException("The dimensions of the points are different: "
+                    + point.getNumberOfDimensions() + ", " + numberOfDimensions);
+        }
+
+        double[] values = new double[numberOfDimensions];
+        for (int i = 0; i < numberOfDimensions; i++) {
+            values[i] = point.getDimensionValue(i);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the lowest squared distance between the query and the points of a node if it is lower
+     * than the best one found so far, or the best one otherwise
+     */
+    private double search(int node, double[] query, int metric, boolean positive, double best) {
+        if (boxDistance(node, query, metric) >= best) {
+            return best;
+        }
+
+        if (lowerChild[node] == NONE) {
+            for (int j = first[node]; j < last[node]; j++) {
+                int offset = j * numberOfDimensions;
+                double distance = 0.0;
+                for (int i = 0; (i < numberOfDimensions) && (distance < best); i++) {
+                    double difference = metric == EUCLIDEAN ?
+                            points[offset + i] - query[i] : Math.max(points[offset + i] - query[i], 0.0);
+                    distance += difference * difference;
+                }
+                if ((distance < best) && (!positive || (distance > 0.0))) {
+                    best = distance;
+                }
+            }
+            return best;
+        }
+
+        int lower = lowerChild[node];
+        int upper = upperChild[node];
+        if (boxDistance(upper, query, metric) < boxDistance(lower, query, metric)) {
+            best = search(upper, query, metric, positive, best);
+            return search(lower, query, metric, positive, best);
+        }
+        best = search(lower, query, metric, positive, best);
+        return search(upper, query, metric, positive, best);
+    }
+
+    /**
+     * Lower bound of the squared distance between the query and the points of a node
+     */
+    private double boxDistance(int node, double[] query, int metric) {
+        int offset = node * numberOfDimensions;
+        double distance = 0.0;
+        for (int i = 0; i < numberOfDimensions; i++) {
+            double difference = Math.max(lowerBounds[offset + i] - query[i], 0.0);
+            if (metric == EUCLIDEAN) {
+                difference = Math.max(difference, query[i] - upperBounds[offset + i]);
+            }
+            distance += difference * difference;
+        }
+        return distance;
+    }
+
+    /**
+     * Builds the subtree of the points of the order array in [from, to)
+     *
+     * @return The index of the root node of the subtree
+     */
+    private int build(double[] values, int[] order, int from, int to) {
+        int node = newNode();
+        first[node] = from;
+        last[node] = to;
+        lowerChild[node] = NONE;
+        upperChild[node] = NONE;
+
+        int offset = node * numberOfDimensions;
+        for (int i = 0; i < numberOfDimensions; i++) {
+            lowerBounds[offset + i] = Double.POSITIVE_INFINITY;
+            upperBounds[offset + i] = Double.NEGATIVE_INFINITY;
+        }
+        for (int j = from; j < to; j++) {
+            int row = order[j] * numberOfDimensions;
+            for (int i = 0; i < numberOfDimensions; i++) {
+                lowerBounds[offset + i] = Math.min(lowerBounds[offset + i], values[row + i]);
+                upperBounds[offset + i] = Math.max(upperBounds[offset + i], values[row + i]);
+            }
+        }
+
+        int splitDimension = 0;
+        for (int i = 1; i < numberOfDimensions; i++) {
+            if (upperBounds[offset + i] - lowerBounds[offset + i] >
+                    upperBounds[offset + splitDimension] - lowerBounds[offset + splitDimension]) {
+                splitDimension = i;
+            }
+        }
+
+        if ((to - from > LEAF_SIZE) &&
+                (upperBounds[offset + splitDimension] > lowerBounds[offset + splitDimension])) {
+            int middle = (from + to) >>> 1;
+            select(values, order, from, to - 1, middle, splitDimension);
+            int lower = build(values, order, from, middle);
+            int upper = build(values, order, middle, to);
+            lowerChild[node] = lower;
+            upperChild[node] = upper;
+        }
+
+        return node;
+    }
+
+    private int newNode() {
+        if (numberOfNodes == first.length) {
+            int capacity = 2 * first.length;
+            first = Arrays.copyOf(first, capacity);
+            last = Arrays.copyOf(last, capacity);
+            lowerChild = Arrays.copyOf(lowerChild, capacity);
+            upperChild = Arrays.copyOf(upperChild, capacity);
+            lowerBounds = Arrays.copyOf(lowerBounds, capacity * numberOfDimensions);
+            upperBounds = Arrays.copyOf(upperBounds, capacity * numberOfDimensions);
+        }
+        return numberOfNodes++;
+    }
+
+    /**
+     * Reorders the points of the order array in [left, right] so that the one at position k is
+     * the one that would be there if they were sorted by a dimension, the ones before it are not
+     * greater and the ones after it are not lower (Hoare's selection)
+     */
+    private void select(double[] values, int[] order, int left, int right, int k, int dimension) {
+        while (right > left) {
+            double pivot = values[order[(left + right) >>> 1] * numberOfDimensions + dimension];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[order[i] * numberOfDimensions + dimension] < pivot) {
+                    i++;
+                }
+                while (values[order[j] * numberOfDimensions + dimension] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+}
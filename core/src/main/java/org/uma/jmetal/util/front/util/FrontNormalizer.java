@@ -15,6 +15,7 @@ package org.uma.jmetal.util.front.util;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
 
@@ -56,6 +57,21 @@ public class FrontNormalizer {
         minimumValues = FrontUtils.getMinimumValues(referenceFront);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param referenceFront
+     */
+    public FrontNormalizer(PopulationMatrix<?> referenceFront) {
+        if (referenceFront == null) {
+            throw new JMetalException("The reference front is null");
+        } else if (referenceFront.getNumberOfSolutions() == 0) {
+            throw new JMetalException("The front is empty");
+        }
+        maximumValues = referenceFront.getMaximumValues();
+        minimumValues = referenceFront.getMinimumValues();
+    }
+
     /**
      * Constructor
      *
@@ -106,6 +122,45 @@ public class FrontNormalizer {
         return getNormalizedFront(front, maximumValues, minimumValues);
     }
 
+    /**
+     * Returns the normalized objective values of a {@link PopulationMatrix}, packed row by row as
+     * in the matrix
+     *
+     * @param populationMatrix
+     * @return
+     */
+    public double[] normalize(PopulationMatrix<?> populationMatrix) {
+        if (populationMatrix == null) {
+            throw new JMetalException("The front is null");
+        } else if (populationMatrix.getNumberOfSolutions() == 0) {
+            throw new JMetalException("The front is empty");
+        } else if (populationMatrix.getNumberOfObjectives() != maximumValues.length) {
+            throw new JMetalException("The length of the point dimensions ("
+                    + populationMatrix.getNumberOfObjectives() + ") "
+                    + "is different from the length of the maximum array (" + maximumValues.length + ")");
+        }
+
+        int numberOfPointDimensions = populationMatrix.getNumberOfObjectives();
+        for (int j = 0; j < numberOfPointDimensions; j++) {
+            if ((maximumValues[j] - minimumValues[j]) == 0) {
+                throw new JMetalException("Maximum and minimum values of index " + j + " "
+                        + "are the same: " + maximumValues[j]);
+            }
+        }
+
+        double[] objectives = populationMatrix.getObjectives();
+        double[] normalizedObjectives = new double[objectives.length];
+        for (int i = 0; i < populationMatrix.getNumberOfSolutions(); i++) {
+            int offset = populationMatrix.getOffset(i);
+            for (int j = 0; j < numberOfPointDimensions; j++) {
+                normalizedObjectives[offset + j] = (objectives[offset + j] - minimumValues[j]) /
+                        (maximumValues[j] - minimumValues[j]);
+            }
+        }
+
+        return normalizedObjectives;
+    }
+
     private Front getNormalizedFront(Front front, double[] maximumValues, double[] minimumValues) {
         if (front.getNumberOfPoints() == 0) {
             throw new JMetalException("The front is empty");
@@ -22,6 +22,7 @@ import org.uma.jmetal.util.point.util.distance.EuclideanDistance;
 import org.uma.jmetal.util.point.util.distance.PointDistance;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -30,6 +31,7 @@ import java.util.List;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class FrontUtils {
+    private static final PointDistance EUCLIDEAN_DISTANCE = new EuclideanDistance();
 
     /**
      * Gets the maximum values for each objectives in a front
@@ -102,7 +104,7 @@ public class FrontUtils {
      * @return The minimum distance between the point and the front
      */
     public static double distanceToNearestPoint(Point point, Front front) {
-        return distanceToNearestPoint(point, front, new EuclideanDistance());
+        return distanceToNearestPoint(point, front, EUCLIDEAN_DISTANCE);
     }
 
     /**
@@ -144,7 +146,7 @@ public class FrontUtils {
      * @return The minimum distance between the point and the front
      */
     public static double distanceToClosestPoint(Point point, Front front) {
-        return distanceToClosestPoint(point, front, new EuclideanDistance());
+        return distanceToClosestPoint(point, front, EUCLIDEAN_DISTANCE);
     }
 
     /**
@@ -176,6 +178,124 @@ public class FrontUtils {
         return minDistance;
     }
 
+    /**
+     * Gets the Euclidean distance between a point and the closest one of a front, both packed point
+     * by point in arrays as in a {@link org.uma.jmetal.util.PopulationMatrix}
+     *
+     * @param values             The array containing the values of the point
+     * @param offset             The position of the first value of the point in the array
+     * @param front              The packed values of the points of the front
+     * @param numberOfDimensions The number of dimensions of the points
+     * @return The minimum distance between the point and the front
+     */
+    public static double distanceToClosestPoint(double[] values, int offset, double[] front, int numberOfDimensions) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        } else if (front.length == 0) {
+            throw new JMetalException("The front is empty");
+        } else if (values == null) {
+            throw new JMetalException("The point is null");
+        }
+
+        double minDistance = Double.POSITIVE_INFINITY;
+        for (int row = 0; row < front.length; row += numberOfDimensions) {
+            double distance = 0.0;
+            for (int i = 0; i < numberOfDimensions; i++) {
+                distance += Math.pow(values[offset + i] - front[row + i], 2.0);
+            }
+            if (distance < minDistance) {
+                minDistance = distance;
+            }
+        }
+
+        return Math.sqrt(minDistance);
+    }
+
+    /**
+     * Gets the distance of IGD+ ({@link org.uma.jmetal.util.point.util.distance.DominanceDistance})
+     * between a point of a reference front and the closest one of a front, both packed point by
+     * point in arrays as in a {@link org.uma.jmetal.util.PopulationMatrix}
+     *
+     * @param values             The array containing the values of the point of the reference front
+     * @param offset             The position of the first value of the point in the array
+     * @param front              The packed values of the points of the front
+     * @param numberOfDimensions The number of dimensions of the points
+     * @return The minimum distance between the point and the front
+     */
+    public static double dominanceDistanceToClosestPoint(double[] values, int offset, double[] front,
+                                                         int numberOfDimensions) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        } else if (front.length == 0) {
+            throw new JMetalException("The front is empty");
+        } else if (values == null) {
+            throw new JMetalException("The point is null");
+        }
+
+        double minDistance = Double.POSITIVE_INFINITY;
+        for (int row = 0; row < front.length; row += numberOfDimensions) {
+            double distance = 0.0;
+            for (int i = 0; i < numberOfDimensions; i++) {
+                distance += Math.pow(Math.max(front[row + i] - values[offset + i], 0.0), 2);
+            }
+            if (distance < minDistance) {
+                minDistance = distance;
+            }
+        }
+
+        return Math.sqrt(minDistance);
+    }
+
+    /**
+     * Gets the point of a front which would be the first one if the front were sorted (with a
+     * stable sort) by a comparator, without modifying the front
+     *
+     * @param front The front
+     * @param comparator The comparator of the points
+     * @return The first lowest point of the front
+     */
+    public static Point getLowestPoint(Front front, Comparator<Point> comparator) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        } else if (front.getNumberOfPoints() == 0) {
+            throw new JMetalException("The front is empty");
+        }
+
+        Point lowestPoint = front.getPoint(0);
+        for (int i = 1; i < front.getNumberOfPoints(); i++) {
+            if (comparator.compare(front.getPoint(i), lowestPoint) < 0) {
+                lowestPoint = front.getPoint(i);
+            }
+        }
+
+        return lowestPoint;
+    }
+
+    /**
+     * Gets the point of a front which would be the last one if the front were sorted (with a
+     * stable sort) by a comparator, without modifying the front
+     *
+     * @param front The front
+     * @param comparator The comparator of the points
+     * @return The last highest point of the front
+     */
+    public static Point getHighestPoint(Front front, Comparator<Point> comparator) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        } else if (front.getNumberOfPoints() == 0) {
+            throw new JMetalException("The front is empty");
+        }
+
+        Point highestPoint = front.getPoint(0);
+        for (int i = 1; i < front.getNumberOfPoints(); i++) {
+            if (comparator.compare(front.getPoint(i), highestPoint) >= 0) {
+                highestPoint = front.getPoint(i);
+            }
+        }
+
+        return highestPoint;
+    }
+
     /**
      * This method receives a normalized pareto front and return the inverted one.
      * This method is for minimization problems
@@ -231,6 +351,37 @@ public class FrontUtils {
         return arrayFront;
     }
 
+    /**
+     * Given a front, packs the values of its points point by point in a single array, as in a
+     * {@link org.uma.jmetal.util.PopulationMatrix}
+     *
+     * @param front
+     * @return The values of the points of the front
+     */
+    public static double[] convertFrontToPackedArray(Front front) {
+        if (front == null) {
+            throw new JMetalException("The front is null");
+        } else if (front.getNumberOfPoints() == 0) {
+            throw new JMetalException("The front is empty");
+        }
+
+        int numberOfPoints = front.getNumberOfPoints();
+        int numberOfDimensions = front.getPoint(0).getNumberOfDimensions();
+        double[] values = new double[numberOfPoints * numberOfDimensions];
+        for (int j = 0; j < numberOfPoints; j++) {
+            Point point = front.getPoint(j);
+            if (point.getNumberOfDimensions() != numberOfDimensions) {
+                throw new JMetalException("The point " + j + " has " + point.getNumberOfDimensions() +
+                        " dimensions instead of " + numberOfDimensions);
+            }
+            for (int i = 0; i < numberOfDimensions; i++) {
+                values[j * numberOfDimensions + i] = point.getDimensionValue(i);
+            }
+        }
+
+        return values;
+    }
+
     /**
      * Given a front, converts it to a Solution set of PointSolutions
      *
@@ -0,0 +1,187 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide cache of reference fronts, so each reference front file is read and parsed once and
+ * its bounds, normalized copy and indexes are computed once and shared by the quality indicators
+ * and the experiment components (see {@link CachedReferenceFront}).
+ *
+ * The fronts are identified by the resource or file they are read from, resolved as
+ * {@link ArrayFront#ArrayFront(String)} does: a resource of the class path first, and a file
+ * otherwise. A file is read again when its modification time or its length change. The cached
+ * fronts are shared, so they must not be modified.
+ *
+ * The memory is bounded by the number of values (objective values of the points of the fronts and
+ * of their normalized copies and indexes) kept by the cache: when it is exceeded, the least
+ * recently used fronts are evicted. The objects already obtained from an evicted front remain
+ * valid. The methods can be called by several threads.
+ */
+public class ReferenceFrontCache {
+    /**
+     * Default maximum number of values of the process-wide cache: 16M values, 128 MB of doubles
+     */
+    public static final long DEFAULT_MAXIMUM_NUMBER_OF_VALUES = 16L * 1024 * 1024;
+
+    private static final ReferenceFrontCache instance = new ReferenceFrontCache(DEFAULT_MAXIMUM_NUMBER_OF_VALUES);
+
+    private final Map<String, CachedReferenceFront> entries;
+    private long maximumNumberOfValues;
+
+    /**
+     * Constructor of a cache independent of the process-wide one
+     *
+     * @param maximumNumberOfValues Maximum number of values kept by the cache
+     */
+    public ReferenceFrontCache(long maximumNumberOfValues) {
+        if (maximumNumberOfValues <= 0) {
+            throw new JMetalException("The maximum number of values is not positive: " + maximumNumberOfValues);
+        }
+
+        this.maximumNumberOfValues = maximumNumberOfValues;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the process-wide cache
+     */
+    public static ReferenceFrontCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the cached reference front read from a resource or a file, reading it if it is not
+     * cached or if the file has changed
+     *
+     * @param fileName Name of the resource or file
+     * @throws FileNotFoundException If there is no such resource or file
+     */
+    public CachedReferenceFront get(String fileName) throws FileNotFoundException {
+        if (fileName == null) {
+            throw new JMetalException("The reference front file name is null");
+        }
+
+        String key;
+        long lastModified = 0;
+        long length = 0;
+        URL resource = ArrayFront.class.getResource(fileName);
+        if (resource != null) {
+            key = resource.toString();
+        } else {
+            File file = new File(fileName);
+            if (!file.isFile()) {
+                throw new FileNotFoundException(fileName);
+            }
+            key = file.getAbsoluteFile().toPath().normalize().toString();
+            lastModified = file.lastModified();
+            length = file.length();
+        }
+
+        synchronized (this) {
+            CachedReferenceFront entry = entries.get(key);
+            if ((entry != null) && entry.isFrom(lastModified, length)) {
+                // The normalized copies and indexes computed since the last access are accounted now
+                evict(entry);
+                return entry;
+            }
+        }
+
+        // The front is read without holding the lock; if another thread reads it at the same time,
+        // the first one stored is kept
+        CachedReferenceFront loadedEntry = new CachedReferenceFront(new ArrayFront(fileName), lastModified, length);
+        synchronized (this) {
+            CachedReferenceFront entry = entries.get(key);
+            if ((entry == null) || !entry.isFrom(lastModified, length)) {
+                entry = loadedEntry;
+                entries.put(key, entry);
+            }
+            evict(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Returns the reference front read from a resource or a file; the front is shared, so it must
+     * not be modified
+     *
+     * @param fileName Name of the resource or file
+     * @throws FileNotFoundException If there is no such resource or file
+     */
+    public Front getFront(String fileName) throws FileNotFoundException {
+        return get(fileName).getFront();
+    }
+
+    /**
+     * Returns the cached reference front holding a front object, or null if it is not cached
+     */
+    public synchronized CachedReferenceFront find(Front front) {
+        for (CachedReferenceFront entry : entries.values()) {
+            if (entry.getFront() == front) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of values currently kept by the cache
+     */
+    public synchronized long getNumberOfValues() {
+        long numberOfValues = 0;
+        for (CachedReferenceFront entry : entries.values()) {
+            numberOfValues += entry.getNumberOfValues();
+        }
+        return numberOfValues;
+    }
+
+    public synchronized long getMaximumNumberOfValues() {
+        return maximumNumberOfValues;
+    }
+
+    public synchronized void setMaximumNumberOfValues(long maximumNumberOfValues) {
+        if (maximumNumberOfValues <= 0) {
+            throw new JMetalException("The maximum number of values is not positive: " + maximumNumberOfValues);
+        }
+        this.maximumNumberOfValues = maximumNumberOfValues;
+        evict(null);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Evicts the least recently used fronts until the cache is within its bound, keeping the front
+     * just requested even if it exceeds the bound by itself
+     */
+    private void evict(CachedReferenceFront requestedEntry) {
+        long numberOfValues = getNumberOfValues();
+        List<String> evictedKeys = new ArrayList<>();
+        Iterator<Map.Entry<String, CachedReferenceFront>> iterator = entries.entrySet().iterator();
+        while ((numberOfValues > maximumNumberOfValues) && iterator.hasNext()) {
+            Map.Entry<String, CachedReferenceFront> entry = iterator.next();
+            if (entry.getValue() != requestedEntry) {
+                numberOfValues -= entry.getValue().getNumberOfValues();
+                evictedKeys.add(entry.getKey());
+            }
+        }
+        for (String key : evictedKeys) {
+            entries.remove(key);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.parallel;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+
+import java.io.Serializable;
+
+/**
+ * Instances of a problem for the worker threads of a parallel evaluator, obtained with
+ * {@link Problem#copyForThread()}, so that the problems keeping mutable state can be evaluated by
+ * several threads at the same time. Each thread keeps the instance of the last problem it has been
+ * asked for, which is the usual case of an evaluator used with a single problem; for the problems
+ * without mutable state the instance is the problem itself. The instances are not serialized.
+ */
+public class ThreadLocalProblem<S extends Solution<?>> implements Serializable {
+    private static final long serialVersionUID = -5238014717352862085L;
+
+    private final transient ThreadLocal<Entry<S>> entries = new ThreadLocal<>();
+
+    /**
+     * Returns the instance of a problem for the current thread
+     *
+     * @param problem Problem shared by the threads
+     */
+    public Problem<S> get(Problem<S> problem) {
+        Entry<S> entry = entries.get();
+        if ((entry == null) || (entry.problem != problem)) {
+            entry = new Entry<>(problem, problem.copyForThread());
+            entries.set(entry);
+        }
+
+        return entry.threadProblem;
+    }
+
+    private Object readResolve() {
+        return new ThreadLocalProblem<S>();
+    }
+
+    private static class Entry<S extends Solution<?>> {
+        private final Problem<S> problem;
+        private final Problem<S> threadProblem;
+
+        Entry(Problem<S> problem, Problem<S> threadProblem) {
+            this.problem = problem;
+            this.threadProblem = threadProblem;
+        }
+    }
+}
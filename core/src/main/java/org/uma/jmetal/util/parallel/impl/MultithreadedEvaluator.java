@@ -16,8 +16,11 @@ package org.uma.jmetal.util.parallel.impl;
 import org.uma.jmetal.problem.ConstrainedProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.parallel.SynchronousParallelTaskExecutor;
+import org.uma.jmetal.util.parallel.ThreadLocalProblem;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -27,13 +30,15 @@ import java.util.concurrent.*;
 import java.util.logging.Level;
 
 /**
- * Class for evaluating solutions in parallel using threads
+ * Class for evaluating solutions in parallel using threads. Each thread evaluates the solutions with
+ * its own instance of the problem, obtained with {@link Problem#copyForThread()}
  *
  * @author Antonio J. Nebro
  * @modified by Jackson Antonio do Prado Lima 09/09/2015
  */
 public class MultithreadedEvaluator<S extends Solution<?>> implements SynchronousParallelTaskExecutor<Problem<S>> {
     private Problem<S> problem;
+    private final ThreadLocalProblem<S> threadProblem = new ThreadLocalProblem<>();
     private Collection<EvaluationTask> taskList;
     private int numberOfThreads;
     private ExecutorService executor;
@@ -65,7 +70,8 @@ public class MultithreadedEvaluator<S extends Solution<?>> implements Synchronou
     public void start(Problem<S> problem) {
         this.problem = problem;
 
-        executor = Executors.newFixedThreadPool(numberOfThreads);
+        executor = Executors.newFixedThreadPool(numberOfThreads,
+                JMetalRandom.getInstance().createStreamContext().createThreadFactory("MultithreadedEvaluator", false));
         JMetalLogger.logger.info("Cores: " + numberOfThreads);
         taskList = null;
     }
@@ -105,7 +111,9 @@ public class MultithreadedEvaluator<S extends Solution<?>> implements Synchronou
             } catch (InterruptedException e) {
                 JMetalLogger.logger.log(Level.SEVERE, "Error", e);
             } catch (ExecutionException e) {
-                JMetalLogger.logger.log(Level.SEVERE, "Error", e);
+                // A failed evaluation would leave the solution with its previous objective values
+                taskList = null;
+                throw new JMetalException("Error evaluating solution", e);
             }
         }
         taskList = null;
@@ -140,6 +148,7 @@ public class MultithreadedEvaluator<S extends Solution<?>> implements Synchronou
         }
 
         public S call() throws Exception {
+            Problem<S> problem = threadProblem.get(this.problem);
             if (problem instanceof ConstrainedProblem) {
                 problem.evaluate(solution);
                 ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
@@ -13,12 +13,14 @@
 
 package org.uma.jmetal.util.point;
 
+import java.io.Serializable;
+
 /**
  * Interface representing a point
  *
  * @author Antonio J. Nebro
  */
-public interface Point {
+public interface Point extends Serializable {
     int getNumberOfDimensions();
 
     double[] getValues();
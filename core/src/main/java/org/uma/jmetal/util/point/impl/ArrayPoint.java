@@ -31,6 +31,7 @@ import java.util.StringTokenizer;
  *
  * @author Antonio J. Nebro
  */
+@SuppressWarnings("serial")
 public class ArrayPoint implements Point {
     protected double[] point;
 
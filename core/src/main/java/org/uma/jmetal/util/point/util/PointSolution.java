@@ -14,11 +14,10 @@
 package org.uma.jmetal.util.point.util;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.impl.AttributeSlots;
 import org.uma.jmetal.util.point.Point;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Solution used to wrap a {@link Point} object. Only objectives are used.
@@ -27,7 +26,7 @@ import java.util.Map;
  */
 @SuppressWarnings("serial")
 public class PointSolution implements Solution<Double> {
-    protected Map<Object, Object> attributes;
+    protected AttributeSlots attributes;
     private int numberOfObjectives;
     private double[] objectives;
 
@@ -39,7 +38,7 @@ public class PointSolution implements Solution<Double> {
     public PointSolution(int numberOfObjectives) {
         this.numberOfObjectives = numberOfObjectives;
         objectives = new double[numberOfObjectives];
-        attributes = new HashMap<>();
+        attributes = new AttributeSlots();
     }
 
     /**
@@ -50,6 +49,7 @@ public class PointSolution implements Solution<Double> {
     public PointSolution(Point point) {
         this.numberOfObjectives = point.getNumberOfDimensions();
         objectives = new double[numberOfObjectives];
+        attributes = new AttributeSlots();
 
         for (int i = 0; i < numberOfObjectives; i++) {
             this.objectives[i] = point.getDimensionValue(i);
@@ -118,6 +118,36 @@ public class PointSolution implements Solution<Double> {
         return attributes.get(id);
     }
 
+    @Override
+    public Object getSlotValue(int slot) {
+        return attributes.get(slot);
+    }
+
+    @Override
+    public void setSlotValue(int slot, Object value) {
+        attributes.set(slot, value);
+    }
+
+    @Override
+    public double getDoubleSlotValue(int slot, double defaultValue) {
+        return attributes.getDouble(slot, defaultValue);
+    }
+
+    @Override
+    public void setDoubleSlotValue(int slot, double value) {
+        attributes.setDouble(slot, value);
+    }
+
+    @Override
+    public int getIntSlotValue(int slot, int defaultValue) {
+        return attributes.getInt(slot, defaultValue);
+    }
+
+    @Override
+    public void setIntSlotValue(int slot, int value) {
+        attributes.setInt(slot, value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,67 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+/**
+ * Sampler of the successes of a sequence of independent Bernoulli trials with the same
+ * probability. Instead of drawing a random number per trial, the number of failures before the
+ * next success is drawn from a geometric distribution by inversion, so that only one random number
+ * is needed per success. The indices returned have the same distribution as the ones of the trials
+ * in which {@code randomGenerator.nextDouble() < probability}, which makes it suitable for the
+ * mutation operators when the probability per gene is low.
+ */
+public class GeometricSkipSampler {
+    private final double probability;
+    private final double logOfComplement;
+    private final JMetalRandom randomGenerator;
+
+    /**
+     * Constructor
+     *
+     * @param probability     Probability of success of each trial
+     * @param randomGenerator Generator of the random numbers
+     */
+    public GeometricSkipSampler(double probability, JMetalRandom randomGenerator) {
+        this.probability = probability;
+        this.logOfComplement = Math.log1p(-probability);
+        this.randomGenerator = randomGenerator;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    /**
+     * Returns the index of the first successful trial not before a given one
+     *
+     * @param from           Index of the first trial to consider
+     * @param numberOfTrials Total number of trials
+     * @return The index of the success, or numberOfTrials if there are no more successes
+     */
+    public int nextIndex(int from, int numberOfTrials) {
+        if (from >= numberOfTrials || probability <= 0.0) {
+            return numberOfTrials;
+        } else if (probability >= 1.0) {
+            return from;
+        }
+
+        // 1 - nextDouble() lies in (0, 1], so the logarithm is always finite
+        double skip = Math.floor(Math.log(1.0 - randomGenerator.nextDouble()) / logOfComplement);
+        if (skip >= numberOfTrials - from) {
+            return numberOfTrials;
+        }
+
+        return from + (int) skip;
+    }
+}
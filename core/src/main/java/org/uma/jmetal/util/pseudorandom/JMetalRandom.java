@@ -18,12 +18,19 @@ import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import java.io.Serializable;
 
 /**
+ * Source of the pseudo-random numbers of jMetal. There is a single instance, which the operators
+ * and solutions keep, and each number is drawn from the generator bound to the current thread
+ * with {@link #bindThreadRandomGenerator(PseudoRandomGenerator)}, or from the shared generator if
+ * there is none. This way each run or worker thread can have its own stream, obtained from a
+ * {@link RandomStreamContext}, without contention and without changing the operators.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class JMetalRandom implements Serializable {
 
     private static final long serialVersionUID = 6429176691526747950L;
-    private static JMetalRandom instance;
+    private static final JMetalRandom instance = new JMetalRandom();
+    private static final ThreadLocal<PseudoRandomGenerator> threadRandomGenerator = new ThreadLocal<>();
     private PseudoRandomGenerator randomGenerator;
 
     private JMetalRandom() {
@@ -31,41 +38,109 @@ public class JMetalRandom implements Serializable {
     }
 
     public static JMetalRandom getInstance() {
-        if (instance == null) {
-            instance = new JMetalRandom();
-        }
         return instance;
     }
 
+    /**
+     * Binds a generator to the current thread, which is used instead of the shared one until it is
+     * unbound. The generator must not be used by other threads
+     *
+     * @param randomGenerator The generator, or null to unbind the current one
+     * @return The generator bound before, or null if there was none
+     */
+    public static PseudoRandomGenerator bindThreadRandomGenerator(PseudoRandomGenerator randomGenerator) {
+        PseudoRandomGenerator previousRandomGenerator = threadRandomGenerator.get();
+        if (randomGenerator == null) {
+            threadRandomGenerator.remove();
+        } else {
+            threadRandomGenerator.set(randomGenerator);
+        }
+        return previousRandomGenerator;
+    }
+
+    /**
+     * Returns the generator bound to the current thread, or null if there is none
+     */
+    public static PseudoRandomGenerator getThreadRandomGenerator() {
+        return threadRandomGenerator.get();
+    }
+
+    /**
+     * Sets the generator used by the current thread: the one bound to it if there is one, or the
+     * shared one otherwise
+     */
     public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
-        this.randomGenerator = randomGenerator;
+        if (threadRandomGenerator.get() != null) {
+            threadRandomGenerator.set(randomGenerator);
+        } else {
+            this.randomGenerator = randomGenerator;
+        }
     }
 
+    /**
+     * Returns the generator used by the current thread
+     */
     public PseudoRandomGenerator getRanndomGenerator() {
-        return randomGenerator;
+        return getCurrentRandomGenerator();
     }
 
     public int nextInt(int lowerBound, int upperBound) {
-        return randomGenerator.nextInt(lowerBound, upperBound);
+        return getCurrentRandomGenerator().nextInt(lowerBound, upperBound);
     }
 
     public double nextDouble() {
-        return randomGenerator.nextDouble();
+        return getCurrentRandomGenerator().nextDouble();
     }
 
     public double nextDouble(double lowerBound, double upperBound) {
-        return randomGenerator.nextDouble(lowerBound, upperBound);
+        return getCurrentRandomGenerator().nextDouble(lowerBound, upperBound);
+    }
+
+    /**
+     * Fills a range of an array with numbers in [0, 1) drawn from the generator used by the current
+     * thread
+     */
+    public void nextDoubles(double[] values, int from, int to) {
+        getCurrentRandomGenerator().nextDoubles(values, from, to);
+    }
+
+    /**
+     * Fills a range of an array with integers in [lowerBound, upperBound] drawn from the generator
+     * used by the current thread
+     */
+    public void nextInts(int[] values, int from, int to, int lowerBound, int upperBound) {
+        getCurrentRandomGenerator().nextInts(values, from, to, lowerBound, upperBound);
     }
 
     public long getSeed() {
-        return randomGenerator.getSeed();
+        return getCurrentRandomGenerator().getSeed();
     }
 
     public void setSeed(long seed) {
-        randomGenerator.setSeed(seed);
+        getCurrentRandomGenerator().setSeed(seed);
     }
 
     public String getGeneratorName() {
-        return randomGenerator.getName();
+        return getCurrentRandomGenerator().getName();
+    }
+
+    /**
+     * Returns a context of random streams whose master seed is drawn from the generator used by the
+     * current thread, so that the streams of the worker threads created by it are reproducible
+     */
+    public RandomStreamContext createStreamContext() {
+        return new RandomStreamContext(getCurrentRandomGenerator().nextLong());
+    }
+
+    private PseudoRandomGenerator getCurrentRandomGenerator() {
+        PseudoRandomGenerator currentRandomGenerator = threadRandomGenerator.get();
+        return currentRandomGenerator != null ? currentRandomGenerator : randomGenerator;
+    }
+
+    /**
+     * The deserialized copies of the operators and solutions keep using the single instance
+     */
+    private Object readResolve() {
+        return instance;
     }
 }
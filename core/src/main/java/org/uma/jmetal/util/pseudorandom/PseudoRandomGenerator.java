@@ -31,4 +31,42 @@ public interface PseudoRandomGenerator extends Serializable {
     void setSeed(long seed);
 
     String getName();
+
+    /**
+     * Returns 64 random bits. The default implementation takes 32 bits from each of two calls to
+     * {@link #nextDouble()}; generators producing 64 bits per step should override it
+     */
+    default long nextLong() {
+        long high = (long) (nextDouble() * 0x1.0p32);
+        long low = (long) (nextDouble() * 0x1.0p32);
+        return (high << 32) | low;
+    }
+
+    /**
+     * Fills a range of an array with numbers in [0, 1), as consecutive calls to
+     * {@link #nextDouble()} would do. Generators can override it to avoid a call per number
+     *
+     * @param values The array
+     * @param from   First position to fill (inclusive)
+     * @param to     Last position to fill (exclusive)
+     */
+    default void nextDoubles(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = nextDouble();
+        }
+    }
+
+    /**
+     * Fills a range of an array with integers in [lowerBound, upperBound], as consecutive calls to
+     * {@link #nextInt(int, int)} would do. Generators can override it to avoid a call per number
+     *
+     * @param values The array
+     * @param from   First position to fill (inclusive)
+     * @param to     Last position to fill (exclusive)
+     */
+    default void nextInts(int[] values, int from, int to, int lowerBound, int upperBound) {
+        for (int i = from; i < to; i++) {
+            values[i] = nextInt(lowerBound, upperBound);
+        }
+    }
 }
@@ -0,0 +1,128 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom;
+
+import org.uma.jmetal.util.pseudorandom.impl.SplitMix64Generator;
+import org.uma.jmetal.util.pseudorandom.impl.Xoshiro256PlusPlusGenerator;
+
+import java.io.Serializable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Family of independent random streams derived from a master seed. The seed of each stream is
+ * obtained by splitting the master seed with the SplitMix64 mixing function and the identifier of
+ * the stream, so that the same master seed and identifier always give the same stream regardless
+ * of the thread or the order in which the streams are created. A stream is meant to be confined to
+ * a thread, where it is bound with {@link JMetalRandom#bindThreadRandomGenerator(PseudoRandomGenerator)}.
+ */
+public class RandomStreamContext implements Serializable {
+    private static final long serialVersionUID = 3946238721495871239L;
+
+    private final long masterSeed;
+
+    public RandomStreamContext(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Returns the seed of a stream
+     *
+     * @param streamId Identifier of the stream
+     */
+    public long getStreamSeed(long streamId) {
+        return SplitMix64Generator.mix64(masterSeed + (streamId + 1) * SplitMix64Generator.GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a new xoshiro256++ generator of a stream, which always produces the same numbers for
+     * the same master seed and identifier
+     *
+     * @param streamId Identifier of the stream
+     */
+    public PseudoRandomGenerator createStream(long streamId) {
+        return new Xoshiro256PlusPlusGenerator(getStreamSeed(streamId));
+    }
+
+    /**
+     * Returns a context whose master seed is the seed of a stream of this one, for the streams
+     * used inside it
+     *
+     * @param streamId Identifier of the stream
+     */
+    public RandomStreamContext split(long streamId) {
+        return new RandomStreamContext(getStreamSeed(streamId));
+    }
+
+    /**
+     * Returns a factory of threads that bind a stream of this context, with identifiers 0, 1, 2...
+     * in the order in which the threads are created
+     *
+     * @param threadName Name of the threads
+     * @param daemon     Whether the threads are daemon threads
+     */
+    public ThreadFactory createThreadFactory(final String threadName, final boolean daemon) {
+        final AtomicLong nextStreamId = new AtomicLong();
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final PseudoRandomGenerator stream = createStream(nextStreamId.getAndIncrement());
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        JMetalRandom.bindThreadRandomGenerator(stream);
+                        runnable.run();
+                    }
+                }, threadName);
+                thread.setDaemon(daemon);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Returns a factory of fork-join worker threads that bind a stream of this context, with
+     * identifiers 0, 1, 2... in the order in which the threads are created
+     */
+    public ForkJoinPool.ForkJoinWorkerThreadFactory createForkJoinWorkerThreadFactory() {
+        final AtomicLong nextStreamId = new AtomicLong();
+        return new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+            @Override
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                return new StreamWorkerThread(pool, createStream(nextStreamId.getAndIncrement()));
+            }
+        };
+    }
+
+    private static class StreamWorkerThread extends ForkJoinWorkerThread {
+        private final PseudoRandomGenerator stream;
+
+        StreamWorkerThread(ForkJoinPool pool, PseudoRandomGenerator stream) {
+            super(pool);
+            this.stream = stream;
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            JMetalRandom.bindThreadRandomGenerator(stream);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Base class of the generators producing 64 random bits per step. The doubles are made of the 53
+ * upper bits of a step, and the bounded integers are obtained from the 32 upper bits with Lemire's
+ * multiply-and-shift method, rejecting the few values that would bias the result.
+ */
+public abstract class AbstractLongGenerator implements PseudoRandomGenerator {
+    private static final long serialVersionUID = -3061523390513528417L;
+    protected static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * Returns the next 64 random bits
+     */
+    public abstract long nextLong();
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public double nextDouble(double lowerBound, double upperBound) {
+        return lowerBound + nextDouble() * (upperBound - lowerBound);
+    }
+
+    @Override
+    public int nextInt(int lowerBound, int upperBound) {
+        if (upperBound < lowerBound) {
+            throw new JMetalException("The upper bound " + upperBound + " is lower than the lower bound " + lowerBound);
+        }
+
+        return lowerBound + (int) nextBoundedInt((long) upperBound - lowerBound + 1);
+    }
+
+    @Override
+    public void nextInts(int[] values, int from, int to, int lowerBound, int upperBound) {
+        if (upperBound < lowerBound) {
+            throw new JMetalException("The upper bound " + upperBound + " is lower than the lower bound " + lowerBound);
+        }
+
+        long range = (long) upperBound - lowerBound + 1;
+        for (int i = from; i < to; i++) {
+            values[i] = lowerBound + (int) nextBoundedInt(range);
+        }
+    }
+
+    /**
+     * Returns an unbiased random value in [0, range), with range in [1, 2^32]
+     */
+    private long nextBoundedInt(long range) {
+        long product = (nextLong() >>> 32) * range;
+        long low = product & 0xffffffffL;
+        if (low < range) {
+            long threshold = (0x100000000L - range) % range;
+            while (low < threshold) {
+                product = (nextLong() >>> 32) * range;
+                low = product & 0xffffffffL;
+            }
+        }
+        return product >>> 32;
+    }
+}
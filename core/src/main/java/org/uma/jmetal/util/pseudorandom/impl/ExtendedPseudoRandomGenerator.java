@@ -31,6 +31,11 @@ public class ExtendedPseudoRandomGenerator implements PseudoRandomGenerator {
         return randomGenerator.nextDouble();
     }
 
+    @Override
+    public long nextLong() {
+        return randomGenerator.nextLong();
+    }
+
     @Override
     public long getSeed() {
         return randomGenerator.getSeed();
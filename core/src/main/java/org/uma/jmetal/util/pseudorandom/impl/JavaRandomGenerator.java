@@ -65,7 +65,12 @@ public class JavaRandomGenerator implements PseudoRandomGenerator {
 
     @Override
     public double nextDouble() {
-        return nextDouble(0.0, 1.0);
+        return rnd.nextDouble();
+    }
+
+    @Override
+    public long nextLong() {
+        return rnd.nextLong();
     }
 
     @Override
@@ -0,0 +1,88 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom.impl;
+
+/**
+ * SplitMix64 generator (Steele, Lea and Flood): a 64-bit counter incremented by the golden gamma
+ * and scrambled with a mixing function. It is very fast and its state is a single long, which
+ * makes it suitable for seeding other generators; it is not synchronized, so each instance must be
+ * used by one thread.
+ */
+public class SplitMix64Generator extends AbstractLongGenerator {
+    private static final String name = "SplitMix64";
+    private static final long serialVersionUID = 5166407524785196329L;
+
+    /**
+     * Increment of the counter, the odd integer closest to 2^64 divided by the golden ratio
+     */
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+    private long seed;
+
+    /**
+     * Constructor
+     */
+    public SplitMix64Generator() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor
+     */
+    public SplitMix64Generator(long seed) {
+        setSeed(seed);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public void nextDoubles(double[] values, int from, int to) {
+        long z = state;
+        for (int i = from; i < to; i++) {
+            z += GOLDEN_GAMMA;
+            values[i] = (mix64(z) >>> 11) * DOUBLE_UNIT;
+        }
+        state = z;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * SplitMix64 mixing function, which maps consecutive values to uncorrelated ones
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,146 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.pseudorandom.impl;
+
+/**
+ * xoshiro256++ generator (Blackman and Vigna), with a period of 2^256 - 1 and a 256-bit state that
+ * is initialized from the seed with {@link SplitMix64Generator}, as recommended by its authors.
+ * {@link #jump()} advances the state 2^128 steps, which gives non-overlapping streams from a single
+ * seed. It is not synchronized, so each instance must be used by one thread.
+ */
+public class Xoshiro256PlusPlusGenerator extends AbstractLongGenerator {
+    private static final String name = "Xoshiro256++";
+    private static final long serialVersionUID = -2350165867412098526L;
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL};
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+    private long seed;
+
+    /**
+     * Constructor
+     */
+    public Xoshiro256PlusPlusGenerator() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor
+     */
+    public Xoshiro256PlusPlusGenerator(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Constructor of a generator with a given state, which must not be all zeros
+     */
+    public Xoshiro256PlusPlusGenerator(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+
+        SplitMix64Generator seedGenerator = new SplitMix64Generator(seed);
+        s0 = seedGenerator.nextLong();
+        s1 = seedGenerator.nextLong();
+        s2 = seedGenerator.nextLong();
+        s3 = seedGenerator.nextLong();
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s0 + s3, 23) + s0;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    /**
+     * Same as consecutive calls to {@link #nextDouble()}, with the state kept in local variables
+     */
+    @Override
+    public void nextDoubles(double[] values, int from, int to) {
+        long a = s0;
+        long b = s1;
+        long c = s2;
+        long d = s3;
+        for (int i = from; i < to; i++) {
+            long result = Long.rotateLeft(a + d, 23) + a;
+            long t = b << 17;
+
+            c ^= a;
+            d ^= b;
+            b ^= c;
+            a ^= d;
+            c ^= t;
+            d = Long.rotateLeft(d, 45);
+
+            values[i] = (result >>> 11) * DOUBLE_UNIT;
+        }
+        s0 = a;
+        s1 = b;
+        s2 = c;
+        s3 = d;
+    }
+
+    /**
+     * Advances the state 2^128 steps, as 2^128 calls to {@link #nextLong()} would do
+     */
+    public void jump() {
+        long j0 = 0;
+        long j1 = 0;
+        long j2 = 0;
+        long j3 = 0;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    j0 ^= s0;
+                    j1 ^= s1;
+                    j2 ^= s2;
+                    j3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = j0;
+        s1 = j1;
+        s2 = j2;
+        s3 = j3;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
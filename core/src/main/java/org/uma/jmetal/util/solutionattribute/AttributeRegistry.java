@@ -0,0 +1,84 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry assigning a small integer slot to each attribute identifier (the object
+ * returned by {@link SolutionAttribute#getAttributeIdentifier()}, usually a class object). The
+ * solutions store their attributes in arrays indexed by these slots, so that the classes
+ * computing attributes (ranking, crowding distance, fitness, etc.) can read and write them
+ * without hash lookups and, using the typed accessors of
+ * {@link org.uma.jmetal.solution.Solution}, without boxing.
+ *
+ * Slots are never released; they are only meaningful within the running JVM. The registry keeps a
+ * reference to every identifier, and the arrays of the solutions storing an attribute have an entry
+ * for each slot up to the highest one in use, so the identifiers must come from a bounded set, such as
+ * classes or constants. Creating a new identifier per algorithm run or per object (e.g. a
+ * <code>new Object()</code> or a generated string) makes the registry and the attribute arrays grow
+ * for as long as the JVM runs.
+ */
+public final class AttributeRegistry {
+    private static final Object NULL_IDENTIFIER = new Object();
+    private static final Map<Object, Integer> slots = new ConcurrentHashMap<>();
+    private static volatile Object[] identifiers = new Object[0];
+
+    private AttributeRegistry() {
+    }
+
+    /**
+     * Returns the slot of an attribute identifier, registering it if it is the first time the
+     * identifier is used
+     *
+     * @param identifier The attribute identifier
+     * @return The slot
+     */
+    public static int getSlot(Object identifier) {
+        Object key = identifier == null ? NULL_IDENTIFIER : identifier;
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            slot = register(key);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns the identifier registered for a slot
+     *
+     * @param slot The slot
+     * @return The attribute identifier
+     */
+    public static Object getIdentifier(int slot) {
+        Object[] currentIdentifiers = identifiers;
+        if ((slot < 0) || (slot >= currentIdentifiers.length)) {
+            throw new JMetalException("Invalid attribute slot: " + slot);
+        }
+
+        Object identifier = currentIdentifiers[slot];
+        return identifier == NULL_IDENTIFIER ? null : identifier;
+    }
+
+    /**
+     * Returns the number of slots registered so far
+     */
+    public static int getNumberOfSlots() {
+        return identifiers.length;
+    }
+
+    private static synchronized int register(Object key) {
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            Object[] newIdentifiers = Arrays.copyOf(identifiers, identifiers.length + 1);
+            slot = identifiers.length;
+            newIdentifiers[slot] = key;
+            identifiers = newIdentifiers;
+            slots.put(key, slot);
+        }
+
+        return slot;
+    }
+}
@@ -0,0 +1,24 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import org.uma.jmetal.util.PopulationMatrix;
+
+import java.io.Serializable;
+
+/**
+ * Algorithm computing the non-dominated fronts of the solutions packed in a
+ * {@link PopulationMatrix}. It is the strategy used by
+ * {@link org.uma.jmetal.util.solutionattribute.impl.DominanceRanking} to compute the ranking, so
+ * all the implementations must produce the same fronts; they differ only in the time complexity
+ * and in the order of the solutions inside each front.
+ */
+public interface NonDominatedSorting extends Serializable {
+    /**
+     * Sorts the rows of a population matrix. The dominance relationship is the one of
+     * {@link PopulationMatrix#dominanceTest(int, int)}, so the constraint violation degrees are
+     * taken into account if they have been packed
+     *
+     * @param populationMatrix
+     * @return The fronts; element i contains the rows of the front of rank i
+     */
+    int[][] sort(PopulationMatrix<?> populationMatrix);
+}
@@ -0,0 +1,241 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of the non-dominated sorting algorithms working on the objective values only. The
+ * constraint violation degrees are handled here: when they have been packed and all of them are
+ * lower or equal than zero, the dominance relationship of {@link PopulationMatrix} is equivalent
+ * to comparing first the violation degrees (the higher the better) and then the objectives, so
+ * the rows are grouped by violation degree, each group is sorted independently, and the ranks of
+ * every group are shifted by the number of fronts of the previous groups. In any other case
+ * (positive violation degrees, solutions lacking the attribute mixed with others having it, or
+ * NaN objective values) the relationship is not a strict partial order on the objective vectors
+ * and the rows are sorted by {@link FastNonDominatedSorting}.
+ *
+ * The rows of every group are passed to the subclasses sorted lexicographically and without
+ * duplicates, so that a point can only be dominated by the points preceding it, and being
+ * weakly better in every objective is the same as dominating. Duplicated points get the same
+ * rank. The rows of each front are returned in increasing order.
+ */
+@SuppressWarnings("serial")
+public abstract class AbstractNonDominatedSorting implements NonDominatedSorting {
+    private static final NonDominatedSorting FALLBACK_SORTING = new FastNonDominatedSorting();
+
+    /**
+     * Computes the rank of a set of points
+     *
+     * @param points The points, sorted lexicographically and without duplicates
+     * @param ranks  Array (initialized to zero) where the rank of each point must be stored
+     */
+    protected abstract void computeRanks(double[][] points, int[] ranks);
+
+    @Override
+    public int[][] sort(PopulationMatrix<?> populationMatrix) {
+        int populationSize = populationMatrix.getNumberOfSolutions();
+        if (!isSupported(populationMatrix)) {
+            return FALLBACK_SORTING.sort(populationMatrix);
+        }
+
+        int[] rows = new int[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            rows[i] = i;
+        }
+
+        int[] ranks = new int[populationSize];
+        if (!populationMatrix.hasConstraintViolations() ||
+                (populationSize == 0) || Double.isNaN(populationMatrix.getConstraintViolation(0))) {
+            rankGroup(populationMatrix, rows, 0, populationSize, ranks, 0);
+        } else {
+            double[] violations = new double[populationSize];
+            for (int i = 0; i < populationSize; i++) {
+                violations[i] = -populationMatrix.getConstraintViolation(i);
+            }
+            mergeSort(rows, new int[populationSize], violations, 0, populationSize);
+
+            int offset = 0;
+            int start = 0;
+            while (start < populationSize) {
+                int end = start + 1;
+                while ((end < populationSize) && (violations[rows[end]] == violations[rows[start]])) {
+                    end++;
+                }
+                offset = rankGroup(populationMatrix, rows, start, end, ranks, offset);
+                start = end;
+            }
+        }
+
+        return toFronts(ranks);
+    }
+
+    private boolean isSupported(PopulationMatrix<?> populationMatrix) {
+        for (double value : populationMatrix.getObjectives()) {
+            if (Double.isNaN(value)) {
+                return false;
+            }
+        }
+
+        if (populationMatrix.hasConstraintViolations() && (populationMatrix.getNumberOfSolutions() > 0)) {
+            boolean withoutViolation = Double.isNaN(populationMatrix.getConstraintViolation(0));
+            for (int i = 0; i < populationMatrix.getNumberOfSolutions(); i++) {
+                double violation = populationMatrix.getConstraintViolation(i);
+                if ((Double.isNaN(violation) != withoutViolation) || (violation > 0)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Ranks the rows in positions [from, to) of the rows array, adding an offset to the ranks
+     *
+     * @return The offset of the next group, i.e., the offset plus the number of fronts of the group
+     */
+    private int rankGroup(PopulationMatrix<?> populationMatrix, int[] rows, int from, int to,
+                          int[] ranks, int offset) {
+        int numberOfObjectives = populationMatrix.getNumberOfObjectives();
+        double[] objectives = populationMatrix.getObjectives();
+
+        int[] groupRows = new int[to - from];
+        System.arraycopy(rows, from, groupRows, 0, groupRows.length);
+        lexicographicSort(groupRows, new int[groupRows.length], objectives, numberOfObjectives, 0, groupRows.length);
+
+        // Duplicated rows are mapped to the same point
+        int[] pointOfRow = new int[groupRows.length];
+        List<double[]> points = new ArrayList<>(groupRows.length);
+        for (int i = 0; i < groupRows.length; i++) {
+            if ((i == 0) || (compareLexicographically(objectives, numberOfObjectives, groupRows[i - 1], groupRows[i]) != 0)) {
+                // Adding 0.0 turns -0.0 into 0.0, which matters for the algorithms sorting the values
+                double[] point = new double[numberOfObjectives];
+                int rowOffset = populationMatrix.getOffset(groupRows[i]);
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    point[j] = objectives[rowOffset + j] + 0.0;
+                }
+                points.add(point);
+            }
+            pointOfRow[i] = points.size() - 1;
+        }
+
+        int[] pointRanks = new int[points.size()];
+        computeRanks(points.toArray(new double[points.size()][]), pointRanks);
+
+        int numberOfFronts = 0;
+        for (int i = 0; i < groupRows.length; i++) {
+            int rank = pointRanks[pointOfRow[i]];
+            ranks[groupRows[i]] = rank + offset;
+            numberOfFronts = Math.max(numberOfFronts, rank + 1);
+        }
+
+        return offset + numberOfFronts;
+    }
+
+    private int[][] toFronts(int[] ranks) {
+        int numberOfFronts = 0;
+        for (int rank : ranks) {
+            numberOfFronts = Math.max(numberOfFronts, rank + 1);
+        }
+
+        int[] frontSizes = new int[numberOfFronts];
+        for (int rank : ranks) {
+            frontSizes[rank]++;
+        }
+
+        int[][] fronts = new int[numberOfFronts][];
+        for (int i = 0; i < numberOfFronts; i++) {
+            fronts[i] = new int[frontSizes[i]];
+            frontSizes[i] = 0;
+        }
+
+        for (int row = 0; row < ranks.length; row++) {
+            int rank = ranks[row];
+            fronts[rank][frontSizes[rank]++] = row;
+        }
+
+        return fronts;
+    }
+
+    /**
+     * Lexicographic comparison of two rows. The operators < and > are used instead of
+     * {@link Double#compare(double, double)} so that the order is consistent with the dominance test
+     * (e.g., 0.0 and -0.0 are equal)
+     */
+    private static int compareLexicographically(double[] objectives, int numberOfObjectives, int row1, int row2) {
+        int offset1 = row1 * numberOfObjectives;
+        int offset2 = row2 * numberOfObjectives;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            if (objectives[offset1 + i] < objectives[offset2 + i]) {
+                return -1;
+            } else if (objectives[offset1 + i] > objectives[offset2 + i]) {
+                return 1;
+            }
+        }
+
+        return 0;
+    }
+
+    private static void lexicographicSort(int[] rows, int[] buffer, double[] objectives, int numberOfObjectives,
+                                          int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        lexicographicSort(rows, buffer, objectives, numberOfObjectives, from, middle);
+        lexicographicSort(rows, buffer, objectives, numberOfObjectives, middle, to);
+
+        int i = from;
+        int j = middle;
+        int k = from;
+        while ((i < middle) && (j < to)) {
+            if (compareLexicographically(objectives, numberOfObjectives, rows[j], rows[i]) < 0) {
+                buffer[k++] = rows[j++];
+            } else {
+                buffer[k++] = rows[i++];
+            }
+        }
+        while (i < middle) {
+            buffer[k++] = rows[i++];
+        }
+        while (j < to) {
+            buffer[k++] = rows[j++];
+        }
+        System.arraycopy(buffer, from, rows, from, to - from);
+    }
+
+    /**
+     * Stable merge sort of the rows in [from, to) by a key (using the operator <)
+     */
+    private static void mergeSort(int[] rows, int[] buffer, double[] keys, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, keys, from, middle);
+        mergeSort(rows, buffer, keys, middle, to);
+
+        int i = from;
+        int j = middle;
+        int k = from;
+        while ((i < middle) && (j < to)) {
+            if (keys[rows[j]] < keys[rows[i]]) {
+                buffer[k++] = rows[j++];
+            } else {
+                buffer[k++] = rows[i++];
+            }
+        }
+        while (i < middle) {
+            buffer[k++] = rows[i++];
+        }
+        while (j < to) {
+            buffer[k++] = rows[j++];
+        }
+        System.arraycopy(buffer, from, rows, from, to - from);
+    }
+}
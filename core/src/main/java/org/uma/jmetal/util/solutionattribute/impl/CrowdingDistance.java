@@ -1,15 +1,26 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.PopulationMatrix;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * This class implements the crowding distance
+ * This class implements the crowding distance.
+ *
+ * The solutions are sorted as arrays of indices by each objective column, the distances are
+ * accumulated in an array and the attribute of each solution is written once at the end. The
+ * arrays are kept between calls and only reallocated when a larger set of solutions is found,
+ * so an instance must not be used by several threads at the same time.
+ *
+ * In the parallel-by-objective mode, each objective is processed by a task of the common
+ * fork-join pool, which pays off with many objectives and large fronts. The sort of each objective
+ * then starts from the order of the solutions instead of the order obtained for the previous
+ * objective, so the distances may only differ from the sequential mode when there are ties.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -17,6 +28,31 @@ import java.util.List;
 public class CrowdingDistance<S extends Solution<?>>
         extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
 
+    private final boolean parallelByObjective;
+
+    private transient double[] distances;
+    private transient ObjectiveWorkspace[] workspaces;
+
+    /**
+     * Constructor
+     */
+    public CrowdingDistance() {
+        this(false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelByObjective If true, the objectives are processed in parallel
+     */
+    public CrowdingDistance(boolean parallelByObjective) {
+        this.parallelByObjective = parallelByObjective;
+    }
+
+    public boolean isParallelByObjective() {
+        return parallelByObjective;
+    }
+
     /**
      * Assigns crowding distances to all solutions in a <code>SolutionSet</code>.
      *
@@ -25,56 +61,210 @@ public class CrowdingDistance<S extends Solution<?>>
      */
 
     @Override
-    public void computeDensityEstimator(List<S> solutionList) {
-        int size = solutionList.size();
-
-        if (size == 0) {
+    public void computeDensityEstimator(final List<S> solutionList) {
+        if (assignTrivialDistances(solutionList.size(), solutionList, null)) {
             return;
         }
 
-        if (size == 1) {
-            solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+        computeDistances(solutionList.size(), solutionList.get(0).getNumberOfObjectives(), new ColumnReader() {
+            @Override
+            public void read(int objective, double[] column) {
+                for (int i = 0; i < solutionList.size(); i++) {
+                    column[i] = solutionList.get(i).getObjective(objective);
+                }
+            }
+        });
+
+        int slot = getAttributeSlot();
+        for (int i = 0; i < solutionList.size(); i++) {
+            solutionList.get(i).setDoubleSlotValue(slot, distances[i]);
+        }
+    }
+
+    /**
+     * Assigns crowding distances to all the solutions of a {@link PopulationMatrix}. The solutions
+     * are sorted as arrays of row indices by each objective column; ties are resolved by the order
+     * obtained for the previous objective, as the stable sort of the former list-based
+     * implementation did
+     *
+     * @param populationMatrix
+     */
+    public void computeDensityEstimator(final PopulationMatrix<S> populationMatrix) {
+        int size = populationMatrix.getNumberOfSolutions();
+        if (assignTrivialDistances(size, null, populationMatrix)) {
             return;
         }
 
-        if (size == 2) {
-            solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-            solutionList.get(1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+        final int numberOfSolutions = size;
+        final double[] objectives = populationMatrix.getObjectives();
+        final int numberOfObjectives = populationMatrix.getNumberOfObjectives();
+        computeDistances(size, numberOfObjectives, new ColumnReader() {
+            @Override
+            public void read(int objective, double[] column) {
+                for (int i = 0; i < numberOfSolutions; i++) {
+                    column[i] = objectives[i * numberOfObjectives + objective];
+                }
+            }
+        });
 
-            return;
+        int slot = getAttributeSlot();
+        for (int i = 0; i < size; i++) {
+            populationMatrix.getSolution(i).setDoubleSlotValue(slot, distances[i]);
         }
+    }
 
-        // Use a new SolutionSet to avoid altering the original solutionSet
-        List<S> front = new ArrayList<>(size);
-        for (S solution : solutionList) {
-            front.add(solution);
+    /**
+     * Sets of up to two solutions have infinite distances
+     *
+     * @return True if the set has been handled
+     */
+    private boolean assignTrivialDistances(int size, List<S> solutionList, PopulationMatrix<S> populationMatrix) {
+        if (size > 2) {
+            return false;
         }
 
+        int slot = getAttributeSlot();
         for (int i = 0; i < size; i++) {
-            front.get(i).setAttribute(getAttributeIdentifier(), 0.0);
+            S solution = solutionList != null ? solutionList.get(i) : populationMatrix.getSolution(i);
+            solution.setDoubleSlotValue(slot, Double.POSITIVE_INFINITY);
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the distances of a set of solutions in the distances array
+     */
+    private void computeDistances(final int size, int numberOfObjectives, final ColumnReader columnReader) {
+        if ((distances == null) || (distances.length < size)) {
+            distances = new double[size];
         }
 
-        double objetiveMaxn;
-        double objetiveMinn;
-        double distance;
+        int numberOfWorkspaces = parallelByObjective ? numberOfObjectives : 1;
+        if ((workspaces == null) || (workspaces.length < numberOfWorkspaces)) {
+            workspaces = new ObjectiveWorkspace[numberOfWorkspaces];
+        }
+        for (int i = 0; i < numberOfWorkspaces; i++) {
+            if ((workspaces[i] == null) || (workspaces[i].column.length < size)) {
+                workspaces[i] = new ObjectiveWorkspace(size);
+            }
+        }
 
-        int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+        if (!parallelByObjective) {
+            ObjectiveWorkspace workspace = workspaces[0];
+            workspace.resetOrder(size);
+            for (int i = 0; i < size; i++) {
+                distances[i] = 0.0;
+            }
+            for (int i = 0; i < numberOfObjectives; i++) {
+                columnReader.read(i, workspace.column);
+                workspace.accumulate(distances, size);
+            }
+        } else {
+            List<RecursiveAction> tasks = new ArrayList<>(numberOfObjectives);
+            for (int i = 0; i < numberOfObjectives; i++) {
+                final int objective = i;
+                final ObjectiveWorkspace workspace = workspaces[i];
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        workspace.resetOrder(size);
+                        for (int j = 0; j < size; j++) {
+                            workspace.contributions[j] = 0.0;
+                        }
+                        columnReader.read(objective, workspace.column);
+                        workspace.accumulate(workspace.contributions, size);
+                    }
+                });
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            // The contributions are added in the same order as in the sequential mode
+            for (int i = 0; i < size; i++) {
+                distances[i] = 0.0;
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    distances[i] += workspaces[j].contributions[i];
+                }
+            }
+        }
+    }
+
+    private interface ColumnReader {
+        /**
+         * Copies the values of an objective into the first elements of the column array
+         */
+        void read(int objective, double[] column);
+    }
 
-        for (int i = 0; i < numberOfObjectives; i++) {
+    /**
+     * Scratch arrays used to process an objective; only their first elements are used when the
+     * set of solutions is smaller than the arrays
+     */
+    private static class ObjectiveWorkspace {
+        final double[] column;
+        final int[] sortedRows;
+        final int[] buffer;
+        final double[] contributions;
+
+        ObjectiveWorkspace(int capacity) {
+            column = new double[capacity];
+            sortedRows = new int[capacity];
+            buffer = new int[capacity];
+            contributions = new double[capacity];
+        }
+
+        void resetOrder(int size) {
+            for (int i = 0; i < size; i++) {
+                sortedRows[i] = i;
+            }
+        }
+
+        /**
+         * Sorts the rows by the values of the column and adds the distances to the neighbours
+         */
+        void accumulate(double[] distances, int size) {
             // Sort the population by Obj n
-            Collections.sort(front, new ObjectiveComparator<S>(i)) ;
-            objetiveMinn = front.get(0).getObjective(i);
-            objetiveMaxn = front.get(front.size() - 1).getObjective(i);
+            sortByColumn(0, size);
+            double objetiveMinn = column[sortedRows[0]];
+            double objetiveMaxn = column[sortedRows[size - 1]];
 
             // Set de crowding distance
-            front.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-            front.get(size - 1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+            distances[sortedRows[0]] = Double.POSITIVE_INFINITY;
+            distances[sortedRows[size - 1]] = Double.POSITIVE_INFINITY;
 
             for (int j = 1; j < size - 1; j++) {
-                distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
+                double distance = column[sortedRows[j + 1]] - column[sortedRows[j - 1]];
                 distance = distance / (objetiveMaxn - objetiveMinn);
-                distance += (double)front.get(j).getAttribute(getAttributeIdentifier());
-                front.get(j).setAttribute(getAttributeIdentifier(), distance);
+                distances[sortedRows[j]] += distance;
+            }
+        }
+
+        /**
+         * Stable merge sort of the rows in [from, to) by the values of the column
+         */
+        private void sortByColumn(int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            sortByColumn(from, middle);
+            sortByColumn(middle, to);
+
+            if (Double.compare(column[sortedRows[middle - 1]], column[sortedRows[middle]]) <= 0) {
+                return;
+            }
+
+            System.arraycopy(sortedRows, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int k = from; k < to; k++) {
+                if (right >= to || (left < middle &&
+                        Double.compare(column[buffer[left]], column[buffer[right]]) <= 0)) {
+                    sortedRows[k] = buffer[left++];
+                } else {
+                    sortedRows[k] = buffer[right++];
+                }
             }
         }
     }
@@ -84,4 +274,3 @@ public class CrowdingDistance<S extends Solution<?>>
         return this.getClass() ;
     }
 }
-
@@ -0,0 +1,344 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Divide-and-conquer non-dominated sorting, which requires O(N*log^(M-1) N) time. The points are
+ * visited in lexicographic order, so the first objective is handled by the order of the points,
+ * and the rest of objectives are split by their median values, from the last one to the second
+ * one, where a sweep line algorithm finishes the work. Two and three objectives are special cased:
+ * the former is solved with a single sweep, and the latter with a binary search over the fronts,
+ * each of them represented by a staircase on the second and third objectives.
+ *
+ * References:
+ * M.T. Jensen. Reducing the run-time complexity of multiobjective EAs: The NSGA-II and other
+ * algorithms. IEEE Transactions on Evolutionary Computation, 7(5): 503-515, 2003.
+ * F.-A. Fortin, S. Grenier, M. Parizeau. Generalizing the improved run-time complexity algorithm
+ * for non-dominated sorting. GECCO 2013.
+ * M. Buzdalov, A. Shalyto. A provably asymptotically fast version of the generalized Jensen
+ * algorithm for non-dominated sorting. PPSN XIII, 2014.
+ */
+@SuppressWarnings("serial")
+public class DivideAndConquerNonDominatedSorting extends AbstractNonDominatedSorting {
+
+    @Override
+    protected void computeRanks(double[][] points, int[] ranks) {
+        if (points.length == 0) {
+            return;
+        }
+
+        int numberOfObjectives = points[0].length;
+        if (numberOfObjectives == 1) {
+            // The points are different, so each one is dominated by the previous one
+            for (int i = 0; i < points.length; i++) {
+                ranks[i] = i;
+            }
+        } else if (numberOfObjectives == 3) {
+            sortThreeObjectives(points, ranks);
+        } else {
+            int[] all = new int[points.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+
+            new Sorter(points, ranks).helperA(all, numberOfObjectives - 1);
+        }
+    }
+
+    private void sortThreeObjectives(double[][] points, int[] ranks) {
+        List<TreeMap<Double, Double>> fronts = new ArrayList<>();
+
+        for (int p = 0; p < points.length; p++) {
+            double y = points[p][1];
+            double z = points[p][2];
+
+            int low = 0;
+            int high = fronts.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                Map.Entry<Double, Double> entry = fronts.get(middle).floorEntry(y);
+                if ((entry != null) && (entry.getValue() <= z)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            if (low == fronts.size()) {
+                fronts.add(new TreeMap<Double, Double>());
+            }
+
+            // The staircase of a front is decreasing in the third objective
+            TreeMap<Double, Double> staircase = fronts.get(low);
+            Map.Entry<Double, Double> entry = staircase.ceilingEntry(y);
+            while ((entry != null) && (entry.getValue() >= z)) {
+                staircase.remove(entry.getKey());
+                entry = staircase.higherEntry(entry.getKey());
+            }
+            staircase.put(y, z);
+
+            ranks[p] = low;
+        }
+    }
+
+    /**
+     * Recursive procedures of the algorithm. The sets of points are arrays of indices sorted in
+     * increasing order, i.e., lexicographically
+     */
+    private static class Sorter {
+        private final double[][] points;
+        private final int[] ranks;
+
+        Sorter(double[][] points, int[] ranks) {
+            this.points = points;
+            this.ranks = ranks;
+        }
+
+        /**
+         * Ranks the points of a set among themselves. All the points have the same values in the
+         * objectives after k
+         */
+        void helperA(int[] set, int k) {
+            if (set.length < 2) {
+                return;
+            } else if (set.length == 2) {
+                updateRank(set[0], set[1], k);
+            } else if (k == 1) {
+                sweepA(set);
+            } else if (minimum(set, k) == maximum(set, k)) {
+                helperA(set, k - 1);
+            } else {
+                int[][] split = split(set, k, median(set, null, k));
+                int[] lower = split[0];
+                int[] equal = split[1];
+                int[] higher = split[2];
+
+                helperA(lower, k);
+                helperB(lower, equal, k - 1);
+                helperA(equal, k - 1);
+                helperB(merge(lower, equal), higher, k - 1);
+                helperA(higher, k);
+            }
+        }
+
+        /**
+         * Updates the ranks of the points of the set high with the points of the set low, whose ranks
+         * are final. Every point of low is better or equal than every point of high in the
+         * objectives after k
+         */
+        void helperB(int[] low, int[] high, int k) {
+            if ((low.length == 0) || (high.length == 0)) {
+                return;
+            } else if ((low.length == 1) || (high.length == 1)) {
+                for (int h : high) {
+                    for (int l : low) {
+                        if (l < h) {
+                            updateRank(l, h, k);
+                        }
+                    }
+                }
+            } else if (k == 1) {
+                sweepB(low, high);
+            } else if (maximum(low, k) <= minimum(high, k)) {
+                helperB(low, high, k - 1);
+            } else if (minimum(low, k) <= maximum(high, k)) {
+                double median = median(low, high, k);
+                int[][] lowSplit = split(low, k, median);
+                int[][] highSplit = split(high, k, median);
+
+                helperB(lowSplit[0], highSplit[0], k);
+                helperB(lowSplit[0], highSplit[1], k - 1);
+                helperB(lowSplit[1], highSplit[1], k - 1);
+                helperB(merge(lowSplit[0], lowSplit[1]), highSplit[2], k - 1);
+                helperB(lowSplit[2], highSplit[2], k);
+            }
+        }
+
+        /**
+         * Sweep on the first two objectives ranking the points of a set among themselves
+         */
+        private void sweepA(int[] set) {
+            TreeMap<Double, Integer> staircase = new TreeMap<>();
+            for (int p : set) {
+                Map.Entry<Double, Integer> entry = staircase.floorEntry(points[p][1]);
+                if (entry != null) {
+                    ranks[p] = Math.max(ranks[p], entry.getValue() + 1);
+                }
+                addToStaircase(staircase, points[p][1], ranks[p]);
+            }
+        }
+
+        /**
+         * Sweep on the first two objectives updating the points of high with the points of low
+         */
+        private void sweepB(int[] low, int[] high) {
+            TreeMap<Double, Integer> staircase = new TreeMap<>();
+            int i = 0;
+            for (int h : high) {
+                while ((i < low.length) && (low[i] < h)) {
+                    addToStaircase(staircase, points[low[i]][1], ranks[low[i]]);
+                    i++;
+                }
+                Map.Entry<Double, Integer> entry = staircase.floorEntry(points[h][1]);
+                if (entry != null) {
+                    ranks[h] = Math.max(ranks[h], entry.getValue() + 1);
+                }
+            }
+        }
+
+        /**
+         * The staircase maps values of the second objective to the maximum rank of the points having
+         * a lower or equal value, so the ranks increase with the keys
+         */
+        private void addToStaircase(TreeMap<Double, Integer> staircase, double value, int rank) {
+            Map.Entry<Double, Integer> entry = staircase.floorEntry(value);
+            if ((entry != null) && (entry.getValue() >= rank)) {
+                return;
+            }
+
+            entry = staircase.ceilingEntry(value);
+            while ((entry != null) && (entry.getValue() <= rank)) {
+                staircase.remove(entry.getKey());
+                entry = staircase.higherEntry(entry.getKey());
+            }
+            staircase.put(value, rank);
+        }
+
+        /**
+         * Point p1 precedes point p2 lexicographically, so it dominates p2 if it is better or equal
+         * in the objectives 1 to k
+         */
+        private void updateRank(int p1, int p2, int k) {
+            for (int i = 1; i <= k; i++) {
+                if (points[p1][i] > points[p2][i]) {
+                    return;
+                }
+            }
+            ranks[p2] = Math.max(ranks[p2], ranks[p1] + 1);
+        }
+
+        private double minimum(int[] set, int k) {
+            double minimum = Double.POSITIVE_INFINITY;
+            for (int p : set) {
+                minimum = Math.min(minimum, points[p][k]);
+            }
+            return minimum;
+        }
+
+        private double maximum(int[] set, int k) {
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (int p : set) {
+                maximum = Math.max(maximum, points[p][k]);
+            }
+            return maximum;
+        }
+
+        /**
+         * Median of the values of the objective k of the points of one or two sets
+         */
+        private double median(int[] set1, int[] set2, int k) {
+            int size2 = set2 == null ? 0 : set2.length;
+            double[] values = new double[set1.length + size2];
+            for (int i = 0; i < set1.length; i++) {
+                values[i] = points[set1[i]][k];
+            }
+            for (int i = 0; i < size2; i++) {
+                values[set1.length + i] = points[set2[i]][k];
+            }
+
+            return select(values, values.length / 2);
+        }
+
+        /**
+         * Quickselect: returns the element that would be at a given position if the array was sorted
+         */
+        private double select(double[] values, int position) {
+            int left = 0;
+            int right = values.length - 1;
+            while (left < right) {
+                double pivot = values[(left + right) >>> 1];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (values[i] < pivot) {
+                        i++;
+                    }
+                    while (values[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        double tmp = values[i];
+                        values[i] = values[j];
+                        values[j] = tmp;
+                        i++;
+                        j--;
+                    }
+                }
+
+                if (position <= j) {
+                    right = j;
+                } else if (position >= i) {
+                    left = i;
+                } else {
+                    return values[position];
+                }
+            }
+
+            return values[position];
+        }
+
+        /**
+         * Splits a set into the points whose value of objective k is lower, equal and higher than
+         * a value, keeping the order
+         */
+        private int[][] split(int[] set, int k, double value) {
+            int lowerSize = 0;
+            int equalSize = 0;
+            for (int p : set) {
+                if (points[p][k] < value) {
+                    lowerSize++;
+                } else if (points[p][k] == value) {
+                    equalSize++;
+                }
+            }
+
+            int[] lower = new int[lowerSize];
+            int[] equal = new int[equalSize];
+            int[] higher = new int[set.length - lowerSize - equalSize];
+            int l = 0;
+            int e = 0;
+            int h = 0;
+            for (int p : set) {
+                if (points[p][k] < value) {
+                    lower[l++] = p;
+                } else if (points[p][k] == value) {
+                    equal[e++] = p;
+                } else {
+                    higher[h++] = p;
+                }
+            }
+
+            return new int[][]{lower, equal, higher};
+        }
+
+        private int[] merge(int[] set1, int[] set2) {
+            int[] result = new int[set1.length + set2.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while ((i < set1.length) && (j < set2.length)) {
+                result[k++] = set1[i] < set2[j] ? set1[i++] : set2[j++];
+            }
+            while (i < set1.length) {
+                result[k++] = set1[i++];
+            }
+            while (j < set2.length) {
+                result[k++] = set2[j++];
+            }
+            return result;
+        }
+    }
+}
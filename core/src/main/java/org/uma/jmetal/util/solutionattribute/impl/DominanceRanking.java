@@ -15,11 +15,12 @@ package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
-import org.uma.jmetal.util.comparator.DominanceComparator;
-import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class implements some facilities for ranking set of solutions.
@@ -30,6 +31,9 @@ import java.util.*;
  * solutions, subset 1 contains the non-dominated solutions after removing those
  * belonging to subset 0, and so on.
  *
+ * The fronts are computed by a {@link NonDominatedSorting} algorithm, which is
+ * {@link FastNonDominatedSorting} by default.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
@@ -37,110 +41,70 @@ import java.util.*;
 public class DominanceRanking<S extends Solution<?>>
         extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
 
-    private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
-    private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
-            new OverallConstraintViolationComparator<Solution<?>>();
-
     private List<ArrayList<S>> rankedSubPopulations;
+    private NonDominatedSorting nonDominatedSorting;
 
     /**
      * Constructor
      */
     public DominanceRanking() {
-        rankedSubPopulations = new ArrayList<>();
+        this(new FastNonDominatedSorting());
     }
 
     public DominanceRanking(Object id) {
         super(id);
         rankedSubPopulations = new ArrayList<>();
+        nonDominatedSorting = new FastNonDominatedSorting();
     }
 
-    @Override
-    public Ranking<S> computeRanking(List<S> solutionSet) {
-        List<S> population = solutionSet;
-
-        // dominateMe[i] contains the number of solutions dominating i
-        int[] dominateMe = new int[population.size()];
-
-        // iDominate[k] contains the list of solutions dominated by k
-        List<List<Integer>> iDominate = new ArrayList<>(population.size());
-
-        // front[i] contains the list of individuals belonging to the front i
-        ArrayList<List<Integer>> front = new ArrayList<>(population.size() + 1);
-
-        // Initialize the fronts
-        for (int i = 0; i < population.size() + 1; i++) {
-            front.add(new LinkedList<Integer>());
-        }
-
-        // Fast non dominated sorting algorithm
-        // Contribution of Guillaume Jacquenot
-        for (int p = 0; p < population.size(); p++) {
-            // Initialize the list of individuals that i dominate and the number
-            // of individuals that dominate me
-            iDominate.add(new LinkedList<Integer>());
-            dominateMe[p] = 0;
-        }
-
-        int flagDominate;
-        for (int p = 0; p < (population.size() - 1); p++) {
-            // For all q individuals , calculate if p dominates q or vice versa
-            for (int q = p + 1; q < population.size(); q++) {
-                flagDominate =
-                        CONSTRAINT_VIOLATION_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
-                if (flagDominate == 0) {
-                    flagDominate = DOMINANCE_COMPARATOR.compare(solutionSet.get(p), solutionSet.get(q));
-                }
-                if (flagDominate == -1) {
-                    iDominate.get(p).add(q);
-                    dominateMe[q]++;
-                } else if (flagDominate == 1) {
-                    iDominate.get(q).add(p);
-                    dominateMe[p]++;
-                }
-            }
-        }
-
-        for (int i = 0; i < population.size(); i++) {
-            if (dominateMe[i] == 0) {
-                front.get(0).add(i);
-                solutionSet.get(i).setAttribute(getAttributeIdentifier(), 0);
-            }
+    /**
+     * Constructor
+     *
+     * @param nonDominatedSorting Algorithm used to compute the fronts
+     */
+    public DominanceRanking(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("The non-dominated sorting algorithm is null");
         }
+        rankedSubPopulations = new ArrayList<>();
+        this.nonDominatedSorting = nonDominatedSorting;
+    }
 
-        //Obtain the rest of fronts
-        int i = 0;
-        Iterator<Integer> it1, it2; // Iterators
-        while (front.get(i).size() != 0) {
-            i++;
-            it1 = front.get(i - 1).iterator();
-            while (it1.hasNext()) {
-                it2 = iDominate.get(it1.next()).iterator();
-                while (it2.hasNext()) {
-                    int index = it2.next();
-                    dominateMe[index]--;
-                    if (dominateMe[index] == 0) {
-                        front.get(i).add(index);
-                        //RankingAndCrowdingAttr.getAttributes(solutionSet.get(index)).setRank(i);
-                        solutionSet.get(index).setAttribute(getAttributeIdentifier(), i);
-                    }
-                }
-            }
-        }
+    @Override
+    public Ranking<S> computeRanking(List<S> solutionSet) {
+        return computeRanking(new PopulationMatrix<S>(solutionSet, true));
+    }
 
-        rankedSubPopulations = new ArrayList<>();
-        //0,1,2,....,i-1 are fronts, then i fronts
-        for (int j = 0; j < i; j++) {
-            rankedSubPopulations.add(j, new ArrayList<S>(front.get(j).size()));
-            it1 = front.get(j).iterator();
-            while (it1.hasNext()) {
-                rankedSubPopulations.get(j).add(solutionSet.get(it1.next()));
+    /**
+     * Computes the ranking of the solutions of a {@link PopulationMatrix}. The dominance tests are
+     * carried out on the packed objective values and constraint violation degrees; if the latter
+     * have not been packed, the constraints are ignored
+     *
+     * @param populationMatrix
+     * @return The ranking
+     */
+    public Ranking<S> computeRanking(PopulationMatrix<S> populationMatrix) {
+        int slot = getAttributeSlot();
+        int[][] fronts = nonDominatedSorting.sort(populationMatrix);
+
+        rankedSubPopulations = new ArrayList<>(fronts.length);
+        for (int rank = 0; rank < fronts.length; rank++) {
+            ArrayList<S> subfront = new ArrayList<S>(fronts[rank].length);
+            for (int row : fronts[rank]) {
+                S solution = populationMatrix.getSolution(row);
+                solution.setIntSlotValue(slot, rank);
+                subfront.add(solution);
             }
+            rankedSubPopulations.add(subfront);
         }
 
         return this;
     }
 
+    public NonDominatedSorting getNonDominatedSorting() {
+        return nonDominatedSorting;
+    }
+
     @Override
     public List<S> getSubfront(int rank) {
         if (rank >= rankedSubPopulations.size()) {
@@ -0,0 +1,103 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import java.util.Arrays;
+
+/**
+ * Efficient non-dominated sorting (ENS). The points are visited in lexicographic order, so every
+ * point is only compared with the points already assigned to a front, and it is assigned to the
+ * first front not containing a point dominating it. The members of a front are compared from the
+ * last one added, which is the most likely to dominate the next point. The front can be searched
+ * sequentially (ENS-SS) or with a binary search (ENS-BS); the latter is preferable when the number
+ * of fronts is high.
+ *
+ * Reference: X. Zhang, Y. Tian, R. Cheng, Y. Jin. An Efficient Approach to Nondominated Sorting
+ * for Evolutionary Multiobjective Optimization. IEEE Transactions on Evolutionary Computation,
+ * 19(2): 201-213, 2015.
+ */
+@SuppressWarnings("serial")
+public class EfficientNonDominatedSorting extends AbstractNonDominatedSorting {
+    public enum SearchStrategy {SEQUENTIAL, BINARY}
+
+    private final SearchStrategy searchStrategy;
+
+    /**
+     * Constructor. The binary search strategy is used
+     */
+    public EfficientNonDominatedSorting() {
+        this(SearchStrategy.BINARY);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param searchStrategy Strategy used to find the front of a point
+     */
+    public EfficientNonDominatedSorting(SearchStrategy searchStrategy) {
+        this.searchStrategy = searchStrategy;
+    }
+
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    @Override
+    protected void computeRanks(double[][] points, int[] ranks) {
+        int[][] fronts = new int[points.length][];
+        int[] frontSizes = new int[points.length];
+        int numberOfFronts = 0;
+
+        for (int p = 0; p < points.length; p++) {
+            int front;
+            if (searchStrategy == SearchStrategy.SEQUENTIAL) {
+                front = 0;
+                while ((front < numberOfFronts) && isDominatedByFront(points, fronts[front], frontSizes[front], p)) {
+                    front++;
+                }
+            } else {
+                int low = 0;
+                int high = numberOfFronts;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (isDominatedByFront(points, fronts[middle], frontSizes[middle], p)) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                front = low;
+            }
+
+            if (front == numberOfFronts) {
+                fronts[front] = new int[4];
+                numberOfFronts++;
+            } else if (frontSizes[front] == fronts[front].length) {
+                fronts[front] = Arrays.copyOf(fronts[front], frontSizes[front] * 2);
+            }
+            fronts[front][frontSizes[front]++] = p;
+            ranks[p] = front;
+        }
+    }
+
+    private boolean isDominatedByFront(double[][] points, int[] front, int frontSize, int p) {
+        for (int i = frontSize - 1; i >= 0; i--) {
+            if (weaklyDominates(points[front[i]], points[p])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The first objective is not compared, as the points are visited in lexicographic order
+     */
+    private boolean weaklyDominates(double[] point1, double[] point2) {
+        for (int i = 1; i < point1.length; i++) {
+            if (point1[i] > point2[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,271 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fast non-dominated sorting algorithm proposed in NSGA-II: every pair of solutions is compared,
+ * and the fronts are then peeled off by decrementing domination counters, so it requires O(M*N^2)
+ * time. It makes no assumption about the dominance relationship, so it works with any
+ * combination of objective values and constraint violation degrees.
+ *
+ * The first front keeps the order of the rows; the rest of fronts are ordered by the
+ * moment in which their solutions are found to be non-dominated. This is the default algorithm
+ * of {@link DominanceRanking}.
+ *
+ * When the population size reaches a threshold, the pairwise comparisons are carried out in
+ * parallel in the common {@link ForkJoinPool}: the comparison triangle is split into blocks of
+ * consecutive rows with a similar number of comparisons, each block builds its own counters and
+ * lists of dominated solutions, and they are merged in block order, so the fronts are exactly the
+ * same as the ones of the sequential comparisons.
+ */
+@SuppressWarnings("serial")
+public class FastNonDominatedSorting implements NonDominatedSorting {
+    /**
+     * Default population size from which the comparisons are carried out in parallel
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2000;
+
+    private static final int BLOCKS_PER_THREAD = 4;
+    private static final int MERGE_GRAIN = 1024;
+
+    private final int parallelThreshold;
+
+    /**
+     * Constructor. The comparisons are carried out in parallel when the population size is
+     * {@link #DEFAULT_PARALLEL_THRESHOLD} or higher
+     */
+    public FastNonDominatedSorting() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parallelThreshold Minimum population size to carry out the comparisons in parallel
+     *                          ({@link Integer#MAX_VALUE} to always compare sequentially)
+     */
+    public FastNonDominatedSorting(int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new JMetalException("The parallel threshold is negative: " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    @Override
+    public int[][] sort(PopulationMatrix<?> populationMatrix) {
+        int populationSize = populationMatrix.getNumberOfSolutions();
+
+        // dominateMe[i] contains the number of solutions dominating i
+        int[] dominateMe = new int[populationSize];
+
+        // iDominate[k] contains the solutions dominated by k (the first iDominateSize[k] elements)
+        int[][] iDominate = new int[populationSize][];
+        int[] iDominateSize = new int[populationSize];
+
+        // Fast non dominated sorting algorithm
+        if ((populationSize > 1) && (populationSize >= parallelThreshold)) {
+            compareInParallel(populationMatrix, dominateMe, iDominate, iDominateSize);
+        } else {
+            compare(populationMatrix, 0, populationSize - 1, dominateMe, iDominate, iDominateSize);
+        }
+
+        // The fronts are stored consecutively in sortedIndices
+        int[] sortedIndices = new int[populationSize];
+        int end = 0;
+        for (int i = 0; i < populationSize; i++) {
+            if (dominateMe[i] == 0) {
+                sortedIndices[end++] = i;
+            }
+        }
+
+        //Obtain the rest of fronts
+        List<int[]> fronts = new ArrayList<>();
+        int start = 0;
+        while (start < end) {
+            int frontEnd = end;
+            fronts.add(Arrays.copyOfRange(sortedIndices, start, frontEnd));
+
+            for (int i = start; i < frontEnd; i++) {
+                int p = sortedIndices[i];
+                for (int j = 0; j < iDominateSize[p]; j++) {
+                    int index = iDominate[p][j];
+                    dominateMe[index]--;
+                    if (dominateMe[index] == 0) {
+                        sortedIndices[end++] = index;
+                    }
+                }
+            }
+            start = frontEnd;
+        }
+
+        return fronts.toArray(new int[fronts.size()][]);
+    }
+
+    /**
+     * Compares the rows in [from, to) with the rows following them
+     */
+    private static void compare(PopulationMatrix<?> populationMatrix, int from, int to,
+                                int[] dominateMe, int[][] iDominate, int[] iDominateSize) {
+        int populationSize = populationMatrix.getNumberOfSolutions();
+        int flagDominate;
+        for (int p = from; p < to; p++) {
+            // For all q individuals , calculate if p dominates q or vice versa
+            for (int q = p + 1; q < populationSize; q++) {
+                flagDominate = populationMatrix.dominanceTest(p, q);
+                if (flagDominate == -1) {
+                    addDominatedSolution(iDominate, iDominateSize, p, q);
+                    dominateMe[q]++;
+                } else if (flagDominate == 1) {
+                    addDominatedSolution(iDominate, iDominateSize, q, p);
+                    dominateMe[p]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The lists of dominated solutions of the sequential comparisons are ordered by the row
+     * compared first, so concatenating the lists of the blocks in order gives the same lists
+     */
+    private static void compareInParallel(PopulationMatrix<?> populationMatrix, int[] dominateMe,
+                                          int[][] iDominate, int[] iDominateSize) {
+        int populationSize = populationMatrix.getNumberOfSolutions();
+        int numberOfBlocks = Math.min(populationSize - 1,
+                BLOCKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+
+        // The row p is compared with the populationSize - 1 - p rows following it
+        int[] blockStart = new int[numberOfBlocks + 1];
+        long comparisons = (long) populationSize * (populationSize - 1) / 2;
+        long accumulated = 0;
+        int block = 1;
+        for (int p = 0; (p < populationSize - 1) && (block < numberOfBlocks); p++) {
+            accumulated += populationSize - 1 - p;
+            if (accumulated * numberOfBlocks >= comparisons * block) {
+                blockStart[block++] = p + 1;
+            }
+        }
+        while (block <= numberOfBlocks) {
+            blockStart[block++] = populationSize - 1;
+        }
+
+        DominanceBlock[] blocks = new DominanceBlock[numberOfBlocks];
+        ForkJoinPool.commonPool().invoke(new ComparisonTask(populationMatrix, blockStart, blocks, 0, numberOfBlocks));
+        ForkJoinPool.commonPool().invoke(new MergeTask(blocks, dominateMe, iDominate, iDominateSize, 0, populationSize));
+    }
+
+    private static void addDominatedSolution(int[][] iDominate, int[] iDominateSize, int p, int q) {
+        if (iDominate[p] == null) {
+            iDominate[p] = new int[4];
+        } else if (iDominateSize[p] == iDominate[p].length) {
+            iDominate[p] = Arrays.copyOf(iDominate[p], iDominateSize[p] * 2);
+        }
+        iDominate[p][iDominateSize[p]++] = q;
+    }
+
+    /**
+     * Counters and lists of dominated solutions computed by a block of rows
+     */
+    private static class DominanceBlock {
+        final int[] dominateMe;
+        final int[][] iDominate;
+        final int[] iDominateSize;
+
+        DominanceBlock(int populationSize) {
+            dominateMe = new int[populationSize];
+            iDominate = new int[populationSize][];
+            iDominateSize = new int[populationSize];
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class ComparisonTask extends RecursiveAction {
+        private final PopulationMatrix<?> populationMatrix;
+        private final int[] blockStart;
+        private final DominanceBlock[] blocks;
+        private final int from;
+        private final int to;
+
+        ComparisonTask(PopulationMatrix<?> populationMatrix, int[] blockStart, DominanceBlock[] blocks,
+                       int from, int to) {
+            this.populationMatrix = populationMatrix;
+            this.blockStart = blockStart;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                DominanceBlock block = new DominanceBlock(populationMatrix.getNumberOfSolutions());
+                compare(populationMatrix, blockStart[from], blockStart[from + 1],
+                        block.dominateMe, block.iDominate, block.iDominateSize);
+                blocks[from] = block;
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ComparisonTask(populationMatrix, blockStart, blocks, from, middle),
+                        new ComparisonTask(populationMatrix, blockStart, blocks, middle, to));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MergeTask extends RecursiveAction {
+        private final DominanceBlock[] blocks;
+        private final int[] dominateMe;
+        private final int[][] iDominate;
+        private final int[] iDominateSize;
+        private final int from;
+        private final int to;
+
+        MergeTask(DominanceBlock[] blocks, int[] dominateMe, int[][] iDominate, int[] iDominateSize,
+                  int from, int to) {
+            this.blocks = blocks;
+            this.dominateMe = dominateMe;
+            this.iDominate = iDominate;
+            this.iDominateSize = iDominateSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MERGE_GRAIN) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MergeTask(blocks, dominateMe, iDominate, iDominateSize, from, middle),
+                        new MergeTask(blocks, dominateMe, iDominate, iDominateSize, middle, to));
+                return;
+            }
+
+            for (int p = from; p < to; p++) {
+                int size = 0;
+                for (DominanceBlock block : blocks) {
+                    dominateMe[p] += block.dominateMe[p];
+                    size += block.iDominateSize[p];
+                }
+
+                if (size > 0) {
+                    iDominate[p] = new int[size];
+                    for (DominanceBlock block : blocks) {
+                        if (block.iDominateSize[p] > 0) {
+                            System.arraycopy(block.iDominate[p], 0, iDominate[p], iDominateSize[p], block.iDominateSize[p]);
+                            iDominateSize[p] += block.iDominateSize[p];
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.solutionattribute.AttributeRegistry;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
 
 /**
@@ -8,11 +9,17 @@ import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
  * of a {@link SolutionAttribute} is the class object, but it can be set to a different value
  * when constructing an instance.
  *
+ * The values are read and written through the slot assigned to the identifier by the
+ * {@link AttributeRegistry}, which is looked up only once per instance. The values returned by
+ * {@link #getAttribute(Solution)} are boxed; {@link #getDoubleAttribute(Solution, double)} and
+ * {@link #getIntAttribute(Solution, int)} read the numeric attributes without boxing.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class GenericSolutionAttribute <S extends Solution<?>, V> implements SolutionAttribute<S, V>{
     private Object identifier;
+    private transient Integer slot;
 
     /**
      * Constructor
@@ -32,12 +39,42 @@ public class GenericSolutionAttribute <S extends Solution<?>, V> implements Solu
     @SuppressWarnings("unchecked")
     @Override
     public V getAttribute(S solution) {
-        return (V)solution.getAttribute(getAttributeIdentifier());
+        return (V)solution.getSlotValue(getAttributeSlot());
     }
 
     @Override
     public void setAttribute(S solution, V value) {
-        solution.setAttribute(getAttributeIdentifier(), value);
+        solution.setSlotValue(getAttributeSlot(), value);
+    }
+
+    /**
+     * Returns the value of the attribute as a double, which is not boxed if the solution stores it
+     * unboxed
+     *
+     * @param defaultValue Value returned if the solution has no value for the attribute
+     */
+    public double getDoubleAttribute(S solution, double defaultValue) {
+        return solution.getDoubleSlotValue(getAttributeSlot(), defaultValue);
+    }
+
+    /**
+     * Returns the value of the attribute as an int, which is not boxed if the solution stores it
+     * unboxed
+     *
+     * @param defaultValue Value returned if the solution has no value for the attribute
+     */
+    public int getIntAttribute(S solution, int defaultValue) {
+        return solution.getIntSlotValue(getAttributeSlot(), defaultValue);
+    }
+
+    /**
+     * Returns the slot of the attribute identifier in the {@link AttributeRegistry}
+     */
+    public int getAttributeSlot() {
+        if (slot == null) {
+            slot = AttributeRegistry.getSlot(getAttributeIdentifier());
+        }
+        return slot;
     }
 
     @Override
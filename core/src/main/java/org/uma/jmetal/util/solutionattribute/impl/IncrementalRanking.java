@@ -0,0 +1,293 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranking of a set of solutions which is updated when a solution is inserted or removed, instead
+ * of being recomputed from scratch, as required by steady-state algorithms. The update follows
+ * the efficient non-domination level update (ENLU) approach: the front of a new solution is found
+ * with a binary search over the fronts, and only the solutions dominated by it are moved down,
+ * level by level; when a solution is removed, only the solutions it dominated in the next level
+ * are candidates to move up, and so on.
+ *
+ * The rank of each solution is stored in the same attribute as {@link DominanceRanking}, so the
+ * comparators based on the ranking can be used with both classes. Solutions are identified by
+ * reference, not by {@link Object#equals(Object)}.
+ *
+ * Reference: K. Li, K. Deb, Q. Zhang, S. Kwong. Efficient non-domination level update approach for
+ * steady-state evolutionary multiobjective optimization. COIN Report 2014014, Michigan State
+ * University, 2014.
+ */
+@SuppressWarnings("serial")
+public class IncrementalRanking<S extends Solution<?>>
+        extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+
+    private final Comparator<S> dominanceComparator;
+    private final NonDominatedSorting nonDominatedSorting;
+    private List<List<S>> fronts;
+    private Map<S, Integer> ranks;
+
+    /**
+     * Constructor. The dominance relationship is the one of {@link DominanceComparator}, and the
+     * initial ranking is computed with {@link FastNonDominatedSorting}
+     */
+    public IncrementalRanking() {
+        this(new FastNonDominatedSorting());
+    }
+
+    /**
+     * Constructor. The dominance relationship is the one of {@link DominanceComparator}
+     *
+     * @param nonDominatedSorting Algorithm used to compute the initial ranking
+     */
+    public IncrementalRanking(NonDominatedSorting nonDominatedSorting) {
+        if (nonDominatedSorting == null) {
+            throw new JMetalException("The non-dominated sorting algorithm is null");
+        }
+        this.dominanceComparator = new DominanceComparator<S>();
+        this.nonDominatedSorting = nonDominatedSorting;
+        fronts = new ArrayList<>();
+        ranks = new IdentityHashMap<>();
+    }
+
+    /**
+     * Constructor. The initial ranking is computed by inserting the solutions one by one
+     *
+     * @param dominanceComparator Comparator returning -1 if the first solution dominates the
+     *                            second one, 1 if the second one dominates the first one, or 0
+     */
+    public IncrementalRanking(Comparator<S> dominanceComparator) {
+        if (dominanceComparator == null) {
+            throw new JMetalException("The dominance comparator is null");
+        }
+        this.dominanceComparator = dominanceComparator;
+        this.nonDominatedSorting = null;
+        fronts = new ArrayList<>();
+        ranks = new IdentityHashMap<>();
+    }
+
+    /**
+     * Discards the current ranking and ranks a list of solutions
+     */
+    @Override
+    public Ranking<S> computeRanking(List<S> solutionList) {
+        fronts = new ArrayList<>();
+        ranks = new IdentityHashMap<>();
+
+        if (nonDominatedSorting == null) {
+            for (S solution : solutionList) {
+                insert(solution);
+            }
+        } else {
+            DominanceRanking<S> ranking = new DominanceRanking<S>(nonDominatedSorting);
+            ranking.computeRanking(solutionList);
+            for (int rank = 0; rank < ranking.getNumberOfSubfronts(); rank++) {
+                fronts.add(new ArrayList<S>(ranking.getSubfront(rank)));
+                for (S solution : ranking.getSubfront(rank)) {
+                    ranks.put(solution, rank);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Inserts a solution in the ranking
+     *
+     * @return The rank of the solution
+     */
+    public int insert(S solution) {
+        if (solution == null) {
+            throw new JMetalException("The solution is null");
+        }
+
+        // If a front does not contain a solution dominating the new one, neither do the next ones
+        int low = 0;
+        int high = fronts.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (isDominatedByFront(solution, fronts.get(middle))) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int rank = low;
+        List<S> moved = new ArrayList<>(1);
+        moved.add(solution);
+        for (int level = rank; !moved.isEmpty(); level++) {
+            if (level == fronts.size()) {
+                fronts.add(new ArrayList<S>());
+            }
+
+            List<S> front = fronts.get(level);
+            List<S> dominated = new ArrayList<>();
+            int kept = 0;
+            for (int i = 0; i < front.size(); i++) {
+                S member = front.get(i);
+                if (dominatesAny(moved, member)) {
+                    dominated.add(member);
+                } else {
+                    front.set(kept++, member);
+                }
+            }
+            front.subList(kept, front.size()).clear();
+
+            for (S member : moved) {
+                setRank(member, level);
+                front.add(member);
+            }
+            moved = dominated;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Removes a solution from the ranking
+     *
+     * @return False if the solution was not found in the ranking
+     */
+    public boolean remove(S solution) {
+        Integer rank = ranks.remove(solution);
+        if (rank == null) {
+            return false;
+        }
+
+        removeByReference(fronts.get(rank), solution);
+
+        // Only the solutions dominated by the removed ones can move up
+        List<S> removed = new ArrayList<>(1);
+        removed.add(solution);
+        for (int level = rank + 1; (level < fronts.size()) && !removed.isEmpty(); level++) {
+            List<S> upperFront = fronts.get(level - 1);
+            List<S> front = fronts.get(level);
+            List<S> promoted = new ArrayList<>();
+            int kept = 0;
+            for (int i = 0; i < front.size(); i++) {
+                S member = front.get(i);
+                if (dominatesAny(removed, member) && !isDominatedByFront(member, upperFront)) {
+                    promoted.add(member);
+                } else {
+                    front.set(kept++, member);
+                }
+            }
+            front.subList(kept, front.size()).clear();
+
+            for (S member : promoted) {
+                setRank(member, level - 1);
+                upperFront.add(member);
+            }
+            removed = promoted;
+        }
+
+        while (!fronts.isEmpty() && fronts.get(fronts.size() - 1).isEmpty()) {
+            fronts.remove(fronts.size() - 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the rank of a solution
+     *
+     * @return The rank or -1 if the solution is not in the ranking
+     */
+    public int getRank(S solution) {
+        Integer rank = ranks.get(solution);
+        return rank == null ? -1 : rank;
+    }
+
+    /**
+     * Returns a copy of a subfront, so it can be modified (e.g., sorted) by the caller
+     */
+    @Override
+    public List<S> getSubfront(int rank) {
+        if (rank >= fronts.size()) {
+            throw new JMetalException("Invalid rank: " + rank + ". Max rank = " + (fronts.size() - 1));
+        }
+        return new ArrayList<>(fronts.get(rank));
+    }
+
+    @Override
+    public int getNumberOfSubfronts() {
+        return fronts.size();
+    }
+
+    public int getNumberOfSolutions() {
+        return ranks.size();
+    }
+
+    /**
+     * Returns the solutions of the ranking, ordered by rank
+     */
+    public List<S> getSolutionList() {
+        List<S> solutionList = new ArrayList<>(ranks.size());
+        for (List<S> front : fronts) {
+            solutionList.addAll(front);
+        }
+        return solutionList;
+    }
+
+    private void setRank(S solution, int rank) {
+        ranks.put(solution, rank);
+        solution.setIntSlotValue(getAttributeSlot(), rank);
+    }
+
+    private boolean isDominatedByFront(S solution, List<S> front) {
+        for (int i = front.size() - 1; i >= 0; i--) {
+            if (dominanceComparator.compare(front.get(i), solution) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean dominatesAny(List<S> solutions, S solution) {
+        for (S dominating : solutions) {
+            if (dominanceComparator.compare(dominating, solution) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <S> void removeByReference(List<S> list, S solution) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == solution) {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Object getAttributeIdentifier() {
+        return DominanceRanking.class;
+    }
+}
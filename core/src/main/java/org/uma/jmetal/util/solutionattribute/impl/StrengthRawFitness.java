@@ -33,6 +33,7 @@ public class StrengthRawFitness<S extends Solution<?>>
         double[] strength = new double[solutionSet.size()];
         double[] rawFitness = new double[solutionSet.size()];
         double kDistance;
+        int slot = getAttributeSlot();
 
         // strength(i) = |{j | j <- SolutionSet and i dominate j}|
         for (int i = 0; i < solutionSet.size(); i++) {
@@ -60,7 +61,7 @@ public class StrengthRawFitness<S extends Solution<?>>
         for (int i = 0; i < distance.length; i++) {
             Arrays.sort(distance[i]);
             kDistance = 1.0 / (distance[i][k] + 2.0);
-            solutionSet.get(i).setAttribute(getAttributeIdentifier(), rawFitness[i] + kDistance);
+            solutionSet.get(i).setDoubleSlotValue(slot, rawFitness[i] + kDistance);
         }
     }
 }
@@ -16,6 +16,8 @@ package org.uma.jmetal.operator.impl.crossover;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
@@ -132,6 +134,7 @@ public class SBXCrossoverTest {
         assertEquals(solutions.get(0), newSolutions.get(0));
         assertEquals(solutions.get(1), newSolutions.get(1));
         verify(randomGenerator).nextDouble();
+        verify(randomGenerator, never()).nextDoubles(any(double[].class), anyInt(), anyInt());
     }
 
     @Test
@@ -140,7 +143,8 @@ public class SBXCrossoverTest {
         double crossoverProbability = 0.9;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2, 0.2, 0.6, 0.6);
+        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2, 0.6, 0.6);
+        mockRandomValues(randomGenerator, 0.2);
 
         SBXCrossover crossover = new SBXCrossover(crossoverProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(1);
@@ -159,7 +163,8 @@ public class SBXCrossoverTest {
                 .lessThanOrEqualTo(solutions.get(0).getUpperBound(0)));
         assertThat(newSolutions.get(1).getVariableValue(0), Matchers
                 .greaterThanOrEqualTo(solutions.get(1).getLowerBound(0)));
-        verify(randomGenerator, times(4)).nextDouble();
+        verify(randomGenerator, times(3)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(1));
     }
 
     @Test
@@ -168,7 +173,8 @@ public class SBXCrossoverTest {
         double crossoverProbability = 0.9;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2, 0.2);
+        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2);
+        mockRandomValues(randomGenerator, 0.2);
 
         SBXCrossover crossover = new SBXCrossover(crossoverProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(1);
@@ -183,7 +189,8 @@ public class SBXCrossoverTest {
 
         assertEquals(solutions.get(0).getVariableValue(0), newSolutions.get(0).getVariableValue(0), EPSILON);
         assertEquals(solutions.get(1).getVariableValue(0), newSolutions.get(1).getVariableValue(0), EPSILON);
-        verify(randomGenerator, times(2)).nextDouble();
+        verify(randomGenerator, times(1)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(1));
     }
 
     @Test
@@ -192,7 +199,8 @@ public class SBXCrossoverTest {
         double crossoverProbability = 0.9;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2, 0.2, 0.8, 0.3, 0.2, 0.8, 0.3);
+        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.2, 0.8, 0.3, 0.8, 0.3);
+        mockRandomValues(randomGenerator, 0.2, 0.2);
 
         SBXCrossover crossover = new SBXCrossover(crossoverProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(2);
@@ -224,7 +232,8 @@ public class SBXCrossoverTest {
                 .lessThanOrEqualTo(solutions.get(0).getUpperBound(0)));
         assertThat(newSolutions.get(1).getVariableValue(1), Matchers
                 .greaterThanOrEqualTo(solutions.get(1).getLowerBound(0)));
-        verify(randomGenerator, times(7)).nextDouble();
+        verify(randomGenerator, times(5)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(2));
     }
 
     @Test
@@ -233,7 +242,8 @@ public class SBXCrossoverTest {
         double crossoverProbability = 0.9;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.3, 0.7, 0.2, 0.2, 0.2, 0.7);
+        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.3, 0.2, 0.2);
+        mockRandomValues(randomGenerator, 0.7, 0.2, 0.7);
 
         SBXCrossover crossover = new SBXCrossover(crossoverProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(3);
@@ -247,7 +257,24 @@ public class SBXCrossoverTest {
         assertNotEquals(solutions.get(0).getVariableValue(1), newSolutions.get(0).getVariableValue(1), EPSILON);
         assertEquals(solutions.get(0).getVariableValue(2), newSolutions.get(0).getVariableValue(2), EPSILON);
 
-        verify(randomGenerator, times(6)).nextDouble();
+        verify(randomGenerator, times(3)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(3));
+    }
+
+    /**
+     * Makes the mocked generator fill the arrays passed to nextDoubles() with some values
+     */
+    private void mockRandomValues(JMetalRandom randomGenerator, final double... values) {
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                double[] array = (double[]) invocation.getArguments()[0];
+                int from = (Integer) invocation.getArguments()[1];
+                int to = (Integer) invocation.getArguments()[2];
+                System.arraycopy(values, 0, array, from, Math.min(values.length, to - from));
+                return null;
+            }
+        }).when(randomGenerator).nextDoubles(any(double[].class), anyInt(), anyInt());
     }
 
     /**
@@ -13,6 +13,7 @@
 
 package org.uma.jmetal.operator.impl.mutation;
 
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -22,9 +23,12 @@ import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.solution.impl.DefaultBinarySolution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.Xoshiro256PlusPlusGenerator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class BitFlipMutationTest {
@@ -140,6 +144,76 @@ public class BitFlipMutationTest {
         verify(randomGenerator, times(8)).nextDouble();
     }
 
+    @Test
+    public void shouldSkipSamplingFlipTheSampledBitsOfAllTheVariables() {
+        JMetalRandom randomGenerator = mock(JMetalRandom.class);
+        double mutationProbability = 0.5;
+
+        // With probability 0.5, 0.0 skips no bits, 0.8 skips two bits and 0.999 skips the rest
+        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.0, 0.8, 0.8, 0.999);
+
+        BitFlipMutation mutation = new BitFlipMutation(mutationProbability);
+        mutation.setSkipSamplingEnabled(true);
+        BinaryProblem problem = new MockBinaryProblem(2);
+        BinarySolution solution = problem.createSolution();
+        BinarySolution oldSolution = (BinarySolution) solution.copy();
+
+        ReflectionTestUtils.setField(mutation, "randomGenerator", randomGenerator);
+
+        mutation.execute(solution);
+
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < NUMBER_OF_BITS_OF_MOCKED_BINARY_PROBLEM; j++) {
+                boolean flipped = ((i == 0) && (j == 0 || j == 3)) || ((i == 1) && (j == 2));
+                assertEquals(flipped, oldSolution.getVariableValue(i).get(j) != solution.getVariableValue(i).get(j));
+            }
+        }
+        verify(randomGenerator, times(4)).nextDouble();
+    }
+
+    @Test
+    public void shouldSkipSamplingFlipEachBitWithTheSameFrequencyAsTheDefaultMode() {
+        PseudoRandomGenerator previousGenerator =
+                JMetalRandom.bindThreadRandomGenerator(new Xoshiro256PlusPlusGenerator(2016));
+        try {
+            int numberOfVariables = 5;
+            int numberOfBits = numberOfVariables * NUMBER_OF_BITS_OF_MOCKED_BINARY_PROBLEM;
+            int numberOfExecutions = 20000;
+            double mutationProbability = 1.0 / numberOfBits;
+
+            BitFlipMutation mutation = new BitFlipMutation(mutationProbability);
+            BitFlipMutation skipSamplingMutation = new BitFlipMutation(mutationProbability);
+            skipSamplingMutation.setSkipSamplingEnabled(true);
+            BinaryProblem problem = new MockBinaryProblem(numberOfVariables);
+
+            long[] flips = new long[numberOfBits];
+            long[] skipSamplingFlips = new long[numberOfBits];
+            for (int execution = 0; execution < numberOfExecutions; execution++) {
+                countFlips(mutation, problem.createSolution(), flips);
+                countFlips(skipSamplingMutation, problem.createSolution(), skipSamplingFlips);
+            }
+
+            assertTrue(new ChiSquareTest().chiSquareTestDataSetsComparison(flips, skipSamplingFlips) > 0.001);
+        } finally {
+            JMetalRandom.bindThreadRandomGenerator(previousGenerator);
+        }
+    }
+
+    private void countFlips(BitFlipMutation mutation, BinarySolution solution, long[] flips) {
+        BinarySolution oldSolution = (BinarySolution) solution.copy();
+        mutation.execute(solution);
+
+        int bit = 0;
+        for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+            for (int j = 0; j < solution.getVariableValue(i).getBinarySetLength(); j++) {
+                if (oldSolution.getVariableValue(i).get(j) != solution.getVariableValue(i).get(j)) {
+                    flips[bit]++;
+                }
+                bit++;
+            }
+        }
+    }
+
     /**
      * Mock class representing a binary problem
      */
@@ -15,7 +15,8 @@ package org.uma.jmetal.operator.impl.mutation;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
-import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
@@ -129,7 +130,7 @@ public class PolynomialMutationTest {
         double mutationProbability = 0.1;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(1.0);
+        mockRandomValues(randomGenerator, 1.0);
 
         PolynomialMutation mutation = new PolynomialMutation(mutationProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(1);
@@ -141,7 +142,8 @@ public class PolynomialMutationTest {
         mutation.execute(solution);
 
         assertEquals(oldSolution, solution);
-        verify(randomGenerator, times(1)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(1));
+        verify(randomGenerator, never()).nextDouble();
     }
 
     @Test
@@ -150,7 +152,8 @@ public class PolynomialMutationTest {
         double mutationProbability = 0.1;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.005, 0.6);
+        mockRandomValues(randomGenerator, 0.005);
+        when(randomGenerator.nextDouble()).thenReturn(0.6);
 
         PolynomialMutation mutation = new PolynomialMutation(mutationProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(1);
@@ -163,7 +166,8 @@ public class PolynomialMutationTest {
         assertThat(solution.getVariableValue(0), Matchers.greaterThanOrEqualTo(
                 solution.getLowerBound(0)));
         assertThat(solution.getVariableValue(0), Matchers.lessThanOrEqualTo(solution.getUpperBound(0)));
-        verify(randomGenerator, times(2)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(1));
+        verify(randomGenerator, times(1)).nextDouble();
     }
 
     @Test
@@ -172,7 +176,8 @@ public class PolynomialMutationTest {
         double mutationProbability = 0.1;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.005, 0.1);
+        mockRandomValues(randomGenerator, 0.005);
+        when(randomGenerator.nextDouble()).thenReturn(0.1);
 
         PolynomialMutation mutation = new PolynomialMutation(mutationProbability, distributionIndex);
         DoubleProblem problem = new MockDoubleProblem(1);
@@ -184,7 +189,8 @@ public class PolynomialMutationTest {
 
         assertThat(solution.getVariableValue(0), Matchers.greaterThanOrEqualTo(solution.getLowerBound(0)));
         assertThat(solution.getVariableValue(0), Matchers.lessThanOrEqualTo(solution.getUpperBound(0)));
-        verify(randomGenerator, times(2)).nextDouble();
+        verify(randomGenerator, times(1)).nextDoubles(any(double[].class), eq(0), eq(1));
+        verify(randomGenerator, times(1)).nextDouble();
     }
 
     @Test
@@ -193,7 +199,8 @@ public class PolynomialMutationTest {
         double mutationProbability = 0.1;
         double distributionIndex = 20.0;
 
-        Mockito.when(randomGenerator.nextDouble()).thenReturn(0.005, 0.1);
+        mockRandomValues(randomGenerator, 0.005);
+        when(randomGenerator.nextDouble()).thenReturn(0.1);
 
         PolynomialMutation mutation = new PolynomialMutation(mutationProbability, distributionIndex);
 
@@ -210,6 +217,49 @@ public class PolynomialMutationTest {
         assertEquals(1.0, solution.getVariableValue(0), EPSILON);
     }
 
+    @Test
+    public void shouldSkipSamplingMutateOnlyTheSampledVariables() {
+        JMetalRandom randomGenerator = mock(JMetalRandom.class);
+        double mutationProbability = 0.5;
+        double distributionIndex = 20.0;
+
+        // 0.8 skips two variables, so only the third one is mutated, with a perturbation of 0.6
+        when(randomGenerator.nextDouble()).thenReturn(0.8, 0.6, 0.99);
+
+        PolynomialMutation mutation = new PolynomialMutation(mutationProbability, distributionIndex);
+        mutation.setSkipSamplingEnabled(true);
+        DoubleProblem problem = new MockDoubleProblem(3);
+        DoubleSolution solution = problem.createSolution();
+        DoubleSolution oldSolution = (DoubleSolution) solution.copy();
+
+        ReflectionTestUtils.setField(mutation, "randomGenerator", randomGenerator);
+
+        mutation.execute(solution);
+
+        assertEquals(oldSolution.getVariableValue(0), solution.getVariableValue(0), EPSILON);
+        assertEquals(oldSolution.getVariableValue(1), solution.getVariableValue(1), EPSILON);
+        assertThat(solution.getVariableValue(2), Matchers.greaterThan(oldSolution.getVariableValue(2)));
+        assertThat(solution.getVariableValue(2), Matchers.lessThanOrEqualTo(solution.getUpperBound(2)));
+        verify(randomGenerator, times(2)).nextDouble();
+        verify(randomGenerator, never()).nextDoubles(any(double[].class), anyInt(), anyInt());
+    }
+
+    /**
+     * Makes the mocked generator fill the arrays passed to nextDoubles() with some values
+     */
+    private void mockRandomValues(JMetalRandom randomGenerator, final double... values) {
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                double[] array = (double[]) invocation.getArguments()[0];
+                int from = (Integer) invocation.getArguments()[1];
+                int to = (Integer) invocation.getArguments()[2];
+                System.arraycopy(values, 0, array, from, Math.min(values.length, to - from));
+                return null;
+            }
+        }).when(randomGenerator).nextDoubles(any(double[].class), anyInt(), anyInt());
+    }
+
     /**
      * Mock class representing a double problem
      */
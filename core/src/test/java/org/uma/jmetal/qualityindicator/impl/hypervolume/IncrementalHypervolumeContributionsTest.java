@@ -0,0 +1,218 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the contributions kept by {@link IncrementalHypervolumeContributions} against the ones
+ * obtained by computing the hypervolume with and without each solution
+ */
+public class IncrementalHypervolumeContributionsTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldTheContributionsOfTwoObjectivesBeTheRectanglesDelimitedByTheNeighbours() {
+        IncrementalHypervolumeContributions<PointSolution> contributions = new IncrementalHypervolumeContributions<>(2);
+        contributions.setReferencePoint(new double[]{4.0, 4.0});
+        PointSolution solution1 = createSolution(1.0, 3.0);
+        PointSolution solution2 = createSolution(2.0, 2.0);
+        PointSolution solution3 = createSolution(3.0, 1.0);
+        contributions.add(solution1);
+        contributions.add(solution3);
+        contributions.add(solution2);
+
+        assertEquals(1.0, contributions.getContribution(solution1), EPSILON);
+        assertEquals(1.0, contributions.getContribution(solution2), EPSILON);
+        assertEquals(1.0, contributions.getContribution(solution3), EPSILON);
+
+        assertTrue(contributions.remove(solution2));
+        assertFalse(contributions.remove(solution2));
+        assertEquals(2.0, contributions.getContribution(solution1), EPSILON);
+        assertEquals(2.0, contributions.getContribution(solution3), EPSILON);
+
+        contributions.setReferencePoint(new double[]{5.0, 4.0});
+        assertEquals(4.0, contributions.getContribution(solution3), EPSILON);
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldAddingADominatedSolutionWithTwoObjectivesRaiseAnException() {
+        IncrementalHypervolumeContributions<PointSolution> contributions = new IncrementalHypervolumeContributions<>(2);
+        contributions.setReferencePoint(new double[]{4.0, 4.0});
+        contributions.add(createSolution(1.0, 1.0));
+        contributions.add(createSolution(2.0, 2.0));
+    }
+
+    @Test
+    public void shouldTheContributionsBeTheExactOnesAfterRandomInsertionsAndRemovals() {
+        Random random = new Random(1);
+        for (int test = 0; test < 40; test++) {
+            int numberOfObjectives = 2 + test % 4;
+            int numberOfValues = test % 8 < 4 ? 5 : Integer.MAX_VALUE;
+            double[] referencePoint = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                referencePoint[i] = 1.0 + random.nextDouble();
+            }
+
+            IncrementalHypervolumeContributions<PointSolution> contributions =
+                    new IncrementalHypervolumeContributions<>(numberOfObjectives);
+            contributions.setReferencePoint(referencePoint);
+            List<PointSolution> solutionList = new ArrayList<>();
+            for (int step = 0; step < 60; step++) {
+                if (!solutionList.isEmpty() && (random.nextInt(4) == 0)) {
+                    PointSolution solution = solutionList.remove(random.nextInt(solutionList.size()));
+                    assertTrue(contributions.remove(solution));
+                } else if (random.nextInt(10) == 0) {
+                    referencePoint[random.nextInt(numberOfObjectives)] += 0.5 * random.nextDouble();
+                    contributions.setReferencePoint(referencePoint);
+                } else {
+                    PointSolution solution = createNonDominatedSolution(random, solutionList, numberOfObjectives, numberOfValues);
+                    if (solution != null) {
+                        solutionList.add(solution);
+                        contributions.add(solution);
+                    }
+                }
+
+                assertEquals(solutionList.size(), contributions.size());
+                for (PointSolution solution : solutionList) {
+                    assertEquals(computeContribution(solutionList, solution, referencePoint),
+                            contributions.getContribution(solution), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheContributionsBeTheExactOnesWhenTheReferencePointMovesBackAndForth() {
+        Random random = new Random(3);
+        for (int test = 0; test < 20; test++) {
+            int numberOfObjectives = 3 + test % 2;
+            int numberOfValues = test % 4 < 2 ? 4 : Integer.MAX_VALUE;
+            double[] referencePoint = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                referencePoint[i] = 1.5;
+            }
+
+            IncrementalHypervolumeContributions<PointSolution> contributions =
+                    new IncrementalHypervolumeContributions<>(numberOfObjectives);
+            contributions.setReferencePoint(referencePoint);
+            List<PointSolution> solutionList = new ArrayList<>();
+            for (int step = 0; step < 60; step++) {
+                if (!solutionList.isEmpty() && (random.nextInt(4) == 0)) {
+                    PointSolution solution = solutionList.remove(random.nextInt(solutionList.size()));
+                    assertTrue(contributions.remove(solution));
+                } else if (random.nextInt(3) == 0) {
+                    referencePoint[random.nextInt(numberOfObjectives)] = 1.0 + random.nextDouble();
+                    contributions.setReferencePoint(referencePoint);
+                } else {
+                    PointSolution solution = createNonDominatedSolution(random, solutionList, numberOfObjectives, numberOfValues);
+                    if (solution != null) {
+                        solutionList.add(solution);
+                        contributions.add(solution);
+                    }
+                }
+
+                for (PointSolution solution : solutionList) {
+                    assertEquals(computeContribution(solutionList, solution, referencePoint),
+                            contributions.getContribution(solution), EPSILON);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldUpdateMakeTheContributionsBeTheOnesOfTheList() {
+        Random random = new Random(2);
+        double[] referencePoint = {2.0, 2.0, 2.0};
+        IncrementalHypervolumeContributions<PointSolution> contributions = new IncrementalHypervolumeContributions<>(3);
+        contributions.setReferencePoint(referencePoint);
+
+        List<PointSolution> solutionList = new ArrayList<>();
+        for (int step = 0; step < 100; step++) {
+            if (!solutionList.isEmpty() && random.nextBoolean()) {
+                solutionList.remove(random.nextInt(solutionList.size()));
+            }
+            PointSolution solution = createNonDominatedSolution(random, solutionList, 3, Integer.MAX_VALUE);
+            if (solution != null) {
+                solutionList.add(solution);
+            }
+
+            contributions.update(solutionList);
+            assertEquals(solutionList.size(), contributions.size());
+            for (PointSolution member : solutionList) {
+                assertEquals(computeContribution(solutionList, member, referencePoint),
+                        contributions.getContribution(member), EPSILON);
+            }
+        }
+    }
+
+    private PointSolution createNonDominatedSolution(Random random, List<PointSolution> solutionList,
+                                                     int numberOfObjectives, int numberOfValues) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        double norm = 0.0;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            double value = numberOfValues == Integer.MAX_VALUE ?
+                    random.nextDouble() : (1.0 + random.nextInt(numberOfValues)) / numberOfValues;
+            solution.setObjective(i, value);
+            norm += value;
+        }
+        if (numberOfValues == Integer.MAX_VALUE) {
+            for (int i = 0; i < numberOfObjectives; i++) {
+                solution.setObjective(i, solution.getObjective(i) / norm);
+            }
+        }
+
+        for (PointSolution member : solutionList) {
+            boolean equal = true;
+            boolean memberIsBetter = false;
+            boolean solutionIsBetter = false;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                equal &= member.getObjective(i) == solution.getObjective(i);
+                memberIsBetter |= member.getObjective(i) < solution.getObjective(i);
+                solutionIsBetter |= solution.getObjective(i) < member.getObjective(i);
+            }
+            if (!equal && (!memberIsBetter || !solutionIsBetter)) {
+                return null;
+            }
+        }
+
+        return solution;
+    }
+
+    private double computeContribution(List<PointSolution> solutionList, PointSolution solution, double[] referencePoint) {
+        List<PointSolution> otherSolutions = new ArrayList<>(solutionList);
+        otherSolutions.remove(solution);
+        return computeHypervolume(solutionList, referencePoint) - computeHypervolume(otherSolutions, referencePoint);
+    }
+
+    /**
+     * Hypervolume computed by the PISA implementation, which maximizes the objectives
+     */
+    private double computeHypervolume(List<PointSolution> solutionList, double[] referencePoint) {
+        double[][] front = new double[solutionList.size()][referencePoint.length];
+        for (int i = 0; i < solutionList.size(); i++) {
+            for (int j = 0; j < referencePoint.length; j++) {
+                front[i][j] = referencePoint[j] - solutionList.get(i).getObjective(j);
+            }
+        }
+
+        return new PISAHypervolume<PointSolution>().calculateHypervolume(front, front.length, referencePoint.length);
+    }
+
+    private PointSolution createSolution(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
+}
@@ -0,0 +1,145 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeEngine;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the estimations of {@link MonteCarloHypervolume} against the exact hypervolume
+ */
+public class MonteCarloHypervolumeTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldTheHypervolumeOfASinglePointBeExact() {
+        MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<>();
+        List<PointSolution> solutionList = Arrays.asList(createSolution(0.5, 0.75, -1.0), createSolution(0.5, 0.75, 2.0));
+
+        assertEquals(0.5 * 0.25 * 1.0, hypervolume.evaluate(solutionList), EPSILON);
+    }
+
+    @Test
+    public void shouldTheEstimationBeCloseToTheExactHypervolume() {
+        Random random = new Random(1);
+        for (int numberOfObjectives = 3; numberOfObjectives <= 6; numberOfObjectives++) {
+            List<PointSolution> solutionList = createRandomFront(random, 100, numberOfObjectives);
+            double[] referencePoint = new double[numberOfObjectives];
+            Arrays.fill(referencePoint, 1.0);
+            double exact = new WfgHypervolumeEngine(referencePoint).getHypervolume(solutionList);
+
+            MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<>();
+            hypervolume.setMaximumRelativeError(0.005);
+            double estimate = hypervolume.evaluate(solutionList);
+
+            assertTrue(hypervolume.getLastConfidenceHalfWidth() <= 0.005 * estimate);
+            assertEquals(exact, estimate, 4.0 * hypervolume.getLastConfidenceHalfWidth());
+        }
+    }
+
+    @Test
+    public void shouldTheEstimationUseTheReferencePointWhenItIsSet() {
+        Random random = new Random(2);
+        List<PointSolution> solutionList = createRandomFront(random, 50, 4);
+        double[] referencePoint = {2.0, 1.5, 1.5, 3.0};
+        double exact = new WfgHypervolumeEngine(referencePoint).getHypervolume(solutionList);
+
+        MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<>();
+        hypervolume.setReferencePoint(referencePoint).setMaximumRelativeError(0.0).setMaximumConfidenceWidth(0.02);
+        double estimate = hypervolume.evaluate(solutionList);
+
+        assertTrue(2.0 * hypervolume.getLastConfidenceHalfWidth() <= 0.02);
+        assertEquals(exact, estimate, 4.0 * hypervolume.getLastConfidenceHalfWidth());
+    }
+
+    @Test
+    public void shouldTheEstimationDependOnlyOnTheSeedAndStopAtTheMaximumNumberOfSamples() {
+        List<PointSolution> solutionList = createRandomFront(new Random(3), 100, 8);
+
+        MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<>();
+        hypervolume.setMaximumRelativeError(0.0).setMaximumNumberOfSamples(50000).setSeed(7);
+        double estimate = hypervolume.evaluate(solutionList);
+        long numberOfSamples = hypervolume.getLastNumberOfSamples();
+
+        assertTrue(numberOfSamples >= 50000);
+        assertTrue(numberOfSamples < 50000 + 16 * 1024);
+        assertEquals(estimate, hypervolume.evaluate(solutionList), 0.0);
+        assertEquals(estimate, new MonteCarloHypervolume<PointSolution>().setMaximumRelativeError(0.0)
+                .setMaximumNumberOfSamples(50000).setSeed(7).evaluate(solutionList), 0.0);
+    }
+
+    @Test
+    public void shouldAFrontOutsideTheUnitBoxBeNormalizedWithTheReferenceFrontAsForPISAHypervolume() {
+        Random random = new Random(4);
+        double[] minimumValues = {-1.0, 2.0, 0.5};
+        double[] ranges = {4.0, 10.0, 0.25};
+        Front referenceFront = new ArrayFront(scale(createRandomFront(random, 200, 3), minimumValues, ranges));
+        List<PointSolution> solutionList = scale(createRandomFront(random, 50, 3), minimumValues, ranges);
+
+        Front normalizedFront = new FrontNormalizer(referenceFront).normalize(new ArrayFront(solutionList));
+        double exact = new PISAHypervolume<PointSolution>(referenceFront)
+                .evaluate(FrontUtils.convertFrontToSolutionList(normalizedFront));
+
+        MonteCarloHypervolume<PointSolution> hypervolume = new MonteCarloHypervolume<>(referenceFront);
+        hypervolume.setMaximumRelativeError(0.005);
+        double estimate = hypervolume.evaluate(solutionList);
+
+        assertTrue(exact > 0.0);
+        assertEquals(exact, estimate, 4.0 * hypervolume.getLastConfidenceHalfWidth());
+    }
+
+    /**
+     * Moves the points of a front in the unit box to the box with the given minimum values and ranges
+     */
+    private List<PointSolution> scale(List<PointSolution> solutionList, double[] minimumValues, double[] ranges) {
+        for (PointSolution solution : solutionList) {
+            for (int i = 0; i < minimumValues.length; i++) {
+                solution.setObjective(i, minimumValues[i] + ranges[i] * solution.getObjective(i));
+            }
+        }
+
+        return solutionList;
+    }
+
+    /**
+     * Points on the positive part of the unit sphere, scaled to lie in the unit box
+     */
+    private List<PointSolution> createRandomFront(Random random, int numberOfPoints, int numberOfObjectives) {
+        List<PointSolution> solutionList = new ArrayList<>();
+        for (int j = 0; j < numberOfPoints; j++) {
+            double[] values = new double[numberOfObjectives];
+            double norm = 0.0;
+            for (int i = 0; i < numberOfObjectives; i++) {
+                values[i] = random.nextDouble();
+                norm += values[i] * values[i];
+            }
+            norm = Math.sqrt(norm);
+            for (int i = 0; i < numberOfObjectives; i++) {
+                values[i] = 0.9 * values[i] / norm;
+            }
+            solutionList.add(createSolution(values));
+        }
+
+        return solutionList;
+    }
+
+    private PointSolution createSolution(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
+}
@@ -7,12 +7,16 @@ import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Created by ajnebro on 17/12/15.
@@ -48,6 +52,63 @@ public class WFGHypervolumeTest {
         assertNotEquals(0, hv);
     }
 
+    @Test
+    public void shouldComputeHypervolumeNotReorderTheList() {
+        DoubleProblem problem = new MockDoubleProblem(2);
+
+        DoubleSolution solution = problem.createSolution();
+        solution.setObjective(0, 0.0);
+        solution.setObjective(1, 1.0);
+
+        DoubleSolution solution2 = problem.createSolution();
+        solution2.setObjective(0, -1.0);
+        solution2.setObjective(1, 2.0);
+
+        DoubleSolution solution3 = problem.createSolution();
+        solution3.setObjective(0, -2.0);
+        solution3.setObjective(1, 1.5);
+
+        List<DoubleSolution> list = Arrays.asList(solution, solution2, solution3);
+
+        double hv = hypervolume.computeHypervolume(list, new double[]{1.0, 3.0});
+
+        assertEquals(5.0, hv, 0.000000001);
+        assertSame(solution, list.get(0));
+        assertSame(solution2, list.get(1));
+        assertSame(solution3, list.get(2));
+    }
+
+    @Test
+    public void shouldTheContributionsBeMeasuredFromTheContributionReferencePoint() {
+        DoubleProblem problem = new MockDoubleProblem(2);
+        hypervolume.setOffset(1.0);
+
+        DoubleSolution solution = createSolution(problem, 1.0, 3.0);
+        DoubleSolution solution2 = createSolution(problem, 2.0, 2.0);
+        DoubleSolution solution3 = createSolution(problem, 3.0, 1.0);
+        List<DoubleSolution> referenceFrontList = Arrays.asList(createSolution(problem, 5.0, 0.5),
+                createSolution(problem, 0.5, 4.0));
+
+        assertArrayEquals(new double[]{6.0, 5.0},
+                hypervolume.computeContributionReferencePoint(referenceFrontList), 0.000000001);
+
+        List<DoubleSolution> list = new ArrayList<>(Arrays.asList(solution, solution2, solution3));
+        hypervolume.computeHypervolumeContribution(list, referenceFrontList);
+
+        HypervolumeContributionAttribute<DoubleSolution> contribution = new HypervolumeContributionAttribute<>();
+        assertEquals(2.0, contribution.getAttribute(solution), 0.000000001);
+        assertEquals(1.0, contribution.getAttribute(solution2), 0.000000001);
+        assertEquals(3.0, contribution.getAttribute(solution3), 0.000000001);
+    }
+
+    private DoubleSolution createSolution(DoubleProblem problem, double... objectives) {
+        DoubleSolution solution = problem.createSolution();
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
 
     /**
      * Mock class representing a binary problem
@@ -0,0 +1,84 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the hypervolume computed by {@link HypervolumeKernels} against the one of the PISA
+ * implementation
+ */
+public class HypervolumeKernelsTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldTheHypervolumeOfTwoPointsOfThreeObjectivesBeTheVolumeOfTheUnionOfTheirBoxes() {
+        double[] points = {0.0, 1.0, 1.0, 1.0, 0.0, 0.0};
+
+        assertEquals(2.0 * 1.0 * 1.0 + 1.0 * 2.0 * 2.0 - 1.0 * 1.0 * 1.0,
+                new HypervolumeKernels().hypervolume3D(points, 2, 3, new double[]{2.0, 2.0, 2.0}), EPSILON);
+    }
+
+    @Test
+    public void shouldOnlyTheFirstValuesOfEachRowBeConsidered() {
+        double[] points = {0.0, 1.0, 1.0, 9.0, 9.0, 1.0, 0.0, 0.0, 9.0, 9.0};
+
+        assertEquals(2.0 * 1.0 + 1.0 * 2.0 - 1.0 * 1.0,
+                new HypervolumeKernels().hypervolume2D(points, 2, 5, new double[]{2.0, 2.0}), EPSILON);
+        assertEquals(2.0 * 1.0 * 1.0 + 1.0 * 2.0 * 2.0 - 1.0 * 1.0 * 1.0,
+                new HypervolumeKernels().hypervolume3D(points, 2, 5, new double[]{2.0, 2.0, 2.0}), EPSILON);
+    }
+
+    @Test
+    public void shouldTheHypervolumeBeTheOneOfThePISAImplementation() {
+        Random random = new Random(1);
+        HypervolumeKernels kernels = new HypervolumeKernels();
+        for (int test = 0; test < 90; test++) {
+            int numberOfObjectives = 2 + test % 3;
+            int numberOfPoints = 1 + random.nextInt(test % 10 < 5 ? 10 : 100);
+            int numberOfValues = test % 3 == 0 ? 4 : Integer.MAX_VALUE;
+
+            double[] referencePoint = new double[numberOfObjectives];
+            Arrays.fill(referencePoint, 1.0);
+            double[] points = new double[numberOfPoints * numberOfObjectives];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = numberOfValues == Integer.MAX_VALUE ?
+                        random.nextDouble() : random.nextInt(numberOfValues) / (double) numberOfValues;
+            }
+            double[] copy = points.clone();
+
+            double hypervolume;
+            if (numberOfObjectives == 2) {
+                hypervolume = kernels.hypervolume2D(points, numberOfPoints, 2, referencePoint);
+            } else if (numberOfObjectives == 3) {
+                hypervolume = kernels.hypervolume3D(points, numberOfPoints, 3, referencePoint);
+            } else {
+                hypervolume = kernels.hypervolume4D(points, numberOfPoints, 4, referencePoint);
+            }
+
+            assertEquals(computePISAHypervolume(points, numberOfPoints, referencePoint), hypervolume, EPSILON);
+            assertArrayEquals(copy, points, 0.0);
+        }
+    }
+
+    /**
+     * The PISA implementation maximizes the objectives with the origin as reference point
+     */
+    private double computePISAHypervolume(double[] points, int numberOfPoints, double[] referencePoint) {
+        int numberOfObjectives = referencePoint.length;
+        double[][] front = new double[numberOfPoints][numberOfObjectives];
+        for (int i = 0; i < numberOfPoints; i++) {
+            for (int j = 0; j < numberOfObjectives; j++) {
+                front[i][j] = referencePoint[j] - points[i * numberOfObjectives + j];
+            }
+        }
+
+        return new PISAHypervolume<PointSolution>().calculateHypervolume(front, numberOfPoints, numberOfObjectives);
+    }
+}
@@ -0,0 +1,130 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the hypervolume computed by {@link WfgHypervolumeEngine} against the one of the PISA
+ * implementation
+ */
+public class WfgHypervolumeEngineTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldTheHypervolumeOfASinglePointBeTheVolumeOfItsBox() {
+        WfgHypervolumeEngine engine = new WfgHypervolumeEngine(new double[]{2.0, 3.0, 4.0, 5.0});
+
+        assertEquals(1.0 * 2.0 * 3.0 * 4.0, engine.getHypervolume(new double[]{1.0, 1.0, 1.0, 1.0}, 1), EPSILON);
+    }
+
+    @Test
+    public void shouldThePointsOutsideTheReferencePointBeIgnored() {
+        WfgHypervolumeEngine engine = new WfgHypervolumeEngine(new double[]{2.0, 2.0, 2.0});
+        double[] points = {1.0, 1.0, 1.0, 0.0, 0.0, 2.0, 3.0, 0.0, 0.0};
+
+        assertEquals(1.0, engine.getHypervolume(points, 3), EPSILON);
+    }
+
+    @Test
+    public void shouldTheHypervolumeBeTheOneOfThePISAImplementation() {
+        Random random = new Random(1);
+        for (int test = 0; test < 60; test++) {
+            int numberOfObjectives = 2 + test % 5;
+            int numberOfPoints = 1 + random.nextInt(test % 10 < 5 ? 10 : 60);
+            int numberOfValues = test % 3 == 0 ? 4 : Integer.MAX_VALUE;
+
+            double[] referencePoint = new double[numberOfObjectives];
+            Arrays.fill(referencePoint, 1.0);
+            double[] points = new double[numberOfPoints * numberOfObjectives];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = numberOfValues == Integer.MAX_VALUE ?
+                        random.nextDouble() : random.nextInt(numberOfValues) / (double) numberOfValues;
+            }
+            double[] copy = points.clone();
+
+            double expected = computePISAHypervolume(points, numberOfPoints, referencePoint);
+            WfgHypervolumeEngine engine = new WfgHypervolumeEngine(referencePoint);
+
+            assertEquals(expected, engine.getHypervolume(points, numberOfPoints), EPSILON);
+            assertArrayEquals(copy, points, 0.0);
+            assertEquals(expected, engine.getHypervolume(createFront(points, numberOfPoints, numberOfObjectives)), EPSILON);
+            assertEquals(expected, engine.getHypervolume(createSolutionList(points, numberOfPoints, numberOfObjectives)), EPSILON);
+        }
+    }
+
+    @Test
+    public void shouldTheHypervolumeBeTheOneOfThePISAImplementationWithAnyReferencePoint() {
+        Random random = new Random(2);
+        for (int test = 0; test < 40; test++) {
+            int numberOfObjectives = 5 + test % 3;
+            int numberOfPoints = 1 + random.nextInt(40);
+            int numberOfValues = 2 + test % 3;
+
+            double[] referencePoint = new double[numberOfObjectives];
+            for (int i = 0; i < numberOfObjectives; i++) {
+                referencePoint[i] = 1.0 + random.nextInt(4) / 2.0;
+            }
+            double[] points = new double[numberOfPoints * numberOfObjectives];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = random.nextInt(numberOfValues) / (double) numberOfValues;
+            }
+
+            WfgHypervolumeEngine engine = new WfgHypervolumeEngine(referencePoint);
+
+            assertEquals(computePISAHypervolume(points, numberOfPoints, referencePoint),
+                    engine.getHypervolume(points, numberOfPoints), EPSILON);
+        }
+    }
+
+    private Front createFront(double[] points, int numberOfPoints, int numberOfObjectives) {
+        Front front = new ArrayFront(numberOfPoints, numberOfObjectives);
+        for (int i = 0; i < numberOfPoints; i++) {
+            front.setPoint(i, new ArrayPoint(Arrays.copyOfRange(points, i * numberOfObjectives, (i + 1) * numberOfObjectives)));
+        }
+
+        return front;
+    }
+
+    private List<PointSolution> createSolutionList(double[] points, int numberOfPoints, int numberOfObjectives) {
+        List<PointSolution> solutionList = new ArrayList<>();
+        for (int i = 0; i < numberOfPoints; i++) {
+            PointSolution solution = new PointSolution(numberOfObjectives);
+            for (int j = 0; j < numberOfObjectives; j++) {
+                solution.setObjective(j, points[i * numberOfObjectives + j]);
+            }
+            solutionList.add(solution);
+        }
+
+        return solutionList;
+    }
+
+    /**
+     * The PISA implementation maximizes the objectives with the origin as reference point
+     */
+    private double computePISAHypervolume(double[] points, int numberOfPoints, double[] referencePoint) {
+        int numberOfObjectives = referencePoint.length;
+        List<double[]> front = new ArrayList<>();
+        for (int i = 0; i < numberOfPoints; i++) {
+            double[] point = new double[numberOfObjectives];
+            for (int j = 0; j < numberOfObjectives; j++) {
+                point[j] = referencePoint[j] - points[i * numberOfObjectives + j];
+            }
+            front.add(point);
+        }
+
+        return new PISAHypervolume<PointSolution>().calculateHypervolume(front.toArray(new double[front.size()][]),
+                front.size(), numberOfObjectives);
+    }
+}
@@ -0,0 +1,127 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArrayDoubleSolutionTest {
+    private static final double EPSILON = 0.0000000000001;
+    private DoubleProblem problem;
+
+    @Before
+    public void setUp() {
+        problem = new MockDoubleProblem(4);
+    }
+
+    @Test
+    public void shouldCreateSolutionOfAnAbstractDoubleProblemReturnAnArrayDoubleSolution() {
+        assertTrue(problem.createSolution() instanceof ArrayDoubleSolution);
+    }
+
+    @Test
+    public void shouldTheVariablesBeInitializedWithinTheBounds() {
+        DoubleSolution solution = problem.createSolution();
+
+        assertEquals(problem.getNumberOfVariables(), solution.getNumberOfVariables());
+        for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+            assertTrue(solution.getDoubleVariableValue(i) >= problem.getLowerBound(i));
+            assertTrue(solution.getDoubleVariableValue(i) <= problem.getUpperBound(i));
+        }
+    }
+
+    @Test
+    public void shouldThePrimitiveAndTheBoxedAccessorsReturnTheSameValues() {
+        DoubleSolution solution = problem.createSolution();
+
+        solution.setDoubleVariableValue(0, 1.5);
+        solution.setVariableValue(1, 2.5);
+
+        assertEquals(1.5, solution.getVariableValue(0), EPSILON);
+        assertEquals(2.5, solution.getDoubleVariableValue(1), EPSILON);
+        for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+            assertEquals(solution.getLowerBound(i), solution.getDoubleLowerBound(i), EPSILON);
+            assertEquals(solution.getUpperBound(i), solution.getDoubleUpperBound(i), EPSILON);
+        }
+    }
+
+    @Test
+    public void shouldCopyReturnAnIdenticalSolution() {
+        DoubleSolution expectedSolution = problem.createSolution();
+        expectedSolution.setObjective(0, 2.0);
+        expectedSolution.setAttribute("key", 4);
+
+        DoubleSolution newSolution = (DoubleSolution) expectedSolution.copy();
+
+        assertEquals(expectedSolution, newSolution);
+        assertEquals(expectedSolution.hashCode(), newSolution.hashCode());
+    }
+
+    @Test
+    public void shouldModifyingACopyNotModifyTheOriginalSolution() {
+        DoubleSolution solution = problem.createSolution();
+        double value = solution.getDoubleVariableValue(0);
+
+        DoubleSolution newSolution = (DoubleSolution) solution.copy();
+        newSolution.setDoubleVariableValue(0, value + 1.0);
+        newSolution.setObjective(1, 3.0);
+
+        assertEquals(value, solution.getDoubleVariableValue(0), EPSILON);
+        assertEquals(0.0, solution.getObjective(1), EPSILON);
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldConstructorRaiseAnExceptionIfTheBoundsHaveAWrongLength() {
+        new ArrayDoubleSolution(problem, new double[]{0.0}, new double[]{1.0});
+    }
+
+    @Test
+    public void shouldGetVariableValueStringReturnARightStringRepresentation() {
+        DoubleSolution solution = problem.createSolution();
+        solution.setDoubleVariableValue(2, 0.25);
+
+        assertEquals("0.25", solution.getVariableValueString(2));
+    }
+
+    /**
+     * Mock class representing a double problem
+     */
+    @SuppressWarnings("serial")
+    private class MockDoubleProblem extends AbstractDoubleProblem {
+
+        /**
+         * Constructor
+         */
+        public MockDoubleProblem(Integer numberOfVariables) {
+            setNumberOfVariables(numberOfVariables);
+            setNumberOfObjectives(2);
+
+            List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables());
+            List<Double> upperLimit = new ArrayList<>(getNumberOfVariables());
+
+            for (int i = 0; i < getNumberOfVariables(); i++) {
+                lowerLimit.add(-4.0);
+                upperLimit.add(4.0 + i);
+            }
+
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        /**
+         * Evaluate() method
+         */
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            solution.setObjective(0, 0);
+            solution.setObjective(1, 1);
+        }
+    }
+}
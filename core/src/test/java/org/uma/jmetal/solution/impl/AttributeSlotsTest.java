@@ -0,0 +1,114 @@
+package org.uma.jmetal.solution.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.solutionattribute.AttributeRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class AttributeSlotsTest {
+    private static final double EPSILON = 0.0000000000001;
+
+    @Test
+    public void shouldGetReturnNullIfTheAttributeHasNotBeenSet() {
+        AttributeSlots attributes = new AttributeSlots();
+
+        assertNull(attributes.get("unset"));
+        assertFalse(attributes.contains(AttributeRegistry.getSlot("unset")));
+    }
+
+    @Test
+    public void shouldSetAndGetWorkWithIdentifiersAndSlots() {
+        AttributeSlots attributes = new AttributeSlots();
+        int slot = AttributeRegistry.getSlot("name");
+
+        attributes.put("name", "value");
+
+        assertEquals("value", attributes.get("name"));
+        assertEquals("value", attributes.get(slot));
+        assertSame("name", AttributeRegistry.getIdentifier(slot));
+    }
+
+    @Test
+    public void shouldNumbersBeReadThroughTheTypedAccessors() {
+        AttributeSlots attributes = new AttributeSlots();
+        int doubleSlot = AttributeRegistry.getSlot("double");
+        int intSlot = AttributeRegistry.getSlot("int");
+
+        attributes.set(doubleSlot, 2.5);
+        attributes.setInt(intSlot, 3);
+
+        assertEquals(2.5, attributes.getDouble(doubleSlot, 0.0), EPSILON);
+        assertEquals(3, attributes.getInt(intSlot, 0));
+        assertEquals(3, attributes.get(intSlot));
+        assertEquals(-1, attributes.getInt(AttributeRegistry.getSlot("unset"), -1));
+    }
+
+    @Test
+    public void shouldSettingANullValueRemoveTheAttribute() {
+        AttributeSlots attributes = new AttributeSlots();
+        int slot = AttributeRegistry.getSlot("double");
+
+        attributes.setDouble(slot, 1.0);
+        attributes.set(slot, null);
+
+        assertFalse(attributes.contains(slot));
+        assertEquals(-1.0, attributes.getDouble(slot, -1.0), EPSILON);
+    }
+
+    @Test
+    public void shouldTheCopyBeIndependentOfTheOriginal() {
+        AttributeSlots attributes = new AttributeSlots();
+        attributes.put("int", 1);
+
+        AttributeSlots copy = new AttributeSlots(attributes);
+        copy.put("int", 2);
+
+        assertEquals(1, attributes.get("int"));
+        assertEquals(2, copy.get("int"));
+    }
+
+    @Test
+    public void shouldEqualsAndHashCodeFollowTheMapContract() {
+        AttributeSlots attributes = new AttributeSlots();
+        attributes.put("int", 1);
+        attributes.put("name", "value");
+
+        AttributeSlots other = new AttributeSlots();
+        other.put("name", "value");
+        other.put("int", 1);
+
+        Map<Object, Object> map = new HashMap<>();
+        map.put("int", 1);
+        map.put("name", "value");
+
+        assertEquals(attributes, other);
+        assertEquals(map.hashCode(), attributes.hashCode());
+        assertEquals(attributes.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void shouldTheAttributesSurviveSerialization() throws Exception {
+        AttributeSlots attributes = new AttributeSlots();
+        attributes.put("int", 1);
+        attributes.put("double", 2.0);
+        attributes.put("name", "value");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(attributes);
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        AttributeSlots copy = (AttributeSlots) in.readObject();
+
+        assertEquals(attributes, copy);
+        assertEquals(2.0, copy.getDouble(AttributeRegistry.getSlot("double"), 0.0), EPSILON);
+    }
+}
@@ -0,0 +1,233 @@
+package org.uma.jmetal.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
+import org.uma.jmetal.util.front.util.FrontNormalizer;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.*;
+
+public class PopulationMatrixTest {
+    private static final double EPSILON = 0.0000000000001;
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldConstructorRaiseAnExceptionIfTheSolutionListIsNull() {
+        exception.expect(JMetalException.class);
+        exception.expectMessage(containsString("The solution list is null"));
+
+        new PopulationMatrix<DoubleSolution>(null);
+    }
+
+    @Test
+    public void shouldAnEmptyListProduceAnEmptyMatrix() {
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(new ArrayList<DoubleSolution>());
+
+        assertEquals(0, matrix.getNumberOfSolutions());
+        assertEquals(0, matrix.getObjectives().length);
+    }
+
+    @Test
+    public void shouldTheObjectivesBePackedRowByRow() {
+        List<DoubleSolution> population = createPopulation(new double[][]{{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}});
+
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+        assertEquals(2, matrix.getNumberOfSolutions());
+        assertEquals(3, matrix.getNumberOfObjectives());
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0}, matrix.getObjectives(), EPSILON);
+        assertEquals(3, matrix.getOffset(1));
+        assertEquals(5.0, matrix.getObjective(1, 1), EPSILON);
+        assertSame(population.get(1), matrix.getSolution(1));
+        assertFalse(matrix.hasConstraintViolations());
+    }
+
+    @Test
+    public void shouldConstructorRaiseAnExceptionIfTheNumberOfObjectivesIsNotTheSame() {
+        exception.expect(JMetalException.class);
+        exception.expectMessage(containsString("The solution at position 1 has 3 objectives instead of 2"));
+
+        List<DoubleSolution> population = new ArrayList<>();
+        population.add(new DummyProblem(2).createSolution());
+        population.add(new DummyProblem(3).createSolution());
+
+        new PopulationMatrix<>(population);
+    }
+
+    @Test
+    public void shouldTheMinimumAndMaximumValuesBeCorrect() {
+        List<DoubleSolution> population =
+                createPopulation(new double[][]{{1.0, 7.0}, {4.0, -5.0}, {2.5, 0.0}});
+
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+        assertArrayEquals(new double[]{1.0, -5.0}, matrix.getMinimumValues(), EPSILON);
+        assertArrayEquals(new double[]{4.0, 7.0}, matrix.getMaximumValues(), EPSILON);
+    }
+
+    @Test
+    public void shouldToMatrixAndToFrontReturnTheObjectiveValues() {
+        double[][] values = {{1.0, 7.0}, {4.0, -5.0}, {2.5, 0.0}};
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(createPopulation(values));
+
+        double[][] result = matrix.toMatrix();
+        Front front = matrix.toFront();
+
+        assertEquals(values.length, result.length);
+        assertEquals(values.length, front.getNumberOfPoints());
+        for (int i = 0; i < values.length; i++) {
+            assertArrayEquals(values[i], result[i], EPSILON);
+            assertArrayEquals(values[i], front.getPoint(i).getValues(), EPSILON);
+        }
+    }
+
+    @Test
+    public void shouldTheMinimumAndMaximumValuesBeTheExtremesOfEachObjective() {
+        double[][] values = {{1.0, Double.POSITIVE_INFINITY}, {4.0, Double.POSITIVE_INFINITY}, {2.5, 0.0}};
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(createPopulation(values));
+
+        assertArrayEquals(new double[]{1.0, 0.0}, matrix.getMinimumValues(), EPSILON);
+        assertArrayEquals(new double[]{4.0, Double.POSITIVE_INFINITY}, matrix.getMaximumValues(), EPSILON);
+
+        PopulationMatrix<DoubleSolution> infiniteMatrix =
+                new PopulationMatrix<>(createPopulation(new double[][]{{Double.POSITIVE_INFINITY}}));
+        assertArrayEquals(new double[]{Double.POSITIVE_INFINITY}, infiniteMatrix.getMinimumValues(), EPSILON);
+    }
+
+    @Test
+    public void shouldParetoDominanceTestWorkProperly() {
+        List<DoubleSolution> population =
+                createPopulation(new double[][]{{1.0, 1.0}, {2.0, 2.0}, {0.5, 3.0}, {1.0, 1.0}});
+
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+        assertEquals(-1, matrix.dominanceTest(0, 1));
+        assertEquals(1, matrix.dominanceTest(1, 0));
+        assertEquals(0, matrix.dominanceTest(0, 2));
+        assertEquals(0, matrix.dominanceTest(0, 3));
+    }
+
+    @Test
+    public void shouldTheConstraintViolationBeConsideredBeforeTheObjectives() {
+        List<DoubleSolution> population = createPopulation(new double[][]{{1.0, 1.0}, {2.0, 2.0}, {3.0, 3.0}});
+        OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>();
+        violation.setAttribute(population.get(0), -2.0);
+        violation.setAttribute(population.get(1), 0.0);
+        violation.setAttribute(population.get(2), -1.0);
+
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population, true);
+
+        assertTrue(matrix.hasConstraintViolations());
+        assertEquals(-2.0, matrix.getConstraintViolation(0), EPSILON);
+        assertEquals(1, matrix.dominanceTest(0, 1));
+        assertEquals(1, matrix.dominanceTest(0, 2));
+        assertEquals(-1, matrix.dominanceTest(1, 2));
+        assertEquals(-1, matrix.paretoDominanceTest(0, 1));
+    }
+
+    @Test
+    public void shouldTheSolutionsWithoutConstraintViolationBeStoredAsNaN() {
+        List<DoubleSolution> population = createPopulation(new double[][]{{1.0, 1.0}, {2.0, 2.0}});
+
+        PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population, true);
+
+        assertTrue(Double.isNaN(matrix.getConstraintViolation(0)));
+        assertEquals(0, matrix.compareConstraintViolation(0, 1));
+        assertEquals(-1, matrix.dominanceTest(0, 1));
+    }
+
+    @Test
+    public void shouldTheNormalizedObjectivesBePackedRowByRow() {
+        PopulationMatrix<DoubleSolution> matrix =
+                new PopulationMatrix<>(createPopulation(new double[][]{{1.0, 7.0}, {4.0, -5.0}, {2.5, 0.0}}));
+
+        double[] normalizedObjectives = new FrontNormalizer(matrix).normalize(matrix);
+
+        assertArrayEquals(new double[]{0.0, 1.0, 1.0, 0.0, 0.5, 5.0 / 12.0}, normalizedObjectives, EPSILON);
+    }
+
+    @Test
+    public void shouldTheIndicatorsEvaluateTheMatrixAsTheSolutionList() {
+        Random random = new Random(1);
+        int[] referenceFrontSizes = {1, 20, FrontIndex.MINIMUM_FRONT_SIZE + 44};
+        for (int referenceFrontSize : referenceFrontSizes) {
+            for (int numberOfObjectives = 2; numberOfObjectives <= 3; numberOfObjectives++) {
+                Front referenceFront = new ArrayFront(referenceFrontSize, numberOfObjectives);
+                for (int i = 0; i < referenceFrontSize; i++) {
+                    for (int j = 0; j < numberOfObjectives; j++) {
+                        referenceFront.getPoint(i).setDimensionValue(j, random.nextDouble());
+                    }
+                }
+
+                int populationSize = 1 + random.nextInt(100);
+                double[][] values = new double[populationSize][numberOfObjectives];
+                for (int i = 0; i < populationSize; i++) {
+                    for (int j = 0; j < numberOfObjectives; j++) {
+                        values[i][j] = 1.4 * random.nextDouble() - 0.2;
+                    }
+                }
+                List<DoubleSolution> population = createPopulation(values);
+                PopulationMatrix<DoubleSolution> matrix = new PopulationMatrix<>(population);
+
+                List<GenericIndicator<DoubleSolution>> indicators = new ArrayList<>();
+                indicators.add(new GenerationalDistance<DoubleSolution>(referenceFront));
+                indicators.add(new InvertedGenerationalDistance<DoubleSolution>(referenceFront));
+                indicators.add(new InvertedGenerationalDistancePlus<DoubleSolution>(referenceFront));
+                indicators.add(new Epsilon<DoubleSolution>(referenceFront));
+                indicators.add(new PISAHypervolume<DoubleSolution>(referenceFront));
+                for (GenericIndicator<DoubleSolution> indicator : indicators) {
+                    assertEquals(indicator.getName(), indicator.evaluate(population),
+                            indicator.evaluateMatrix(matrix), EPSILON);
+                }
+            }
+        }
+    }
+
+    private List<DoubleSolution> createPopulation(double[][] objectives) {
+        DummyProblem problem = new DummyProblem(objectives[0].length);
+        List<DoubleSolution> population = new ArrayList<>(objectives.length);
+        for (double[] values : objectives) {
+            DoubleSolution solution = problem.createSolution();
+            for (int j = 0; j < values.length; j++) {
+                solution.setObjective(j, values[j]);
+            }
+            population.add(solution);
+        }
+
+        return population;
+    }
+
+    @SuppressWarnings("serial")
+    private class DummyProblem extends AbstractDoubleProblem {
+
+        public DummyProblem(int numberOfObjectives) {
+            setNumberOfObjectives(numberOfObjectives);
+            setLowerLimit(Arrays.<Double>asList());
+            setUpperLimit(Arrays.<Double>asList());
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+        }
+    }
+}
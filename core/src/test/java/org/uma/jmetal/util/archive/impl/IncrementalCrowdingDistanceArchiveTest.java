@@ -0,0 +1,110 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link IncrementalCrowdingDistanceArchive} keeps the same solutions as
+ * {@link CrowdingDistanceArchive} when there are no ties in the objective values
+ */
+public class IncrementalCrowdingDistanceArchiveTest {
+
+    @Test
+    public void shouldTheSolutionListBeTheSameAsTheOneOfTheCrowdingDistanceArchive() {
+        Random random = new Random(1);
+        for (int test = 0; test < 50; test++) {
+            int numberOfObjectives = 2 + random.nextInt(3);
+            int maxSize = 1 + random.nextInt(20);
+
+            CrowdingDistanceArchive<PointSolution> expected = new CrowdingDistanceArchive<>(maxSize);
+            IncrementalCrowdingDistanceArchive<PointSolution> archive = new IncrementalCrowdingDistanceArchive<>(maxSize);
+            for (int step = 0; step < 500; step++) {
+                PointSolution solution = createSolutionNearTheFront(random, numberOfObjectives);
+                assertEquals(expected.add(solution), archive.add(solution));
+                assertSameSolutions(expected.getSolutionList(), archive.getSolutionList());
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheCrowdingDistancesBeTheOnesOfTheCrowdingDistance() {
+        Random random = new Random(2);
+        IncrementalCrowdingDistanceArchive<PointSolution> archive = new IncrementalCrowdingDistanceArchive<>(30);
+        for (int step = 0; step < 1000; step++) {
+            archive.add(createSolutionNearTheFront(random, 3));
+        }
+
+        List<PointSolution> solutionList = archive.getSolutionList();
+        List<Double> distances = new ArrayList<>();
+        CrowdingDistance<PointSolution> crowdingDistance = new CrowdingDistance<>();
+        for (PointSolution solution : solutionList) {
+            distances.add(crowdingDistance.getAttribute(solution));
+        }
+
+        crowdingDistance.computeDensityEstimator(new ArrayList<>(solutionList));
+        for (int i = 0; i < solutionList.size(); i++) {
+            assertEquals(crowdingDistance.getAttribute(solutionList.get(i)), distances.get(i));
+        }
+    }
+
+    @Test
+    public void shouldGetReturnTheSolutionsOfTheSolutionList() {
+        Random random = new Random(3);
+        IncrementalCrowdingDistanceArchive<PointSolution> archive = new IncrementalCrowdingDistanceArchive<>(10);
+        for (int step = 0; step < 200; step++) {
+            archive.add(createSolutionNearTheFront(random, 2));
+        }
+
+        assertEquals(archive.getSolutionList().size(), archive.size());
+        for (int i = 0; i < archive.size(); i++) {
+            assertSame(archive.getSolutionList().get(i), archive.get(i));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldTheSolutionListNotBeModifiable() {
+        IncrementalCrowdingDistanceArchive<PointSolution> archive = new IncrementalCrowdingDistanceArchive<>(10);
+        archive.add(new PointSolution(2));
+        archive.getSolutionList().remove(0);
+    }
+
+    /**
+     * The order of the solutions is not checked, as the archive removes a solution by moving the
+     * last one to its position
+     */
+    private void assertSameSolutions(List<PointSolution> expected, List<PointSolution> solutionList) {
+        assertEquals(expected.size(), solutionList.size());
+        Set<PointSolution> solutions = Collections.newSetFromMap(new IdentityHashMap<PointSolution, Boolean>());
+        solutions.addAll(solutionList);
+        for (PointSolution solution : expected) {
+            assertTrue(solutions.contains(solution));
+        }
+    }
+
+    private PointSolution createSolutionNearTheFront(Random random, int numberOfObjectives) {
+        PointSolution solution = new PointSolution(numberOfObjectives);
+        double norm = 0.0;
+        for (int i = 0; i < numberOfObjectives; i++) {
+            solution.setObjective(i, random.nextDouble());
+            norm += solution.getObjective(i) * solution.getObjective(i);
+        }
+        norm = Math.sqrt(norm) / (1.0 + 0.1 * random.nextDouble());
+        for (int i = 0; i < numberOfObjectives; i++) {
+            solution.setObjective(i, solution.getObjective(i) / norm);
+        }
+
+        return solution;
+    }
+}
@@ -0,0 +1,139 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link NonDominatedSolutionTreeArchive} keeps the same solutions, in the same order,
+ * as {@link NonDominatedSolutionListArchive}
+ */
+public class NonDominatedSolutionTreeArchiveTest {
+
+    @Test
+    public void shouldAddRejectDominatedAndRepeatedSolutionsAndRemoveTheDominatedOnes() {
+        NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>();
+        PointSolution solution1 = createSolution(1.0, 3.0);
+        PointSolution solution2 = createSolution(3.0, 1.0);
+
+        assertTrue(archive.add(solution1));
+        assertTrue(archive.add(solution2));
+        assertFalse(archive.add(createSolution(1.0, 3.0)));
+        assertFalse(archive.add(createSolution(4.0, 4.0)));
+        assertTrue(archive.isDominated(createSolution(3.0, 1.0)));
+        assertFalse(archive.isDominated(createSolution(2.0, 2.0)));
+
+        PointSolution solution3 = createSolution(0.5, 2.0);
+        assertTrue(archive.add(solution3));
+
+        assertEquals(2, archive.size());
+        assertSame(solution2, archive.get(0));
+        assertSame(solution3, archive.get(1));
+    }
+
+    @Test
+    public void shouldTheSolutionListBeTheSameAsTheOneOfTheListArchive() {
+        Random random = new Random(1);
+        for (int test = 0; test < 100; test++) {
+            int numberOfObjectives = 1 + random.nextInt(4);
+            int numberOfValues = 1 + random.nextInt(20);
+            boolean constrained = random.nextBoolean();
+
+            NonDominatedSolutionListArchive<PointSolution> expected = new NonDominatedSolutionListArchive<>();
+            NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>(
+                    new OverallConstraintViolationComparator<PointSolution>(), 2 + random.nextInt(4));
+            for (int step = 0; step < 500; step++) {
+                if ((archive.size() > 0) && (random.nextInt(10) == 0)) {
+                    int index = random.nextInt(archive.size());
+                    expected.getSolutionList().remove(index);
+                    archive.getSolutionList().remove(index);
+                } else {
+                    PointSolution solution = new PointSolution(numberOfObjectives);
+                    for (int j = 0; j < numberOfObjectives; j++) {
+                        solution.setObjective(j, random.nextInt(numberOfValues));
+                    }
+                    new OverallConstraintViolation<PointSolution>().setAttribute(solution,
+                            constrained ? -random.nextInt(2) * 1.0 : 0.0);
+
+                    assertEquals(expected.add(solution), archive.add(solution));
+                }
+
+                List<PointSolution> solutionList = archive.getSolutionList();
+                assertEquals(expected.size(), solutionList.size());
+                for (int i = 0; i < solutionList.size(); i++) {
+                    assertSame(expected.get(i), solutionList.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldRemoveAndTheRemovedSolutionsKeepTheArchiveAsTheListArchive() {
+        Random random = new Random(2);
+        NonDominatedSolutionListArchive<PointSolution> expected = new NonDominatedSolutionListArchive<>();
+        NonDominatedSolutionTreeArchive<PointSolution> archive = new NonDominatedSolutionTreeArchive<>(
+                new OverallConstraintViolationComparator<PointSolution>(), 3);
+        for (int step = 0; step < 2000; step++) {
+            if ((archive.size() > 0) && (random.nextInt(5) == 0)) {
+                PointSolution solution = expected.getSolutionList().remove(random.nextInt(expected.size()));
+                assertTrue(archive.remove(solution));
+                assertFalse(archive.remove(solution));
+            } else {
+                double x = random.nextDouble();
+                PointSolution solution = createSolution(x, 1.0 - x + random.nextDouble() * 0.2, random.nextDouble());
+                Set<PointSolution> previousSolutions =
+                        Collections.newSetFromMap(new IdentityHashMap<PointSolution, Boolean>());
+                previousSolutions.addAll(expected.getSolutionList());
+
+                assertEquals(expected.add(solution), archive.add(solution));
+
+                previousSolutions.removeAll(expected.getSolutionList());
+                assertEquals(previousSolutions.size(), archive.getRemovedSolutions().size());
+                assertTrue(previousSolutions.containsAll(archive.getRemovedSolutions()));
+            }
+
+            if (step % 10 == 0) {
+                assertEquals(expected.size(), archive.size());
+                for (int i = 0; i < archive.size(); i++) {
+                    assertSame(expected.get(i), archive.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheBoundedArchivesWorkWithTheTreeArchive() {
+        Random random = new Random(1);
+        CrowdingDistanceArchive<PointSolution> expected = new CrowdingDistanceArchive<>(10);
+        CrowdingDistanceArchive<PointSolution> archive =
+                new CrowdingDistanceArchive<>(10, new NonDominatedSolutionTreeArchive<PointSolution>());
+        for (int i = 0; i < 1000; i++) {
+            double x = random.nextDouble();
+            PointSolution solution = createSolution(x, 1.0 - x * x + random.nextDouble() * 0.1);
+            assertEquals(expected.add(solution), archive.add(solution));
+        }
+
+        assertEquals(expected.getSolutionList(), archive.getSolutionList());
+    }
+
+    private PointSolution createSolution(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
+}
@@ -0,0 +1,215 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ForkJoinSolutionListEvaluatorTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test(expected = JMetalException.class)
+    public void shouldConstructorRaiseAnExceptionIfTheNumberOfThreadsIsNegative() {
+        new ForkJoinSolutionListEvaluator<DoubleSolution>(-1);
+    }
+
+    @Test
+    public void shouldEvaluateAllTheSolutionsOnce() {
+        MockProblem problem = new MockProblem(-1);
+        for (int numberOfThreads : new int[]{1, 2, 4}) {
+            for (int size : new int[]{0, 1, 7, 8, 9, 100, 1001}) {
+                ForkJoinSolutionListEvaluator<DoubleSolution> evaluator =
+                        new ForkJoinSolutionListEvaluator<>(numberOfThreads);
+                List<DoubleSolution> solutionList = createSolutionList(problem, size);
+                problem.evaluations.set(0);
+
+                assertSame(solutionList, evaluator.evaluate(solutionList, problem));
+                evaluator.shutdown();
+
+                assertEquals(size, problem.evaluations.get());
+                for (int i = 0; i < size; i++) {
+                    assertEquals(i, solutionList.get(i).getObjective(0), EPSILON);
+                    assertEquals(-i, solutionList.get(i).getObjective(1), EPSILON);
+                    assertEquals(1, solutionList.get(i).getAttribute("evaluations"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheCommonPoolEvaluatorEvaluateAllTheSolutions() {
+        MockProblem problem = new MockProblem(-1);
+        List<DoubleSolution> solutionList = createSolutionList(problem, 500);
+
+        new ForkJoinSolutionListEvaluator<DoubleSolution>().setSequentialThreshold(1).evaluate(solutionList, problem);
+
+        assertEquals(500, problem.evaluations.get());
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldAFailedEvaluationRaiseAnException() {
+        MockProblem problem = new MockProblem(57);
+        ForkJoinSolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<>(4);
+        try {
+            evaluator.evaluate(createSolutionList(problem, 100), problem);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAJMetalExceptionOfTheProblemBeRaisedUnchanged() {
+        MockProblem problem = new MockProblem(57);
+        ForkJoinSolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<>(4);
+        try {
+            evaluator.evaluate(createSolutionList(problem, 100), problem);
+            fail("The evaluation should have failed");
+        } catch (JMetalException e) {
+            assertEquals("Failed evaluation", e.getMessage());
+            assertNull(e.getCause());
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldEachThreadEvaluateTheSolutionsWithItsOwnInstanceOfTheProblem() {
+        ThreadConfinedProblem problem = new ThreadConfinedProblem();
+        ForkJoinSolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<>(4);
+        List<DoubleSolution> solutionList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            solutionList.add(problem.createSolution());
+        }
+
+        try {
+            evaluator.evaluate(solutionList, problem);
+            evaluator.evaluate(solutionList, problem);
+        } finally {
+            evaluator.shutdown();
+        }
+
+        assertEquals(0, problem.sharedInstances.get());
+        assertTrue(problem.copies.get() <= 4);
+        for (DoubleSolution solution : solutionList) {
+            assertEquals(1.0, solution.getObjective(0), EPSILON);
+        }
+    }
+
+    private List<DoubleSolution> createSolutionList(MockProblem problem, int size) {
+        List<DoubleSolution> solutionList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DoubleSolution solution = problem.createSolution();
+            solution.setVariableValue(0, (double) i);
+            solutionList.add(solution);
+        }
+        return solutionList;
+    }
+
+    /**
+     * Problem whose objectives are the value of the variable and its opposite, and whose constraint
+     * evaluation counts the evaluations of each solution. The evaluation fails for one value
+     */
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem implements ConstrainedProblem<DoubleSolution> {
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private final int failingValue;
+
+        MockProblem(int failingValue) {
+            this.failingValue = failingValue;
+            setNumberOfVariables(1);
+            setNumberOfObjectives(2);
+            setNumberOfConstraints(0);
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(2000.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            double value = solution.getVariableValue(0);
+            if (value == failingValue) {
+                throw new JMetalException("Failed evaluation");
+            }
+            solution.setObjective(0, value);
+            solution.setObjective(1, -value);
+            evaluations.incrementAndGet();
+        }
+
+        @Override
+        public void evaluateConstraints(DoubleSolution solution) {
+            Object count = solution.getAttribute("evaluations");
+            solution.setAttribute("evaluations", count == null ? 1 : (Integer) count + 1);
+        }
+    }
+
+    /**
+     * Problem keeping the thread that evaluates with each instance, which counts the instances used by
+     * more than one thread. The copies share the counters of the original problem
+     */
+    @SuppressWarnings("serial")
+    private static class ThreadConfinedProblem extends AbstractDoubleProblem {
+        private final AtomicInteger sharedInstances;
+        private final AtomicInteger copies;
+        private Thread thread;
+
+        ThreadConfinedProblem() {
+            this(new AtomicInteger(), new AtomicInteger());
+        }
+
+        private ThreadConfinedProblem(AtomicInteger sharedInstances, AtomicInteger copies) {
+            this.sharedInstances = sharedInstances;
+            this.copies = copies;
+            setNumberOfVariables(1);
+            setNumberOfObjectives(1);
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public ThreadConfinedProblem copyForThread() {
+            copies.incrementAndGet();
+            return new ThreadConfinedProblem(sharedInstances, copies);
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public synchronized void evaluate(DoubleSolution solution) {
+            if (thread == null) {
+                thread = Thread.currentThread();
+            } else if (thread != Thread.currentThread()) {
+                sharedInstances.incrementAndGet();
+            }
+            solution.setObjective(0, 1.0);
+        }
+    }
+}
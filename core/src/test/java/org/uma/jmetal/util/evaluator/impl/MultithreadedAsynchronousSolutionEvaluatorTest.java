@@ -0,0 +1,150 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MultithreadedAsynchronousSolutionEvaluatorTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test(expected = JMetalException.class)
+    public void shouldConstructorRaiseAnExceptionIfTheNumberOfWorkersIsNegative() {
+        new MultithreadedAsynchronousSolutionEvaluator<DoubleSolution>(-1);
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldTakeRaiseAnExceptionIfThereAreNoPendingEvaluations() {
+        MultithreadedAsynchronousSolutionEvaluator<DoubleSolution> evaluator =
+                new MultithreadedAsynchronousSolutionEvaluator<>(2);
+        try {
+            evaluator.take();
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldTakeReturnEachSubmittedSolutionOnceEvaluated() {
+        MockProblem problem = new MockProblem(-1);
+        MultithreadedAsynchronousSolutionEvaluator<DoubleSolution> evaluator =
+                new MultithreadedAsynchronousSolutionEvaluator<>(4);
+
+        Map<DoubleSolution, Boolean> submittedSolutions = new IdentityHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            DoubleSolution solution = problem.createSolution();
+            solution.setVariableValue(0, (double) i);
+            submittedSolutions.put(solution, Boolean.TRUE);
+            evaluator.submit(solution, problem);
+        }
+        assertEquals(50, evaluator.getNumberOfPendingEvaluations());
+
+        for (int i = 0; i < 50; i++) {
+            DoubleSolution solution = evaluator.take();
+            assertTrue(submittedSolutions.remove(solution));
+            assertEquals(solution.getVariableValue(0), solution.getObjective(0), EPSILON);
+        }
+        evaluator.shutdown();
+
+        assertEquals(0, evaluator.getNumberOfPendingEvaluations());
+        assertEquals(50, evaluator.getNumberOfEvaluations());
+        assertTrue(evaluator.getWorkerUtilization() > 0.0);
+        assertTrue(evaluator.getWorkerUtilization() <= 1.0);
+    }
+
+    @Test
+    public void shouldTheSolutionsBeTakenInTheOrderInWhichTheyAreEvaluated() {
+        MockProblem problem = new MockProblem(-1);
+        MultithreadedAsynchronousSolutionEvaluator<DoubleSolution> evaluator =
+                new MultithreadedAsynchronousSolutionEvaluator<>(2);
+
+        DoubleSolution slowSolution = problem.createSolution();
+        slowSolution.setVariableValue(0, 200.0);
+        DoubleSolution fastSolution = problem.createSolution();
+        fastSolution.setVariableValue(0, 0.0);
+
+        evaluator.submit(slowSolution, problem);
+        evaluator.submit(fastSolution, problem);
+
+        List<DoubleSolution> takenSolutions = new ArrayList<>();
+        takenSolutions.add(evaluator.take());
+        takenSolutions.add(evaluator.take());
+        evaluator.shutdown();
+
+        assertSame(fastSolution, takenSolutions.get(0));
+        assertSame(slowSolution, takenSolutions.get(1));
+    }
+
+    @Test
+    public void shouldAFailedEvaluationRaiseAnExceptionWhenItIsTaken() {
+        MockProblem problem = new MockProblem(3);
+        MultithreadedAsynchronousSolutionEvaluator<DoubleSolution> evaluator =
+                new MultithreadedAsynchronousSolutionEvaluator<>(1);
+        DoubleSolution solution = problem.createSolution();
+        solution.setVariableValue(0, 3.0);
+        evaluator.submit(solution, problem);
+
+        try {
+            evaluator.take();
+        } catch (JMetalException e) {
+            assertEquals(0, evaluator.getNumberOfPendingEvaluations());
+            return;
+        } finally {
+            evaluator.shutdown();
+        }
+        throw new AssertionError("The failed evaluation has not raised an exception");
+    }
+
+    /**
+     * Problem whose first objective is the value of the variable, which is also the number of
+     * milliseconds that the evaluation takes. The evaluation fails for one value
+     */
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem {
+        private final int failingValue;
+
+        MockProblem(int failingValue) {
+            this.failingValue = failingValue;
+            setNumberOfVariables(1);
+            setNumberOfObjectives(2);
+            setNumberOfConstraints(0);
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1000.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            double value = solution.getVariableValue(0);
+            if (value == failingValue) {
+                throw new JMetalException("Failed evaluation");
+            }
+            try {
+                Thread.sleep((long) value);
+            } catch (InterruptedException e) {
+                throw new JMetalException("Interrupted evaluation", e);
+            }
+            solution.setObjective(0, value);
+            solution.setObjective(1, -value);
+        }
+    }
+}
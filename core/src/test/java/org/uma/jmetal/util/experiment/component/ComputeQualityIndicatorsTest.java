@@ -0,0 +1,160 @@
+package org.uma.jmetal.util.experiment.component;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.experiment.ExperimentBuilder;
+import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ComputeQualityIndicatorsTest {
+    private static final int NUMBER_OF_RUNS = 5;
+    private static final int NUMBER_OF_SNAPSHOTS = 4;
+    private static final String[] ALGORITHM_TAGS = {"A", "B"};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldTheIndicatorFilesBeTheSameWithOneAndFourCores() throws IOException {
+        List<Problem<DoubleSolution>> problems = new ArrayList<>();
+        problems.add(new MockProblem("MockProblem1"));
+        problems.add(new MockProblem("MockProblem2"));
+        List<TaggedAlgorithm<List<DoubleSolution>>> algorithms = new ArrayList<>();
+        for (String tag : ALGORITHM_TAGS) {
+            for (Problem<DoubleSolution> problem : problems) {
+                for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+                    algorithms.add(new TaggedAlgorithm<>((Algorithm<List<DoubleSolution>>) null, tag, problem, run));
+                }
+            }
+        }
+
+        Random random = new Random(1);
+        writeFront(new File(folder.getRoot(), "MockProblem.pf"), random, 100);
+        for (String tag : ALGORITHM_TAGS) {
+            for (Problem<DoubleSolution> problem : problems) {
+                File problemDirectory = new File(folder.getRoot(), "Test/data/" + tag + "/" + problem.getName());
+                for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+                    File inProcessDataDirectory = new File(problemDirectory, "INPROCESSDATA" + run);
+                    assertTrue(inProcessDataDirectory.mkdirs());
+                    writeFront(new File(problemDirectory, "FUN" + run + ".tsv"), random, 1 + random.nextInt(30));
+                    writeFront(new File(problemDirectory, "VAR" + run + ".tsv"), random, 1);
+                    for (int snapshot = 1; snapshot <= NUMBER_OF_SNAPSHOTS; snapshot++) {
+                        writeFront(new File(inProcessDataDirectory, "FUN" + snapshot + ".tsv"), random,
+                                1 + random.nextInt(30));
+                    }
+                }
+            }
+        }
+
+        new ComputeQualityIndicators<>(createExperiment(algorithms, problems, 1)).run();
+        Map<String, byte[]> sequentialFiles = readFiles(new File(folder.getRoot(), "Test"));
+        new ComputeQualityIndicators<>(createExperiment(algorithms, problems, 4)).run();
+        Map<String, byte[]> parallelFiles = readFiles(new File(folder.getRoot(), "Test"));
+
+        assertTrue(sequentialFiles.containsKey("data/A/MockProblem1/IGD"));
+        assertTrue(sequentialFiles.containsKey("data/B/MockProblem2/INPROCESSDATA4HV.tsv"));
+        assertEquals(sequentialFiles.keySet(), parallelFiles.keySet());
+        for (Map.Entry<String, byte[]> entry : sequentialFiles.entrySet()) {
+            assertArrayEquals(entry.getKey(), entry.getValue(), parallelFiles.get(entry.getKey()));
+        }
+    }
+
+    private Experiment<DoubleSolution, List<DoubleSolution>> createExperiment(
+            List<TaggedAlgorithm<List<DoubleSolution>>> algorithms, List<Problem<DoubleSolution>> problems,
+            int numberOfCores) {
+        return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Test")
+                .setAlgorithmList(algorithms)
+                .setProblemList(problems)
+                .setExperimentBaseDirectory(folder.getRoot().getPath())
+                .setOutputParetoFrontFileName("FUN")
+                .setOutputParetoSetFileName("VAR")
+                .setReferenceFrontDirectory(folder.getRoot().getPath())
+                .setReferenceFrontFileNames(Arrays.asList("MockProblem.pf", "MockProblem.pf"))
+                .setIndicatorList(Arrays.<GenericIndicator<DoubleSolution>>asList(
+                        new Epsilon<DoubleSolution>(), new GenerationalDistance<DoubleSolution>(),
+                        new InvertedGenerationalDistance<DoubleSolution>(), new PISAHypervolume<DoubleSolution>()))
+                .setIndependentRuns(NUMBER_OF_RUNS)
+                .setNumberOfCores(numberOfCores)
+                .build();
+    }
+
+    private void writeFront(File file, Random random, int numberOfPoints) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < numberOfPoints; i++) {
+            double x = random.nextDouble();
+            content.append(x).append("\t").append(1.0 - Math.sqrt(x) + 0.2 * random.nextDouble()).append("\n");
+        }
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the files of a directory and its subdirectories, by their path relative to the directory
+     */
+    private Map<String, byte[]> readFiles(File directory) throws IOException {
+        Map<String, byte[]> files = new TreeMap<>();
+        readFiles(directory, "", files);
+
+        return files;
+    }
+
+    private void readFiles(File directory, String prefix, Map<String, byte[]> files) throws IOException {
+        for (File file : directory.listFiles()) {
+            if (file.isDirectory()) {
+                readFiles(file, prefix + file.getName() + "/", files);
+            } else {
+                files.put(prefix + file.getName(), Files.readAllBytes(file.toPath()));
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem {
+        MockProblem(String name) {
+            setNumberOfVariables(1);
+            setNumberOfObjectives(2);
+            setName(name);
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+        }
+    }
+}
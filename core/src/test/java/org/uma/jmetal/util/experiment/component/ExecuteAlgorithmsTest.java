@@ -0,0 +1,328 @@
+package org.uma.jmetal.util.experiment.component;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.SnapshotListener;
+import org.uma.jmetal.algorithm.SnapshotSource;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.experiment.ExperimentBuilder;
+import org.uma.jmetal.util.experiment.util.AlgorithmFactory;
+import org.uma.jmetal.util.experiment.util.IndicatorTracker;
+import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExecuteAlgorithmsTest {
+    private static final int NUMBER_OF_RUNS = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MockAlgorithmFactory factory;
+    private Experiment<DoubleSolution, List<DoubleSolution>> experiment;
+
+    @Before
+    public void setup() {
+        factory = new MockAlgorithmFactory();
+        experiment = createExperiment(7);
+    }
+
+    private Experiment<DoubleSolution, List<DoubleSolution>> createExperiment(long randomSeed) {
+        return createExperimentBuilder(randomSeed).build();
+    }
+
+    private ExperimentBuilder<DoubleSolution, List<DoubleSolution>> createExperimentBuilder(long randomSeed) {
+        MockProblem problem = new MockProblem();
+
+        List<TaggedAlgorithm<List<DoubleSolution>>> algorithms = new ArrayList<>();
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+            algorithms.add(new TaggedAlgorithm<>(factory, "Mock", problem, run));
+        }
+        List<Problem<DoubleSolution>> problems = new ArrayList<>();
+        problems.add(problem);
+
+        return new ExperimentBuilder<DoubleSolution, List<DoubleSolution>>("Test")
+                .setAlgorithmList(algorithms)
+                .setProblemList(problems)
+                .setExperimentBaseDirectory(folder.getRoot().getPath())
+                .setIndependentRuns(NUMBER_OF_RUNS)
+                .setNumberOfCores(2)
+                .setRandomSeed(randomSeed);
+    }
+
+    @Test
+    public void shouldTheCompletedRunsBeSkipped() {
+        new ExecuteAlgorithms<>(experiment).run();
+        assertEquals(NUMBER_OF_RUNS, factory.runs.get());
+
+        resume(experiment);
+        assertEquals(NUMBER_OF_RUNS, factory.runs.get());
+    }
+
+    @Test
+    public void shouldOnlyTheMissingAndCorruptRunsBeExecutedAgain() throws IOException {
+        new ExecuteAlgorithms<>(experiment).run();
+        File outputDirectory = new File(folder.getRoot(), "Test/data/Mock/MockProblem");
+        assertTrue(new File(outputDirectory, "MANIFEST0.properties").delete());
+        appendTo(new File(outputDirectory, "FUN1.tsv"));
+
+        resume(experiment);
+
+        assertEquals(NUMBER_OF_RUNS + 2, factory.runs.get());
+    }
+
+    @Test
+    public void shouldTheVerifyModeDetectFilesModifiedWithoutChangingTheirSize() throws IOException {
+        new ExecuteAlgorithms<>(experiment).run();
+        File varFile = new File(folder.getRoot(), "Test/data/Mock/MockProblem/VAR2.tsv");
+        overwriteFirstByte(varFile);
+
+        resume(experiment);
+        assertEquals(NUMBER_OF_RUNS, factory.runs.get());
+
+        new ExecuteAlgorithms<>(experiment).setMode(ExecuteAlgorithms.Mode.VERIFY).run();
+        assertEquals(NUMBER_OF_RUNS + 1, factory.runs.get());
+    }
+
+    @Test
+    public void shouldAllTheRunsBeExecutedByDefault() {
+        new ExecuteAlgorithms<>(experiment).run();
+        new ExecuteAlgorithms<>(experiment).run();
+
+        assertEquals(ExecuteAlgorithms.Mode.ALL, new ExecuteAlgorithms<>(experiment).getMode());
+        assertEquals(2 * NUMBER_OF_RUNS, factory.runs.get());
+    }
+
+    @Test
+    public void shouldResumingWithAnotherSeedRaiseAnException() {
+        new ExecuteAlgorithms<>(experiment).run();
+        Experiment<DoubleSolution, List<DoubleSolution>> otherSeedExperiment = createExperiment(8);
+
+        try {
+            resume(otherSeedExperiment);
+            fail("Resuming with another seed should have failed");
+        } catch (JMetalException e) {
+            assertEquals(NUMBER_OF_RUNS, factory.runs.get());
+        }
+    }
+
+    @Test
+    public void shouldResumingWithAnotherSeedBeAllowedExplicitly() throws IOException {
+        new ExecuteAlgorithms<>(experiment).run();
+        assertTrue(new File(folder.getRoot(), "Test/data/Mock/MockProblem/MANIFEST0.properties").delete());
+
+        new ExecuteAlgorithms<>(createExperiment(8))
+                .setMode(ExecuteAlgorithms.Mode.RESUME)
+                .setSeedMismatchAllowed(true)
+                .run();
+
+        assertEquals(NUMBER_OF_RUNS + 1, factory.runs.get());
+    }
+
+    @Test
+    public void shouldTheIndicatorsBeTrackedWhenEnabled() throws IOException {
+        File referenceFront = folder.newFile("MockProblem.pf");
+        Files.write(referenceFront.toPath(), "0.5\n".getBytes(StandardCharsets.UTF_8));
+        Experiment<DoubleSolution, List<DoubleSolution>> trackingExperiment = createExperimentBuilder(7)
+                .setIndicatorList(Arrays.<GenericIndicator<DoubleSolution>>asList(new Epsilon<DoubleSolution>()))
+                .setReferenceFrontDirectory(folder.getRoot().getPath())
+                .setReferenceFrontFileNames(Arrays.asList("MockProblem.pf"))
+                .setIndicatorTrackingEnabled(true)
+                .build();
+
+        new ExecuteAlgorithms<>(trackingExperiment).run();
+
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+            File file = new File(folder.getRoot(),
+                    "Test/data/Mock/MockProblem/INPROCESSDATA" + run + "/" + IndicatorTracker.FILE_NAME);
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            assertEquals(1, lines.size());
+            assertTrue(lines.get(0).startsWith("0\tEP\t"));
+        }
+    }
+
+    @Test
+    public void shouldTheTrackedHypervolumeBeTheMonteCarloEstimationWhenConfigured() throws IOException {
+        File referenceFront = folder.newFile("MockProblem.pf");
+        Files.write(referenceFront.toPath(), "0.5\n".getBytes(StandardCharsets.UTF_8));
+        Experiment<DoubleSolution, List<DoubleSolution>> trackingExperiment = createExperimentBuilder(7)
+                .setIndicatorList(Arrays.<GenericIndicator<DoubleSolution>>asList(new PISAHypervolume<DoubleSolution>()))
+                .setReferenceFrontDirectory(folder.getRoot().getPath())
+                .setReferenceFrontFileNames(Arrays.asList("MockProblem.pf"))
+                .setIndicatorTrackingEnabled(true)
+                .setMonteCarloHypervolume(1, new FixedMonteCarloHypervolume())
+                .build();
+
+        new ExecuteAlgorithms<>(trackingExperiment).run();
+
+        for (int run = 0; run < NUMBER_OF_RUNS; run++) {
+            File file = new File(folder.getRoot(),
+                    "Test/data/Mock/MockProblem/INPROCESSDATA" + run + "/" + IndicatorTracker.FILE_NAME);
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            assertEquals(1, lines.size());
+            assertEquals("0\tHV\t" + FixedMonteCarloHypervolume.VALUE, lines.get(0));
+        }
+    }
+
+    @Test
+    public void shouldNoIndicatorsBeTrackedByDefault() {
+        new ExecuteAlgorithms<>(experiment).run();
+
+        assertFalse(new File(folder.getRoot(),
+                "Test/data/Mock/MockProblem/INPROCESSDATA0/" + IndicatorTracker.FILE_NAME).exists());
+    }
+
+    private void resume(Experiment<DoubleSolution, List<DoubleSolution>> experiment) {
+        new ExecuteAlgorithms<>(experiment).setMode(ExecuteAlgorithms.Mode.RESUME).run();
+    }
+
+    private void appendTo(File file) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file, true);
+        try {
+            outputStream.write('\n');
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private void overwriteFirstByte(File file) throws IOException {
+        byte[] content = Files.readAllBytes(file.toPath());
+        content[0] = (byte) (content[0] == '9' ? '8' : '9');
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(content);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * Estimator returning always the same value
+     */
+    @SuppressWarnings("serial")
+    private static class FixedMonteCarloHypervolume extends MonteCarloHypervolume<DoubleSolution> {
+        private static final double VALUE = 42.0;
+
+        @Override
+        public Double evaluate(List<DoubleSolution> solutionList) {
+            return VALUE;
+        }
+    }
+
+    /**
+     * Factory counting the runs of the algorithms it has created
+     */
+    @SuppressWarnings("serial")
+    private static class MockAlgorithmFactory implements AlgorithmFactory<DoubleSolution, List<DoubleSolution>> {
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+            return new MockAlgorithm(problem, runs);
+        }
+    }
+
+    /**
+     * Algorithm evaluating a solution, which is notified as a snapshot of one evaluation
+     */
+    @SuppressWarnings("serial")
+    private static class MockAlgorithm implements Algorithm<List<DoubleSolution>>, SnapshotSource<DoubleSolution> {
+        private final Problem<DoubleSolution> problem;
+        private final AtomicInteger runs;
+        private final List<SnapshotListener<DoubleSolution>> listeners = new ArrayList<>();
+        private List<DoubleSolution> result;
+
+        MockAlgorithm(Problem<DoubleSolution> problem, AtomicInteger runs) {
+            this.problem = problem;
+            this.runs = runs;
+        }
+
+        @Override
+        public void run() {
+            runs.incrementAndGet();
+            DoubleSolution solution = problem.createSolution();
+            problem.evaluate(solution);
+            result = new ArrayList<>();
+            result.add(solution);
+            for (SnapshotListener<DoubleSolution> listener : listeners) {
+                listener.snapshotTaken(1, 0, result);
+            }
+        }
+
+        @Override
+        public List<DoubleSolution> getResult() {
+            return result;
+        }
+
+        @Override
+        public String getName() {
+            return "Mock";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Mock algorithm";
+        }
+
+        @Override
+        public void addSnapshotListener(SnapshotListener<DoubleSolution> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeSnapshotListener(SnapshotListener<DoubleSolution> listener) {
+            listeners.remove(listener);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem {
+        MockProblem() {
+            setNumberOfVariables(1);
+            setNumberOfObjectives(1);
+            setName("MockProblem");
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            solution.setObjective(0, solution.getVariableValue(0));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompletionManifestTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+    private File funFile;
+    private File varFile;
+    private CompletionManifest manifest;
+
+    @Before
+    public void setup() throws IOException {
+        directory = folder.getRoot();
+        funFile = new File(directory, "FUN3.tsv");
+        varFile = new File(directory, "VAR3.tsv");
+        writeFile(funFile, "0.1\t0.9\n0.5\t0.5\n");
+        writeFile(varFile, "0.25\n0.75\n");
+        manifest = new CompletionManifest(directory.getPath(), "NSGAII", "ZDT1", 3);
+    }
+
+    @Test
+    public void shouldARunWithoutManifestBeMissing() {
+        assertEquals(CompletionManifest.Status.MISSING, manifest.check(false));
+        assertEquals(CompletionManifest.Status.MISSING, manifest.check(true));
+        assertNull(manifest.getRecordedRandomSeed());
+    }
+
+    @Test
+    public void shouldARunBeCompleteOnceItsManifestIsWritten() {
+        manifest.write(42, funFile, varFile);
+
+        assertTrue(manifest.getFile().isFile());
+        assertEquals(CompletionManifest.Status.COMPLETE, manifest.check(false));
+        assertEquals(CompletionManifest.Status.COMPLETE, manifest.check(true));
+        assertEquals(Long.valueOf(42), manifest.getRecordedRandomSeed());
+    }
+
+    @Test
+    public void shouldWriteLeaveNoTemporaryFiles() {
+        manifest.write(42, funFile, varFile);
+        manifest.write(42, funFile, varFile);
+
+        assertEquals(3, directory.list().length);
+    }
+
+    @Test
+    public void shouldARunBeMissingOnceItsManifestIsDeleted() {
+        manifest.write(42, funFile, varFile);
+        manifest.delete();
+
+        assertFalse(manifest.getFile().exists());
+        assertEquals(CompletionManifest.Status.MISSING, manifest.check(false));
+    }
+
+    @Test
+    public void shouldARunWithATruncatedFileBeCorrupt() throws IOException {
+        manifest.write(42, funFile, varFile);
+        writeFile(funFile, "0.1\t0.9\n");
+
+        assertEquals(CompletionManifest.Status.CORRUPT, manifest.check(false));
+    }
+
+    @Test
+    public void shouldARunWithADeletedFileBeCorrupt() {
+        manifest.write(42, funFile, varFile);
+        assertTrue(varFile.delete());
+
+        assertEquals(CompletionManifest.Status.CORRUPT, manifest.check(false));
+    }
+
+    @Test
+    public void shouldAModifiedFileOfTheSameSizeBeDetectedOnlyWhenTheChecksumsAreVerified() throws IOException {
+        manifest.write(42, funFile, varFile);
+        writeFile(varFile, "0.75\n0.25\n");
+
+        assertEquals(CompletionManifest.Status.COMPLETE, manifest.check(false));
+        assertEquals(CompletionManifest.Status.CORRUPT, manifest.check(true));
+    }
+
+    @Test
+    public void shouldTheManifestOfAnotherRunBeCorrupt() throws IOException {
+        manifest.write(42, funFile, varFile);
+        CompletionManifest otherRun = new CompletionManifest(directory.getPath(), "NSGAII", "ZDT1", 4);
+        Files.copy(manifest.getFile().toPath(), otherRun.getFile().toPath());
+
+        assertEquals(CompletionManifest.Status.CORRUPT, otherRun.check(false));
+        assertEquals(CompletionManifest.Status.CORRUPT,
+                new CompletionManifest(directory.getPath(), "SMPSO", "ZDT1", 3).check(false));
+    }
+
+    @Test
+    public void shouldAnUnreadableManifestBeCorrupt() throws IOException {
+        writeFile(manifest.getFile(), "tag=NSGAII\nproblem=ZDT1\nrun=3\n");
+
+        assertEquals(CompletionManifest.Status.CORRUPT, manifest.check(false));
+        assertNull(manifest.getRecordedRandomSeed());
+    }
+
+    private void writeFile(File file, String content) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(content.getBytes("UTF-8"));
+        } finally {
+            outputStream.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.Spread;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IndicatorBatchEvaluatorTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test(expected = JMetalException.class)
+    public void shouldConstructorRaiseAnExceptionIfTheListIsEmpty() {
+        new IndicatorBatchEvaluator<PointSolution>(new ArrayList<GenericIndicator<PointSolution>>());
+    }
+
+    @Test
+    public void shouldTheValuesBeTheOnesOfEachIndicator() throws FileNotFoundException {
+        Random random = new Random(1);
+        Front referenceFront = createRandomFront(random, 100);
+        Front front = createRandomFront(random, 30);
+
+        List<GenericIndicator<PointSolution>> indicatorList = Arrays.<GenericIndicator<PointSolution>>asList(
+                new Epsilon<PointSolution>(), new GenerationalDistance<PointSolution>(),
+                new InvertedGenerationalDistance<PointSolution>(), new Spread<PointSolution>());
+        IndicatorBatchEvaluator<PointSolution> batchEvaluator = new IndicatorBatchEvaluator<>(indicatorList);
+        batchEvaluator.setReferenceParetoFront(referenceFront);
+
+        double[] values = batchEvaluator.evaluate(front);
+
+        assertEquals(indicatorList.size(), values.length);
+        for (int i = 0; i < indicatorList.size(); i++) {
+            GenericIndicator<PointSolution> indicator = indicatorList.get(i);
+            assertEquals(indicator.getName(),
+                    indicator.evaluate(FrontUtils.convertFrontToSolutionList(front)), values[i], EPSILON);
+        }
+    }
+
+    private Front createRandomFront(Random random, int numberOfPoints) {
+        Front front = new ArrayFront(numberOfPoints, 2);
+        for (int j = 0; j < numberOfPoints; j++) {
+            double x = random.nextDouble();
+            front.getPoint(j).setDimensionValue(0, x);
+            front.getPoint(j).setDimensionValue(1, 1.0 - x + 0.1 * random.nextDouble());
+        }
+        return front;
+    }
+}
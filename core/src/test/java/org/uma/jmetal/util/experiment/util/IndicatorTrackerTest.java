@@ -0,0 +1,85 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class IndicatorTrackerTest {
+    private static final double EPSILON = 0.000000001;
+    private static final String REFERENCE_FRONT = "/pareto_fronts/ZDT1.pf";
+
+    @Test
+    public void shouldTheRecordsHaveTheValuesOfTheSnapshots() throws IOException {
+        File file = File.createTempFile("indicatorTracker", ".tsv");
+        file.deleteOnExit();
+        List<GenericIndicator<PointSolution>> indicatorList = Arrays.<GenericIndicator<PointSolution>>asList(
+                new Epsilon<PointSolution>(), new InvertedGenerationalDistance<PointSolution>());
+        IndicatorTracker<PointSolution> tracker =
+                new IndicatorTracker<>(indicatorList, REFERENCE_FRONT, file.getPath());
+
+        List<PointSolution> population = createPopulation();
+        tracker.track(1, population);
+        List<PointSolution> firstSnapshot = createPopulation();
+        // The tracker must have copied the first snapshot
+        for (PointSolution solution : population) {
+            solution.setObjective(1, solution.getObjective(1) - 0.1);
+        }
+        tracker.track(2, population);
+        tracker.close();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(4, lines.size());
+
+        GenericIndicator<PointSolution> epsilon = new Epsilon<>(new ArrayFront(REFERENCE_FRONT));
+        GenericIndicator<PointSolution> igd = new InvertedGenerationalDistance<>(new ArrayFront(REFERENCE_FRONT));
+        assertRecord(lines.get(0), "1", "EP", epsilon.evaluate(firstSnapshot));
+        assertRecord(lines.get(1), "1", "IGD", igd.evaluate(firstSnapshot));
+        assertRecord(lines.get(2), "2", "EP", epsilon.evaluate(population));
+        assertRecord(lines.get(3), "2", "IGD", igd.evaluate(population));
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldTrackingWhenClosedRaiseAnException() throws IOException {
+        File file = File.createTempFile("indicatorTracker", ".tsv");
+        file.deleteOnExit();
+        IndicatorTracker<PointSolution> tracker = new IndicatorTracker<>(
+                Arrays.<GenericIndicator<PointSolution>>asList(new Epsilon<PointSolution>()), REFERENCE_FRONT,
+                file.getPath());
+        tracker.close();
+
+        tracker.track(1, createPopulation());
+    }
+
+    private void assertRecord(String line, String snapshotIndex, String indicatorName, double value) {
+        String[] fields = line.split("\t");
+        assertEquals(3, fields.length);
+        assertEquals(snapshotIndex, fields[0]);
+        assertEquals(indicatorName, fields[1]);
+        assertEquals(value, Double.parseDouble(fields[2]), EPSILON);
+    }
+
+    private List<PointSolution> createPopulation() {
+        List<PointSolution> population = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            PointSolution solution = new PointSolution(2);
+            solution.setObjective(0, i / 10.0);
+            solution.setObjective(1, 1.2 - Math.sqrt(i / 10.0));
+            population.add(solution);
+        }
+        return population;
+    }
+}
@@ -0,0 +1,141 @@
+package org.uma.jmetal.util.experiment.util;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.pseudorandom.RandomStreamContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TaggedAlgorithmTest {
+
+    @Test
+    public void shouldAnAlgorithmCreatedByAFactoryBeNamedByTheTagUntilItIsRun() {
+        MockProblem problem = new MockProblem();
+        TaggedAlgorithm<Problem<DoubleSolution>> algorithm =
+                new TaggedAlgorithm<>(new MockAlgorithmFactory(), "Tag", problem, 0);
+
+        assertEquals("Tag", algorithm.getName());
+
+        algorithm.run();
+
+        assertEquals("MockAlgorithm", algorithm.getName());
+    }
+
+    @Test
+    public void shouldEachRunOfAnAlgorithmCreatedByAFactorySolveItsOwnInstanceOfTheProblem() {
+        MockProblem problem = new MockProblem();
+        TaggedAlgorithm<Problem<DoubleSolution>> algorithm =
+                new TaggedAlgorithm<>(new MockAlgorithmFactory(), "Tag", problem, 0);
+        algorithm.setRandomStreamContext(new RandomStreamContext(1));
+
+        algorithm.run();
+        Problem<DoubleSolution> firstProblem = algorithm.getResult();
+        algorithm.run();
+        Problem<DoubleSolution> secondProblem = algorithm.getResult();
+
+        assertNotSame(problem, firstProblem);
+        assertNotSame(firstProblem, secondProblem);
+        assertSame(problem, ((MockProblem) firstProblem).original);
+        assertSame(problem, algorithm.getProblem());
+    }
+
+    @Test
+    public void shouldAnAlgorithmWithoutFactoryBeRunAsItIs() {
+        MockProblem problem = new MockProblem();
+        MockAlgorithm mockAlgorithm = new MockAlgorithm(problem);
+        TaggedAlgorithm<Problem<DoubleSolution>> algorithm = new TaggedAlgorithm<>(mockAlgorithm, problem, 0);
+
+        algorithm.run();
+
+        assertSame(problem, algorithm.getResult());
+        assertEquals("MockAlgorithm", algorithm.getTag());
+    }
+
+    @SuppressWarnings("serial")
+    private static class MockAlgorithmFactory implements AlgorithmFactory<DoubleSolution, Problem<DoubleSolution>> {
+        @Override
+        public Algorithm<Problem<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+            return new MockAlgorithm(problem);
+        }
+    }
+
+    /**
+     * Algorithm whose result is the problem it has solved
+     */
+    @SuppressWarnings("serial")
+    private static class MockAlgorithm implements Algorithm<Problem<DoubleSolution>> {
+        private final Problem<DoubleSolution> problem;
+        private Problem<DoubleSolution> result;
+
+        MockAlgorithm(Problem<DoubleSolution> problem) {
+            this.problem = problem;
+        }
+
+        @Override
+        public void run() {
+            result = problem;
+        }
+
+        @Override
+        public Problem<DoubleSolution> getResult() {
+            return result;
+        }
+
+        @Override
+        public String getName() {
+            return "MockAlgorithm";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Mock algorithm";
+        }
+    }
+
+    /**
+     * Problem whose copies for other threads are new instances
+     */
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem {
+        private MockProblem original;
+
+        MockProblem() {
+            setNumberOfVariables(1);
+            setNumberOfObjectives(1);
+            setName("MockProblem");
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public MockProblem copyForThread() {
+            MockProblem copy = new MockProblem();
+            copy.original = this;
+            return copy;
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            solution.setObjective(0, solution.getVariableValue(0));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.point.util.distance.DominanceDistance;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the queries of {@link FrontIndex} against the linear scans of {@link FrontUtils}
+ */
+public class FrontIndexTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test(expected = JMetalException.class)
+    public void shouldIndexingAnEmptyFrontRaiseAnException() {
+        new FrontIndex(new ArrayFront(0, 2));
+    }
+
+    @Test
+    public void shouldTheQueriesReturnTheDistancesOfTheLinearScans() {
+        Random random = new Random(1);
+        for (int test = 0; test < 30; test++) {
+            int numberOfDimensions = 2 + test % 4;
+            int numberOfPoints = 1 + random.nextInt(test % 2 == 0 ? 20 : 2000);
+            Front front = createRandomFront(random, numberOfPoints, numberOfDimensions, test % 3 == 0 ? 5 : 0);
+            FrontIndex frontIndex = new FrontIndex(front);
+
+            assertEquals(numberOfPoints, frontIndex.getNumberOfPoints());
+            Front queries = createRandomFront(random, 50, numberOfDimensions, test % 3 == 0 ? 5 : 0);
+            for (int j = 0; j < queries.getNumberOfPoints(); j++) {
+                Point query = queries.getPoint(j);
+                assertEquals(FrontUtils.distanceToClosestPoint(query, front),
+                        frontIndex.distanceToClosestPoint(query), EPSILON);
+                assertEquals(FrontUtils.distanceToClosestPoint(query, front, new DominanceDistance()),
+                        frontIndex.dominanceDistanceToClosestPoint(query), EPSILON);
+            }
+            for (int j = 0; j < Math.min(50, numberOfPoints); j++) {
+                Point point = front.getPoint(j);
+                assertEquals(FrontUtils.distanceToNearestPoint(point, front),
+                        frontIndex.distanceToNearestPoint(point), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheIndicatorsWithALargeReferenceFrontReturnTheValuesOfTheLinearScans() {
+        Random random = new Random(2);
+        Front referenceFront = createRandomFront(random, 3 * FrontIndex.MINIMUM_FRONT_SIZE, 3, 0);
+        Front front = createRandomFront(random, 100, 3, 0);
+
+        double igdPlus = 0.0;
+        for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+            igdPlus += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i), front, new DominanceDistance());
+        }
+        double gd = 0.0;
+        for (int i = 0; i < front.getNumberOfPoints(); i++) {
+            gd += FrontUtils.distanceToClosestPoint(front.getPoint(i), referenceFront);
+        }
+
+        assertEquals(igdPlus / referenceFront.getNumberOfPoints(),
+                new InvertedGenerationalDistancePlus<PointSolution>(referenceFront)
+                        .invertedGenerationalDistancePlus(front, referenceFront), EPSILON);
+        GenerationalDistance<PointSolution> generationalDistance = new GenerationalDistance<>(referenceFront);
+        assertEquals(gd / front.getNumberOfPoints(), generationalDistance.generationalDistance(front, referenceFront), EPSILON);
+        assertEquals(gd / front.getNumberOfPoints(), generationalDistance.generationalDistance(front, referenceFront), EPSILON);
+    }
+
+    /**
+     * Random points; when a number of values is given, the coordinates are taken from that many
+     * values, so there are repeated points and ties
+     */
+    private Front createRandomFront(Random random, int numberOfPoints, int numberOfDimensions, int numberOfValues) {
+        Front front = new ArrayFront(numberOfPoints, numberOfDimensions);
+        for (int j = 0; j < numberOfPoints; j++) {
+            Point point = new ArrayPoint(numberOfDimensions);
+            for (int i = 0; i < numberOfDimensions; i++) {
+                point.setDimensionValue(i, numberOfValues > 0 ?
+                        random.nextInt(numberOfValues) / (double) numberOfValues : random.nextDouble());
+            }
+            front.setPoint(j, point);
+        }
+
+        return front;
+    }
+}
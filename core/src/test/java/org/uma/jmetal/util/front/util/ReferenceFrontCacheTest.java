@@ -0,0 +1,108 @@
+package org.uma.jmetal.util.front.util;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ReferenceFrontCacheTest {
+    private static final double EPSILON = 0.000000001;
+    private static final String FRONT_WITH_FOUR_POINTS = "/arrayFront/fileWithFourPoints.dat";
+    private static final String FRONT_WITH_ONE_POINT = "/arrayFront/fileWithOnePoint.dat";
+
+    @Test(expected = JMetalException.class)
+    public void shouldConstructorRaiseAnExceptionIfTheMaximumIsNotPositive() {
+        new ReferenceFrontCache(0);
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void shouldGetRaiseAnExceptionIfTheFileDoesNotExist() throws FileNotFoundException {
+        new ReferenceFrontCache(1000).get("/arrayFront/thisFileDoesNotExist.dat");
+    }
+
+    @Test
+    public void shouldGetReturnTheSameFrontTwice() throws FileNotFoundException {
+        ReferenceFrontCache cache = new ReferenceFrontCache(1000);
+
+        CachedReferenceFront cachedReferenceFront = cache.get(FRONT_WITH_FOUR_POINTS);
+
+        assertSame(cachedReferenceFront, cache.get(FRONT_WITH_FOUR_POINTS));
+        assertSame(cachedReferenceFront.getFront(), cache.getFront(FRONT_WITH_FOUR_POINTS));
+        assertSame(cachedReferenceFront, cache.find(cachedReferenceFront.getFront()));
+        assertEquals(1, cache.size());
+        assertEquals(16, cache.getNumberOfValues());
+    }
+
+    @Test
+    public void shouldTheBoundsBeTheOnesOfTheFront() throws FileNotFoundException {
+        CachedReferenceFront cachedReferenceFront = new ReferenceFrontCache(1000).get(FRONT_WITH_FOUR_POINTS);
+
+        assertArrayEquals(new double[]{-1, -2, -3, -4}, cachedReferenceFront.getMinimumValues(), EPSILON);
+        assertArrayEquals(new double[]{9, 10, 11, 12}, cachedReferenceFront.getMaximumValues(), EPSILON);
+        assertArrayEquals(new double[]{10, 11, 12, 13},
+                cachedReferenceFront.getHypervolumeReferencePoint(1.0), EPSILON);
+    }
+
+    @Test
+    public void shouldTheNormalizedFrontAndTheIndexesBeComputedOnce() throws FileNotFoundException {
+        ReferenceFrontCache cache = new ReferenceFrontCache(1000);
+        CachedReferenceFront cachedReferenceFront = cache.get(FRONT_WITH_FOUR_POINTS);
+
+        assertSame(cachedReferenceFront.getNormalizedFront(), cachedReferenceFront.getNormalizedFront());
+        assertEquals(0.2, cachedReferenceFront.getNormalizedFront().getPoint(0).getDimensionValue(0), EPSILON);
+        assertSame(cachedReferenceFront.getFrontIndex(), cachedReferenceFront.getFrontIndex());
+        assertSame(cachedReferenceFront.getNormalizedFrontIndex(), cachedReferenceFront.getNormalizedFrontIndex());
+        assertEquals(64, cache.getNumberOfValues());
+    }
+
+    @Test
+    public void shouldTheLeastRecentlyUsedFrontBeEvicted() throws FileNotFoundException {
+        ReferenceFrontCache cache = new ReferenceFrontCache(20);
+
+        CachedReferenceFront frontWithFourPoints = cache.get(FRONT_WITH_FOUR_POINTS);
+        CachedReferenceFront frontWithOnePoint = cache.get(FRONT_WITH_ONE_POINT);
+        assertEquals(2, cache.size());
+
+        cache.get(FRONT_WITH_FOUR_POINTS);
+        frontWithFourPoints.getNormalizedFront();
+        cache.get(FRONT_WITH_FOUR_POINTS);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.find(frontWithOnePoint.getFront()));
+        assertSame(frontWithFourPoints, cache.find(frontWithFourPoints.getFront()));
+    }
+
+    @Test
+    public void shouldAFileBeReadAgainWhenItChanges() throws IOException {
+        File file = File.createTempFile("referenceFront", ".pf");
+        file.deleteOnExit();
+        ReferenceFrontCache cache = new ReferenceFrontCache(1000);
+
+        writeFile(file, "1.0 2.0\n");
+        CachedReferenceFront cachedReferenceFront = cache.get(file.getPath());
+        assertEquals(1, cachedReferenceFront.getFront().getNumberOfPoints());
+        assertSame(cachedReferenceFront, cache.get(file.getAbsolutePath()));
+
+        writeFile(file, "1.0 2.0\n3.0 4.0\n");
+        CachedReferenceFront changedReferenceFront = cache.get(file.getPath());
+
+        assertNotSame(cachedReferenceFront, changedReferenceFront);
+        assertEquals(2, changedReferenceFront.getFront().getNumberOfPoints());
+        assertEquals(1, cache.size());
+    }
+
+    private void writeFile(File file, String content) throws IOException {
+        FileWriter writer = new FileWriter(file);
+        writer.write(content);
+        writer.close();
+    }
+}
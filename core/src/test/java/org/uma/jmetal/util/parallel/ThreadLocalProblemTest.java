@@ -0,0 +1,133 @@
+package org.uma.jmetal.util.parallel;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ThreadLocalProblemTest {
+
+    @Test
+    public void shouldGetReturnTheProblemItselfIfItDoesNotKeepState() {
+        ThreadLocalProblem<DoubleSolution> threadProblem = new ThreadLocalProblem<>();
+        MockProblem problem = new MockProblem(false);
+
+        assertSame(problem, threadProblem.get(problem));
+    }
+
+    @Test
+    public void shouldGetReturnTheSameCopyWhenCalledTwiceFromTheSameThread() {
+        ThreadLocalProblem<DoubleSolution> threadProblem = new ThreadLocalProblem<>();
+        MockProblem problem = new MockProblem(true);
+
+        Problem<DoubleSolution> copy = threadProblem.get(problem);
+
+        assertNotSame(problem, copy);
+        assertSame(copy, threadProblem.get(problem));
+        assertEquals(1, problem.copies);
+    }
+
+    @Test
+    public void shouldGetReturnAnotherCopyInAnotherThread() throws InterruptedException {
+        final ThreadLocalProblem<DoubleSolution> threadProblem = new ThreadLocalProblem<>();
+        final MockProblem problem = new MockProblem(true);
+        final AtomicReference<Problem<DoubleSolution>> otherCopy = new AtomicReference<>();
+
+        Problem<DoubleSolution> copy = threadProblem.get(problem);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                otherCopy.set(threadProblem.get(problem));
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertNotSame(problem, otherCopy.get());
+        assertNotSame(copy, otherCopy.get());
+        assertEquals(2, problem.copies);
+    }
+
+    @Test
+    public void shouldGetReturnACopyOfTheLastProblemRequested() {
+        ThreadLocalProblem<DoubleSolution> threadProblem = new ThreadLocalProblem<>();
+        MockProblem problem = new MockProblem(true);
+        MockProblem anotherProblem = new MockProblem(true);
+
+        Problem<DoubleSolution> copy = threadProblem.get(problem);
+        Problem<DoubleSolution> anotherCopy = threadProblem.get(anotherProblem);
+
+        assertSame(anotherProblem, ((MockProblem) anotherCopy).original);
+        assertNotSame(copy, threadProblem.get(problem));
+    }
+
+    @Test
+    public void shouldADeserializedInstanceCreateItsOwnCopies() {
+        ThreadLocalProblem<DoubleSolution> threadProblem = new ThreadLocalProblem<>();
+        MockProblem problem = new MockProblem(true);
+        Problem<DoubleSolution> copy = threadProblem.get(problem);
+
+        ThreadLocalProblem<DoubleSolution> deserializedThreadProblem = SerializationUtils.clone(threadProblem);
+
+        assertNotSame(copy, deserializedThreadProblem.get(problem));
+        assertEquals(2, problem.copies);
+    }
+
+    /**
+     * Problem which, if it keeps state, returns a new instance in copyForThread() and counts the
+     * copies made
+     */
+    @SuppressWarnings("serial")
+    private static class MockProblem extends AbstractDoubleProblem {
+        private final boolean stateful;
+        private MockProblem original;
+        private int copies;
+
+        MockProblem(boolean stateful) {
+            this.stateful = stateful;
+            setNumberOfVariables(1);
+            setNumberOfObjectives(1);
+
+            List<Double> lowerLimit = new ArrayList<>();
+            List<Double> upperLimit = new ArrayList<>();
+            lowerLimit.add(0.0);
+            upperLimit.add(1.0);
+            setLowerLimit(lowerLimit);
+            setUpperLimit(upperLimit);
+        }
+
+        @Override
+        public Problem<DoubleSolution> copyForThread() {
+            if (!stateful) {
+                return this;
+            }
+
+            synchronized (this) {
+                copies++;
+            }
+            MockProblem copy = new MockProblem(true);
+            copy.original = this;
+            return copy;
+        }
+
+        @Override
+        public DoubleSolution createSolution() {
+            return new DefaultDoubleSolution(this);
+        }
+
+        @Override
+        public void evaluate(DoubleSolution solution) {
+            solution.setObjective(0, solution.getVariableValue(0));
+        }
+    }
+}
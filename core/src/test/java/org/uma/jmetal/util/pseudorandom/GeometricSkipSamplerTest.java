@@ -0,0 +1,170 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.Xoshiro256PlusPlusGenerator;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * Statistical tests of the equivalence of the skip sampling and the per-trial Bernoulli sampling.
+ * The generator is seeded, so the tests are deterministic; the significance level is low enough
+ * for the seed not to matter.
+ */
+public class GeometricSkipSamplerTest {
+    private static final double SIGNIFICANCE_LEVEL = 0.001;
+    private static final int NUMBER_OF_SAMPLES = 20000;
+
+    private JMetalRandom randomGenerator;
+    private PseudoRandomGenerator previousGenerator;
+
+    @Before
+    public void setup() {
+        previousGenerator = JMetalRandom.bindThreadRandomGenerator(new Xoshiro256PlusPlusGenerator(12345));
+        randomGenerator = JMetalRandom.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        JMetalRandom.bindThreadRandomGenerator(previousGenerator);
+    }
+
+    @Test
+    public void shouldNextIndexReturnTheNumberOfTrialsIfTheProbabilityIsZero() {
+        JMetalRandom mockedGenerator = mock(JMetalRandom.class);
+        GeometricSkipSampler sampler = new GeometricSkipSampler(0.0, mockedGenerator);
+
+        assertEquals(10, sampler.nextIndex(0, 10));
+        verifyZeroInteractions(mockedGenerator);
+    }
+
+    @Test
+    public void shouldNextIndexReturnTheFirstIndexIfTheProbabilityIsOne() {
+        JMetalRandom mockedGenerator = mock(JMetalRandom.class);
+        GeometricSkipSampler sampler = new GeometricSkipSampler(1.0, mockedGenerator);
+
+        assertEquals(3, sampler.nextIndex(3, 10));
+        assertEquals(10, sampler.nextIndex(10, 10));
+        verifyZeroInteractions(mockedGenerator);
+    }
+
+    @Test
+    public void shouldNextIndexNeverExceedTheNumberOfTrials() {
+        GeometricSkipSampler sampler = new GeometricSkipSampler(1e-9, randomGenerator);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(5, sampler.nextIndex(0, 5));
+        }
+        assertEquals(Integer.MAX_VALUE, sampler.nextIndex(Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldTheNumberOfSuccessesFollowTheBinomialDistributionOfTheBernoulliTrials() {
+        int numberOfTrials = 100;
+        double probability = 0.03;
+        GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenerator);
+
+        long[] skipCounts = new long[numberOfTrials + 1];
+        long[] bernoulliCounts = new long[numberOfTrials + 1];
+        for (int sample = 0; sample < NUMBER_OF_SAMPLES; sample++) {
+            skipCounts[countSuccesses(sampler, numberOfTrials)]++;
+
+            int successes = 0;
+            for (int i = 0; i < numberOfTrials; i++) {
+                if (randomGenerator.nextDouble() < probability) {
+                    successes++;
+                }
+            }
+            bernoulliCounts[successes]++;
+        }
+
+        // Counts beyond 9 are merged into the last bin, whose expected frequency would be too low
+        int bins = 10;
+        BinomialDistribution distribution = new BinomialDistribution(numberOfTrials, probability);
+        double[] expected = new double[bins];
+        for (int k = 0; k < bins - 1; k++) {
+            expected[k] = NUMBER_OF_SAMPLES * distribution.probability(k);
+        }
+        expected[bins - 1] = NUMBER_OF_SAMPLES * (1.0 - distribution.cumulativeProbability(bins - 2));
+
+        ChiSquareTest test = new ChiSquareTest();
+        assertTrue(test.chiSquareTest(expected, mergeTail(skipCounts, bins)) > SIGNIFICANCE_LEVEL);
+        assertTrue(test.chiSquareTest(expected, mergeTail(bernoulliCounts, bins)) > SIGNIFICANCE_LEVEL);
+        assertTrue(test.chiSquareTestDataSetsComparison(
+                mergeTail(skipCounts, bins), mergeTail(bernoulliCounts, bins)) > SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    public void shouldEveryTrialSucceedWithTheSameProbability() {
+        int numberOfTrials = 40;
+        double probability = 0.05;
+        GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenerator);
+
+        long[] successesPerTrial = new long[numberOfTrials];
+        for (int sample = 0; sample < NUMBER_OF_SAMPLES; sample++) {
+            int i = sampler.nextIndex(0, numberOfTrials);
+            while (i < numberOfTrials) {
+                successesPerTrial[i]++;
+                i = sampler.nextIndex(i + 1, numberOfTrials);
+            }
+        }
+
+        double[] expected = new double[numberOfTrials];
+        Arrays.fill(expected, NUMBER_OF_SAMPLES * probability);
+        assertTrue(new ChiSquareTest().chiSquareTest(expected, successesPerTrial) > SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    public void shouldTheSuccessesOfConsecutiveTrialsBeIndependent() {
+        int numberOfTrials = 2;
+        double probability = 0.3;
+        GeometricSkipSampler sampler = new GeometricSkipSampler(probability, randomGenerator);
+
+        // Frequencies of the outcomes (failure, failure), (success, failure), (failure, success) and
+        // (success, success)
+        long[] outcomes = new long[4];
+        for (int sample = 0; sample < NUMBER_OF_SAMPLES; sample++) {
+            int outcome = 0;
+            int i = sampler.nextIndex(0, numberOfTrials);
+            while (i < numberOfTrials) {
+                outcome |= 1 << i;
+                i = sampler.nextIndex(i + 1, numberOfTrials);
+            }
+            outcomes[outcome]++;
+        }
+
+        double q = 1.0 - probability;
+        double[] expected = {
+                NUMBER_OF_SAMPLES * q * q, NUMBER_OF_SAMPLES * probability * q,
+                NUMBER_OF_SAMPLES * q * probability, NUMBER_OF_SAMPLES * probability * probability};
+        assertTrue(new ChiSquareTest().chiSquareTest(expected, outcomes) > SIGNIFICANCE_LEVEL);
+    }
+
+    private int countSuccesses(GeometricSkipSampler sampler, int numberOfTrials) {
+        int successes = 0;
+        int i = sampler.nextIndex(0, numberOfTrials);
+        while (i < numberOfTrials) {
+            successes++;
+            i = sampler.nextIndex(i + 1, numberOfTrials);
+        }
+
+        return successes;
+    }
+
+    private long[] mergeTail(long[] counts, int bins) {
+        long[] merged = Arrays.copyOf(counts, bins);
+        for (int k = bins; k < counts.length; k++) {
+            merged[bins - 1] += counts[k];
+        }
+
+        return merged;
+    }
+}
@@ -0,0 +1,106 @@
+package org.uma.jmetal.util.pseudorandom;
+
+import org.junit.Test;
+import org.uma.jmetal.util.pseudorandom.impl.Xoshiro256PlusPlusGenerator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RandomStreamContextTest {
+    private static final double EPSILON = 0.000000001;
+
+    @Test
+    public void shouldTheSameSeedAndStreamGiveTheSameNumbers() {
+        assertArrayEquals(draw(new RandomStreamContext(12345).createStream(7), 100),
+                draw(new RandomStreamContext(12345).createStream(7), 100), EPSILON);
+    }
+
+    @Test
+    public void shouldDifferentStreamsHaveDifferentSeeds() {
+        RandomStreamContext context = new RandomStreamContext(12345);
+
+        assertNotEquals(context.getStreamSeed(0), context.getStreamSeed(1));
+        assertNotEquals(context.getStreamSeed(0), new RandomStreamContext(12346).getStreamSeed(0));
+        assertNotEquals(context.getStreamSeed(0), context.split(0).getStreamSeed(0));
+        assertEquals(context.getStreamSeed(3), context.split(3).getMasterSeed());
+    }
+
+    @Test
+    public void shouldTheMasterSeedOfACreatedContextBeTheNextLongOfTheCurrentGenerator() {
+        PseudoRandomGenerator previousGenerator =
+                JMetalRandom.bindThreadRandomGenerator(new Xoshiro256PlusPlusGenerator(5));
+        try {
+            assertEquals(new Xoshiro256PlusPlusGenerator(5).nextLong(),
+                    JMetalRandom.getInstance().createStreamContext().getMasterSeed());
+        } finally {
+            JMetalRandom.bindThreadRandomGenerator(previousGenerator);
+        }
+    }
+
+    @Test
+    public void shouldABoundGeneratorBeUsedOnlyByItsThread() throws InterruptedException {
+        final PseudoRandomGenerator stream = new RandomStreamContext(1).createStream(0);
+        final AtomicReference<PseudoRandomGenerator> otherThreadGenerator = new AtomicReference<>();
+
+        PseudoRandomGenerator previous = JMetalRandom.bindThreadRandomGenerator(stream);
+        try {
+            assertSame(stream, JMetalRandom.getInstance().getRanndomGenerator());
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    otherThreadGenerator.set(JMetalRandom.getInstance().getRanndomGenerator());
+                }
+            });
+            thread.start();
+            thread.join();
+        } finally {
+            assertSame(stream, JMetalRandom.bindThreadRandomGenerator(previous));
+        }
+
+        assertNotNull(otherThreadGenerator.get());
+        assertNotEquals(stream, otherThreadGenerator.get());
+        assertNull(JMetalRandom.getThreadRandomGenerator());
+    }
+
+    @Test
+    public void shouldTheThreadsOfTheFactoriesUseTheStreamsOfTheContext() throws InterruptedException {
+        final RandomStreamContext context = new RandomStreamContext(42);
+        final AtomicReference<Double> threadValue = new AtomicReference<>();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                threadValue.set(JMetalRandom.getInstance().nextDouble());
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(context.createThreadFactory("Test", true));
+        executor.execute(task);
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertEquals(context.createStream(0).nextDouble(), threadValue.get(), EPSILON);
+
+        ForkJoinPool pool = new ForkJoinPool(1, context.createForkJoinWorkerThreadFactory(), null, false);
+        pool.execute(task);
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        assertEquals(context.createStream(0).nextDouble(), threadValue.get(), EPSILON);
+    }
+
+    private double[] draw(PseudoRandomGenerator generator, int numberOfValues) {
+        double[] values = new double[numberOfValues];
+        for (int i = 0; i < numberOfValues; i++) {
+            values[i] = generator.nextDouble();
+        }
+        return values;
+    }
+}
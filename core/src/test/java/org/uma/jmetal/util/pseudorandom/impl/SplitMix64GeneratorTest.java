@@ -0,0 +1,57 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SplitMix64GeneratorTest {
+    private static final double EPSILON = 0.0;
+
+    @Test
+    public void shouldTheFirstValuesBeTheOnesOfTheReferenceImplementation() {
+        SplitMix64Generator generator = new SplitMix64Generator(0);
+
+        assertEquals(0xe220a8397b1dcdafL, generator.nextLong());
+        assertEquals(0x6e789e6aa1b965f4L, generator.nextLong());
+        assertEquals(0x06c45d188009454fL, generator.nextLong());
+    }
+
+    @Test
+    public void shouldNextDoublesReturnTheSameValuesAsNextDouble() {
+        SplitMix64Generator generator = new SplitMix64Generator(99);
+        double[] values = new double[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextDouble();
+        }
+
+        generator.setSeed(99);
+        double[] bulkValues = new double[100];
+        generator.nextDoubles(bulkValues, 0, 50);
+        generator.nextDoubles(bulkValues, 50, 100);
+
+        assertArrayEquals(values, bulkValues, EPSILON);
+    }
+
+    @Test
+    public void shouldTheDefaultBulkMethodsReturnTheSameValuesAsTheSingleOnes() {
+        JavaRandomGenerator generator = new JavaRandomGenerator(7);
+        double[] values = new double[20];
+        int[] intValues = new int[20];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextDouble();
+            intValues[i] = generator.nextInt(1, 6);
+        }
+
+        generator.setSeed(7);
+        double[] bulkValues = new double[20];
+        int[] bulkIntValues = new int[20];
+        for (int i = 0; i < values.length; i++) {
+            generator.nextDoubles(bulkValues, i, i + 1);
+            generator.nextInts(bulkIntValues, i, i + 1, 1, 6);
+        }
+
+        assertArrayEquals(values, bulkValues, EPSILON);
+        assertArrayEquals(intValues, bulkIntValues);
+    }
+}
@@ -0,0 +1,78 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Xoshiro256PlusPlusGeneratorTest {
+    private static final double EPSILON = 0.0;
+
+    @Test
+    public void shouldTheFirstValuesBeTheOnesOfTheReferenceImplementation() {
+        Xoshiro256PlusPlusGenerator generator = new Xoshiro256PlusPlusGenerator(1, 2, 3, 4);
+
+        assertEquals(41943041L, generator.nextLong());
+        assertEquals(58720359L, generator.nextLong());
+        assertEquals(3588806011781223L, generator.nextLong());
+        assertEquals(3591011842654386L, generator.nextLong());
+    }
+
+    @Test
+    public void shouldJumpAdvanceTheStateAsTheReferenceImplementation() {
+        Xoshiro256PlusPlusGenerator generator = new Xoshiro256PlusPlusGenerator(1, 2, 3, 4);
+
+        generator.jump();
+
+        assertEquals(-1402993933574867913L, generator.nextLong());
+        assertEquals(2364973248208838314L, generator.nextLong());
+    }
+
+    @Test
+    public void shouldNextDoublesReturnTheSameValuesAsNextDouble() {
+        Xoshiro256PlusPlusGenerator generator = new Xoshiro256PlusPlusGenerator(1234);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextDouble();
+        }
+
+        generator.setSeed(1234);
+        double[] bulkValues = new double[1002];
+        generator.nextDoubles(bulkValues, 1, 1001);
+
+        double[] expectedValues = new double[1002];
+        System.arraycopy(values, 0, expectedValues, 1, values.length);
+        assertArrayEquals(expectedValues, bulkValues, EPSILON);
+        for (double value : values) {
+            assertTrue((value >= 0.0) && (value < 1.0));
+        }
+    }
+
+    @Test
+    public void shouldNextIntsReturnValuesInTheBoundsAsNextInt() {
+        Xoshiro256PlusPlusGenerator generator = new Xoshiro256PlusPlusGenerator(1234);
+        int[] values = new int[10000];
+        generator.nextInts(values, 0, values.length, -3, 3);
+
+        generator.setSeed(1234);
+        int[] counts = new int[7];
+        for (int value : values) {
+            assertEquals(generator.nextInt(-3, 3), value);
+            counts[value + 3]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 1000);
+        }
+
+        assertEquals(Integer.MAX_VALUE, generator.nextInt(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        int value = generator.nextInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertTrue((value >= Integer.MIN_VALUE) && (value <= Integer.MAX_VALUE));
+    }
+
+    @Test(expected = JMetalException.class)
+    public void shouldNextIntRaiseAnExceptionIfTheBoundsAreReversed() {
+        new Xoshiro256PlusPlusGenerator(1).nextInt(2, 1);
+    }
+}
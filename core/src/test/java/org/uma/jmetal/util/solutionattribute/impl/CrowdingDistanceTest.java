@@ -5,6 +5,7 @@ import org.uma.jmetal.util.point.util.PointSolution;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 
@@ -76,4 +77,35 @@ public class CrowdingDistanceTest {
         assertEquals(Double.POSITIVE_INFINITY, crowdingDistance.getAttribute(solutionList.get(1)), EPSILON);
         assertEquals(2.0, crowdingDistance.getAttribute(solutionList.get(2)), EPSILON);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldTheParallelByObjectiveModeAssignTheSameDistancesWhenThereAreNoTies() {
+        CrowdingDistance<PointSolution> sequential = new CrowdingDistance<>();
+        CrowdingDistance<PointSolution> parallel = new CrowdingDistance<>(true);
+
+        Random random = new Random(1);
+        for (int test = 0; test < 20; test++) {
+            int numberOfObjectives = 1 + random.nextInt(8);
+            int numberOfSolutions = 3 + random.nextInt(200);
+            List<PointSolution> solutionList = new ArrayList<>();
+            for (int i = 0; i < numberOfSolutions; i++) {
+                PointSolution solution = new PointSolution(numberOfObjectives);
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    solution.setObjective(j, random.nextDouble());
+                }
+                solutionList.add(solution);
+            }
+
+            sequential.computeDensityEstimator(solutionList);
+            List<Double> expected = new ArrayList<>();
+            for (PointSolution solution : solutionList) {
+                expected.add(sequential.getAttribute(solution));
+            }
+
+            parallel.computeDensityEstimator(solutionList);
+            for (int i = 0; i < solutionList.size(); i++) {
+                assertEquals(expected.get(i), parallel.getAttribute(solutionList.get(i)), 0.0);
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.junit.Test;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * Created by ajnebro on 15/4/16.
@@ -11,4 +14,22 @@ public class GenericSolutionAttributeTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldTheTypedGettersReturnTheValueOrTheDefaultOne() {
+        GenericSolutionAttribute<PointSolution, Double> doubleAttribute =
+                new GenericSolutionAttribute<>("doubleAttribute");
+        GenericSolutionAttribute<PointSolution, Integer> intAttribute =
+                new GenericSolutionAttribute<>("intAttribute");
+        PointSolution solution = new PointSolution(2);
+
+        assertEquals(-1.0, doubleAttribute.getDoubleAttribute(solution, -1.0), 0.0);
+        assertEquals(-1, intAttribute.getIntAttribute(solution, -1));
+
+        doubleAttribute.setAttribute(solution, 2.5);
+        intAttribute.setAttribute(solution, 3);
+
+        assertEquals(2.5, doubleAttribute.getDoubleAttribute(solution, -1.0), 0.0);
+        assertEquals(3, intAttribute.getIntAttribute(solution, -1));
+        assertEquals(Double.valueOf(2.5), doubleAttribute.getAttribute(solution));
+    }
+}
@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the ranking kept by {@link IncrementalRanking} is the same as the one computed from
+ * scratch by {@link DominanceRanking}
+ */
+public class IncrementalRankingTest {
+
+    @Test
+    public void shouldInsertingADominatingSolutionMoveDownTheSolutionsItDominates() {
+        IncrementalRanking<PointSolution> ranking = new IncrementalRanking<>();
+        PointSolution solution1 = createSolution(2.0, 2.0);
+        PointSolution solution2 = createSolution(3.0, 3.0);
+        PointSolution solution3 = createSolution(1.0, 4.0);
+
+        ranking.insert(solution1);
+        ranking.insert(solution2);
+        assertEquals(0, ranking.insert(solution3));
+        assertEquals(0, ranking.insert(createSolution(0.0, 0.0)));
+
+        assertEquals(3, ranking.getNumberOfSubfronts());
+        assertEquals(1, ranking.getRank(solution1));
+        assertEquals(2, ranking.getRank(solution2));
+        assertEquals(1, ranking.getRank(solution3));
+        assertEquals(1, (int) ranking.getAttribute(solution1));
+    }
+
+    @Test
+    public void shouldRemovingASolutionMoveUpTheSolutionsNoLongerDominated() {
+        IncrementalRanking<PointSolution> ranking = new IncrementalRanking<>();
+        PointSolution solution1 = createSolution(1.0, 1.0);
+        PointSolution solution2 = createSolution(2.0, 2.0);
+        PointSolution solution3 = createSolution(3.0, 3.0);
+        List<PointSolution> population = new ArrayList<>();
+        population.add(solution1);
+        population.add(solution2);
+        population.add(solution3);
+        ranking.computeRanking(population);
+
+        assertTrue(ranking.remove(solution1));
+        assertFalse(ranking.remove(solution1));
+
+        assertEquals(2, ranking.getNumberOfSubfronts());
+        assertEquals(2, ranking.getNumberOfSolutions());
+        assertEquals(0, ranking.getRank(solution2));
+        assertEquals(1, ranking.getRank(solution3));
+        assertEquals(-1, ranking.getRank(solution1));
+    }
+
+    @Test
+    public void shouldTheRankingAfterRandomInsertionsAndRemovalsBeTheSameAsTheDominanceRanking() {
+        Random random = new Random(1);
+        for (int test = 0; test < 100; test++) {
+            int numberOfObjectives = 1 + random.nextInt(4);
+            int numberOfValues = 1 + random.nextInt(10);
+            boolean constrained = random.nextBoolean();
+
+            IncrementalRanking<PointSolution> ranking = new IncrementalRanking<>();
+            List<PointSolution> population = new ArrayList<>();
+            for (int step = 0; step < 200; step++) {
+                if (population.isEmpty() || random.nextInt(3) > 0) {
+                    PointSolution solution = new PointSolution(numberOfObjectives);
+                    for (int j = 0; j < numberOfObjectives; j++) {
+                        solution.setObjective(j, random.nextInt(numberOfValues));
+                    }
+                    if (constrained) {
+                        new OverallConstraintViolation<PointSolution>().setAttribute(solution, -random.nextInt(3) * 1.0);
+                    }
+                    population.add(solution);
+                    ranking.insert(solution);
+                } else {
+                    ranking.remove(population.remove(random.nextInt(population.size())));
+                }
+            }
+
+            List<Integer> ranks = new ArrayList<>();
+            for (PointSolution solution : population) {
+                ranks.add(ranking.getRank(solution));
+            }
+
+            DominanceRanking<PointSolution> expected = new DominanceRanking<>();
+            expected.computeRanking(population);
+
+            assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts());
+            assertEquals(population.size(), ranking.getNumberOfSolutions());
+            for (int i = 0; i < population.size(); i++) {
+                assertEquals(expected.getAttribute(population.get(i)), ranks.get(i));
+            }
+        }
+    }
+
+    private PointSolution createSolution(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
+}
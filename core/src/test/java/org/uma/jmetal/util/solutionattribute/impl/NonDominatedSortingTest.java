@@ -0,0 +1,166 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.junit.Test;
+import org.uma.jmetal.util.PopulationMatrix;
+import org.uma.jmetal.util.point.util.PointSolution;
+import org.uma.jmetal.util.solutionattribute.NonDominatedSorting;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that all the {@link NonDominatedSorting} algorithms produce the same ranking as
+ * {@link FastNonDominatedSorting}
+ */
+public class NonDominatedSortingTest {
+    private static final NonDominatedSorting[] ALGORITHMS = {
+            new EfficientNonDominatedSorting(EfficientNonDominatedSorting.SearchStrategy.SEQUENTIAL),
+            new EfficientNonDominatedSorting(EfficientNonDominatedSorting.SearchStrategy.BINARY),
+            new DivideAndConquerNonDominatedSorting()
+    };
+
+    @Test
+    public void shouldTheRankingOfAnEmptyPopulationReturnZeroSubfronts() {
+        for (NonDominatedSorting algorithm : ALGORITHMS) {
+            Ranking<PointSolution> ranking = new DominanceRanking<>(algorithm);
+            ranking.computeRanking(new ArrayList<PointSolution>());
+
+            assertEquals(0, ranking.getNumberOfSubfronts());
+        }
+    }
+
+    @Test
+    public void shouldDuplicatedSolutionsHaveTheSameRank() {
+        List<PointSolution> population = new ArrayList<>();
+        population.add(createSolution(1.0, 2.0));
+        population.add(createSolution(1.0, 2.0));
+        population.add(createSolution(2.0, 3.0));
+        population.add(createSolution(-0.0, 4.0));
+        population.add(createSolution(0.0, 5.0));
+
+        for (NonDominatedSorting algorithm : ALGORITHMS) {
+            Ranking<PointSolution> ranking = new DominanceRanking<>(algorithm);
+            ranking.computeRanking(population);
+
+            assertEquals(2, ranking.getNumberOfSubfronts());
+            assertEquals(3, ranking.getSubfront(0).size());
+            assertEquals(0, (int) ranking.getAttribute(population.get(1)));
+            assertEquals(1, (int) ranking.getAttribute(population.get(2)));
+            assertEquals(1, (int) ranking.getAttribute(population.get(4)));
+        }
+    }
+
+    @Test
+    public void shouldTheSolutionsBeRankedFirstByTheirConstraintViolationDegree() {
+        List<PointSolution> population = new ArrayList<>();
+        population.add(createSolution(1.0, 1.0));
+        population.add(createSolution(2.0, 2.0));
+        population.add(createSolution(3.0, 3.0));
+        OverallConstraintViolation<PointSolution> violation = new OverallConstraintViolation<>();
+        violation.setAttribute(population.get(0), -2.0);
+        violation.setAttribute(population.get(1), 0.0);
+        violation.setAttribute(population.get(2), 0.0);
+
+        for (NonDominatedSorting algorithm : ALGORITHMS) {
+            Ranking<PointSolution> ranking = new DominanceRanking<>(algorithm);
+            ranking.computeRanking(population);
+
+            assertEquals(3, ranking.getNumberOfSubfronts());
+            assertEquals(2, (int) ranking.getAttribute(population.get(0)));
+            assertEquals(0, (int) ranking.getAttribute(population.get(1)));
+            assertEquals(1, (int) ranking.getAttribute(population.get(2)));
+        }
+    }
+
+    @Test
+    public void shouldTheRankingBeTheSameAsTheOneOfTheFastNonDominatedSorting() {
+        Random random = new Random(1);
+        for (int test = 0; test < 200; test++) {
+            int numberOfObjectives = 1 + random.nextInt(6);
+            int numberOfValues = 1 + random.nextInt(10);
+            boolean constrained = random.nextBoolean();
+
+            int populationSize = 1 + random.nextInt(150);
+            List<PointSolution> population = new ArrayList<>();
+            for (int i = 0; i < populationSize; i++) {
+                PointSolution solution = new PointSolution(numberOfObjectives);
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    solution.setObjective(j, random.nextInt(numberOfValues));
+                }
+                if (constrained) {
+                    new OverallConstraintViolation<PointSolution>().setAttribute(solution, -random.nextInt(3) * 1.0);
+                }
+                population.add(solution);
+            }
+
+            DominanceRanking<PointSolution> expected = new DominanceRanking<>(new FastNonDominatedSorting());
+            expected.computeRanking(population);
+            List<Integer> expectedRanks = new ArrayList<>();
+            for (PointSolution solution : population) {
+                expectedRanks.add(expected.getAttribute(solution));
+            }
+
+            for (NonDominatedSorting algorithm : ALGORITHMS) {
+                DominanceRanking<PointSolution> ranking = new DominanceRanking<>(algorithm);
+                ranking.computeRanking(population);
+
+                assertEquals(expected.getNumberOfSubfronts(), ranking.getNumberOfSubfronts());
+                for (int i = 0; i < population.size(); i++) {
+                    assertEquals(expectedRanks.get(i), ranking.getAttribute(population.get(i)));
+                }
+                for (int rank = 0; rank < ranking.getNumberOfSubfronts(); rank++) {
+                    assertEquals(expected.getSubfront(rank).size(), ranking.getSubfront(rank).size());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldTheParallelComparisonsProduceTheSameFrontsAsTheSequentialOnes() {
+        NonDominatedSorting sequential = new FastNonDominatedSorting(Integer.MAX_VALUE);
+        NonDominatedSorting parallel = new FastNonDominatedSorting(0);
+
+        Random random = new Random(1);
+        for (int test = 0; test < 50; test++) {
+            int numberOfObjectives = 1 + random.nextInt(4);
+            int numberOfValues = 1 + random.nextInt(20);
+            boolean constrained = random.nextBoolean();
+
+            int populationSize = random.nextInt(300);
+            List<PointSolution> population = new ArrayList<>();
+            for (int i = 0; i < populationSize; i++) {
+                PointSolution solution = new PointSolution(numberOfObjectives);
+                for (int j = 0; j < numberOfObjectives; j++) {
+                    solution.setObjective(j, random.nextInt(numberOfValues));
+                }
+                if (constrained) {
+                    new OverallConstraintViolation<PointSolution>().setAttribute(solution, -random.nextInt(3) * 1.0);
+                }
+                population.add(solution);
+            }
+
+            PopulationMatrix<PointSolution> populationMatrix = new PopulationMatrix<>(population, true);
+            int[][] expected = sequential.sort(populationMatrix);
+            int[][] fronts = parallel.sort(populationMatrix);
+
+            assertEquals(expected.length, fronts.length);
+            for (int rank = 0; rank < expected.length; rank++) {
+                assertArrayEquals(expected[rank], fronts[rank]);
+            }
+        }
+    }
+
+    private PointSolution createSolution(double... objectives) {
+        PointSolution solution = new PointSolution(objectives.length);
+        for (int i = 0; i < objectives.length; i++) {
+            solution.setObjective(i, objectives[i]);
+        }
+
+        return solution;
+    }
+}
@@ -36,6 +36,7 @@ import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.ExperimentBuilder;
 import org.uma.jmetal.util.experiment.component.ComputeQualityIndicators;
 import org.uma.jmetal.util.experiment.component.ExecuteAlgorithms;
+import org.uma.jmetal.util.experiment.util.AlgorithmFactory;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 
 import java.io.IOException;
@@ -131,7 +132,8 @@ public class MOEADStudy {
      * The algorithm list is composed of pairs {@link Algorithm} + {@link Problem} which form part of a
      * {@link TaggedAlgorithm}, which is a decorator for class {@link Algorithm}. The {@link TaggedAlgorithm}
      * has an optional tag component, that can be set as it is shown in this example, where four variants of a
-     * same algorithm are defined.
+     * same algorithm are defined. The algorithms are created by an {@link AlgorithmFactory} when they are
+     * run, so that each run solves its own instance of the problem.
      *
      * @param problemList
      * @return
@@ -141,98 +143,123 @@ public class MOEADStudy {
         List<TaggedAlgorithm<List<DoubleSolution>>> algorithms = new ArrayList<>();
 
         for (int run = 0; run < independentRuns; run++) {
+            final int currentRun = run;
 
             //MOEA/D-Original 初始化
+            AlgorithmFactory<DoubleSolution, List<DoubleSolution>> moead =
+                    new AlgorithmFactory<DoubleSolution, List<DoubleSolution>>() {
+                        @Override
+                        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+                            return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+                                    .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
+                                    .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+                                    .setMaxEvaluations(problem.getNumberOfObjectives() > 2 ? 150000 : 100000)
+                                    .setPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setResultPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setNeighborhoodSelectionProbability(0.9)
+                                    .setMaximumNumberOfReplacedSolutions(30)
+                                    .setNeighborSize(30)
+                                    .setRun(currentRun)
+                                    .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+                                    .setDataDirectory("MOEAD_Weights")
+                                    .setInProcessDataPath(experimentBaseDirectory
+                                            + "/MOEADStudy/data/MOEAD/"
+                                            + problem.getName()
+                                            + "/INPROCESSDATA"
+                                            + currentRun
+                                            + "/")
+                                    .build();
+                        }
+                    };
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new MOEADBuilder(problemList.get(i), MOEADBuilder.Variant.MOEAD)
-                        .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
-                        .setMutation(new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 20.0))
-                        .setMaxEvaluations(problemList.get(i).getNumberOfObjectives() > 2 ? 150000 : 100000)
-                        .setPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setResultPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setNeighborhoodSelectionProbability(0.9)
-                        .setMaximumNumberOfReplacedSolutions(30)
-                        .setNeighborSize(30)
-                        .setRun(run)
-                        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
-                        .setDataDirectory("MOEAD_Weights")
-                        .setInProcessDataPath(experimentBaseDirectory
-                                + "/MOEADStudy/data/MOEAD/"
-                                + problemList.get(i).getName()
-                                + "/INPROCESSDATA"
-                                + run
-                                + "/")
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "MOEAD", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(moead, "MOEAD", problemList.get(i), run));
             }
 
             //MOEA/D-STM初始化
+            AlgorithmFactory<DoubleSolution, List<DoubleSolution>> moeadSTM =
+                    new AlgorithmFactory<DoubleSolution, List<DoubleSolution>>() {
+                        @Override
+                        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+                            return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEADSTM)
+                                    .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
+                                    .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+                                    .setMaxEvaluations(problem.getNumberOfObjectives() > 2 ? 150000 : 100000)
+                                    .setPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setResultPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setNeighborhoodSelectionProbability(0.9)
+                                    .setMaximumNumberOfReplacedSolutions(30)
+                                    .setNeighborSize(30)
+                                    .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+                                    .setDataDirectory("MOEAD_Weights")
+                                    .setInProcessDataPath(experimentBaseDirectory
+                                            + "/MOEADStudy/data/MOEADSTM/"
+                                            + problem.getName()
+                                            + "/INPROCESSDATA"
+                                            + currentRun
+                                            + "/")
+                                    .build();
+                        }
+                    };
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new MOEADBuilder(problemList.get(i), MOEADBuilder.Variant.MOEADSTM)
-                        .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
-                        .setMutation(new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 20.0))
-                        .setMaxEvaluations(problemList.get(i).getNumberOfObjectives() > 2 ? 150000 : 100000)
-                        .setPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setResultPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setNeighborhoodSelectionProbability(0.9)
-                        .setMaximumNumberOfReplacedSolutions(30)
-                        .setNeighborSize(30)
-                        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
-                        .setDataDirectory("MOEAD_Weights")
-                        .setInProcessDataPath(experimentBaseDirectory
-                                + "/MOEADStudy/data/MOEADSTM/"
-                                + problemList.get(i).getName()
-                                + "/INPROCESSDATA"
-                                + run
-                                + "/")
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "MOEADSTM", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(moeadSTM, "MOEADSTM", problemList.get(i), run));
             }
 
             //MOEA/D-DRA初始化
+            AlgorithmFactory<DoubleSolution, List<DoubleSolution>> moeadDRA =
+                    new AlgorithmFactory<DoubleSolution, List<DoubleSolution>>() {
+                        @Override
+                        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+                            return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEADDRA)
+                                    .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
+                                    .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+                                    .setMaxEvaluations(problem.getNumberOfObjectives() > 2 ? 150000 : 100000)
+                                    .setPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setResultPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setNeighborhoodSelectionProbability(0.9)
+                                    .setMaximumNumberOfReplacedSolutions(30)
+                                    .setNeighborSize(30)
+                                    .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+                                    .setDataDirectory("MOEAD_Weights")
+                                    .setInProcessDataPath(experimentBaseDirectory
+                                            + "/MOEADStudy/data/MOEADDRA/"
+                                            + problem.getName()
+                                            + "/INPROCESSDATA"
+                                            + currentRun
+                                            + "/")
+                                    .build();
+                        }
+                    };
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new MOEADBuilder(problemList.get(i), MOEADBuilder.Variant.MOEADDRA)
-                        .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
-                        .setMutation(new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 20.0))
-                        .setMaxEvaluations(problemList.get(i).getNumberOfObjectives() > 2 ? 150000 : 100000)
-                        .setPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setResultPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setNeighborhoodSelectionProbability(0.9)
-                        .setMaximumNumberOfReplacedSolutions(30)
-                        .setNeighborSize(30)
-                        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
-                        .setDataDirectory("MOEAD_Weights")
-                        .setInProcessDataPath(experimentBaseDirectory
-                                + "/MOEADStudy/data/MOEADDRA/"
-                                + problemList.get(i).getName()
-                                + "/INPROCESSDATA"
-                                + run
-                                + "/")
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "MOEADDRA", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(moeadDRA, "MOEADDRA", problemList.get(i), run));
             }
 
             //MOEA/D-Test初始化
+            AlgorithmFactory<DoubleSolution, List<DoubleSolution>> moeadANS =
+                    new AlgorithmFactory<DoubleSolution, List<DoubleSolution>>() {
+                        @Override
+                        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+                            return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEADANS)
+                                    .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
+                                    .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+                                    .setMaxEvaluations(problem.getNumberOfObjectives() > 2 ? 150000 : 100000)
+                                    .setPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setResultPopulationSize(problem.getNumberOfObjectives() > 2 ? 153 : 100)
+                                    .setNeighborhoodSelectionProbability(0.9)
+                                    .setMaximumNumberOfReplacedSolutions(10)
+                                    .setNeighborSize(problem.getNumberOfObjectives() > 2 ? 25 : 20)
+                                    .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+                                    .setDataDirectory("MOEAD_Weights")
+                                    .setInProcessDataPath(experimentBaseDirectory
+                                            + "/MOEADStudy/data/MOEADANS/"
+                                            + problem.getName()
+                                            + "/INPROCESSDATA"
+                                            + currentRun
+                                            + "/")
+                                    .build();
+                        }
+                    };
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new MOEADBuilder(problemList.get(i), MOEADBuilder.Variant.MOEADANS)
-                        .setCrossover(new DifferentialEvolutionCrossover(0.9, 0.5, "rand/1/bin"))
-                        .setMutation(new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 20.0))
-                        .setMaxEvaluations(problemList.get(i).getNumberOfObjectives() > 2 ? 150000 : 100000)
-                        .setPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setResultPopulationSize(problemList.get(i).getNumberOfObjectives() > 2 ? 153 : 100)
-                        .setNeighborhoodSelectionProbability(0.9)
-                        .setMaximumNumberOfReplacedSolutions(10)
-                        .setNeighborSize(problemList.get(i).getNumberOfObjectives() > 2 ? 25 : 20)
-                        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
-                        .setDataDirectory("MOEAD_Weights")
-                        .setInProcessDataPath(experimentBaseDirectory
-                                + "/MOEADStudy/data/MOEADANS/"
-                                + problemList.get(i).getName()
-                                + "/INPROCESSDATA"
-                                + run
-                                + "/")
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "MOEADANS", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(moeadANS, "MOEADANS", problemList.get(i), run));
             }
 //
 
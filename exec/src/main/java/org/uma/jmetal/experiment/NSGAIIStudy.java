@@ -25,6 +25,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.ExperimentBuilder;
 import org.uma.jmetal.util.experiment.component.*;
+import org.uma.jmetal.util.experiment.util.AlgorithmFactory;
 import org.uma.jmetal.util.experiment.util.TaggedAlgorithm;
 
 import java.io.IOException;
@@ -100,7 +101,8 @@ public class NSGAIIStudy {
      * The algorithm list is composed of pairs {@link Algorithm} + {@link Problem} which form part of a
      * {@link TaggedAlgorithm}, which is a decorator for class {@link Algorithm}. The {@link TaggedAlgorithm}
      * has an optional tag component, that can be set as it is shown in this example, where four variants of a
-     * same algorithm are defined.
+     * same algorithm are defined. The algorithms are created by an {@link AlgorithmFactory} when they are
+     * run, so that each run solves its own instance of the problem.
      *
      * @param problemList
      * @return
@@ -112,41 +114,48 @@ public class NSGAIIStudy {
         for (int run = 0; run < independentRuns; run++) {
 
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new NSGAIIBuilder<>(problemList.get(i), new SBXCrossover(1.0, 5),
-                        new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 10.0))
-                        .setMaxEvaluations(25000)
-                        .setPopulationSize(100)
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "NSGAIIa", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(
+                        new NSGAIIFactory(5.0, 10.0), "NSGAIIa", problemList.get(i), run));
             }
 
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new NSGAIIBuilder<>(problemList.get(i), new SBXCrossover(1.0, 20.0),
-                        new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 20.0))
-                        .setMaxEvaluations(25000)
-                        .setPopulationSize(100)
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "NSGAIIb", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(
+                        new NSGAIIFactory(20.0, 20.0), "NSGAIIb", problemList.get(i), run));
             }
 
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new NSGAIIBuilder<>(problemList.get(i), new SBXCrossover(1.0, 40.0),
-                        new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 40.0))
-                        .setMaxEvaluations(25000)
-                        .setPopulationSize(100)
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "NSGAIIc", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(
+                        new NSGAIIFactory(40.0, 40.0), "NSGAIIc", problemList.get(i), run));
             }
 
             for (int i = 0; i < problemList.size(); i++) {
-                Algorithm<List<DoubleSolution>> algorithm = new NSGAIIBuilder<>(problemList.get(i), new SBXCrossover(1.0, 80.0),
-                        new PolynomialMutation(1.0 / problemList.get(i).getNumberOfVariables(), 80.0))
-                        .setMaxEvaluations(25000)
-                        .setPopulationSize(100)
-                        .build();
-                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(algorithm, "NSGAIId", problemList.get(i), run));
+                algorithms.add(new TaggedAlgorithm<List<DoubleSolution>>(
+                        new NSGAIIFactory(80.0, 80.0), "NSGAIId", problemList.get(i), run));
             }
         }
         return algorithms;
     }
-}
\ No newline at end of file
+
+    /**
+     * Factory of the variants of NSGA-II, which differ in the distribution indexes of the operators
+     */
+    @SuppressWarnings("serial")
+    private static class NSGAIIFactory implements AlgorithmFactory<DoubleSolution, List<DoubleSolution>> {
+        private final double crossoverDistributionIndex;
+        private final double mutationDistributionIndex;
+
+        NSGAIIFactory(double crossoverDistributionIndex, double mutationDistributionIndex) {
+            this.crossoverDistributionIndex = crossoverDistributionIndex;
+            this.mutationDistributionIndex = mutationDistributionIndex;
+        }
+
+        @Override
+        public Algorithm<List<DoubleSolution>> createAlgorithm(Problem<DoubleSolution> problem) {
+            return new NSGAIIBuilder<>(problem, new SBXCrossover(1.0, crossoverDistributionIndex),
+                    new PolynomialMutation(1.0 / problem.getNumberOfVariables(), mutationDistributionIndex))
+                    .setMaxEvaluations(25000)
+                    .setPopulationSize(100)
+                    .build();
+        }
+    }
+}
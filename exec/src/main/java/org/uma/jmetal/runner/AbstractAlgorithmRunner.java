@@ -8,8 +8,10 @@ import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.CachedReferenceFront;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.ReferenceFrontCache;
 import org.uma.jmetal.util.point.util.PointSolution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -49,10 +51,11 @@ public abstract class AbstractAlgorithmRunner {
      */
     public static <S extends Solution<?>> void printQualityIndicators(List<S> population, String paretoFrontFile)
             throws FileNotFoundException {
-        Front referenceFront = new ArrayFront(paretoFrontFile);
-        FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
+        CachedReferenceFront cachedReferenceFront = ReferenceFrontCache.getInstance().get(paretoFrontFile);
+        Front referenceFront = cachedReferenceFront.getFront();
+        FrontNormalizer frontNormalizer = cachedReferenceFront.getFrontNormalizer();
 
-        Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+        Front normalizedReferenceFront = cachedReferenceFront.getNormalizedFront();
         Front normalizedFront = frontNormalizer.normalize(new ArrayFront(population));
         List<PointSolution> normalizedPopulation = FrontUtils
                 .convertFrontToSolutionList(normalizedFront);
@@ -31,7 +31,7 @@ import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -74,7 +74,7 @@ public class ParallelGDE3Runner extends AbstractAlgorithmRunner {
         crossover = new DifferentialEvolutionCrossover(cr, f, "rand/1/bin");
         selection = new DifferentialEvolutionSelection();
 
-        SolutionListEvaluator<DoubleSolution> evaluator = new MultithreadedSolutionListEvaluator<DoubleSolution>(0, problem);
+        SolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(0);
 
         algorithm = new GDE3Builder(problem)
                 .setCrossover(crossover)
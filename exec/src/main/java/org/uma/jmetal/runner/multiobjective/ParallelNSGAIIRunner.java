@@ -36,7 +36,7 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -85,7 +85,7 @@ public class ParallelNSGAIIRunner extends AbstractAlgorithmRunner {
 
         selection = new BinaryTournamentSelection<DoubleSolution>();
 
-        SolutionListEvaluator<DoubleSolution> evaluator = new MultithreadedSolutionListEvaluator<DoubleSolution>(0, problem);
+        SolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(0);
 
         NSGAIIBuilder<DoubleSolution> builder = new NSGAIIBuilder<DoubleSolution>(problem, crossover, mutation)
                 .setSelectionOperator(selection)
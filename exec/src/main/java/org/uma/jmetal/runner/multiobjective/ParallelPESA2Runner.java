@@ -34,7 +34,7 @@ import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -79,7 +79,7 @@ public class ParallelPESA2Runner extends AbstractAlgorithmRunner {
         double mutationDistributionIndex = 20.0;
         mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
 
-        SolutionListEvaluator<DoubleSolution> evaluator = new MultithreadedSolutionListEvaluator<DoubleSolution>(0, problem);
+        SolutionListEvaluator<DoubleSolution> evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(0);
 
         algorithm = new PESA2Builder<DoubleSolution>(problem, crossover, mutation)
                 .setMaxEvaluations(25000)
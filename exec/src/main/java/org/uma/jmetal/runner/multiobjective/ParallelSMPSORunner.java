@@ -31,9 +31,9 @@ import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.archive.BoundedArchive;
-import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.IncrementalCrowdingDistanceArchive;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 
 import java.util.List;
 
@@ -73,13 +73,13 @@ public class ParallelSMPSORunner extends AbstractAlgorithmRunner {
 
         problem = (DoubleProblem) ProblemUtils.<DoubleSolution>loadProblem(problemName);
 
-        BoundedArchive<DoubleSolution> archive = new CrowdingDistanceArchive<DoubleSolution>(100);
+        BoundedArchive<DoubleSolution> archive = new IncrementalCrowdingDistanceArchive<DoubleSolution>(100);
 
         double mutationProbability = 1.0 / problem.getNumberOfVariables();
         double mutationDistributionIndex = 20.0;
         mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
 
-        evaluator = new MultithreadedSolutionListEvaluator<DoubleSolution>(0, problem);
+        evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(0);
 
         algorithm = new SMPSOBuilder(problem, archive)
                 .setMutation(mutation)
@@ -37,7 +37,7 @@ import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.comparator.RankingAndCrowdingDistanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
-import org.uma.jmetal.util.evaluator.impl.MultithreadedSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.ForkJoinSolutionListEvaluator;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -87,7 +87,7 @@ public class ParallelSPEA2Runner extends AbstractAlgorithmRunner {
 
         selection = new BinaryTournamentSelection<DoubleSolution>(new RankingAndCrowdingDistanceComparator<DoubleSolution>());
 
-        evaluator = new MultithreadedSolutionListEvaluator<DoubleSolution>(0, problem);
+        evaluator = new ForkJoinSolutionListEvaluator<DoubleSolution>(0);
 
         algorithm = new SPEA2Builder<DoubleSolution>(problem, crossover, mutation)
                 .setSelectionOperator(selection)
@@ -31,7 +31,7 @@ import org.uma.jmetal.util.AlgorithmRunner;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.ProblemUtils;
 import org.uma.jmetal.util.archive.BoundedArchive;
-import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.IncrementalCrowdingDistanceArchive;
 import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.impl.MersenneTwisterGenerator;
 
@@ -71,7 +71,7 @@ public class SMPSORunner extends AbstractAlgorithmRunner {
 
         problem = (DoubleProblem) ProblemUtils.<DoubleSolution>loadProblem(problemName);
 
-        BoundedArchive<DoubleSolution> archive = new CrowdingDistanceArchive<DoubleSolution>(100);
+        BoundedArchive<DoubleSolution> archive = new IncrementalCrowdingDistanceArchive<DoubleSolution>(100);
 
         double mutationProbability = 1.0 / problem.getNumberOfVariables();
         double mutationDistributionIndex = 20.0;
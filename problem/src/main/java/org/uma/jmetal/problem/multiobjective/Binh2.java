@@ -66,7 +66,7 @@ public class Binh2 extends AbstractDoubleProblem implements ConstrainedProblem<D
         double[] fx = new double[getNumberOfObjectives()];
         double[] x = new double[getNumberOfVariables()];
         for (int i = 0; i < getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         fx[0] = 4.0 * x[0] * x[0] + 4 * x[1] * x[1];
@@ -83,8 +83,8 @@ public class Binh2 extends AbstractDoubleProblem implements ConstrainedProblem<D
     public void evaluateConstraints(DoubleSolution solution) {
         double[] constraint = new double[this.getNumberOfConstraints()];
 
-        double x0 = solution.getVariableValue(0);
-        double x1 = solution.getVariableValue(1);
+        double x0 = solution.getDoubleVariableValue(0);
+        double x1 = solution.getDoubleVariableValue(1);
 
         constraint[0] = -1.0 * (x0 - 5) * (x0 - 5) - x1 * x1 + 25.0;
         constraint[1] = (x0 - 8) * (x0 - 8) + (x1 + 3) * (x1 + 3) - 7.7;
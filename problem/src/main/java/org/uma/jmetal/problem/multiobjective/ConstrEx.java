@@ -65,8 +65,8 @@ public class ConstrEx extends AbstractDoubleProblem implements ConstrainedProble
     @Override
     public void evaluate(DoubleSolution solution) {
         double[] f = new double[getNumberOfObjectives()];
-        f[0] = solution.getVariableValue(0);
-        f[1] = (1.0 + solution.getVariableValue(1)) / solution.getVariableValue(0);
+        f[0] = solution.getDoubleVariableValue(0);
+        f[1] = (1.0 + solution.getDoubleVariableValue(1)) / solution.getDoubleVariableValue(0);
 
         solution.setObjective(0, f[0]);
         solution.setObjective(1, f[1]);
@@ -79,8 +79,8 @@ public class ConstrEx extends AbstractDoubleProblem implements ConstrainedProble
     public void evaluateConstraints(DoubleSolution solution) {
         double[] constraint = new double[this.getNumberOfConstraints()];
 
-        double x1 = solution.getVariableValue(0);
-        double x2 = solution.getVariableValue(1);
+        double x1 = solution.getDoubleVariableValue(0);
+        double x2 = solution.getDoubleVariableValue(1);
 
         constraint[0] = (x2 + 9 * x1 - 6.0);
         constraint[1] = (-x2 + 9 * x1 - 1.0);
@@ -65,7 +65,7 @@ public class Fonseca extends AbstractDoubleProblem {
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         double sum1 = 0.0;
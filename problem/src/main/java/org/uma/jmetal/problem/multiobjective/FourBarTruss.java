@@ -77,7 +77,7 @@ public class FourBarTruss extends AbstractDoubleProblem {
         double[] fx = new double[2];
         double[] x = new double[getNumberOfVariables()];
         for (int i = 0; i < getNumberOfVariables(); i++)
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
 
         fx[0] = l * (2 * x[0] + Math.sqrt(2.0) * x[1] + Math.sqrt(x[2]) + x[3]);
         fx[1] = (f * l / e) * (2 / x[0] + 2 * Math.sqrt(2) / x[1] - 2 * Math.sqrt(2) / x[2] + 2 / x[3]);
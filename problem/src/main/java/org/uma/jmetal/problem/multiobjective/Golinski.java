@@ -64,13 +64,13 @@ public class Golinski extends AbstractDoubleProblem implements ConstrainedProble
     @Override
     public void evaluate(DoubleSolution solution) {
         double x1, x2, x3, x4, x5, x6, x7;
-        x1 = solution.getVariableValue(0);
-        x2 = solution.getVariableValue(1);
-        x3 = solution.getVariableValue(2);
-        x4 = solution.getVariableValue(3);
-        x5 = solution.getVariableValue(4);
-        x6 = solution.getVariableValue(5);
-        x7 = solution.getVariableValue(6);
+        x1 = solution.getDoubleVariableValue(0);
+        x2 = solution.getDoubleVariableValue(1);
+        x3 = solution.getDoubleVariableValue(2);
+        x4 = solution.getDoubleVariableValue(3);
+        x5 = solution.getDoubleVariableValue(4);
+        x6 = solution.getDoubleVariableValue(5);
+        x7 = solution.getDoubleVariableValue(6);
 
         double f1 = 0.7854 * x1 * x2 * x2 * ((10 * x3 * x3) / 3.0 + 14.933 * x3 - 43.0934) -
                 1.508 * x1 * (x6 * x6 + x7 * x7) + 7.477 * (x6 * x6 * x6 + x7 * x7 * x7) +
@@ -91,13 +91,13 @@ public class Golinski extends AbstractDoubleProblem implements ConstrainedProble
         double[] constraint = new double[this.getNumberOfConstraints()];
         double x1, x2, x3, x4, x5, x6, x7;
 
-        x1 = solution.getVariableValue(0);
-        x2 = solution.getVariableValue(1);
-        x3 = solution.getVariableValue(2);
-        x4 = solution.getVariableValue(3);
-        x5 = solution.getVariableValue(4);
-        x6 = solution.getVariableValue(5);
-        x7 = solution.getVariableValue(6);
+        x1 = solution.getDoubleVariableValue(0);
+        x2 = solution.getDoubleVariableValue(1);
+        x3 = solution.getDoubleVariableValue(2);
+        x4 = solution.getDoubleVariableValue(3);
+        x5 = solution.getDoubleVariableValue(4);
+        x6 = solution.getDoubleVariableValue(5);
+        x7 = solution.getDoubleVariableValue(6);
 
         constraint[0] = -((1.0 / (x1 * x2 * x2 * x3)) - (1.0 / 27.0));
         constraint[1] = -((1.0 / (x1 * x2 * x2 * x3 * x3)) - (1.0 / 397.5));
@@ -85,8 +85,8 @@ public class IEEE_30bus_6gen_UC extends AbstractDoubleProblem{
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
             sum = sum
                     + a[i]
-                    + b[i]*solution.getVariableValue(i)
-                    + c[i]*Math.pow(solution.getVariableValue(i),2);
+                    + b[i]*solution.getDoubleVariableValue(i)
+                    + c[i]*Math.pow(solution.getDoubleVariableValue(i),2);
         }
         return sum;
     }
@@ -97,9 +97,9 @@ public class IEEE_30bus_6gen_UC extends AbstractDoubleProblem{
             sum = sum
                     + 0.01*(
                             alpha[i]
-                            + beta[i]*solution.getVariableValue(i)
-                            + gamma[i]*Math.pow(solution.getVariableValue(i),2))
-                    + sida[i]*Math.exp(lambda[i]*solution.getVariableValue(i));
+                            + beta[i]*solution.getDoubleVariableValue(i)
+                            + gamma[i]*Math.pow(solution.getDoubleVariableValue(i),2))
+                    + sida[i]*Math.exp(lambda[i]*solution.getDoubleVariableValue(i));
         }
         return sum;
     }
@@ -109,10 +109,10 @@ public class IEEE_30bus_6gen_UC extends AbstractDoubleProblem{
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
             for (int j = 0; j < solution.getNumberOfVariables(); j++) {
                 loss = loss
-                        + solution.getVariableValue(i) * B[i][j] * solution.getVariableValue(j);
+                        + solution.getDoubleVariableValue(i) * B[i][j] * solution.getDoubleVariableValue(j);
             }
             loss = loss
-                    + B_i0[i]*solution.getVariableValue(i);
+                    + B_i0[i]*solution.getDoubleVariableValue(i);
         }
         loss += B_00;
         return loss;
@@ -121,7 +121,7 @@ public class IEEE_30bus_6gen_UC extends AbstractDoubleProblem{
     private double evalBalance(DoubleSolution solution){
         double balance = 0;
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            balance += solution.getVariableValue(i);
+            balance += solution.getDoubleVariableValue(i);
         }
         return Math.abs(balance - Pd - evalLoss(solution));
     }
@@ -73,7 +73,7 @@ public class Kursawe extends AbstractDoubleProblem {
         double[] fx = new double[getNumberOfObjectives()];
         double[] x = new double[getNumberOfVariables()];
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         fx[0] = 0.0;
@@ -66,12 +66,12 @@ public class Osyczka2 extends AbstractDoubleProblem implements ConstrainedProble
         double[] fx = new double[getNumberOfObjectives()];
 
         double x1, x2, x3, x4, x5, x6;
-        x1 = solution.getVariableValue(0);
-        x2 = solution.getVariableValue(1);
-        x3 = solution.getVariableValue(2);
-        x4 = solution.getVariableValue(3);
-        x5 = solution.getVariableValue(4);
-        x6 = solution.getVariableValue(5);
+        x1 = solution.getDoubleVariableValue(0);
+        x2 = solution.getDoubleVariableValue(1);
+        x3 = solution.getDoubleVariableValue(2);
+        x4 = solution.getDoubleVariableValue(3);
+        x5 = solution.getDoubleVariableValue(4);
+        x6 = solution.getDoubleVariableValue(5);
 
         fx[0] = -(25.0 * (x1 - 2.0) * (x1 - 2.0) +
                 (x2 - 2.0) * (x2 - 2.0) +
@@ -93,12 +93,12 @@ public class Osyczka2 extends AbstractDoubleProblem implements ConstrainedProble
         double[] constraint = new double[this.getNumberOfConstraints()];
 
         double x1, x2, x3, x4, x5, x6;
-        x1 = solution.getVariableValue(0);
-        x2 = solution.getVariableValue(1);
-        x3 = solution.getVariableValue(2);
-        x4 = solution.getVariableValue(3);
-        x5 = solution.getVariableValue(4);
-        x6 = solution.getVariableValue(5);
+        x1 = solution.getDoubleVariableValue(0);
+        x2 = solution.getDoubleVariableValue(1);
+        x3 = solution.getDoubleVariableValue(2);
+        x4 = solution.getDoubleVariableValue(3);
+        x5 = solution.getDoubleVariableValue(4);
+        x6 = solution.getDoubleVariableValue(5);
 
         constraint[0] = (x1 + x2) / 2.0 - 1.0;
         constraint[1] = (6.0 - x1 - x2) / 6.0;
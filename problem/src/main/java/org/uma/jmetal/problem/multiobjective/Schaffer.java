@@ -59,7 +59,7 @@ public class Schaffer extends AbstractDoubleProblem {
      */
     public void evaluate(DoubleSolution solution) {
         double[] f = new double[getNumberOfObjectives()];
-        double value = solution.getVariableValue(0);
+        double value = solution.getDoubleVariableValue(0);
 
         f[0] = value * value;
         f[1] = (value - 2.0) * (value - 2.0);
@@ -69,8 +69,8 @@ public class Srinivas extends AbstractDoubleProblem implements ConstrainedProble
     public void evaluate(DoubleSolution solution) {
         double[] f = new double[solution.getNumberOfVariables()];
 
-        double x1 = solution.getVariableValue(0);
-        double x2 = solution.getVariableValue(1);
+        double x1 = solution.getDoubleVariableValue(0);
+        double x2 = solution.getDoubleVariableValue(1);
         f[0] = 2.0 + (x1 - 2.0) * (x1 - 2.0) + (x2 - 1.0) * (x2 - 1.0);
         f[1] = 9.0 * x1 - (x2 - 1.0) * (x2 - 1.0);
 
@@ -85,8 +85,8 @@ public class Srinivas extends AbstractDoubleProblem implements ConstrainedProble
     public void evaluateConstraints(DoubleSolution solution) {
         double[] constraint = new double[this.getNumberOfConstraints()];
 
-        double x1 = solution.getVariableValue(0);
-        double x2 = solution.getVariableValue(1);
+        double x1 = solution.getDoubleVariableValue(0);
+        double x2 = solution.getDoubleVariableValue(1);
 
         constraint[0] = 1.0 - (x1 * x1 + x2 * x2) / 225.0;
         constraint[1] = (3.0 * x2 - x1) / 10.0 - 1.0;
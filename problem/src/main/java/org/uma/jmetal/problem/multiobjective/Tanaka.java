@@ -65,8 +65,8 @@ public class Tanaka extends AbstractDoubleProblem implements ConstrainedProblem<
 
     @Override
     public void evaluate(DoubleSolution solution) {
-        solution.setObjective(0, solution.getVariableValue(0));
-        solution.setObjective(1, solution.getVariableValue(1));
+        solution.setObjective(0, solution.getDoubleVariableValue(0));
+        solution.setObjective(1, solution.getDoubleVariableValue(1));
     }
 
     /**
@@ -76,8 +76,8 @@ public class Tanaka extends AbstractDoubleProblem implements ConstrainedProblem<
     public void evaluateConstraints(DoubleSolution solution) {
         double[] constraint = new double[this.getNumberOfConstraints()];
 
-        double x1 = solution.getVariableValue(0);
-        double x2 = solution.getVariableValue(1);
+        double x1 = solution.getDoubleVariableValue(0);
+        double x2 = solution.getDoubleVariableValue(1);
 
         constraint[0] = (x1 * x1 + x2 * x2 - 1.0 - 0.1 * Math.cos(16.0 * Math.atan(x1 / x2)));
         constraint[1] = -2.0 * ((x1 - 0.5) * (x1 - 0.5) + (x2 - 0.5) * (x2 - 0.5) - 0.5);
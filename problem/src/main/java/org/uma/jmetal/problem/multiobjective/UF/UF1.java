@@ -75,7 +75,7 @@ public class UF1 extends AbstractDoubleProblem {
         double[] fx = new double[getNumberOfObjectives()];
         double[] x = new double[getNumberOfVariables()];
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         int count1, count2;
@@ -74,7 +74,7 @@ public class UF2 extends AbstractDoubleProblem {
     public void evaluate(DoubleSolution solution) {
         double[] x = new double[getNumberOfVariables()];
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         int count1, count2;
@@ -66,7 +66,7 @@ public class Viennet2 extends AbstractDoubleProblem {
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         // First function
@@ -66,7 +66,7 @@ public class Viennet3 extends AbstractDoubleProblem {
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         f[0] = 0.5 * (x[0] * x[0] + x[1] * x[1]) + Math.sin(x[0] * x[0] + x[1] * x[1]);
@@ -74,7 +74,7 @@ public class Viennet4 extends AbstractDoubleProblem implements ConstrainedProble
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         f[0] = (x[0] - 2.0) * (x[0] - 2.0) / 2.0 +
@@ -100,8 +100,8 @@ public class Viennet4 extends AbstractDoubleProblem implements ConstrainedProble
     public void evaluateConstraints(DoubleSolution solution) {
         double[] constraint = new double[this.getNumberOfConstraints()];
 
-        double x1 = solution.getVariableValue(0);
-        double x2 = solution.getVariableValue(1);
+        double x1 = solution.getDoubleVariableValue(0);
+        double x2 = solution.getDoubleVariableValue(1);
 
         constraint[0] = -x2 - (4.0 * x1) + 4.0;
         constraint[1] = x1 + 1.0;
@@ -69,7 +69,7 @@ public class Water extends AbstractDoubleProblem implements ConstrainedProblem<D
         double[] fx = new double[2];
         double[] x = new double[solution.getNumberOfVariables()];
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         fx[0] = 106780.37 * (x[1] + x[2]) + 61704.67;
@@ -93,7 +93,7 @@ public class Water extends AbstractDoubleProblem implements ConstrainedProblem<D
         double[] constraint = new double[getNumberOfConstraints()];
         double[] x = new double[solution.getNumberOfVariables()];
         for (int i = 0; i < solution.getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         constraint[0] = 1 - (0.00139 / (x[0] * x[1]) + 4.94 * x[2] - 0.08);
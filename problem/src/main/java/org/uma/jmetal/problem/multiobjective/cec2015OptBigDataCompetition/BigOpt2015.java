@@ -8,19 +8,23 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
 
 /**
  * Created by ajnebro on 14/1/15.
+ * <p>
+ * The evaluation keeps the extreme values of the objectives found so far, which are updated while
+ * holding their lock, so the threads evaluating solutions at the same time share the same extremes
+ * and {@link #copyForThread()} returns the problem itself. When scaling, the second objective
+ * depends on the extremes found before each evaluation, so it depends on the order in which the
+ * solutions are evaluated.
  */
 @SuppressWarnings("serial")
 public class BigOpt2015 extends AbstractDoubleProblem {
-    double f1max = -1000000;
-    double f2max = -1000000;
-    double f1min = 10000000;
-    double f2min = 10000000;
+    private final ObjectiveExtremes extremes = new ObjectiveExtremes();
     int dTypeG;
     boolean scaling;
     private List<List<Double>> mixed;
@@ -65,7 +69,7 @@ public class BigOpt2015 extends AbstractDoubleProblem {
         for (int i = 0; i < dTypeG; i++) {
             s1Temp = new ArrayList<>();
             for (int j = 0; j < icaComponent.get(0).size(); j++) {
-                s1Temp.add(solution.getVariableValue(i * (icaComponent.get(0).size()) + j));
+                s1Temp.add(solution.getDoubleVariableValue(i * (icaComponent.get(0).size()) + j));
             }
             s1.add(s1Temp);
         }
@@ -83,22 +87,7 @@ public class BigOpt2015 extends AbstractDoubleProblem {
         double obj1 = diagonal1(cor1) + diagonal2(cor1);
         double obj2 = sum / (icaComponent.size() * icaComponent.get(0).size());
 
-        if (obj1 > f1max) {
-            f1max = obj1;
-        }
-        if (obj1 < f1min) {
-            f1min = obj1;
-        }
-        if (obj2 > f1max) {
-            f1max = obj2;
-        }
-        if (obj2 < f1min) {
-            f1min = obj2;
-        }
-
-        if (scaling) {
-            obj2 = (obj2 - f2min) * (f1max - f1min) / (f2max - f2min) + f1min;
-        }
+        obj2 = extremes.update(obj1, obj2, scaling);
 
         solution.setObjective(0, obj1);
         solution.setObjective(1, obj2);
@@ -289,4 +278,41 @@ public class BigOpt2015 extends AbstractDoubleProblem {
         }
         return c;
     }
+
+    /**
+     * Extreme values of the objectives found so far, shared by the threads evaluating the problem
+     */
+    private static class ObjectiveExtremes implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        double f1max = -1000000;
+        double f2max = -1000000;
+        double f1min = 10000000;
+        double f2min = 10000000;
+
+        /**
+         * Updates the extremes with the values of the objectives of a solution and returns the
+         * second one, scaled if requested
+         */
+        synchronized double update(double obj1, double obj2, boolean scaling) {
+            if (obj1 > f1max) {
+                f1max = obj1;
+            }
+            if (obj1 < f1min) {
+                f1min = obj1;
+            }
+            if (obj2 > f1max) {
+                f1max = obj2;
+            }
+            if (obj2 < f1min) {
+                f1min = obj2;
+            }
+
+            if (scaling) {
+                obj2 = (obj2 - f2min) * (f1max - f1min) / (f2max - f2min) + f1min;
+            }
+
+            return obj2;
+        }
+    }
 }
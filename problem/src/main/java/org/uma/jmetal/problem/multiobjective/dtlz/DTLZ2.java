@@ -74,7 +74,7 @@ public class DTLZ2 extends AbstractDoubleProblem {
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
@@ -78,7 +78,7 @@ public class DTLZ6 extends AbstractDoubleProblem {
         int k = getNumberOfVariables() - getNumberOfObjectives() + 1;
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         double g = 0.0;
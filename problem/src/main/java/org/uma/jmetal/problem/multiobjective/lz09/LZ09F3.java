@@ -80,7 +80,7 @@ public class LZ09F3 extends AbstractDoubleProblem {
         List<Double> y = new ArrayList<Double>(getNumberOfObjectives());
 
         for (int i = 0; i < getNumberOfVariables(); i++) {
-            x.add(solution.getVariableValue(i));
+            x.add(solution.getDoubleVariableValue(i));
             y.add(0.0);
         }
 
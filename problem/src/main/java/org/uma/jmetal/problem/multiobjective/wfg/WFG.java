@@ -22,8 +22,7 @@
 package org.uma.jmetal.problem.multiobjective.wfg;
 
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
-import org.uma.jmetal.solution.DoubleSolution;
-import org.uma.jmetal.solution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.JMetalException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,9 +35,12 @@ import java.util.Random;
  * Evolutionary Multi-Criterion Optimization:
  * Third International Conference, EMO 2005.
  * Proceedings, volume 3410 of Lecture Notes in Computer Science
+ * <p>
+ * The instances obtained with {@link #copyForThread()} share the parameters of the problem and have
+ * their own random generator.
  */
 @SuppressWarnings("serial")
-public abstract class WFG extends AbstractDoubleProblem {
+public abstract class WFG extends AbstractDoubleProblem implements Cloneable {
 
     /**
      * stores a epsilon default value
@@ -83,8 +85,16 @@ public abstract class WFG extends AbstractDoubleProblem {
     }
 
     @Override
-    public DoubleSolution createSolution() {
-        return new DefaultDoubleSolution(this);
+    public WFG copyForThread() {
+        WFG copy;
+        try {
+            copy = (WFG) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new JMetalException("Error copying the problem", e);
+        }
+        copy.random = new Random();
+
+        return copy;
     }
 
     /**
@@ -162,7 +162,7 @@ public class WFG3 extends WFG {
         double[] x = new double[getNumberOfVariables()];
 
         for (int i = 0; i < getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         for (int i = 0; i < getNumberOfVariables(); i++) {
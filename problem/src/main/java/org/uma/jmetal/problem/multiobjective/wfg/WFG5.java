@@ -140,7 +140,7 @@ public class WFG5 extends WFG {
         double[] x = new double[getNumberOfVariables()];
 
         for (int i = 0; i < getNumberOfVariables(); i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
 
         for (int i = 0; i < getNumberOfVariables(); i++) {
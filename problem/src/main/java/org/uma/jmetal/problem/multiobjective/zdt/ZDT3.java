@@ -72,7 +72,7 @@ public class ZDT3 extends AbstractDoubleProblem {
         double[] f = new double[getNumberOfObjectives()];
         double[] x = new double[numberOfVariables];
 
-        f[0] = solution.getVariableValue(0);
+        f[0] = solution.getDoubleVariableValue(0);
         double g = this.evalG(solution);
         double h = this.evalH(f[0], g);
         f[1] = h * g;
@@ -90,7 +90,7 @@ public class ZDT3 extends AbstractDoubleProblem {
     private double evalG(DoubleSolution solution) {
         double g = 0.0;
         for (int i = 1; i < solution.getNumberOfVariables(); i++) {
-            g += solution.getVariableValue(i);
+            g += solution.getDoubleVariableValue(i);
         }
         double constant = 9.0 / (solution.getNumberOfVariables() - 1);
         g = constant * g;
@@ -74,7 +74,7 @@ public class ZDT4 extends AbstractDoubleProblem {
         double[] f = new double[getNumberOfObjectives()];
         double[] x = new double[numberOfVariables];
 
-        f[0] = solution.getVariableValue(0);
+        f[0] = solution.getDoubleVariableValue(0);
         double g = this.evalG(solution);
         double h = this.evalH(f[0], g);
         f[1] = h * g;
@@ -91,8 +91,8 @@ public class ZDT4 extends AbstractDoubleProblem {
     public double evalG(DoubleSolution solution) {
         double g = 0.0;
         for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-            g += Math.pow(solution.getVariableValue(var), 2.0) +
-                    -10.0 * Math.cos(4.0 * Math.PI * solution.getVariableValue(var));
+            g += Math.pow(solution.getDoubleVariableValue(var), 2.0) +
+                    -10.0 * Math.cos(4.0 * Math.PI * solution.getDoubleVariableValue(var));
         }
 
         double constant = 1.0 + 10.0 * (solution.getNumberOfVariables() - 1);
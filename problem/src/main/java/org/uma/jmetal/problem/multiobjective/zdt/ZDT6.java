@@ -72,7 +72,7 @@ public class ZDT6 extends AbstractDoubleProblem {
         double[] f = new double[getNumberOfObjectives()];
         double[] x = new double[numberOfVariables];
 
-        double x1 = solution.getVariableValue(0);
+        double x1 = solution.getDoubleVariableValue(0);
         f[0] = 1.0 - Math.exp((-4.0) * x1) * Math.pow(Math.sin(6.0 * Math.PI * x1), 6.0);
         double g = this.evalG(solution);
         double h = this.evalH(f[0], g);
@@ -90,7 +90,7 @@ public class ZDT6 extends AbstractDoubleProblem {
     public double evalG(DoubleSolution solution) {
         double g = 0.0;
         for (int var = 1; var < solution.getNumberOfVariables(); var++) {
-            g += solution.getVariableValue(var);
+            g += solution.getDoubleVariableValue(var);
         }
         g = g / (solution.getNumberOfVariables() - 1);
         g = Math.pow(g, 0.25);
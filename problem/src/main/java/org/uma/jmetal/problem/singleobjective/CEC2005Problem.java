@@ -32,10 +32,14 @@ import java.util.List;
 
 /**
  * Class representing for solving the CEC2005 competition problems.
+ * <p>
+ * The test functions keep scratch buffers, so {@link #copyForThread()} returns a new instance of the
+ * problem with its own test function.
  */
 @SuppressWarnings("serial")
 public class CEC2005Problem extends AbstractDoubleProblem {
     TestFunc testFunction;
+    private final int problemID;
 
     /**
      * Constructor
@@ -45,6 +49,7 @@ public class CEC2005Problem extends AbstractDoubleProblem {
         setNumberOfObjectives(1);
         setNumberOfConstraints(0);
         setName("CEC2005");
+        this.problemID = problemID;
 
         Benchmark cec2005ProblemFactory = new Benchmark();
         testFunction = cec2005ProblemFactory.testFunctionFactory(problemID, numberOfVariables);
@@ -115,6 +120,11 @@ public class CEC2005Problem extends AbstractDoubleProblem {
         setUpperLimit(upperLimit);
     }
 
+    @Override
+    public CEC2005Problem copyForThread() {
+        return new CEC2005Problem(problemID, getNumberOfVariables());
+    }
+
     /**
      * Evaluate() method
      */
@@ -125,7 +135,7 @@ public class CEC2005Problem extends AbstractDoubleProblem {
         double[] x = new double[numberOfVariables];
 
         for (int i = 0; i < numberOfVariables; i++) {
-            x[i] = solution.getVariableValue(i);
+            x[i] = solution.getDoubleVariableValue(i);
         }
         double result;
         result = testFunction.f(x);
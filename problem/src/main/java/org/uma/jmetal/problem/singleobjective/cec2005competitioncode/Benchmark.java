@@ -65,31 +65,31 @@ public class Benchmark {
     static final public int NUM_TEST_FUNC = 25;
     static final public String DEFAULT_FILE_BIAS = CEC2005SUPPORTDATADIRECTORY + "/fbias_data.txt";
     static final public String[] test_func_class_names = {
-            "F01_shifted_sphere",
-            "F02_shifted_schwefel",
-            "F03_shifted_rotated_high_cond_elliptic",
-            "F04_shifted_schwefel_noise",
-            "F05_schwefel_global_opt_bound",
-            "F06_shifted_rosenbrock",
-            "F07_shifted_rotated_griewank",
-            "F08_shifted_rotated_ackley_global_opt_bound",
-            "F09_shifted_rastrigin",
-            "F10_shifted_rotated_rastrigin",
-            "F11_shifted_rotated_weierstrass",
-            "F12_schwefel",
-            "F13_shifted_expanded_griewank_rosenbrock",
-            "F14_shifted_rotated_expanded_scaffer",
-            "F15_hybrid_composition_1",
-            "F16_rotated_hybrid_composition_1",
-            "F17_rotated_hybrid_composition_1_noise",
-            "F18_rotated_hybrid_composition_2",
-            "F19_rotated_hybrid_composition_2_narrow_basin_global_opt",
-            "F20_rotated_hybrid_composition_2_global_opt_bound",
-            "F21_rotated_hybrid_composition_3",
-            "F22_rotated_hybrid_composition_3_high_cond_num_matrix",
-            "F23_noncontinuous_rotated_hybrid_composition_3",
-            "F24_rotated_hybrid_composition_4",
-            "F25_rotated_hybrid_composition_4_bound"
+            "F01ShiftedSphere",
+            "F02ShiftedSchwefel",
+            "F03ShiftedRotatedHighCondElliptic",
+            "F04ShiftedSchwefelNoise",
+            "F05SchwefelGlobalOptBound",
+            "F06ShiftedRosenbrock",
+            "F07ShiftedRotatedGriewank",
+            "F08ShiftedRotatedAckleyGlobalOptBound",
+            "F09ShiftedRastrigin",
+            "F10ShiftedRotatedRastrigin",
+            "F11ShiftedRotatedWeierstrass",
+            "F12Schwefel",
+            "F13ShiftedExpandedGriewankRosenbrock",
+            "F14ShiftedRotatedExpandedScaffer",
+            "F15HybridComposition1",
+            "F16RotatedHybridComposition1",
+            "F17RotatedHybridComposition1Noise",
+            "F18RotatedHybridComposition2",
+            "F19RotatedHybridComposition2NarrowBasinGlobalOpt",
+            "F20RotatedHybridComposition2GlobalOptBound",
+            "F21RotatedHybridComposition3",
+            "F22RotatedHybridComposition3HighCondNumMatrix",
+            "F23NoncontinuousRotatedHybridComposition3",
+            "F24RotatedHybridComposition4",
+            "F25RotatedHybridComposition4Bound"
     };
     // For certain functions, some essential data can be calculated beforehand.
     // Hence, a maximum supported number of dimensions should be specified.
@@ -109,7 +109,8 @@ public class Benchmark {
     static final Class<?>[] test_func_arg_types = {int.class, double.class};
     static final private String CEC2005Code = "org.uma.jmetal.problem.singleobjective.cec2005competitioncode";
     // Class variables
-    static private double[] m_iSqrt;
+    //	Filled once, as the instances are created by the worker threads of the parallel evaluators
+    static final private double[] m_iSqrt = createISqrt();
 
     // Instance variables
     private double[] m_biases;
@@ -123,13 +124,17 @@ public class Benchmark {
 
     public Benchmark(String file_bias) throws JMetalException {
         m_biases = new double[NUM_TEST_FUNC];
-        m_iSqrt = new double[MAX_SUPPORT_DIM];
 
         loadRowVectorFromFile(file_bias, NUM_TEST_FUNC, m_biases);
+    }
 
+    static private double[] createISqrt() {
+        double[] iSqrt = new double[MAX_SUPPORT_DIM];
         for (int i = 0; i < MAX_SUPPORT_DIM; i++) {
-            m_iSqrt[i] = Math.sqrt(((double) i) + 1.0);
+            iSqrt[i] = Math.sqrt(((double) i) + 1.0);
         }
+
+        return iSqrt;
     }
 
     // Entry point
@@ -0,0 +1,36 @@
+package org.uma.jmetal.problem.singleobjective;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class CEC2005ProblemTest {
+    private static final double EPSILON = 0.0000000001;
+
+    @Test
+    public void shouldTheCopyForAThreadHaveItsOwnTestFunction() {
+        CEC2005Problem problem = new CEC2005Problem(1, 10);
+        CEC2005Problem copy = problem.copyForThread();
+
+        assertNotSame(problem, copy);
+        assertNotSame(problem.testFunction, copy.testFunction);
+        assertEquals(problem.getNumberOfVariables(), copy.getNumberOfVariables());
+        assertEquals(problem.getLowerBound(0), copy.getLowerBound(0), EPSILON);
+        assertEquals(problem.getUpperBound(0), copy.getUpperBound(0), EPSILON);
+    }
+
+    @Test
+    public void shouldTheCopyForAThreadEvaluateAsTheProblem() {
+        CEC2005Problem problem = new CEC2005Problem(9, 10);
+        CEC2005Problem copy = problem.copyForThread();
+
+        DoubleSolution solution = problem.createSolution();
+        DoubleSolution solutionOfTheCopy = (DoubleSolution) solution.copy();
+        problem.evaluate(solution);
+        copy.evaluate(solutionOfTheCopy);
+
+        assertEquals(solution.getObjective(0), solutionOfTheCopy.getObjective(0), EPSILON);
+    }
+}